@@ -0,0 +1,77 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+import Benchmark
+import Foundation
+import JExtractSwiftLib
+import SwiftJavaConfigurationShared
+
+/// Writes a synthetic module of `fileCount` files, each declaring a class with
+/// a few methods and properties, and a global function using the class.
+func makeSyntheticModule(fileCount: Int) throws -> URL {
+  let directory = FileManager.default.temporaryDirectory
+    .appending(path: "JExtractBenchmarks-\(UUID())")
+  let sources = directory.appending(path: "Sources")
+  try FileManager.default.createDirectory(at: sources, withIntermediateDirectories: true)
+  for index in 0..<fileCount {
+    let source = """
+      public final class Type\(index) {
+        public var count: Int64 = 0
+        public let name: String
+        public init(name: String) {
+          self.name = name
+        }
+        public func add(_ value: Int64) -> Int64 {
+          count += value
+          return count
+        }
+        public func describe(prefix: String, times: Int32) -> String {
+          String(repeating: prefix, count: Int(times)) + name
+        }
+      }
+
+      public func makeType\(index)(name: String) -> Type\(index) {
+        Type\(index)(name: name)
+      }
+      """
+    try source.write(to: sources.appending(path: "Type\(index).swift"), atomically: true, encoding: .utf8)
+  }
+  return directory
+}
+
+let benchmarks = {
+  for mode in [JExtractGenerationMode.jni, .ffm] {
+    Benchmark(
+      "jextract synthetic module (5k files, \(mode))",
+      configuration: .init(maxIterations: 5)
+    ) { benchmark in
+      let directory = try makeSyntheticModule(fileCount: 5_000)
+      defer { try? FileManager.default.removeItem(at: directory) }
+
+      var config = Configuration()
+      config.mode = mode
+      config.swiftModule = "SyntheticModule"
+      config.javaPackage = "com.example.synthetic"
+      config.inputSwiftDirectory = directory.appending(path: "Sources").path
+      config.outputSwiftDirectory = directory.appending(path: "out-swift").path
+      config.outputJavaDirectory = directory.appending(path: "out-java").path
+      config.logLevel = .error
+
+      benchmark.startMeasurement()
+      for _ in benchmark.scaledIterations {
+        try SwiftToJava(config: config, dependencyConfigs: []).run()
+      }
+    }
+  }
+}
@@ -15,6 +15,7 @@
 import Benchmark
 import Foundation
 import JavaNet
+import JavaUtil
 import SwiftJava
 
 @MainActor let benchmarks = {
@@ -31,4 +32,95 @@ import SwiftJava
       blackHole(urlConnectionClass.getDefaultAllowUserInteraction())
     }
   }
+
+  func makeIntegerList(count: Int32) throws -> List<JavaInteger> {
+    let environment = try jvm.environment()
+    let integerClass = try JavaClass<JavaInteger>(environment: environment)
+    let list = try ArrayList<JavaInteger>(environment: environment).as(List<JavaInteger>.self)!
+    for i in 0..<count {
+      _ = list.add(integerClass.valueOf(i))
+    }
+    return list
+  }
+
+  Benchmark("Iterate List<Integer> (100k) with intValue()") { benchmark in
+    let list = try makeIntegerList(count: 100_000)
+    benchmark.startMeasurement()
+    for _ in benchmark.scaledIterations {
+      var sum: Int64 = 0
+      for element in list {
+        sum &+= Int64(element.intValue())
+      }
+      blackHole(sum)
+    }
+  }
+
+  Benchmark("Iterate List<Integer> (100k) snapshot with intValue()") { benchmark in
+    let list = try makeIntegerList(count: 100_000)
+    benchmark.startMeasurement()
+    for _ in benchmark.scaledIterations {
+      var sum: Int64 = 0
+      for element in list.snapshotElements() {
+        sum &+= Int64(element.intValue())
+      }
+      blackHole(sum)
+    }
+  }
+
+  let arrayCount: Int32 = 1_000_000
+
+  func makeIntArray() throws -> JavaObjectHolder {
+    let environment = try jvm.environment()
+    let array = environment.interface.NewIntArray(environment, arrayCount)!
+    environment.withMutableJavaArrayElements(of: array, as: Int32.self) { buffer in
+      for i in buffer.indices {
+        buffer[i] = Int32(i)
+      }
+    }
+    return JavaObjectHolder(object: array, environment: environment)
+  }
+
+  func makeStringArray() throws -> JavaObjectHolder {
+    let environment = try jvm.environment()
+    let stringClass = environment.interface.FindClass(environment, "java/lang/String")!
+    defer { environment.interface.DeleteLocalRef(environment, stringClass) }
+    let array = environment.interface.NewObjectArray(environment, arrayCount, stringClass, nil)!
+    for i in 0..<arrayCount {
+      let string = environment.interface.NewStringUTF(environment, "element-\(i)")
+      environment.interface.SetObjectArrayElement(environment, array, i, string)
+      environment.interface.DeleteLocalRef(environment, string)
+    }
+    return JavaObjectHolder(object: array, environment: environment)
+  }
+
+  Benchmark("int[] (1M) copied into [Int32]") { benchmark in
+    let environment = try jvm.environment()
+    let array = try makeIntArray()
+    benchmark.startMeasurement()
+    for _ in benchmark.scaledIterations {
+      let values = [Int32](fromJNI: unsafeBitCast(array.object, to: [Int32].JNIType.self), in: environment)
+      blackHole(values.reduce(0, &+))
+    }
+  }
+
+  Benchmark("int[] (1M) borrowed with withJavaArrayElements(.critical)") { benchmark in
+    let environment = try jvm.environment()
+    let array = try makeIntArray()
+    benchmark.startMeasurement()
+    for _ in benchmark.scaledIterations {
+      let sum = environment.withJavaArrayElements(of: array.object!, as: Int32.self, access: .critical) {
+        $0.reduce(0, &+)
+      }
+      blackHole(sum)
+    }
+  }
+
+  Benchmark("String[] (1M) converted with javaObjectArrayElements") { benchmark in
+    let environment = try jvm.environment()
+    let array = try makeStringArray()
+    benchmark.startMeasurement()
+    for _ in benchmark.scaledIterations {
+      blackHole(environment.javaObjectArrayElements(of: array.object!, as: String.self))
+    }
+  }
 }
@@ -17,6 +17,7 @@ let package = Package(
       dependencies: [
         .product(name: "SwiftJava", package: "swift-java"),
         .product(name: "JavaNet", package: "swift-java"),
+        .product(name: "JavaUtil", package: "swift-java"),
         .product(name: "Benchmark", package: "package-benchmark"),
       ],
       path: "Benchmarks/JavaApiCallBenchmarks",
@@ -26,6 +27,21 @@ let package = Package(
       plugins: [
         .plugin(name: "BenchmarkPlugin", package: "package-benchmark")
       ]
-    )
+    ),
+    .executableTarget(
+      name: "JExtractBenchmarks",
+      dependencies: [
+        .product(name: "JExtractSwiftLib", package: "swift-java"),
+        .product(name: "SwiftJavaConfigurationShared", package: "swift-java"),
+        .product(name: "Benchmark", package: "package-benchmark"),
+      ],
+      path: "Benchmarks/JExtractBenchmarks",
+      swiftSettings: [
+        .swiftLanguageMode(.v5)
+      ],
+      plugins: [
+        .plugin(name: "BenchmarkPlugin", package: "package-benchmark")
+      ]
+    ),
   ]
 )
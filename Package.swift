@@ -359,6 +359,7 @@ let package = Package(
         "JExtractSwiftLib",
         "SwiftJavaShared",
         "SwiftJavaConfigurationShared",
+        "CodePrinting",
       ],
       // Keep existing directory name while the target is renamed; see
       // https://github.com/swiftlang/swift-java/issues/733 for why the
@@ -0,0 +1,32 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+/// Returns `[0, 1, ..., count - 1]`, which Java borrows in place rather than copying.
+public func ramp(count: Int32) -> [Int32] {
+  Array(0..<count)
+}
+
+/// Holds on to a byte array, so that returning it does not copy it on the Swift side either.
+public final class ByteStorage {
+  let storage: [UInt8]
+
+  public init(byteCount: Int64) {
+    storage = (0..<Int(byteCount)).map { UInt8(truncatingIfNeeded: $0) }
+  }
+
+  public func bytes() -> [UInt8] {
+    storage
+  }
+}
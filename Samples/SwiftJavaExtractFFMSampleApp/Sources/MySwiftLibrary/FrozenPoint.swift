@@ -0,0 +1,48 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+/// A `@frozen` struct of primitive fields, whose properties Java reads and writes directly in memory.
+@frozen
+public struct FrozenPoint {
+  public var x: Int64
+  public var y: Double
+  public var visible: Bool
+
+  /// Observed, so Java writes it through a downcall which runs the observer.
+  public var generation: Int32 {
+    didSet { changes += 1 }
+  }
+
+  public private(set) var changes: Int32 = 0
+
+  public init(x: Int64, y: Double, visible: Bool) {
+    self.x = x
+    self.y = y
+    self.visible = visible
+    self.generation = 0
+  }
+
+  /// Reads `x` through a downcall, for comparison with the direct field access.
+  public func readX() -> Int64 {
+    x
+  }
+}
+
+/// Sums `x` of the points stored contiguously in the buffer, e.g. by a Java `SwiftValueArray<FrozenPoint>`.
+public func sumOfFrozenPointXs(points: UnsafeRawBufferPointer) -> Int64 {
+  points.withMemoryRebound(to: FrozenPoint.self) { points in
+    points.reduce(0) { $0 + $1.x }
+  }
+}
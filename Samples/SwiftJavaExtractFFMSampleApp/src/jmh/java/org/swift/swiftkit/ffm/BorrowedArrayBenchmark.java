@@ -0,0 +1,86 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+package org.swift.swiftkit.ffm;
+
+import com.example.swift.ByteStorage;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares copying a Swift {@code [UInt8]} result into a Java {@code byte[]} to borrowing it in place
+ * as a read-only {@link MemorySegment}, for arrays from 1 KB to 256 MB.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"--enable-native-access=ALL-UNNAMED", "-Xmx1g"})
+public class BorrowedArrayBenchmark {
+
+    @Param({"1024", "65536", "1048576", "16777216", "268435456"})
+    public long byteCount;
+
+    ClosableAllocatingSwiftArena arena;
+    ByteStorage storage;
+
+    @Setup(Level.Trial)
+    public void beforeAll() {
+        arena = AllocatingSwiftArena.ofConfined();
+        storage = ByteStorage.init(byteCount, arena);
+    }
+
+    @TearDown(Level.Trial)
+    public void afterAll() {
+        arena.close();
+    }
+
+    @Benchmark
+    public byte copy_firstByte() {
+        return storage.bytes()[0];
+    }
+
+    @Benchmark
+    public byte borrow_firstByte() {
+        try (var borrowArena = AllocatingSwiftArena.ofConfined()) {
+            return storage.bytes(borrowArena).get(ValueLayout.JAVA_BYTE, 0);
+        }
+    }
+
+    @Benchmark
+    public long copy_sumBytes() {
+        long sum = 0;
+        for (byte b : storage.bytes()) {
+            sum += b;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long borrow_sumBytes() {
+        try (var borrowArena = AllocatingSwiftArena.ofConfined()) {
+            MemorySegment bytes = storage.bytes(borrowArena);
+            long sum = 0;
+            for (long i = 0; i < bytes.byteSize(); i++) {
+                sum += bytes.get(ValueLayout.JAVA_BYTE, i);
+            }
+            return sum;
+        }
+    }
+}
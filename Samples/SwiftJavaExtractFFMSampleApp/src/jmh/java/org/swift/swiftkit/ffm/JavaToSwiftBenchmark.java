@@ -14,6 +14,7 @@
 
 package org.swift.swiftkit.ffm;
 
+import com.example.swift.FrozenPoint;
 import com.example.swift.HelloJava2Swift;
 import com.example.swift.MySwiftLibrary;
 import org.openjdk.jmh.annotations.*;
@@ -33,11 +34,13 @@ public class JavaToSwiftBenchmark {
     public static class BenchmarkState {
         ClosableAllocatingSwiftArena arena;
         MySwiftClass obj;
+        FrozenPoint point;
 
         @Setup(Level.Trial)
         public void beforeAll() {
             arena = AllocatingSwiftArena.ofConfined();
             obj = MySwiftClass.init(1, 2, arena);
+            point = FrozenPoint.init(1, 2, true, arena);
         }
 
         @TearDown(Level.Trial)
@@ -61,4 +64,16 @@ public class JavaToSwiftBenchmark {
         return state.obj.makeIntMethod();
     }
 
+    /** Reads a field of a {@code @frozen} struct through a downcall into a Swift getter. */
+    @Benchmark
+    public long getInt_frozenField_downcall(BenchmarkState state) {
+        return state.point.readX();
+    }
+
+    /** Reads the same field through the {@code VarHandle} generated for it, without a downcall. */
+    @Benchmark
+    public long getInt_frozenField_varHandle(BenchmarkState state) {
+        return state.point.getX();
+    }
+
 }
@@ -0,0 +1,86 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.ffm;
+
+import com.example.swift.MySwiftClass;
+import org.openjdk.jmh.annotations.*;
+import org.swift.swiftkit.core.SwiftLivenessChecks;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of liveness checks in a getter-heavy loop over Swift objects,
+ * in each mode of {@link SwiftLivenessChecks}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"--enable-native-access=ALL-UNNAMED"})
+public class LivenessChecksBenchmark {
+
+    @Param({"16", "1024"})
+    public int count;
+
+    ClosableAllocatingSwiftArena arena;
+    MySwiftClass[] objects;
+
+    @Setup(Level.Trial)
+    public void beforeAll() {
+        arena = AllocatingSwiftArena.ofConfined();
+        objects = new MySwiftClass[count];
+        for (int i = 0; i < count; i++) {
+            objects[i] = MySwiftClass.init(i, i, arena);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void afterAll() {
+        arena.close();
+    }
+
+    private long sumOfGetters() {
+        long sum = 0;
+        for (MySwiftClass object : objects) {
+            sum += object.getX() + object.getY();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--enable-native-access=ALL-UNNAMED", "-Dswiftkit.liveness.checks=full"})
+    public long getters_fullChecks() {
+        return sumOfGetters();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--enable-native-access=ALL-UNNAMED", "-Dswiftkit.liveness.checks=debug"})
+    public long getters_debugChecks_assertionsDisabled() {
+        return sumOfGetters();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--enable-native-access=ALL-UNNAMED", "-Dswiftkit.liveness.checks=scoped"})
+    public long getters_scopedChecks() {
+        return sumOfGetters();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--enable-native-access=ALL-UNNAMED", "-Dswiftkit.liveness.checks=scoped"})
+    public long getters_scopedChecks_uncheckedRegion() {
+        return SwiftLivenessChecks.unchecked(this::sumOfGetters);
+    }
+}
@@ -0,0 +1,97 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+package org.swift.swiftkit.ffm;
+
+import com.example.swift.FrozenPoint;
+import com.example.swift.MySwiftLibrary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Swift structs wrapped one by one, each in its own memory segment and registered with the arena
+ * on its own, to a {@link SwiftValueArray} of the same structs stored in one contiguous segment
+ * with a single cleanup: copying them into an arena, and iterating over them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"--enable-native-access=ALL-UNNAMED"})
+public class SwiftValueArrayBenchmark {
+
+    @Param({"1024", "1048576"})
+    public int count;
+
+    ClosableAllocatingSwiftArena arena;
+    List<FrozenPoint> points;
+    SwiftValueArray<FrozenPoint> array;
+
+    @Setup(Level.Trial)
+    public void beforeAll() {
+        arena = AllocatingSwiftArena.ofConfined();
+        points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(FrozenPoint.init(i, i, true, arena));
+        }
+        array = SwiftValueArray.copyOf(FrozenPoint.TYPE_METADATA, points, FrozenPoint::wrapMemoryAddressUnsafe, arena);
+    }
+
+    @TearDown(Level.Trial)
+    public void afterAll() {
+        arena.close();
+    }
+
+    @Benchmark
+    public long copy_individualValues() {
+        try (var copyArena = AllocatingSwiftArena.ofConfined()) {
+            return array.toList(copyArena).size();
+        }
+    }
+
+    @Benchmark
+    public long copy_valueArray() {
+        try (var copyArena = AllocatingSwiftArena.ofConfined()) {
+            return array.copy(copyArena).size();
+        }
+    }
+
+    @Benchmark
+    public long iterate_individualValues() {
+        long sum = 0;
+        for (FrozenPoint point : points) {
+            sum += point.getX();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterate_valueArray() {
+        long sum = 0;
+        for (FrozenPoint point : array) {
+            sum += point.getX();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumInSwift_valueArray() {
+        return MySwiftLibrary.sumOfFrozenPointXs(array.$memorySegment());
+    }
+}
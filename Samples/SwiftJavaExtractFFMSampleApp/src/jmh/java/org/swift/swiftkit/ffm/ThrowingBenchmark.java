@@ -0,0 +1,69 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+package org.swift.swiftkit.ffm;
+
+import com.example.swift.MySwiftLibrary;
+import org.openjdk.jmh.annotations.*;
+import org.swift.swiftkit.ffm.generated.SwiftJavaErrorException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of throwing Swift functions, as in the {@code ThrowingJavaFFM} snippet,
+ * when they fail: with lightweight errors, whose message is only fetched on request, and again
+ * with the stack traces which {@link FFMSwiftErrorInstance#STACK_TRACES_PROPERTY} turns back on.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = {"--enable-native-access=ALL-UNNAMED"})
+public class ThrowingBenchmark {
+
+    @Benchmark
+    public String throwString_succeeds() throws SwiftJavaErrorException {
+        return MySwiftLibrary.throwString("Hello!");
+    }
+
+    @Benchmark
+    public Object throwString_fails() {
+        try {
+            return MySwiftLibrary.throwString("");
+        } catch (SwiftJavaErrorException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public String throwString_fails_message() {
+        try {
+            return MySwiftLibrary.throwString("");
+        } catch (SwiftJavaErrorException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--enable-native-access=ALL-UNNAMED", "-D" + FFMSwiftErrorInstance.STACK_TRACES_PROPERTY + "=true"})
+    public Object throwString_fails_stackTrace() {
+        try {
+            return MySwiftLibrary.throwString("");
+        } catch (SwiftJavaErrorException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.ffm;
+
+import com.example.swift.IntLongTuple;
+import com.example.swift.MySwiftLibrary;
+import org.openjdk.jmh.annotations.*;
+import org.swift.swiftkit.core.tuple.Tuple2;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures returning tuples of primitives from Swift.
+ * <p>
+ * Such tuples are read from a single out segment into a specialized class with primitive fields.
+ * {@code boxedTuple} additionally copies the result into a generic {@code Tuple2}, the shape
+ * these functions used to return, to show the cost of boxing every element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 3, jvmArgsAppend = { "--enable-native-access=ALL-UNNAMED" })
+public class TuplesBenchmark {
+
+    @Benchmark
+    public IntLongTuple primitiveTuple() {
+        return MySwiftLibrary.returnIntPair();
+    }
+
+    @Benchmark
+    public Tuple2<Integer, Long> boxedTuple() {
+        IntLongTuple result = MySwiftLibrary.returnIntPair();
+        return new Tuple2<>(result.$0, result.$1);
+    }
+
+    @Benchmark
+    public long passTuple() {
+        return MySwiftLibrary.sumIntPair(new Tuple2<>(5, 7L));
+    }
+}
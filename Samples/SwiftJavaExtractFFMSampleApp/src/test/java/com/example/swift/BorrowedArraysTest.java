@@ -0,0 +1,98 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+package com.example.swift;
+
+import org.junit.jupiter.api.Test;
+import org.swift.swiftkit.ffm.AllocatingSwiftArena;
+import org.swift.swiftkit.ffm.SwiftRuntime;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.ref.Reference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BorrowedArraysTest {
+    @Test
+    void borrowsElementsInPlace() {
+        try (var arena = AllocatingSwiftArena.ofConfined()) {
+            MemorySegment elements = MySwiftLibrary.ramp(4, arena);
+
+            assertEquals(4 * Integer.BYTES, elements.byteSize());
+            assertArrayEquals(new int[] { 0, 1, 2, 3 }, elements.toArray(ValueLayout.JAVA_INT));
+            assertTrue(elements.isReadOnly());
+            assertThrows(UnsupportedOperationException.class, () -> elements.set(ValueLayout.JAVA_INT, 0, 42));
+        }
+    }
+
+    @Test
+    void borrowedElementsEndWithTheArena() {
+        MemorySegment elements;
+        try (var arena = AllocatingSwiftArena.ofConfined()) {
+            elements = MySwiftLibrary.ramp(4, arena);
+        }
+
+        assertFalse(elements.scope().isAlive());
+        assertThrows(IllegalStateException.class, () -> elements.get(ValueLayout.JAVA_INT, 0));
+    }
+
+    @Test
+    void copiesElementsWithoutArena() {
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, MySwiftLibrary.ramp(4));
+    }
+
+    @Test
+    void borrowsStoredArray() {
+        try (var arena = AllocatingSwiftArena.ofConfined()) {
+            ByteStorage storage = ByteStorage.init(300, arena);
+
+            MemorySegment bytes = storage.bytes(arena);
+            assertEquals(300, bytes.byteSize());
+            assertEquals((byte) 299, bytes.get(ValueLayout.JAVA_BYTE, 299));
+
+            byte[] copy = storage.bytes();
+            assertArrayEquals(bytes.toArray(ValueLayout.JAVA_BYTE), copy);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("removal") // System.runFinalization() will be removed
+    void releasesOwnerWhenBorrowedElementsBecomeUnreachable() {
+        try (var arena = AllocatingSwiftArena.ofConfined()) {
+            var owner = MySwiftClass.init(1, 2, arena);
+            SwiftRuntime.retain(owner); // the reference passed to borrowArray, as the Swift thunk does
+
+            var autoArena = AllocatingSwiftArena.ofAuto();
+            MemorySegment elements = SwiftRuntime.borrowArray(owner.$memorySegment(), 0, owner.$instance(), autoArena);
+            assertEquals(2, SwiftRuntime.retainCount(owner));
+
+            // Only the segment is dropped, the automatic arena stays reachable
+            // noinspection UnusedAssignment
+            elements = null;
+
+            var i = 1_000;
+            while (SwiftRuntime.retainCount(owner) != 1) {
+                System.runFinalization();
+                System.gc();
+
+                if (i-- < 1) {
+                    throw new RuntimeException("Owner was not released! Did Cleaner not pick up the release?");
+                }
+            }
+            Reference.reachabilityFence(autoArena);
+        }
+    }
+}
@@ -31,7 +31,7 @@ public class FFMTupleTest {
     @Test
     void returnIntPair_roundTrip() {
         // snippet.tupleUsageJava
-        Tuple2<Integer, Long> result = MySwiftLibrary.returnIntPair();
+        IntLongTuple result = MySwiftLibrary.returnIntPair();
         assertEquals(42, result.$0);
         assertEquals(43L, result.$1);
         // snippet.end
@@ -45,7 +45,7 @@ public class FFMTupleTest {
 
     @Test
     void labeledTuple_preservesElementOrder() {
-        Tuple2<Integer, Integer> result = MySwiftLibrary.labeledTuple();
+        IntIntTuple result = MySwiftLibrary.labeledTuple();
         assertEquals(10, result.$0);
         assertEquals(20, result.$1);
     }
@@ -0,0 +1,60 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+package com.example.swift;
+
+import org.junit.jupiter.api.Test;
+import org.swift.swiftkit.ffm.AllocatingSwiftArena;
+
+import java.lang.foreign.MemoryLayout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrozenPointTest {
+    @Test
+    void layoutNamesStoredProperties() {
+        assertEquals(0, FrozenPoint.$LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("x")));
+        assertEquals(8, FrozenPoint.$LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("y")));
+        assertEquals(16, FrozenPoint.$LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("visible")));
+        assertEquals(20, FrozenPoint.$LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("generation")));
+        assertEquals(24, FrozenPoint.$LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("changes")));
+    }
+
+    @Test
+    void fieldAccessorsReadSwiftValues() {
+        try (var arena = AllocatingSwiftArena.ofConfined()) {
+            var point = FrozenPoint.init(3, 4.5, true, arena);
+            assertEquals(3, point.getX());
+            assertEquals(4.5, point.getY(), 0.0);
+            assertTrue(point.isVisible());
+
+            point.setX(42);
+            point.setVisible(false);
+            assertEquals(42, point.getX());
+            assertEquals(42, point.readX());
+            assertFalse(point.isVisible());
+        }
+    }
+
+    @Test
+    void observedPropertyRunsObserver() {
+        try (var arena = AllocatingSwiftArena.ofConfined()) {
+            var point = FrozenPoint.init(0, 0, false, arena);
+            point.setGeneration(7);
+            assertEquals(7, point.getGeneration());
+            assertEquals(1, point.getChanges());
+        }
+    }
+}
@@ -164,6 +164,15 @@ public class MySwiftLibraryTest {
         );
     }
 
+    @Test
+    void call_globalThrowingString_throws_lightweight() {
+        SwiftJavaErrorException error = assertThrows(SwiftJavaErrorException.class, () -> {
+            MySwiftLibrary.globalThrowingString(true);
+        });
+        assertEquals(0, error.getStackTrace().length);
+        assertEquals(error.errorDescription(), error.getMessage());
+    }
+
     @Test
     void call_globalCallMeBooleanSupplier_noThrow() {
         // snippet.closureUsageJava
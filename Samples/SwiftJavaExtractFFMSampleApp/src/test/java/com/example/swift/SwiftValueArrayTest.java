@@ -0,0 +1,142 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+package com.example.swift;
+
+import org.junit.jupiter.api.Test;
+import org.swift.swiftkit.ffm.AllocatingSwiftArena;
+import org.swift.swiftkit.ffm.SwiftValueArray;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SwiftValueArrayTest {
+    @Test
+    void copyOfStoresElementsContiguously() {
+        try (var arena = AllocatingSwiftArena.ofConfined()) {
+            var points = SwiftValueArray.copyOf(
+                    FrozenPoint.TYPE_METADATA,
+                    List.of(FrozenPoint.init(1, 0.5, true, arena), FrozenPoint.init(2, 1.5, false, arena), FrozenPoint.init(3, 2.5, true, arena)),
+                    FrozenPoint::wrapMemoryAddressUnsafe,
+                    arena);
+
+            assertEquals(3, points.size());
+            assertEquals(FrozenPoint.$LAYOUT.byteSize(), points.stride());
+            assertEquals(3 * points.stride(), points.$memorySegment().byteSize());
+            assertEquals(2, points.get(1).getX());
+            assertEquals(2.5, points.get(2).getY(), 0.0);
+            assertFalse(points.get(1).isVisible());
+
+            assertEquals(6, MySwiftLibrary.sumOfFrozenPointXs(points.$memorySegment()));
+        }
+    }
+
+    @Test
+    void viewsWriteThroughToTheArray() {
+        try (var arena = AllocatingSwiftArena.ofConfined()) {
+            var points = SwiftValueArray.copyOf(
+                    FrozenPoint.TYPE_METADATA,
+                    List.of(FrozenPoint.init(1, 0, false, arena), FrozenPoint.init(2, 0, false, arena)),
+                    FrozenPoint::wrapMemoryAddressUnsafe,
+                    arena);
+
+            points.get(0).setX(10);
+            points.assign(1, FrozenPoint.init(20, 0, true, arena));
+
+            assertEquals(10, points.get(0).getX());
+            assertEquals(20, points.get(1).getX());
+            assertTrue(points.get(1).isVisible());
+            assertEquals(30, MySwiftLibrary.sumOfFrozenPointXs(points.$memorySegment()));
+        }
+    }
+
+    @Test
+    void copiesOutliveTheArray() {
+        try (var arena = AllocatingSwiftArena.ofConfined()) {
+            FrozenPoint copy;
+            List<FrozenPoint> copies;
+            SwiftValueArray<FrozenPoint> arrayCopy;
+            try (var arrayArena = AllocatingSwiftArena.ofConfined()) {
+                var points = SwiftValueArray.copyOf(
+                        FrozenPoint.TYPE_METADATA,
+                        List.of(FrozenPoint.init(1, 0, false, arrayArena), FrozenPoint.init(2, 0, false, arrayArena)),
+                        FrozenPoint::wrapMemoryAddressUnsafe,
+                        arrayArena);
+
+                copy = points.copy(1, arena);
+                copies = points.toList(arena);
+                arrayCopy = points.copy(arena);
+                points.get(0).setX(100);
+            }
+
+            assertEquals(2, copy.getX());
+            assertEquals(List.of(1L, 2L), copies.stream().map(FrozenPoint::getX).toList());
+            assertEquals(1, arrayCopy.get(0).getX());
+            assertEquals(3, MySwiftLibrary.sumOfFrozenPointXs(arrayCopy.$memorySegment()));
+        }
+    }
+
+    @Test
+    void destroyedWithItsArena() {
+        SwiftValueArray<FrozenPoint> points;
+        try (var arena = AllocatingSwiftArena.ofConfined()) {
+            points = SwiftValueArray.copyOf(
+                    FrozenPoint.TYPE_METADATA,
+                    List.of(FrozenPoint.init(1, 0, false, arena)),
+                    FrozenPoint::wrapMemoryAddressUnsafe,
+                    arena);
+        }
+
+        assertTrue(points.$cleanup().isDestroyed());
+        assertThrows(IllegalStateException.class, () -> points.get(0));
+    }
+
+    @Test
+    @SuppressWarnings("removal") // System.runFinalization() will be removed
+    void viewKeepsItsArrayReachable() {
+        var arena = AllocatingSwiftArena.ofAuto();
+        var points = SwiftValueArray.copyOf(
+                FrozenPoint.TYPE_METADATA,
+                List.of(FrozenPoint.init(1, 0, false, arena), FrozenPoint.init(2, 0, false, arena)),
+                FrozenPoint::wrapMemoryAddressUnsafe,
+                arena);
+        var cleanup = points.$cleanup();
+        var view = points.get(1);
+
+        // noinspection UnusedAssignment
+        points = null;
+
+        for (int i = 0; i < 10; i++) {
+            System.runFinalization();
+            System.gc();
+        }
+        assertFalse(cleanup.isDestroyed());
+        assertEquals(2, view.getX());
+
+        // noinspection UnusedAssignment
+        view = null;
+
+        var i = 1_000;
+        while (!cleanup.isDestroyed()) {
+            System.runFinalization();
+            System.gc();
+
+            if (i-- < 1) {
+                throw new RuntimeException("Array was not cleaned up! Did Cleaner not pick up the release?");
+            }
+        }
+    }
+}
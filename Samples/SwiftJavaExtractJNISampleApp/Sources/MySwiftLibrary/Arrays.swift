@@ -70,6 +70,10 @@ public func nestedStringArray(array: [[String]]) -> [[String]] {
 }
 // snippet.end
 
+public func makeObjectArray(count: Int64) -> [MySwiftClass] {
+  (0..<count).map { MySwiftClass(x: $0, y: $0) }
+}
+
 public func nestedLongArray(array: [[Int64]]) -> [[Int64]] {
   array
 }
@@ -30,3 +30,20 @@ public func insertIntoStringToLongDictionary(dict: [String: Int64], key: String,
   copy[key] = value
   return copy
 }
+
+public func sumOfLongToDoubleDictionaryValues(dict: [Int64: Double]) -> Double {
+  dict.values.reduce(0, +)
+}
+
+public func countOfStringToLongDictionary(dict: [String: Int64]) -> Int64 {
+  Int64(dict.count)
+}
+
+public func makeLongToDoubleDictionary(count: Int64) -> [Int64: Double] {
+  var dict: [Int64: Double] = [:]
+  dict.reserveCapacity(Int(count))
+  for i in 0..<count {
+    dict[i] = Double(i) * 0.5
+  }
+  return dict
+}
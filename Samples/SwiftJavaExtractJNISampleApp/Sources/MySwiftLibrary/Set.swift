@@ -43,3 +43,7 @@ public func makeLongSet() -> Set<Int> {
 public func longSet(set: Set<Int>) -> Set<Int> {
   set
 }
+
+public func sumOfLongSet(set: Set<Int64>) -> Int64 {
+  set.reduce(0, +)
+}
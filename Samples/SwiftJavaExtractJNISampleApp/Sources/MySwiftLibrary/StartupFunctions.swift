@@ -0,0 +1,1020 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+// Many small functions, to measure the time to the first call of every
+// generated native method, see `StartupBenchmark`.
+//
+// Generated with:
+//   for i in $(seq 0 999); do echo "public func startupFunction$i(_ value: Int64) -> Int64 { value &+ $i }"; done
+
+public func startupFunction0(_ value: Int64) -> Int64 { value &+ 0 }
+public func startupFunction1(_ value: Int64) -> Int64 { value &+ 1 }
+public func startupFunction2(_ value: Int64) -> Int64 { value &+ 2 }
+public func startupFunction3(_ value: Int64) -> Int64 { value &+ 3 }
+public func startupFunction4(_ value: Int64) -> Int64 { value &+ 4 }
+public func startupFunction5(_ value: Int64) -> Int64 { value &+ 5 }
+public func startupFunction6(_ value: Int64) -> Int64 { value &+ 6 }
+public func startupFunction7(_ value: Int64) -> Int64 { value &+ 7 }
+public func startupFunction8(_ value: Int64) -> Int64 { value &+ 8 }
+public func startupFunction9(_ value: Int64) -> Int64 { value &+ 9 }
+public func startupFunction10(_ value: Int64) -> Int64 { value &+ 10 }
+public func startupFunction11(_ value: Int64) -> Int64 { value &+ 11 }
+public func startupFunction12(_ value: Int64) -> Int64 { value &+ 12 }
+public func startupFunction13(_ value: Int64) -> Int64 { value &+ 13 }
+public func startupFunction14(_ value: Int64) -> Int64 { value &+ 14 }
+public func startupFunction15(_ value: Int64) -> Int64 { value &+ 15 }
+public func startupFunction16(_ value: Int64) -> Int64 { value &+ 16 }
+public func startupFunction17(_ value: Int64) -> Int64 { value &+ 17 }
+public func startupFunction18(_ value: Int64) -> Int64 { value &+ 18 }
+public func startupFunction19(_ value: Int64) -> Int64 { value &+ 19 }
+public func startupFunction20(_ value: Int64) -> Int64 { value &+ 20 }
+public func startupFunction21(_ value: Int64) -> Int64 { value &+ 21 }
+public func startupFunction22(_ value: Int64) -> Int64 { value &+ 22 }
+public func startupFunction23(_ value: Int64) -> Int64 { value &+ 23 }
+public func startupFunction24(_ value: Int64) -> Int64 { value &+ 24 }
+public func startupFunction25(_ value: Int64) -> Int64 { value &+ 25 }
+public func startupFunction26(_ value: Int64) -> Int64 { value &+ 26 }
+public func startupFunction27(_ value: Int64) -> Int64 { value &+ 27 }
+public func startupFunction28(_ value: Int64) -> Int64 { value &+ 28 }
+public func startupFunction29(_ value: Int64) -> Int64 { value &+ 29 }
+public func startupFunction30(_ value: Int64) -> Int64 { value &+ 30 }
+public func startupFunction31(_ value: Int64) -> Int64 { value &+ 31 }
+public func startupFunction32(_ value: Int64) -> Int64 { value &+ 32 }
+public func startupFunction33(_ value: Int64) -> Int64 { value &+ 33 }
+public func startupFunction34(_ value: Int64) -> Int64 { value &+ 34 }
+public func startupFunction35(_ value: Int64) -> Int64 { value &+ 35 }
+public func startupFunction36(_ value: Int64) -> Int64 { value &+ 36 }
+public func startupFunction37(_ value: Int64) -> Int64 { value &+ 37 }
+public func startupFunction38(_ value: Int64) -> Int64 { value &+ 38 }
+public func startupFunction39(_ value: Int64) -> Int64 { value &+ 39 }
+public func startupFunction40(_ value: Int64) -> Int64 { value &+ 40 }
+public func startupFunction41(_ value: Int64) -> Int64 { value &+ 41 }
+public func startupFunction42(_ value: Int64) -> Int64 { value &+ 42 }
+public func startupFunction43(_ value: Int64) -> Int64 { value &+ 43 }
+public func startupFunction44(_ value: Int64) -> Int64 { value &+ 44 }
+public func startupFunction45(_ value: Int64) -> Int64 { value &+ 45 }
+public func startupFunction46(_ value: Int64) -> Int64 { value &+ 46 }
+public func startupFunction47(_ value: Int64) -> Int64 { value &+ 47 }
+public func startupFunction48(_ value: Int64) -> Int64 { value &+ 48 }
+public func startupFunction49(_ value: Int64) -> Int64 { value &+ 49 }
+public func startupFunction50(_ value: Int64) -> Int64 { value &+ 50 }
+public func startupFunction51(_ value: Int64) -> Int64 { value &+ 51 }
+public func startupFunction52(_ value: Int64) -> Int64 { value &+ 52 }
+public func startupFunction53(_ value: Int64) -> Int64 { value &+ 53 }
+public func startupFunction54(_ value: Int64) -> Int64 { value &+ 54 }
+public func startupFunction55(_ value: Int64) -> Int64 { value &+ 55 }
+public func startupFunction56(_ value: Int64) -> Int64 { value &+ 56 }
+public func startupFunction57(_ value: Int64) -> Int64 { value &+ 57 }
+public func startupFunction58(_ value: Int64) -> Int64 { value &+ 58 }
+public func startupFunction59(_ value: Int64) -> Int64 { value &+ 59 }
+public func startupFunction60(_ value: Int64) -> Int64 { value &+ 60 }
+public func startupFunction61(_ value: Int64) -> Int64 { value &+ 61 }
+public func startupFunction62(_ value: Int64) -> Int64 { value &+ 62 }
+public func startupFunction63(_ value: Int64) -> Int64 { value &+ 63 }
+public func startupFunction64(_ value: Int64) -> Int64 { value &+ 64 }
+public func startupFunction65(_ value: Int64) -> Int64 { value &+ 65 }
+public func startupFunction66(_ value: Int64) -> Int64 { value &+ 66 }
+public func startupFunction67(_ value: Int64) -> Int64 { value &+ 67 }
+public func startupFunction68(_ value: Int64) -> Int64 { value &+ 68 }
+public func startupFunction69(_ value: Int64) -> Int64 { value &+ 69 }
+public func startupFunction70(_ value: Int64) -> Int64 { value &+ 70 }
+public func startupFunction71(_ value: Int64) -> Int64 { value &+ 71 }
+public func startupFunction72(_ value: Int64) -> Int64 { value &+ 72 }
+public func startupFunction73(_ value: Int64) -> Int64 { value &+ 73 }
+public func startupFunction74(_ value: Int64) -> Int64 { value &+ 74 }
+public func startupFunction75(_ value: Int64) -> Int64 { value &+ 75 }
+public func startupFunction76(_ value: Int64) -> Int64 { value &+ 76 }
+public func startupFunction77(_ value: Int64) -> Int64 { value &+ 77 }
+public func startupFunction78(_ value: Int64) -> Int64 { value &+ 78 }
+public func startupFunction79(_ value: Int64) -> Int64 { value &+ 79 }
+public func startupFunction80(_ value: Int64) -> Int64 { value &+ 80 }
+public func startupFunction81(_ value: Int64) -> Int64 { value &+ 81 }
+public func startupFunction82(_ value: Int64) -> Int64 { value &+ 82 }
+public func startupFunction83(_ value: Int64) -> Int64 { value &+ 83 }
+public func startupFunction84(_ value: Int64) -> Int64 { value &+ 84 }
+public func startupFunction85(_ value: Int64) -> Int64 { value &+ 85 }
+public func startupFunction86(_ value: Int64) -> Int64 { value &+ 86 }
+public func startupFunction87(_ value: Int64) -> Int64 { value &+ 87 }
+public func startupFunction88(_ value: Int64) -> Int64 { value &+ 88 }
+public func startupFunction89(_ value: Int64) -> Int64 { value &+ 89 }
+public func startupFunction90(_ value: Int64) -> Int64 { value &+ 90 }
+public func startupFunction91(_ value: Int64) -> Int64 { value &+ 91 }
+public func startupFunction92(_ value: Int64) -> Int64 { value &+ 92 }
+public func startupFunction93(_ value: Int64) -> Int64 { value &+ 93 }
+public func startupFunction94(_ value: Int64) -> Int64 { value &+ 94 }
+public func startupFunction95(_ value: Int64) -> Int64 { value &+ 95 }
+public func startupFunction96(_ value: Int64) -> Int64 { value &+ 96 }
+public func startupFunction97(_ value: Int64) -> Int64 { value &+ 97 }
+public func startupFunction98(_ value: Int64) -> Int64 { value &+ 98 }
+public func startupFunction99(_ value: Int64) -> Int64 { value &+ 99 }
+public func startupFunction100(_ value: Int64) -> Int64 { value &+ 100 }
+public func startupFunction101(_ value: Int64) -> Int64 { value &+ 101 }
+public func startupFunction102(_ value: Int64) -> Int64 { value &+ 102 }
+public func startupFunction103(_ value: Int64) -> Int64 { value &+ 103 }
+public func startupFunction104(_ value: Int64) -> Int64 { value &+ 104 }
+public func startupFunction105(_ value: Int64) -> Int64 { value &+ 105 }
+public func startupFunction106(_ value: Int64) -> Int64 { value &+ 106 }
+public func startupFunction107(_ value: Int64) -> Int64 { value &+ 107 }
+public func startupFunction108(_ value: Int64) -> Int64 { value &+ 108 }
+public func startupFunction109(_ value: Int64) -> Int64 { value &+ 109 }
+public func startupFunction110(_ value: Int64) -> Int64 { value &+ 110 }
+public func startupFunction111(_ value: Int64) -> Int64 { value &+ 111 }
+public func startupFunction112(_ value: Int64) -> Int64 { value &+ 112 }
+public func startupFunction113(_ value: Int64) -> Int64 { value &+ 113 }
+public func startupFunction114(_ value: Int64) -> Int64 { value &+ 114 }
+public func startupFunction115(_ value: Int64) -> Int64 { value &+ 115 }
+public func startupFunction116(_ value: Int64) -> Int64 { value &+ 116 }
+public func startupFunction117(_ value: Int64) -> Int64 { value &+ 117 }
+public func startupFunction118(_ value: Int64) -> Int64 { value &+ 118 }
+public func startupFunction119(_ value: Int64) -> Int64 { value &+ 119 }
+public func startupFunction120(_ value: Int64) -> Int64 { value &+ 120 }
+public func startupFunction121(_ value: Int64) -> Int64 { value &+ 121 }
+public func startupFunction122(_ value: Int64) -> Int64 { value &+ 122 }
+public func startupFunction123(_ value: Int64) -> Int64 { value &+ 123 }
+public func startupFunction124(_ value: Int64) -> Int64 { value &+ 124 }
+public func startupFunction125(_ value: Int64) -> Int64 { value &+ 125 }
+public func startupFunction126(_ value: Int64) -> Int64 { value &+ 126 }
+public func startupFunction127(_ value: Int64) -> Int64 { value &+ 127 }
+public func startupFunction128(_ value: Int64) -> Int64 { value &+ 128 }
+public func startupFunction129(_ value: Int64) -> Int64 { value &+ 129 }
+public func startupFunction130(_ value: Int64) -> Int64 { value &+ 130 }
+public func startupFunction131(_ value: Int64) -> Int64 { value &+ 131 }
+public func startupFunction132(_ value: Int64) -> Int64 { value &+ 132 }
+public func startupFunction133(_ value: Int64) -> Int64 { value &+ 133 }
+public func startupFunction134(_ value: Int64) -> Int64 { value &+ 134 }
+public func startupFunction135(_ value: Int64) -> Int64 { value &+ 135 }
+public func startupFunction136(_ value: Int64) -> Int64 { value &+ 136 }
+public func startupFunction137(_ value: Int64) -> Int64 { value &+ 137 }
+public func startupFunction138(_ value: Int64) -> Int64 { value &+ 138 }
+public func startupFunction139(_ value: Int64) -> Int64 { value &+ 139 }
+public func startupFunction140(_ value: Int64) -> Int64 { value &+ 140 }
+public func startupFunction141(_ value: Int64) -> Int64 { value &+ 141 }
+public func startupFunction142(_ value: Int64) -> Int64 { value &+ 142 }
+public func startupFunction143(_ value: Int64) -> Int64 { value &+ 143 }
+public func startupFunction144(_ value: Int64) -> Int64 { value &+ 144 }
+public func startupFunction145(_ value: Int64) -> Int64 { value &+ 145 }
+public func startupFunction146(_ value: Int64) -> Int64 { value &+ 146 }
+public func startupFunction147(_ value: Int64) -> Int64 { value &+ 147 }
+public func startupFunction148(_ value: Int64) -> Int64 { value &+ 148 }
+public func startupFunction149(_ value: Int64) -> Int64 { value &+ 149 }
+public func startupFunction150(_ value: Int64) -> Int64 { value &+ 150 }
+public func startupFunction151(_ value: Int64) -> Int64 { value &+ 151 }
+public func startupFunction152(_ value: Int64) -> Int64 { value &+ 152 }
+public func startupFunction153(_ value: Int64) -> Int64 { value &+ 153 }
+public func startupFunction154(_ value: Int64) -> Int64 { value &+ 154 }
+public func startupFunction155(_ value: Int64) -> Int64 { value &+ 155 }
+public func startupFunction156(_ value: Int64) -> Int64 { value &+ 156 }
+public func startupFunction157(_ value: Int64) -> Int64 { value &+ 157 }
+public func startupFunction158(_ value: Int64) -> Int64 { value &+ 158 }
+public func startupFunction159(_ value: Int64) -> Int64 { value &+ 159 }
+public func startupFunction160(_ value: Int64) -> Int64 { value &+ 160 }
+public func startupFunction161(_ value: Int64) -> Int64 { value &+ 161 }
+public func startupFunction162(_ value: Int64) -> Int64 { value &+ 162 }
+public func startupFunction163(_ value: Int64) -> Int64 { value &+ 163 }
+public func startupFunction164(_ value: Int64) -> Int64 { value &+ 164 }
+public func startupFunction165(_ value: Int64) -> Int64 { value &+ 165 }
+public func startupFunction166(_ value: Int64) -> Int64 { value &+ 166 }
+public func startupFunction167(_ value: Int64) -> Int64 { value &+ 167 }
+public func startupFunction168(_ value: Int64) -> Int64 { value &+ 168 }
+public func startupFunction169(_ value: Int64) -> Int64 { value &+ 169 }
+public func startupFunction170(_ value: Int64) -> Int64 { value &+ 170 }
+public func startupFunction171(_ value: Int64) -> Int64 { value &+ 171 }
+public func startupFunction172(_ value: Int64) -> Int64 { value &+ 172 }
+public func startupFunction173(_ value: Int64) -> Int64 { value &+ 173 }
+public func startupFunction174(_ value: Int64) -> Int64 { value &+ 174 }
+public func startupFunction175(_ value: Int64) -> Int64 { value &+ 175 }
+public func startupFunction176(_ value: Int64) -> Int64 { value &+ 176 }
+public func startupFunction177(_ value: Int64) -> Int64 { value &+ 177 }
+public func startupFunction178(_ value: Int64) -> Int64 { value &+ 178 }
+public func startupFunction179(_ value: Int64) -> Int64 { value &+ 179 }
+public func startupFunction180(_ value: Int64) -> Int64 { value &+ 180 }
+public func startupFunction181(_ value: Int64) -> Int64 { value &+ 181 }
+public func startupFunction182(_ value: Int64) -> Int64 { value &+ 182 }
+public func startupFunction183(_ value: Int64) -> Int64 { value &+ 183 }
+public func startupFunction184(_ value: Int64) -> Int64 { value &+ 184 }
+public func startupFunction185(_ value: Int64) -> Int64 { value &+ 185 }
+public func startupFunction186(_ value: Int64) -> Int64 { value &+ 186 }
+public func startupFunction187(_ value: Int64) -> Int64 { value &+ 187 }
+public func startupFunction188(_ value: Int64) -> Int64 { value &+ 188 }
+public func startupFunction189(_ value: Int64) -> Int64 { value &+ 189 }
+public func startupFunction190(_ value: Int64) -> Int64 { value &+ 190 }
+public func startupFunction191(_ value: Int64) -> Int64 { value &+ 191 }
+public func startupFunction192(_ value: Int64) -> Int64 { value &+ 192 }
+public func startupFunction193(_ value: Int64) -> Int64 { value &+ 193 }
+public func startupFunction194(_ value: Int64) -> Int64 { value &+ 194 }
+public func startupFunction195(_ value: Int64) -> Int64 { value &+ 195 }
+public func startupFunction196(_ value: Int64) -> Int64 { value &+ 196 }
+public func startupFunction197(_ value: Int64) -> Int64 { value &+ 197 }
+public func startupFunction198(_ value: Int64) -> Int64 { value &+ 198 }
+public func startupFunction199(_ value: Int64) -> Int64 { value &+ 199 }
+public func startupFunction200(_ value: Int64) -> Int64 { value &+ 200 }
+public func startupFunction201(_ value: Int64) -> Int64 { value &+ 201 }
+public func startupFunction202(_ value: Int64) -> Int64 { value &+ 202 }
+public func startupFunction203(_ value: Int64) -> Int64 { value &+ 203 }
+public func startupFunction204(_ value: Int64) -> Int64 { value &+ 204 }
+public func startupFunction205(_ value: Int64) -> Int64 { value &+ 205 }
+public func startupFunction206(_ value: Int64) -> Int64 { value &+ 206 }
+public func startupFunction207(_ value: Int64) -> Int64 { value &+ 207 }
+public func startupFunction208(_ value: Int64) -> Int64 { value &+ 208 }
+public func startupFunction209(_ value: Int64) -> Int64 { value &+ 209 }
+public func startupFunction210(_ value: Int64) -> Int64 { value &+ 210 }
+public func startupFunction211(_ value: Int64) -> Int64 { value &+ 211 }
+public func startupFunction212(_ value: Int64) -> Int64 { value &+ 212 }
+public func startupFunction213(_ value: Int64) -> Int64 { value &+ 213 }
+public func startupFunction214(_ value: Int64) -> Int64 { value &+ 214 }
+public func startupFunction215(_ value: Int64) -> Int64 { value &+ 215 }
+public func startupFunction216(_ value: Int64) -> Int64 { value &+ 216 }
+public func startupFunction217(_ value: Int64) -> Int64 { value &+ 217 }
+public func startupFunction218(_ value: Int64) -> Int64 { value &+ 218 }
+public func startupFunction219(_ value: Int64) -> Int64 { value &+ 219 }
+public func startupFunction220(_ value: Int64) -> Int64 { value &+ 220 }
+public func startupFunction221(_ value: Int64) -> Int64 { value &+ 221 }
+public func startupFunction222(_ value: Int64) -> Int64 { value &+ 222 }
+public func startupFunction223(_ value: Int64) -> Int64 { value &+ 223 }
+public func startupFunction224(_ value: Int64) -> Int64 { value &+ 224 }
+public func startupFunction225(_ value: Int64) -> Int64 { value &+ 225 }
+public func startupFunction226(_ value: Int64) -> Int64 { value &+ 226 }
+public func startupFunction227(_ value: Int64) -> Int64 { value &+ 227 }
+public func startupFunction228(_ value: Int64) -> Int64 { value &+ 228 }
+public func startupFunction229(_ value: Int64) -> Int64 { value &+ 229 }
+public func startupFunction230(_ value: Int64) -> Int64 { value &+ 230 }
+public func startupFunction231(_ value: Int64) -> Int64 { value &+ 231 }
+public func startupFunction232(_ value: Int64) -> Int64 { value &+ 232 }
+public func startupFunction233(_ value: Int64) -> Int64 { value &+ 233 }
+public func startupFunction234(_ value: Int64) -> Int64 { value &+ 234 }
+public func startupFunction235(_ value: Int64) -> Int64 { value &+ 235 }
+public func startupFunction236(_ value: Int64) -> Int64 { value &+ 236 }
+public func startupFunction237(_ value: Int64) -> Int64 { value &+ 237 }
+public func startupFunction238(_ value: Int64) -> Int64 { value &+ 238 }
+public func startupFunction239(_ value: Int64) -> Int64 { value &+ 239 }
+public func startupFunction240(_ value: Int64) -> Int64 { value &+ 240 }
+public func startupFunction241(_ value: Int64) -> Int64 { value &+ 241 }
+public func startupFunction242(_ value: Int64) -> Int64 { value &+ 242 }
+public func startupFunction243(_ value: Int64) -> Int64 { value &+ 243 }
+public func startupFunction244(_ value: Int64) -> Int64 { value &+ 244 }
+public func startupFunction245(_ value: Int64) -> Int64 { value &+ 245 }
+public func startupFunction246(_ value: Int64) -> Int64 { value &+ 246 }
+public func startupFunction247(_ value: Int64) -> Int64 { value &+ 247 }
+public func startupFunction248(_ value: Int64) -> Int64 { value &+ 248 }
+public func startupFunction249(_ value: Int64) -> Int64 { value &+ 249 }
+public func startupFunction250(_ value: Int64) -> Int64 { value &+ 250 }
+public func startupFunction251(_ value: Int64) -> Int64 { value &+ 251 }
+public func startupFunction252(_ value: Int64) -> Int64 { value &+ 252 }
+public func startupFunction253(_ value: Int64) -> Int64 { value &+ 253 }
+public func startupFunction254(_ value: Int64) -> Int64 { value &+ 254 }
+public func startupFunction255(_ value: Int64) -> Int64 { value &+ 255 }
+public func startupFunction256(_ value: Int64) -> Int64 { value &+ 256 }
+public func startupFunction257(_ value: Int64) -> Int64 { value &+ 257 }
+public func startupFunction258(_ value: Int64) -> Int64 { value &+ 258 }
+public func startupFunction259(_ value: Int64) -> Int64 { value &+ 259 }
+public func startupFunction260(_ value: Int64) -> Int64 { value &+ 260 }
+public func startupFunction261(_ value: Int64) -> Int64 { value &+ 261 }
+public func startupFunction262(_ value: Int64) -> Int64 { value &+ 262 }
+public func startupFunction263(_ value: Int64) -> Int64 { value &+ 263 }
+public func startupFunction264(_ value: Int64) -> Int64 { value &+ 264 }
+public func startupFunction265(_ value: Int64) -> Int64 { value &+ 265 }
+public func startupFunction266(_ value: Int64) -> Int64 { value &+ 266 }
+public func startupFunction267(_ value: Int64) -> Int64 { value &+ 267 }
+public func startupFunction268(_ value: Int64) -> Int64 { value &+ 268 }
+public func startupFunction269(_ value: Int64) -> Int64 { value &+ 269 }
+public func startupFunction270(_ value: Int64) -> Int64 { value &+ 270 }
+public func startupFunction271(_ value: Int64) -> Int64 { value &+ 271 }
+public func startupFunction272(_ value: Int64) -> Int64 { value &+ 272 }
+public func startupFunction273(_ value: Int64) -> Int64 { value &+ 273 }
+public func startupFunction274(_ value: Int64) -> Int64 { value &+ 274 }
+public func startupFunction275(_ value: Int64) -> Int64 { value &+ 275 }
+public func startupFunction276(_ value: Int64) -> Int64 { value &+ 276 }
+public func startupFunction277(_ value: Int64) -> Int64 { value &+ 277 }
+public func startupFunction278(_ value: Int64) -> Int64 { value &+ 278 }
+public func startupFunction279(_ value: Int64) -> Int64 { value &+ 279 }
+public func startupFunction280(_ value: Int64) -> Int64 { value &+ 280 }
+public func startupFunction281(_ value: Int64) -> Int64 { value &+ 281 }
+public func startupFunction282(_ value: Int64) -> Int64 { value &+ 282 }
+public func startupFunction283(_ value: Int64) -> Int64 { value &+ 283 }
+public func startupFunction284(_ value: Int64) -> Int64 { value &+ 284 }
+public func startupFunction285(_ value: Int64) -> Int64 { value &+ 285 }
+public func startupFunction286(_ value: Int64) -> Int64 { value &+ 286 }
+public func startupFunction287(_ value: Int64) -> Int64 { value &+ 287 }
+public func startupFunction288(_ value: Int64) -> Int64 { value &+ 288 }
+public func startupFunction289(_ value: Int64) -> Int64 { value &+ 289 }
+public func startupFunction290(_ value: Int64) -> Int64 { value &+ 290 }
+public func startupFunction291(_ value: Int64) -> Int64 { value &+ 291 }
+public func startupFunction292(_ value: Int64) -> Int64 { value &+ 292 }
+public func startupFunction293(_ value: Int64) -> Int64 { value &+ 293 }
+public func startupFunction294(_ value: Int64) -> Int64 { value &+ 294 }
+public func startupFunction295(_ value: Int64) -> Int64 { value &+ 295 }
+public func startupFunction296(_ value: Int64) -> Int64 { value &+ 296 }
+public func startupFunction297(_ value: Int64) -> Int64 { value &+ 297 }
+public func startupFunction298(_ value: Int64) -> Int64 { value &+ 298 }
+public func startupFunction299(_ value: Int64) -> Int64 { value &+ 299 }
+public func startupFunction300(_ value: Int64) -> Int64 { value &+ 300 }
+public func startupFunction301(_ value: Int64) -> Int64 { value &+ 301 }
+public func startupFunction302(_ value: Int64) -> Int64 { value &+ 302 }
+public func startupFunction303(_ value: Int64) -> Int64 { value &+ 303 }
+public func startupFunction304(_ value: Int64) -> Int64 { value &+ 304 }
+public func startupFunction305(_ value: Int64) -> Int64 { value &+ 305 }
+public func startupFunction306(_ value: Int64) -> Int64 { value &+ 306 }
+public func startupFunction307(_ value: Int64) -> Int64 { value &+ 307 }
+public func startupFunction308(_ value: Int64) -> Int64 { value &+ 308 }
+public func startupFunction309(_ value: Int64) -> Int64 { value &+ 309 }
+public func startupFunction310(_ value: Int64) -> Int64 { value &+ 310 }
+public func startupFunction311(_ value: Int64) -> Int64 { value &+ 311 }
+public func startupFunction312(_ value: Int64) -> Int64 { value &+ 312 }
+public func startupFunction313(_ value: Int64) -> Int64 { value &+ 313 }
+public func startupFunction314(_ value: Int64) -> Int64 { value &+ 314 }
+public func startupFunction315(_ value: Int64) -> Int64 { value &+ 315 }
+public func startupFunction316(_ value: Int64) -> Int64 { value &+ 316 }
+public func startupFunction317(_ value: Int64) -> Int64 { value &+ 317 }
+public func startupFunction318(_ value: Int64) -> Int64 { value &+ 318 }
+public func startupFunction319(_ value: Int64) -> Int64 { value &+ 319 }
+public func startupFunction320(_ value: Int64) -> Int64 { value &+ 320 }
+public func startupFunction321(_ value: Int64) -> Int64 { value &+ 321 }
+public func startupFunction322(_ value: Int64) -> Int64 { value &+ 322 }
+public func startupFunction323(_ value: Int64) -> Int64 { value &+ 323 }
+public func startupFunction324(_ value: Int64) -> Int64 { value &+ 324 }
+public func startupFunction325(_ value: Int64) -> Int64 { value &+ 325 }
+public func startupFunction326(_ value: Int64) -> Int64 { value &+ 326 }
+public func startupFunction327(_ value: Int64) -> Int64 { value &+ 327 }
+public func startupFunction328(_ value: Int64) -> Int64 { value &+ 328 }
+public func startupFunction329(_ value: Int64) -> Int64 { value &+ 329 }
+public func startupFunction330(_ value: Int64) -> Int64 { value &+ 330 }
+public func startupFunction331(_ value: Int64) -> Int64 { value &+ 331 }
+public func startupFunction332(_ value: Int64) -> Int64 { value &+ 332 }
+public func startupFunction333(_ value: Int64) -> Int64 { value &+ 333 }
+public func startupFunction334(_ value: Int64) -> Int64 { value &+ 334 }
+public func startupFunction335(_ value: Int64) -> Int64 { value &+ 335 }
+public func startupFunction336(_ value: Int64) -> Int64 { value &+ 336 }
+public func startupFunction337(_ value: Int64) -> Int64 { value &+ 337 }
+public func startupFunction338(_ value: Int64) -> Int64 { value &+ 338 }
+public func startupFunction339(_ value: Int64) -> Int64 { value &+ 339 }
+public func startupFunction340(_ value: Int64) -> Int64 { value &+ 340 }
+public func startupFunction341(_ value: Int64) -> Int64 { value &+ 341 }
+public func startupFunction342(_ value: Int64) -> Int64 { value &+ 342 }
+public func startupFunction343(_ value: Int64) -> Int64 { value &+ 343 }
+public func startupFunction344(_ value: Int64) -> Int64 { value &+ 344 }
+public func startupFunction345(_ value: Int64) -> Int64 { value &+ 345 }
+public func startupFunction346(_ value: Int64) -> Int64 { value &+ 346 }
+public func startupFunction347(_ value: Int64) -> Int64 { value &+ 347 }
+public func startupFunction348(_ value: Int64) -> Int64 { value &+ 348 }
+public func startupFunction349(_ value: Int64) -> Int64 { value &+ 349 }
+public func startupFunction350(_ value: Int64) -> Int64 { value &+ 350 }
+public func startupFunction351(_ value: Int64) -> Int64 { value &+ 351 }
+public func startupFunction352(_ value: Int64) -> Int64 { value &+ 352 }
+public func startupFunction353(_ value: Int64) -> Int64 { value &+ 353 }
+public func startupFunction354(_ value: Int64) -> Int64 { value &+ 354 }
+public func startupFunction355(_ value: Int64) -> Int64 { value &+ 355 }
+public func startupFunction356(_ value: Int64) -> Int64 { value &+ 356 }
+public func startupFunction357(_ value: Int64) -> Int64 { value &+ 357 }
+public func startupFunction358(_ value: Int64) -> Int64 { value &+ 358 }
+public func startupFunction359(_ value: Int64) -> Int64 { value &+ 359 }
+public func startupFunction360(_ value: Int64) -> Int64 { value &+ 360 }
+public func startupFunction361(_ value: Int64) -> Int64 { value &+ 361 }
+public func startupFunction362(_ value: Int64) -> Int64 { value &+ 362 }
+public func startupFunction363(_ value: Int64) -> Int64 { value &+ 363 }
+public func startupFunction364(_ value: Int64) -> Int64 { value &+ 364 }
+public func startupFunction365(_ value: Int64) -> Int64 { value &+ 365 }
+public func startupFunction366(_ value: Int64) -> Int64 { value &+ 366 }
+public func startupFunction367(_ value: Int64) -> Int64 { value &+ 367 }
+public func startupFunction368(_ value: Int64) -> Int64 { value &+ 368 }
+public func startupFunction369(_ value: Int64) -> Int64 { value &+ 369 }
+public func startupFunction370(_ value: Int64) -> Int64 { value &+ 370 }
+public func startupFunction371(_ value: Int64) -> Int64 { value &+ 371 }
+public func startupFunction372(_ value: Int64) -> Int64 { value &+ 372 }
+public func startupFunction373(_ value: Int64) -> Int64 { value &+ 373 }
+public func startupFunction374(_ value: Int64) -> Int64 { value &+ 374 }
+public func startupFunction375(_ value: Int64) -> Int64 { value &+ 375 }
+public func startupFunction376(_ value: Int64) -> Int64 { value &+ 376 }
+public func startupFunction377(_ value: Int64) -> Int64 { value &+ 377 }
+public func startupFunction378(_ value: Int64) -> Int64 { value &+ 378 }
+public func startupFunction379(_ value: Int64) -> Int64 { value &+ 379 }
+public func startupFunction380(_ value: Int64) -> Int64 { value &+ 380 }
+public func startupFunction381(_ value: Int64) -> Int64 { value &+ 381 }
+public func startupFunction382(_ value: Int64) -> Int64 { value &+ 382 }
+public func startupFunction383(_ value: Int64) -> Int64 { value &+ 383 }
+public func startupFunction384(_ value: Int64) -> Int64 { value &+ 384 }
+public func startupFunction385(_ value: Int64) -> Int64 { value &+ 385 }
+public func startupFunction386(_ value: Int64) -> Int64 { value &+ 386 }
+public func startupFunction387(_ value: Int64) -> Int64 { value &+ 387 }
+public func startupFunction388(_ value: Int64) -> Int64 { value &+ 388 }
+public func startupFunction389(_ value: Int64) -> Int64 { value &+ 389 }
+public func startupFunction390(_ value: Int64) -> Int64 { value &+ 390 }
+public func startupFunction391(_ value: Int64) -> Int64 { value &+ 391 }
+public func startupFunction392(_ value: Int64) -> Int64 { value &+ 392 }
+public func startupFunction393(_ value: Int64) -> Int64 { value &+ 393 }
+public func startupFunction394(_ value: Int64) -> Int64 { value &+ 394 }
+public func startupFunction395(_ value: Int64) -> Int64 { value &+ 395 }
+public func startupFunction396(_ value: Int64) -> Int64 { value &+ 396 }
+public func startupFunction397(_ value: Int64) -> Int64 { value &+ 397 }
+public func startupFunction398(_ value: Int64) -> Int64 { value &+ 398 }
+public func startupFunction399(_ value: Int64) -> Int64 { value &+ 399 }
+public func startupFunction400(_ value: Int64) -> Int64 { value &+ 400 }
+public func startupFunction401(_ value: Int64) -> Int64 { value &+ 401 }
+public func startupFunction402(_ value: Int64) -> Int64 { value &+ 402 }
+public func startupFunction403(_ value: Int64) -> Int64 { value &+ 403 }
+public func startupFunction404(_ value: Int64) -> Int64 { value &+ 404 }
+public func startupFunction405(_ value: Int64) -> Int64 { value &+ 405 }
+public func startupFunction406(_ value: Int64) -> Int64 { value &+ 406 }
+public func startupFunction407(_ value: Int64) -> Int64 { value &+ 407 }
+public func startupFunction408(_ value: Int64) -> Int64 { value &+ 408 }
+public func startupFunction409(_ value: Int64) -> Int64 { value &+ 409 }
+public func startupFunction410(_ value: Int64) -> Int64 { value &+ 410 }
+public func startupFunction411(_ value: Int64) -> Int64 { value &+ 411 }
+public func startupFunction412(_ value: Int64) -> Int64 { value &+ 412 }
+public func startupFunction413(_ value: Int64) -> Int64 { value &+ 413 }
+public func startupFunction414(_ value: Int64) -> Int64 { value &+ 414 }
+public func startupFunction415(_ value: Int64) -> Int64 { value &+ 415 }
+public func startupFunction416(_ value: Int64) -> Int64 { value &+ 416 }
+public func startupFunction417(_ value: Int64) -> Int64 { value &+ 417 }
+public func startupFunction418(_ value: Int64) -> Int64 { value &+ 418 }
+public func startupFunction419(_ value: Int64) -> Int64 { value &+ 419 }
+public func startupFunction420(_ value: Int64) -> Int64 { value &+ 420 }
+public func startupFunction421(_ value: Int64) -> Int64 { value &+ 421 }
+public func startupFunction422(_ value: Int64) -> Int64 { value &+ 422 }
+public func startupFunction423(_ value: Int64) -> Int64 { value &+ 423 }
+public func startupFunction424(_ value: Int64) -> Int64 { value &+ 424 }
+public func startupFunction425(_ value: Int64) -> Int64 { value &+ 425 }
+public func startupFunction426(_ value: Int64) -> Int64 { value &+ 426 }
+public func startupFunction427(_ value: Int64) -> Int64 { value &+ 427 }
+public func startupFunction428(_ value: Int64) -> Int64 { value &+ 428 }
+public func startupFunction429(_ value: Int64) -> Int64 { value &+ 429 }
+public func startupFunction430(_ value: Int64) -> Int64 { value &+ 430 }
+public func startupFunction431(_ value: Int64) -> Int64 { value &+ 431 }
+public func startupFunction432(_ value: Int64) -> Int64 { value &+ 432 }
+public func startupFunction433(_ value: Int64) -> Int64 { value &+ 433 }
+public func startupFunction434(_ value: Int64) -> Int64 { value &+ 434 }
+public func startupFunction435(_ value: Int64) -> Int64 { value &+ 435 }
+public func startupFunction436(_ value: Int64) -> Int64 { value &+ 436 }
+public func startupFunction437(_ value: Int64) -> Int64 { value &+ 437 }
+public func startupFunction438(_ value: Int64) -> Int64 { value &+ 438 }
+public func startupFunction439(_ value: Int64) -> Int64 { value &+ 439 }
+public func startupFunction440(_ value: Int64) -> Int64 { value &+ 440 }
+public func startupFunction441(_ value: Int64) -> Int64 { value &+ 441 }
+public func startupFunction442(_ value: Int64) -> Int64 { value &+ 442 }
+public func startupFunction443(_ value: Int64) -> Int64 { value &+ 443 }
+public func startupFunction444(_ value: Int64) -> Int64 { value &+ 444 }
+public func startupFunction445(_ value: Int64) -> Int64 { value &+ 445 }
+public func startupFunction446(_ value: Int64) -> Int64 { value &+ 446 }
+public func startupFunction447(_ value: Int64) -> Int64 { value &+ 447 }
+public func startupFunction448(_ value: Int64) -> Int64 { value &+ 448 }
+public func startupFunction449(_ value: Int64) -> Int64 { value &+ 449 }
+public func startupFunction450(_ value: Int64) -> Int64 { value &+ 450 }
+public func startupFunction451(_ value: Int64) -> Int64 { value &+ 451 }
+public func startupFunction452(_ value: Int64) -> Int64 { value &+ 452 }
+public func startupFunction453(_ value: Int64) -> Int64 { value &+ 453 }
+public func startupFunction454(_ value: Int64) -> Int64 { value &+ 454 }
+public func startupFunction455(_ value: Int64) -> Int64 { value &+ 455 }
+public func startupFunction456(_ value: Int64) -> Int64 { value &+ 456 }
+public func startupFunction457(_ value: Int64) -> Int64 { value &+ 457 }
+public func startupFunction458(_ value: Int64) -> Int64 { value &+ 458 }
+public func startupFunction459(_ value: Int64) -> Int64 { value &+ 459 }
+public func startupFunction460(_ value: Int64) -> Int64 { value &+ 460 }
+public func startupFunction461(_ value: Int64) -> Int64 { value &+ 461 }
+public func startupFunction462(_ value: Int64) -> Int64 { value &+ 462 }
+public func startupFunction463(_ value: Int64) -> Int64 { value &+ 463 }
+public func startupFunction464(_ value: Int64) -> Int64 { value &+ 464 }
+public func startupFunction465(_ value: Int64) -> Int64 { value &+ 465 }
+public func startupFunction466(_ value: Int64) -> Int64 { value &+ 466 }
+public func startupFunction467(_ value: Int64) -> Int64 { value &+ 467 }
+public func startupFunction468(_ value: Int64) -> Int64 { value &+ 468 }
+public func startupFunction469(_ value: Int64) -> Int64 { value &+ 469 }
+public func startupFunction470(_ value: Int64) -> Int64 { value &+ 470 }
+public func startupFunction471(_ value: Int64) -> Int64 { value &+ 471 }
+public func startupFunction472(_ value: Int64) -> Int64 { value &+ 472 }
+public func startupFunction473(_ value: Int64) -> Int64 { value &+ 473 }
+public func startupFunction474(_ value: Int64) -> Int64 { value &+ 474 }
+public func startupFunction475(_ value: Int64) -> Int64 { value &+ 475 }
+public func startupFunction476(_ value: Int64) -> Int64 { value &+ 476 }
+public func startupFunction477(_ value: Int64) -> Int64 { value &+ 477 }
+public func startupFunction478(_ value: Int64) -> Int64 { value &+ 478 }
+public func startupFunction479(_ value: Int64) -> Int64 { value &+ 479 }
+public func startupFunction480(_ value: Int64) -> Int64 { value &+ 480 }
+public func startupFunction481(_ value: Int64) -> Int64 { value &+ 481 }
+public func startupFunction482(_ value: Int64) -> Int64 { value &+ 482 }
+public func startupFunction483(_ value: Int64) -> Int64 { value &+ 483 }
+public func startupFunction484(_ value: Int64) -> Int64 { value &+ 484 }
+public func startupFunction485(_ value: Int64) -> Int64 { value &+ 485 }
+public func startupFunction486(_ value: Int64) -> Int64 { value &+ 486 }
+public func startupFunction487(_ value: Int64) -> Int64 { value &+ 487 }
+public func startupFunction488(_ value: Int64) -> Int64 { value &+ 488 }
+public func startupFunction489(_ value: Int64) -> Int64 { value &+ 489 }
+public func startupFunction490(_ value: Int64) -> Int64 { value &+ 490 }
+public func startupFunction491(_ value: Int64) -> Int64 { value &+ 491 }
+public func startupFunction492(_ value: Int64) -> Int64 { value &+ 492 }
+public func startupFunction493(_ value: Int64) -> Int64 { value &+ 493 }
+public func startupFunction494(_ value: Int64) -> Int64 { value &+ 494 }
+public func startupFunction495(_ value: Int64) -> Int64 { value &+ 495 }
+public func startupFunction496(_ value: Int64) -> Int64 { value &+ 496 }
+public func startupFunction497(_ value: Int64) -> Int64 { value &+ 497 }
+public func startupFunction498(_ value: Int64) -> Int64 { value &+ 498 }
+public func startupFunction499(_ value: Int64) -> Int64 { value &+ 499 }
+public func startupFunction500(_ value: Int64) -> Int64 { value &+ 500 }
+public func startupFunction501(_ value: Int64) -> Int64 { value &+ 501 }
+public func startupFunction502(_ value: Int64) -> Int64 { value &+ 502 }
+public func startupFunction503(_ value: Int64) -> Int64 { value &+ 503 }
+public func startupFunction504(_ value: Int64) -> Int64 { value &+ 504 }
+public func startupFunction505(_ value: Int64) -> Int64 { value &+ 505 }
+public func startupFunction506(_ value: Int64) -> Int64 { value &+ 506 }
+public func startupFunction507(_ value: Int64) -> Int64 { value &+ 507 }
+public func startupFunction508(_ value: Int64) -> Int64 { value &+ 508 }
+public func startupFunction509(_ value: Int64) -> Int64 { value &+ 509 }
+public func startupFunction510(_ value: Int64) -> Int64 { value &+ 510 }
+public func startupFunction511(_ value: Int64) -> Int64 { value &+ 511 }
+public func startupFunction512(_ value: Int64) -> Int64 { value &+ 512 }
+public func startupFunction513(_ value: Int64) -> Int64 { value &+ 513 }
+public func startupFunction514(_ value: Int64) -> Int64 { value &+ 514 }
+public func startupFunction515(_ value: Int64) -> Int64 { value &+ 515 }
+public func startupFunction516(_ value: Int64) -> Int64 { value &+ 516 }
+public func startupFunction517(_ value: Int64) -> Int64 { value &+ 517 }
+public func startupFunction518(_ value: Int64) -> Int64 { value &+ 518 }
+public func startupFunction519(_ value: Int64) -> Int64 { value &+ 519 }
+public func startupFunction520(_ value: Int64) -> Int64 { value &+ 520 }
+public func startupFunction521(_ value: Int64) -> Int64 { value &+ 521 }
+public func startupFunction522(_ value: Int64) -> Int64 { value &+ 522 }
+public func startupFunction523(_ value: Int64) -> Int64 { value &+ 523 }
+public func startupFunction524(_ value: Int64) -> Int64 { value &+ 524 }
+public func startupFunction525(_ value: Int64) -> Int64 { value &+ 525 }
+public func startupFunction526(_ value: Int64) -> Int64 { value &+ 526 }
+public func startupFunction527(_ value: Int64) -> Int64 { value &+ 527 }
+public func startupFunction528(_ value: Int64) -> Int64 { value &+ 528 }
+public func startupFunction529(_ value: Int64) -> Int64 { value &+ 529 }
+public func startupFunction530(_ value: Int64) -> Int64 { value &+ 530 }
+public func startupFunction531(_ value: Int64) -> Int64 { value &+ 531 }
+public func startupFunction532(_ value: Int64) -> Int64 { value &+ 532 }
+public func startupFunction533(_ value: Int64) -> Int64 { value &+ 533 }
+public func startupFunction534(_ value: Int64) -> Int64 { value &+ 534 }
+public func startupFunction535(_ value: Int64) -> Int64 { value &+ 535 }
+public func startupFunction536(_ value: Int64) -> Int64 { value &+ 536 }
+public func startupFunction537(_ value: Int64) -> Int64 { value &+ 537 }
+public func startupFunction538(_ value: Int64) -> Int64 { value &+ 538 }
+public func startupFunction539(_ value: Int64) -> Int64 { value &+ 539 }
+public func startupFunction540(_ value: Int64) -> Int64 { value &+ 540 }
+public func startupFunction541(_ value: Int64) -> Int64 { value &+ 541 }
+public func startupFunction542(_ value: Int64) -> Int64 { value &+ 542 }
+public func startupFunction543(_ value: Int64) -> Int64 { value &+ 543 }
+public func startupFunction544(_ value: Int64) -> Int64 { value &+ 544 }
+public func startupFunction545(_ value: Int64) -> Int64 { value &+ 545 }
+public func startupFunction546(_ value: Int64) -> Int64 { value &+ 546 }
+public func startupFunction547(_ value: Int64) -> Int64 { value &+ 547 }
+public func startupFunction548(_ value: Int64) -> Int64 { value &+ 548 }
+public func startupFunction549(_ value: Int64) -> Int64 { value &+ 549 }
+public func startupFunction550(_ value: Int64) -> Int64 { value &+ 550 }
+public func startupFunction551(_ value: Int64) -> Int64 { value &+ 551 }
+public func startupFunction552(_ value: Int64) -> Int64 { value &+ 552 }
+public func startupFunction553(_ value: Int64) -> Int64 { value &+ 553 }
+public func startupFunction554(_ value: Int64) -> Int64 { value &+ 554 }
+public func startupFunction555(_ value: Int64) -> Int64 { value &+ 555 }
+public func startupFunction556(_ value: Int64) -> Int64 { value &+ 556 }
+public func startupFunction557(_ value: Int64) -> Int64 { value &+ 557 }
+public func startupFunction558(_ value: Int64) -> Int64 { value &+ 558 }
+public func startupFunction559(_ value: Int64) -> Int64 { value &+ 559 }
+public func startupFunction560(_ value: Int64) -> Int64 { value &+ 560 }
+public func startupFunction561(_ value: Int64) -> Int64 { value &+ 561 }
+public func startupFunction562(_ value: Int64) -> Int64 { value &+ 562 }
+public func startupFunction563(_ value: Int64) -> Int64 { value &+ 563 }
+public func startupFunction564(_ value: Int64) -> Int64 { value &+ 564 }
+public func startupFunction565(_ value: Int64) -> Int64 { value &+ 565 }
+public func startupFunction566(_ value: Int64) -> Int64 { value &+ 566 }
+public func startupFunction567(_ value: Int64) -> Int64 { value &+ 567 }
+public func startupFunction568(_ value: Int64) -> Int64 { value &+ 568 }
+public func startupFunction569(_ value: Int64) -> Int64 { value &+ 569 }
+public func startupFunction570(_ value: Int64) -> Int64 { value &+ 570 }
+public func startupFunction571(_ value: Int64) -> Int64 { value &+ 571 }
+public func startupFunction572(_ value: Int64) -> Int64 { value &+ 572 }
+public func startupFunction573(_ value: Int64) -> Int64 { value &+ 573 }
+public func startupFunction574(_ value: Int64) -> Int64 { value &+ 574 }
+public func startupFunction575(_ value: Int64) -> Int64 { value &+ 575 }
+public func startupFunction576(_ value: Int64) -> Int64 { value &+ 576 }
+public func startupFunction577(_ value: Int64) -> Int64 { value &+ 577 }
+public func startupFunction578(_ value: Int64) -> Int64 { value &+ 578 }
+public func startupFunction579(_ value: Int64) -> Int64 { value &+ 579 }
+public func startupFunction580(_ value: Int64) -> Int64 { value &+ 580 }
+public func startupFunction581(_ value: Int64) -> Int64 { value &+ 581 }
+public func startupFunction582(_ value: Int64) -> Int64 { value &+ 582 }
+public func startupFunction583(_ value: Int64) -> Int64 { value &+ 583 }
+public func startupFunction584(_ value: Int64) -> Int64 { value &+ 584 }
+public func startupFunction585(_ value: Int64) -> Int64 { value &+ 585 }
+public func startupFunction586(_ value: Int64) -> Int64 { value &+ 586 }
+public func startupFunction587(_ value: Int64) -> Int64 { value &+ 587 }
+public func startupFunction588(_ value: Int64) -> Int64 { value &+ 588 }
+public func startupFunction589(_ value: Int64) -> Int64 { value &+ 589 }
+public func startupFunction590(_ value: Int64) -> Int64 { value &+ 590 }
+public func startupFunction591(_ value: Int64) -> Int64 { value &+ 591 }
+public func startupFunction592(_ value: Int64) -> Int64 { value &+ 592 }
+public func startupFunction593(_ value: Int64) -> Int64 { value &+ 593 }
+public func startupFunction594(_ value: Int64) -> Int64 { value &+ 594 }
+public func startupFunction595(_ value: Int64) -> Int64 { value &+ 595 }
+public func startupFunction596(_ value: Int64) -> Int64 { value &+ 596 }
+public func startupFunction597(_ value: Int64) -> Int64 { value &+ 597 }
+public func startupFunction598(_ value: Int64) -> Int64 { value &+ 598 }
+public func startupFunction599(_ value: Int64) -> Int64 { value &+ 599 }
+public func startupFunction600(_ value: Int64) -> Int64 { value &+ 600 }
+public func startupFunction601(_ value: Int64) -> Int64 { value &+ 601 }
+public func startupFunction602(_ value: Int64) -> Int64 { value &+ 602 }
+public func startupFunction603(_ value: Int64) -> Int64 { value &+ 603 }
+public func startupFunction604(_ value: Int64) -> Int64 { value &+ 604 }
+public func startupFunction605(_ value: Int64) -> Int64 { value &+ 605 }
+public func startupFunction606(_ value: Int64) -> Int64 { value &+ 606 }
+public func startupFunction607(_ value: Int64) -> Int64 { value &+ 607 }
+public func startupFunction608(_ value: Int64) -> Int64 { value &+ 608 }
+public func startupFunction609(_ value: Int64) -> Int64 { value &+ 609 }
+public func startupFunction610(_ value: Int64) -> Int64 { value &+ 610 }
+public func startupFunction611(_ value: Int64) -> Int64 { value &+ 611 }
+public func startupFunction612(_ value: Int64) -> Int64 { value &+ 612 }
+public func startupFunction613(_ value: Int64) -> Int64 { value &+ 613 }
+public func startupFunction614(_ value: Int64) -> Int64 { value &+ 614 }
+public func startupFunction615(_ value: Int64) -> Int64 { value &+ 615 }
+public func startupFunction616(_ value: Int64) -> Int64 { value &+ 616 }
+public func startupFunction617(_ value: Int64) -> Int64 { value &+ 617 }
+public func startupFunction618(_ value: Int64) -> Int64 { value &+ 618 }
+public func startupFunction619(_ value: Int64) -> Int64 { value &+ 619 }
+public func startupFunction620(_ value: Int64) -> Int64 { value &+ 620 }
+public func startupFunction621(_ value: Int64) -> Int64 { value &+ 621 }
+public func startupFunction622(_ value: Int64) -> Int64 { value &+ 622 }
+public func startupFunction623(_ value: Int64) -> Int64 { value &+ 623 }
+public func startupFunction624(_ value: Int64) -> Int64 { value &+ 624 }
+public func startupFunction625(_ value: Int64) -> Int64 { value &+ 625 }
+public func startupFunction626(_ value: Int64) -> Int64 { value &+ 626 }
+public func startupFunction627(_ value: Int64) -> Int64 { value &+ 627 }
+public func startupFunction628(_ value: Int64) -> Int64 { value &+ 628 }
+public func startupFunction629(_ value: Int64) -> Int64 { value &+ 629 }
+public func startupFunction630(_ value: Int64) -> Int64 { value &+ 630 }
+public func startupFunction631(_ value: Int64) -> Int64 { value &+ 631 }
+public func startupFunction632(_ value: Int64) -> Int64 { value &+ 632 }
+public func startupFunction633(_ value: Int64) -> Int64 { value &+ 633 }
+public func startupFunction634(_ value: Int64) -> Int64 { value &+ 634 }
+public func startupFunction635(_ value: Int64) -> Int64 { value &+ 635 }
+public func startupFunction636(_ value: Int64) -> Int64 { value &+ 636 }
+public func startupFunction637(_ value: Int64) -> Int64 { value &+ 637 }
+public func startupFunction638(_ value: Int64) -> Int64 { value &+ 638 }
+public func startupFunction639(_ value: Int64) -> Int64 { value &+ 639 }
+public func startupFunction640(_ value: Int64) -> Int64 { value &+ 640 }
+public func startupFunction641(_ value: Int64) -> Int64 { value &+ 641 }
+public func startupFunction642(_ value: Int64) -> Int64 { value &+ 642 }
+public func startupFunction643(_ value: Int64) -> Int64 { value &+ 643 }
+public func startupFunction644(_ value: Int64) -> Int64 { value &+ 644 }
+public func startupFunction645(_ value: Int64) -> Int64 { value &+ 645 }
+public func startupFunction646(_ value: Int64) -> Int64 { value &+ 646 }
+public func startupFunction647(_ value: Int64) -> Int64 { value &+ 647 }
+public func startupFunction648(_ value: Int64) -> Int64 { value &+ 648 }
+public func startupFunction649(_ value: Int64) -> Int64 { value &+ 649 }
+public func startupFunction650(_ value: Int64) -> Int64 { value &+ 650 }
+public func startupFunction651(_ value: Int64) -> Int64 { value &+ 651 }
+public func startupFunction652(_ value: Int64) -> Int64 { value &+ 652 }
+public func startupFunction653(_ value: Int64) -> Int64 { value &+ 653 }
+public func startupFunction654(_ value: Int64) -> Int64 { value &+ 654 }
+public func startupFunction655(_ value: Int64) -> Int64 { value &+ 655 }
+public func startupFunction656(_ value: Int64) -> Int64 { value &+ 656 }
+public func startupFunction657(_ value: Int64) -> Int64 { value &+ 657 }
+public func startupFunction658(_ value: Int64) -> Int64 { value &+ 658 }
+public func startupFunction659(_ value: Int64) -> Int64 { value &+ 659 }
+public func startupFunction660(_ value: Int64) -> Int64 { value &+ 660 }
+public func startupFunction661(_ value: Int64) -> Int64 { value &+ 661 }
+public func startupFunction662(_ value: Int64) -> Int64 { value &+ 662 }
+public func startupFunction663(_ value: Int64) -> Int64 { value &+ 663 }
+public func startupFunction664(_ value: Int64) -> Int64 { value &+ 664 }
+public func startupFunction665(_ value: Int64) -> Int64 { value &+ 665 }
+public func startupFunction666(_ value: Int64) -> Int64 { value &+ 666 }
+public func startupFunction667(_ value: Int64) -> Int64 { value &+ 667 }
+public func startupFunction668(_ value: Int64) -> Int64 { value &+ 668 }
+public func startupFunction669(_ value: Int64) -> Int64 { value &+ 669 }
+public func startupFunction670(_ value: Int64) -> Int64 { value &+ 670 }
+public func startupFunction671(_ value: Int64) -> Int64 { value &+ 671 }
+public func startupFunction672(_ value: Int64) -> Int64 { value &+ 672 }
+public func startupFunction673(_ value: Int64) -> Int64 { value &+ 673 }
+public func startupFunction674(_ value: Int64) -> Int64 { value &+ 674 }
+public func startupFunction675(_ value: Int64) -> Int64 { value &+ 675 }
+public func startupFunction676(_ value: Int64) -> Int64 { value &+ 676 }
+public func startupFunction677(_ value: Int64) -> Int64 { value &+ 677 }
+public func startupFunction678(_ value: Int64) -> Int64 { value &+ 678 }
+public func startupFunction679(_ value: Int64) -> Int64 { value &+ 679 }
+public func startupFunction680(_ value: Int64) -> Int64 { value &+ 680 }
+public func startupFunction681(_ value: Int64) -> Int64 { value &+ 681 }
+public func startupFunction682(_ value: Int64) -> Int64 { value &+ 682 }
+public func startupFunction683(_ value: Int64) -> Int64 { value &+ 683 }
+public func startupFunction684(_ value: Int64) -> Int64 { value &+ 684 }
+public func startupFunction685(_ value: Int64) -> Int64 { value &+ 685 }
+public func startupFunction686(_ value: Int64) -> Int64 { value &+ 686 }
+public func startupFunction687(_ value: Int64) -> Int64 { value &+ 687 }
+public func startupFunction688(_ value: Int64) -> Int64 { value &+ 688 }
+public func startupFunction689(_ value: Int64) -> Int64 { value &+ 689 }
+public func startupFunction690(_ value: Int64) -> Int64 { value &+ 690 }
+public func startupFunction691(_ value: Int64) -> Int64 { value &+ 691 }
+public func startupFunction692(_ value: Int64) -> Int64 { value &+ 692 }
+public func startupFunction693(_ value: Int64) -> Int64 { value &+ 693 }
+public func startupFunction694(_ value: Int64) -> Int64 { value &+ 694 }
+public func startupFunction695(_ value: Int64) -> Int64 { value &+ 695 }
+public func startupFunction696(_ value: Int64) -> Int64 { value &+ 696 }
+public func startupFunction697(_ value: Int64) -> Int64 { value &+ 697 }
+public func startupFunction698(_ value: Int64) -> Int64 { value &+ 698 }
+public func startupFunction699(_ value: Int64) -> Int64 { value &+ 699 }
+public func startupFunction700(_ value: Int64) -> Int64 { value &+ 700 }
+public func startupFunction701(_ value: Int64) -> Int64 { value &+ 701 }
+public func startupFunction702(_ value: Int64) -> Int64 { value &+ 702 }
+public func startupFunction703(_ value: Int64) -> Int64 { value &+ 703 }
+public func startupFunction704(_ value: Int64) -> Int64 { value &+ 704 }
+public func startupFunction705(_ value: Int64) -> Int64 { value &+ 705 }
+public func startupFunction706(_ value: Int64) -> Int64 { value &+ 706 }
+public func startupFunction707(_ value: Int64) -> Int64 { value &+ 707 }
+public func startupFunction708(_ value: Int64) -> Int64 { value &+ 708 }
+public func startupFunction709(_ value: Int64) -> Int64 { value &+ 709 }
+public func startupFunction710(_ value: Int64) -> Int64 { value &+ 710 }
+public func startupFunction711(_ value: Int64) -> Int64 { value &+ 711 }
+public func startupFunction712(_ value: Int64) -> Int64 { value &+ 712 }
+public func startupFunction713(_ value: Int64) -> Int64 { value &+ 713 }
+public func startupFunction714(_ value: Int64) -> Int64 { value &+ 714 }
+public func startupFunction715(_ value: Int64) -> Int64 { value &+ 715 }
+public func startupFunction716(_ value: Int64) -> Int64 { value &+ 716 }
+public func startupFunction717(_ value: Int64) -> Int64 { value &+ 717 }
+public func startupFunction718(_ value: Int64) -> Int64 { value &+ 718 }
+public func startupFunction719(_ value: Int64) -> Int64 { value &+ 719 }
+public func startupFunction720(_ value: Int64) -> Int64 { value &+ 720 }
+public func startupFunction721(_ value: Int64) -> Int64 { value &+ 721 }
+public func startupFunction722(_ value: Int64) -> Int64 { value &+ 722 }
+public func startupFunction723(_ value: Int64) -> Int64 { value &+ 723 }
+public func startupFunction724(_ value: Int64) -> Int64 { value &+ 724 }
+public func startupFunction725(_ value: Int64) -> Int64 { value &+ 725 }
+public func startupFunction726(_ value: Int64) -> Int64 { value &+ 726 }
+public func startupFunction727(_ value: Int64) -> Int64 { value &+ 727 }
+public func startupFunction728(_ value: Int64) -> Int64 { value &+ 728 }
+public func startupFunction729(_ value: Int64) -> Int64 { value &+ 729 }
+public func startupFunction730(_ value: Int64) -> Int64 { value &+ 730 }
+public func startupFunction731(_ value: Int64) -> Int64 { value &+ 731 }
+public func startupFunction732(_ value: Int64) -> Int64 { value &+ 732 }
+public func startupFunction733(_ value: Int64) -> Int64 { value &+ 733 }
+public func startupFunction734(_ value: Int64) -> Int64 { value &+ 734 }
+public func startupFunction735(_ value: Int64) -> Int64 { value &+ 735 }
+public func startupFunction736(_ value: Int64) -> Int64 { value &+ 736 }
+public func startupFunction737(_ value: Int64) -> Int64 { value &+ 737 }
+public func startupFunction738(_ value: Int64) -> Int64 { value &+ 738 }
+public func startupFunction739(_ value: Int64) -> Int64 { value &+ 739 }
+public func startupFunction740(_ value: Int64) -> Int64 { value &+ 740 }
+public func startupFunction741(_ value: Int64) -> Int64 { value &+ 741 }
+public func startupFunction742(_ value: Int64) -> Int64 { value &+ 742 }
+public func startupFunction743(_ value: Int64) -> Int64 { value &+ 743 }
+public func startupFunction744(_ value: Int64) -> Int64 { value &+ 744 }
+public func startupFunction745(_ value: Int64) -> Int64 { value &+ 745 }
+public func startupFunction746(_ value: Int64) -> Int64 { value &+ 746 }
+public func startupFunction747(_ value: Int64) -> Int64 { value &+ 747 }
+public func startupFunction748(_ value: Int64) -> Int64 { value &+ 748 }
+public func startupFunction749(_ value: Int64) -> Int64 { value &+ 749 }
+public func startupFunction750(_ value: Int64) -> Int64 { value &+ 750 }
+public func startupFunction751(_ value: Int64) -> Int64 { value &+ 751 }
+public func startupFunction752(_ value: Int64) -> Int64 { value &+ 752 }
+public func startupFunction753(_ value: Int64) -> Int64 { value &+ 753 }
+public func startupFunction754(_ value: Int64) -> Int64 { value &+ 754 }
+public func startupFunction755(_ value: Int64) -> Int64 { value &+ 755 }
+public func startupFunction756(_ value: Int64) -> Int64 { value &+ 756 }
+public func startupFunction757(_ value: Int64) -> Int64 { value &+ 757 }
+public func startupFunction758(_ value: Int64) -> Int64 { value &+ 758 }
+public func startupFunction759(_ value: Int64) -> Int64 { value &+ 759 }
+public func startupFunction760(_ value: Int64) -> Int64 { value &+ 760 }
+public func startupFunction761(_ value: Int64) -> Int64 { value &+ 761 }
+public func startupFunction762(_ value: Int64) -> Int64 { value &+ 762 }
+public func startupFunction763(_ value: Int64) -> Int64 { value &+ 763 }
+public func startupFunction764(_ value: Int64) -> Int64 { value &+ 764 }
+public func startupFunction765(_ value: Int64) -> Int64 { value &+ 765 }
+public func startupFunction766(_ value: Int64) -> Int64 { value &+ 766 }
+public func startupFunction767(_ value: Int64) -> Int64 { value &+ 767 }
+public func startupFunction768(_ value: Int64) -> Int64 { value &+ 768 }
+public func startupFunction769(_ value: Int64) -> Int64 { value &+ 769 }
+public func startupFunction770(_ value: Int64) -> Int64 { value &+ 770 }
+public func startupFunction771(_ value: Int64) -> Int64 { value &+ 771 }
+public func startupFunction772(_ value: Int64) -> Int64 { value &+ 772 }
+public func startupFunction773(_ value: Int64) -> Int64 { value &+ 773 }
+public func startupFunction774(_ value: Int64) -> Int64 { value &+ 774 }
+public func startupFunction775(_ value: Int64) -> Int64 { value &+ 775 }
+public func startupFunction776(_ value: Int64) -> Int64 { value &+ 776 }
+public func startupFunction777(_ value: Int64) -> Int64 { value &+ 777 }
+public func startupFunction778(_ value: Int64) -> Int64 { value &+ 778 }
+public func startupFunction779(_ value: Int64) -> Int64 { value &+ 779 }
+public func startupFunction780(_ value: Int64) -> Int64 { value &+ 780 }
+public func startupFunction781(_ value: Int64) -> Int64 { value &+ 781 }
+public func startupFunction782(_ value: Int64) -> Int64 { value &+ 782 }
+public func startupFunction783(_ value: Int64) -> Int64 { value &+ 783 }
+public func startupFunction784(_ value: Int64) -> Int64 { value &+ 784 }
+public func startupFunction785(_ value: Int64) -> Int64 { value &+ 785 }
+public func startupFunction786(_ value: Int64) -> Int64 { value &+ 786 }
+public func startupFunction787(_ value: Int64) -> Int64 { value &+ 787 }
+public func startupFunction788(_ value: Int64) -> Int64 { value &+ 788 }
+public func startupFunction789(_ value: Int64) -> Int64 { value &+ 789 }
+public func startupFunction790(_ value: Int64) -> Int64 { value &+ 790 }
+public func startupFunction791(_ value: Int64) -> Int64 { value &+ 791 }
+public func startupFunction792(_ value: Int64) -> Int64 { value &+ 792 }
+public func startupFunction793(_ value: Int64) -> Int64 { value &+ 793 }
+public func startupFunction794(_ value: Int64) -> Int64 { value &+ 794 }
+public func startupFunction795(_ value: Int64) -> Int64 { value &+ 795 }
+public func startupFunction796(_ value: Int64) -> Int64 { value &+ 796 }
+public func startupFunction797(_ value: Int64) -> Int64 { value &+ 797 }
+public func startupFunction798(_ value: Int64) -> Int64 { value &+ 798 }
+public func startupFunction799(_ value: Int64) -> Int64 { value &+ 799 }
+public func startupFunction800(_ value: Int64) -> Int64 { value &+ 800 }
+public func startupFunction801(_ value: Int64) -> Int64 { value &+ 801 }
+public func startupFunction802(_ value: Int64) -> Int64 { value &+ 802 }
+public func startupFunction803(_ value: Int64) -> Int64 { value &+ 803 }
+public func startupFunction804(_ value: Int64) -> Int64 { value &+ 804 }
+public func startupFunction805(_ value: Int64) -> Int64 { value &+ 805 }
+public func startupFunction806(_ value: Int64) -> Int64 { value &+ 806 }
+public func startupFunction807(_ value: Int64) -> Int64 { value &+ 807 }
+public func startupFunction808(_ value: Int64) -> Int64 { value &+ 808 }
+public func startupFunction809(_ value: Int64) -> Int64 { value &+ 809 }
+public func startupFunction810(_ value: Int64) -> Int64 { value &+ 810 }
+public func startupFunction811(_ value: Int64) -> Int64 { value &+ 811 }
+public func startupFunction812(_ value: Int64) -> Int64 { value &+ 812 }
+public func startupFunction813(_ value: Int64) -> Int64 { value &+ 813 }
+public func startupFunction814(_ value: Int64) -> Int64 { value &+ 814 }
+public func startupFunction815(_ value: Int64) -> Int64 { value &+ 815 }
+public func startupFunction816(_ value: Int64) -> Int64 { value &+ 816 }
+public func startupFunction817(_ value: Int64) -> Int64 { value &+ 817 }
+public func startupFunction818(_ value: Int64) -> Int64 { value &+ 818 }
+public func startupFunction819(_ value: Int64) -> Int64 { value &+ 819 }
+public func startupFunction820(_ value: Int64) -> Int64 { value &+ 820 }
+public func startupFunction821(_ value: Int64) -> Int64 { value &+ 821 }
+public func startupFunction822(_ value: Int64) -> Int64 { value &+ 822 }
+public func startupFunction823(_ value: Int64) -> Int64 { value &+ 823 }
+public func startupFunction824(_ value: Int64) -> Int64 { value &+ 824 }
+public func startupFunction825(_ value: Int64) -> Int64 { value &+ 825 }
+public func startupFunction826(_ value: Int64) -> Int64 { value &+ 826 }
+public func startupFunction827(_ value: Int64) -> Int64 { value &+ 827 }
+public func startupFunction828(_ value: Int64) -> Int64 { value &+ 828 }
+public func startupFunction829(_ value: Int64) -> Int64 { value &+ 829 }
+public func startupFunction830(_ value: Int64) -> Int64 { value &+ 830 }
+public func startupFunction831(_ value: Int64) -> Int64 { value &+ 831 }
+public func startupFunction832(_ value: Int64) -> Int64 { value &+ 832 }
+public func startupFunction833(_ value: Int64) -> Int64 { value &+ 833 }
+public func startupFunction834(_ value: Int64) -> Int64 { value &+ 834 }
+public func startupFunction835(_ value: Int64) -> Int64 { value &+ 835 }
+public func startupFunction836(_ value: Int64) -> Int64 { value &+ 836 }
+public func startupFunction837(_ value: Int64) -> Int64 { value &+ 837 }
+public func startupFunction838(_ value: Int64) -> Int64 { value &+ 838 }
+public func startupFunction839(_ value: Int64) -> Int64 { value &+ 839 }
+public func startupFunction840(_ value: Int64) -> Int64 { value &+ 840 }
+public func startupFunction841(_ value: Int64) -> Int64 { value &+ 841 }
+public func startupFunction842(_ value: Int64) -> Int64 { value &+ 842 }
+public func startupFunction843(_ value: Int64) -> Int64 { value &+ 843 }
+public func startupFunction844(_ value: Int64) -> Int64 { value &+ 844 }
+public func startupFunction845(_ value: Int64) -> Int64 { value &+ 845 }
+public func startupFunction846(_ value: Int64) -> Int64 { value &+ 846 }
+public func startupFunction847(_ value: Int64) -> Int64 { value &+ 847 }
+public func startupFunction848(_ value: Int64) -> Int64 { value &+ 848 }
+public func startupFunction849(_ value: Int64) -> Int64 { value &+ 849 }
+public func startupFunction850(_ value: Int64) -> Int64 { value &+ 850 }
+public func startupFunction851(_ value: Int64) -> Int64 { value &+ 851 }
+public func startupFunction852(_ value: Int64) -> Int64 { value &+ 852 }
+public func startupFunction853(_ value: Int64) -> Int64 { value &+ 853 }
+public func startupFunction854(_ value: Int64) -> Int64 { value &+ 854 }
+public func startupFunction855(_ value: Int64) -> Int64 { value &+ 855 }
+public func startupFunction856(_ value: Int64) -> Int64 { value &+ 856 }
+public func startupFunction857(_ value: Int64) -> Int64 { value &+ 857 }
+public func startupFunction858(_ value: Int64) -> Int64 { value &+ 858 }
+public func startupFunction859(_ value: Int64) -> Int64 { value &+ 859 }
+public func startupFunction860(_ value: Int64) -> Int64 { value &+ 860 }
+public func startupFunction861(_ value: Int64) -> Int64 { value &+ 861 }
+public func startupFunction862(_ value: Int64) -> Int64 { value &+ 862 }
+public func startupFunction863(_ value: Int64) -> Int64 { value &+ 863 }
+public func startupFunction864(_ value: Int64) -> Int64 { value &+ 864 }
+public func startupFunction865(_ value: Int64) -> Int64 { value &+ 865 }
+public func startupFunction866(_ value: Int64) -> Int64 { value &+ 866 }
+public func startupFunction867(_ value: Int64) -> Int64 { value &+ 867 }
+public func startupFunction868(_ value: Int64) -> Int64 { value &+ 868 }
+public func startupFunction869(_ value: Int64) -> Int64 { value &+ 869 }
+public func startupFunction870(_ value: Int64) -> Int64 { value &+ 870 }
+public func startupFunction871(_ value: Int64) -> Int64 { value &+ 871 }
+public func startupFunction872(_ value: Int64) -> Int64 { value &+ 872 }
+public func startupFunction873(_ value: Int64) -> Int64 { value &+ 873 }
+public func startupFunction874(_ value: Int64) -> Int64 { value &+ 874 }
+public func startupFunction875(_ value: Int64) -> Int64 { value &+ 875 }
+public func startupFunction876(_ value: Int64) -> Int64 { value &+ 876 }
+public func startupFunction877(_ value: Int64) -> Int64 { value &+ 877 }
+public func startupFunction878(_ value: Int64) -> Int64 { value &+ 878 }
+public func startupFunction879(_ value: Int64) -> Int64 { value &+ 879 }
+public func startupFunction880(_ value: Int64) -> Int64 { value &+ 880 }
+public func startupFunction881(_ value: Int64) -> Int64 { value &+ 881 }
+public func startupFunction882(_ value: Int64) -> Int64 { value &+ 882 }
+public func startupFunction883(_ value: Int64) -> Int64 { value &+ 883 }
+public func startupFunction884(_ value: Int64) -> Int64 { value &+ 884 }
+public func startupFunction885(_ value: Int64) -> Int64 { value &+ 885 }
+public func startupFunction886(_ value: Int64) -> Int64 { value &+ 886 }
+public func startupFunction887(_ value: Int64) -> Int64 { value &+ 887 }
+public func startupFunction888(_ value: Int64) -> Int64 { value &+ 888 }
+public func startupFunction889(_ value: Int64) -> Int64 { value &+ 889 }
+public func startupFunction890(_ value: Int64) -> Int64 { value &+ 890 }
+public func startupFunction891(_ value: Int64) -> Int64 { value &+ 891 }
+public func startupFunction892(_ value: Int64) -> Int64 { value &+ 892 }
+public func startupFunction893(_ value: Int64) -> Int64 { value &+ 893 }
+public func startupFunction894(_ value: Int64) -> Int64 { value &+ 894 }
+public func startupFunction895(_ value: Int64) -> Int64 { value &+ 895 }
+public func startupFunction896(_ value: Int64) -> Int64 { value &+ 896 }
+public func startupFunction897(_ value: Int64) -> Int64 { value &+ 897 }
+public func startupFunction898(_ value: Int64) -> Int64 { value &+ 898 }
+public func startupFunction899(_ value: Int64) -> Int64 { value &+ 899 }
+public func startupFunction900(_ value: Int64) -> Int64 { value &+ 900 }
+public func startupFunction901(_ value: Int64) -> Int64 { value &+ 901 }
+public func startupFunction902(_ value: Int64) -> Int64 { value &+ 902 }
+public func startupFunction903(_ value: Int64) -> Int64 { value &+ 903 }
+public func startupFunction904(_ value: Int64) -> Int64 { value &+ 904 }
+public func startupFunction905(_ value: Int64) -> Int64 { value &+ 905 }
+public func startupFunction906(_ value: Int64) -> Int64 { value &+ 906 }
+public func startupFunction907(_ value: Int64) -> Int64 { value &+ 907 }
+public func startupFunction908(_ value: Int64) -> Int64 { value &+ 908 }
+public func startupFunction909(_ value: Int64) -> Int64 { value &+ 909 }
+public func startupFunction910(_ value: Int64) -> Int64 { value &+ 910 }
+public func startupFunction911(_ value: Int64) -> Int64 { value &+ 911 }
+public func startupFunction912(_ value: Int64) -> Int64 { value &+ 912 }
+public func startupFunction913(_ value: Int64) -> Int64 { value &+ 913 }
+public func startupFunction914(_ value: Int64) -> Int64 { value &+ 914 }
+public func startupFunction915(_ value: Int64) -> Int64 { value &+ 915 }
+public func startupFunction916(_ value: Int64) -> Int64 { value &+ 916 }
+public func startupFunction917(_ value: Int64) -> Int64 { value &+ 917 }
+public func startupFunction918(_ value: Int64) -> Int64 { value &+ 918 }
+public func startupFunction919(_ value: Int64) -> Int64 { value &+ 919 }
+public func startupFunction920(_ value: Int64) -> Int64 { value &+ 920 }
+public func startupFunction921(_ value: Int64) -> Int64 { value &+ 921 }
+public func startupFunction922(_ value: Int64) -> Int64 { value &+ 922 }
+public func startupFunction923(_ value: Int64) -> Int64 { value &+ 923 }
+public func startupFunction924(_ value: Int64) -> Int64 { value &+ 924 }
+public func startupFunction925(_ value: Int64) -> Int64 { value &+ 925 }
+public func startupFunction926(_ value: Int64) -> Int64 { value &+ 926 }
+public func startupFunction927(_ value: Int64) -> Int64 { value &+ 927 }
+public func startupFunction928(_ value: Int64) -> Int64 { value &+ 928 }
+public func startupFunction929(_ value: Int64) -> Int64 { value &+ 929 }
+public func startupFunction930(_ value: Int64) -> Int64 { value &+ 930 }
+public func startupFunction931(_ value: Int64) -> Int64 { value &+ 931 }
+public func startupFunction932(_ value: Int64) -> Int64 { value &+ 932 }
+public func startupFunction933(_ value: Int64) -> Int64 { value &+ 933 }
+public func startupFunction934(_ value: Int64) -> Int64 { value &+ 934 }
+public func startupFunction935(_ value: Int64) -> Int64 { value &+ 935 }
+public func startupFunction936(_ value: Int64) -> Int64 { value &+ 936 }
+public func startupFunction937(_ value: Int64) -> Int64 { value &+ 937 }
+public func startupFunction938(_ value: Int64) -> Int64 { value &+ 938 }
+public func startupFunction939(_ value: Int64) -> Int64 { value &+ 939 }
+public func startupFunction940(_ value: Int64) -> Int64 { value &+ 940 }
+public func startupFunction941(_ value: Int64) -> Int64 { value &+ 941 }
+public func startupFunction942(_ value: Int64) -> Int64 { value &+ 942 }
+public func startupFunction943(_ value: Int64) -> Int64 { value &+ 943 }
+public func startupFunction944(_ value: Int64) -> Int64 { value &+ 944 }
+public func startupFunction945(_ value: Int64) -> Int64 { value &+ 945 }
+public func startupFunction946(_ value: Int64) -> Int64 { value &+ 946 }
+public func startupFunction947(_ value: Int64) -> Int64 { value &+ 947 }
+public func startupFunction948(_ value: Int64) -> Int64 { value &+ 948 }
+public func startupFunction949(_ value: Int64) -> Int64 { value &+ 949 }
+public func startupFunction950(_ value: Int64) -> Int64 { value &+ 950 }
+public func startupFunction951(_ value: Int64) -> Int64 { value &+ 951 }
+public func startupFunction952(_ value: Int64) -> Int64 { value &+ 952 }
+public func startupFunction953(_ value: Int64) -> Int64 { value &+ 953 }
+public func startupFunction954(_ value: Int64) -> Int64 { value &+ 954 }
+public func startupFunction955(_ value: Int64) -> Int64 { value &+ 955 }
+public func startupFunction956(_ value: Int64) -> Int64 { value &+ 956 }
+public func startupFunction957(_ value: Int64) -> Int64 { value &+ 957 }
+public func startupFunction958(_ value: Int64) -> Int64 { value &+ 958 }
+public func startupFunction959(_ value: Int64) -> Int64 { value &+ 959 }
+public func startupFunction960(_ value: Int64) -> Int64 { value &+ 960 }
+public func startupFunction961(_ value: Int64) -> Int64 { value &+ 961 }
+public func startupFunction962(_ value: Int64) -> Int64 { value &+ 962 }
+public func startupFunction963(_ value: Int64) -> Int64 { value &+ 963 }
+public func startupFunction964(_ value: Int64) -> Int64 { value &+ 964 }
+public func startupFunction965(_ value: Int64) -> Int64 { value &+ 965 }
+public func startupFunction966(_ value: Int64) -> Int64 { value &+ 966 }
+public func startupFunction967(_ value: Int64) -> Int64 { value &+ 967 }
+public func startupFunction968(_ value: Int64) -> Int64 { value &+ 968 }
+public func startupFunction969(_ value: Int64) -> Int64 { value &+ 969 }
+public func startupFunction970(_ value: Int64) -> Int64 { value &+ 970 }
+public func startupFunction971(_ value: Int64) -> Int64 { value &+ 971 }
+public func startupFunction972(_ value: Int64) -> Int64 { value &+ 972 }
+public func startupFunction973(_ value: Int64) -> Int64 { value &+ 973 }
+public func startupFunction974(_ value: Int64) -> Int64 { value &+ 974 }
+public func startupFunction975(_ value: Int64) -> Int64 { value &+ 975 }
+public func startupFunction976(_ value: Int64) -> Int64 { value &+ 976 }
+public func startupFunction977(_ value: Int64) -> Int64 { value &+ 977 }
+public func startupFunction978(_ value: Int64) -> Int64 { value &+ 978 }
+public func startupFunction979(_ value: Int64) -> Int64 { value &+ 979 }
+public func startupFunction980(_ value: Int64) -> Int64 { value &+ 980 }
+public func startupFunction981(_ value: Int64) -> Int64 { value &+ 981 }
+public func startupFunction982(_ value: Int64) -> Int64 { value &+ 982 }
+public func startupFunction983(_ value: Int64) -> Int64 { value &+ 983 }
+public func startupFunction984(_ value: Int64) -> Int64 { value &+ 984 }
+public func startupFunction985(_ value: Int64) -> Int64 { value &+ 985 }
+public func startupFunction986(_ value: Int64) -> Int64 { value &+ 986 }
+public func startupFunction987(_ value: Int64) -> Int64 { value &+ 987 }
+public func startupFunction988(_ value: Int64) -> Int64 { value &+ 988 }
+public func startupFunction989(_ value: Int64) -> Int64 { value &+ 989 }
+public func startupFunction990(_ value: Int64) -> Int64 { value &+ 990 }
+public func startupFunction991(_ value: Int64) -> Int64 { value &+ 991 }
+public func startupFunction992(_ value: Int64) -> Int64 { value &+ 992 }
+public func startupFunction993(_ value: Int64) -> Int64 { value &+ 993 }
+public func startupFunction994(_ value: Int64) -> Int64 { value &+ 994 }
+public func startupFunction995(_ value: Int64) -> Int64 { value &+ 995 }
+public func startupFunction996(_ value: Int64) -> Int64 { value &+ 996 }
+public func startupFunction997(_ value: Int64) -> Int64 { value &+ 997 }
+public func startupFunction998(_ value: Int64) -> Int64 { value &+ 998 }
+public func startupFunction999(_ value: Int64) -> Int64 { value &+ 999 }
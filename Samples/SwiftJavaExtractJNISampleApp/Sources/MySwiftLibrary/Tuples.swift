@@ -69,3 +69,15 @@ public func namedByteArrayTuple() -> (name: [UInt8], another: [UInt8]) {
 public func genericTypeTuple() -> (MyID<Double>, Alignment) {
   (MyID(1.23), .horizontal)
 }
+
+public func returnPrimitiveExtremes() -> (Int8, UInt16, Int32, Float, Double, Bool) {
+  (.min, .max, .min, -1.5, -.infinity, true)
+}
+
+public func returnLongDoublePair() -> (Int64, Double) {
+  (42, 0.5)
+}
+
+public func returnLongOptionalDoublePair() -> (Int64, Double?) {
+  (42, 0.5)
+}
@@ -0,0 +1,126 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package com.example.swift;
+
+import org.openjdk.jmh.annotations.*;
+import org.swift.swiftkit.core.ClosableSwiftArena;
+import org.swift.swiftkit.core.SwiftArena;
+import org.swift.swiftkit.core.collections.SwiftDictionaryMap;
+import org.swift.swiftkit.core.collections.SwiftLongDoubleMap;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures passing plain {@code java.util} collections into Swift {@code [K: V]} and {@code Set<T>}
+ * parameters, which are converted in bulk, compared to passing an existing Swift-backed dictionary.
+ * Also compares boxed {@code Map.get} lookups on a Swift dictionary to the primitive-specialized view.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 3, jvmArgsAppend = { "--enable-native-access=ALL-UNNAMED" })
+public class CollectionConversionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({ "10", "10000", "1000000" })
+        int size;
+
+        ClosableSwiftArena arena;
+        Map<Long, Double> longToDoubleMap;
+        Map<String, Long> stringToLongMap;
+        Set<Long> longSet;
+        SwiftDictionaryMap<String, Long> swiftStringToLongMap;
+        SwiftLongDoubleMap swiftLongToDoubleMap;
+        long[] lookupKeys;
+        double[] lookupOut;
+
+        @Setup(Level.Trial)
+        public void beforeAll() {
+            arena = SwiftArena.ofConfined();
+            longToDoubleMap = new HashMap<>(size * 2);
+            stringToLongMap = new HashMap<>(size * 2);
+            longSet = new HashSet<>(size * 2);
+            for (long i = 0; i < size; i++) {
+                longToDoubleMap.put(i, (double) i);
+                stringToLongMap.put("key-" + i, i);
+                longSet.add(i);
+            }
+            swiftStringToLongMap = MySwiftLibrary.stringToLongDictionary(stringToLongMap, arena);
+            swiftLongToDoubleMap = MySwiftLibrary.makeLongToDoubleDictionary(size, arena);
+            lookupKeys = new long[size];
+            for (int i = 0; i < size; i++) {
+                lookupKeys[i] = i;
+            }
+            lookupOut = new double[size];
+        }
+
+        @TearDown(Level.Trial)
+        public void afterAll() {
+            arena.close();
+        }
+    }
+
+    @Benchmark
+    public double javaMap_longToDouble(BenchmarkState state) {
+        return MySwiftLibrary.sumOfLongToDoubleDictionaryValues(state.longToDoubleMap);
+    }
+
+    @Benchmark
+    public long javaMap_stringToLong(BenchmarkState state) {
+        return MySwiftLibrary.countOfStringToLongDictionary(state.stringToLongMap);
+    }
+
+    @Benchmark
+    public long swiftDictionaryMap_stringToLong(BenchmarkState state) {
+        return MySwiftLibrary.countOfStringToLongDictionary(state.swiftStringToLongMap);
+    }
+
+    @Benchmark
+    public long javaSet_long(BenchmarkState state) {
+        return MySwiftLibrary.sumOfLongSet(state.longSet);
+    }
+
+    @Benchmark
+    public double swiftLongDoubleMap_boxedGet(BenchmarkState state) {
+        Map<Long, Double> map = state.swiftLongToDoubleMap;
+        double sum = 0;
+        for (long key : state.lookupKeys) {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double swiftLongDoubleMap_getDouble(BenchmarkState state) {
+        SwiftLongDoubleMap map = state.swiftLongToDoubleMap;
+        double sum = 0;
+        for (long key : state.lookupKeys) {
+            sum += map.getDouble(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double[] swiftLongDoubleMap_getAll(BenchmarkState state) {
+        state.swiftLongToDoubleMap.getAll(state.lookupKeys, state.lookupOut);
+        return state.lookupOut;
+    }
+}
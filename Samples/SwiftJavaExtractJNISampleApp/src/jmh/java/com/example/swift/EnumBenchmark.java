@@ -20,8 +20,6 @@ import org.swift.swiftkit.core.ClosableSwiftArena;
 import org.swift.swiftkit.core.ConfinedSwiftMemorySession;
 import org.swift.swiftkit.core.SwiftArena;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.concurrent.TimeUnit;
@@ -50,6 +48,62 @@ public class EnumBenchmark {
         }
     }
 
+    @State(Scope.Benchmark)
+    public static class ArrayState {
+        @Param({ "1024" })
+        public int size;
+
+        ClosableSwiftArena arena;
+        Vehicle[] vehicles;
+
+        @Setup(Level.Trial)
+        public void beforeAll() {
+            arena = SwiftArena.ofConfined();
+            vehicles = new Vehicle[size];
+            for (int i = 0; i < size; i++) {
+                vehicles[i] = switch (i % 3) {
+                    case 0 -> Vehicle.bicycle(arena);
+                    case 1 -> Vehicle.car("BMW", Optional.empty(), arena);
+                    default -> Vehicle.motorbike("Yamaha", 900, OptionalInt.of(2), arena);
+                };
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void afterAll() {
+            arena.close();
+        }
+    }
+
+    @Benchmark
+    public Vehicle.Case getCase(BenchmarkState state) {
+        return state.vehicle.getCase(state.arena);
+    }
+
+    @Benchmark
+    public void getDiscriminator_each(ArrayState state, Blackhole bh) {
+        for (Vehicle vehicle : state.vehicles) {
+            bh.consume(vehicle.getDiscriminator());
+        }
+    }
+
+    @Benchmark
+    public Vehicle.Discriminator[] getDiscriminators_bulk(ArrayState state) {
+        return Vehicle.getDiscriminators(state.vehicles);
+    }
+
+    @Benchmark
+    public void getCase_each(ArrayState state, Blackhole bh) {
+        for (Vehicle vehicle : state.vehicles) {
+            bh.consume(vehicle.getCase(state.arena));
+        }
+    }
+
+    @Benchmark
+    public Vehicle.Case[] getCases_bulk(ArrayState state) {
+        return Vehicle.getCases(state.vehicles, state.arena);
+    }
+
     @Benchmark
     public Vehicle.Case.Motorbike getAssociatedValues(BenchmarkState state, Blackhole bh) {
         Vehicle.Case.Motorbike motorbike = state.vehicle.getAsMotorbike().orElseThrow();
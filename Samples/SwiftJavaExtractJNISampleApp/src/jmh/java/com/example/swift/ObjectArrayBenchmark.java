@@ -0,0 +1,57 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package com.example.swift;
+
+import org.openjdk.jmh.annotations.*;
+import org.swift.swiftkit.core.SwiftArena;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures returning arrays of Swift class instances from Swift,
+ * which are wrapped in a single loop and registered with the arena in bulk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2, jvmArgsAppend = { "--enable-native-access=ALL-UNNAMED" })
+public class ObjectArrayBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int count;
+
+    SwiftArena autoArena;
+
+    @Setup(Level.Trial)
+    public void beforeAll() {
+        autoArena = SwiftArena.ofAuto();
+    }
+
+    @Benchmark
+    public long wrapArray() {
+        try (var arena = SwiftArena.ofConfined()) {
+            MySwiftClass[] objects = MySwiftLibrary.makeObjectArray(count, arena);
+            return objects[objects.length - 1].getX();
+        }
+    }
+
+    @Benchmark
+    public long wrapArrayAutoArena() {
+        MySwiftClass[] objects = MySwiftLibrary.makeObjectArray(count, autoArena);
+        return objects[objects.length - 1].getX();
+    }
+}
@@ -0,0 +1,66 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package com.example.swift;
+
+import org.openjdk.jmh.annotations.*;
+import org.swift.swiftkit.core.ClosableSwiftArena;
+import org.swift.swiftkit.core.SwiftArena;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of creating Swift objects from Java, and of the
+ * operations that need their type metadata, i.e. {@code equals} and {@code hashCode}.
+ * <p>
+ * The type metadata address of a non-generic type is resolved once, so neither
+ * constructing a wrapper nor hashing it needs a JNI transition for it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = { "--enable-native-access=ALL-UNNAMED" })
+public class ObjectConstructionBenchmark {
+
+    ClosableSwiftArena arena;
+    MySwiftClass object;
+
+    @Setup(Level.Iteration)
+    public void beforeIteration() {
+        arena = SwiftArena.ofConfined();
+        object = MySwiftClass.init(1, 2, arena);
+    }
+
+    @TearDown(Level.Iteration)
+    public void afterIteration() {
+        arena.close();
+    }
+
+    @Benchmark
+    public MySwiftClass construct() {
+        return MySwiftClass.init(1, 2, arena);
+    }
+
+    @Benchmark
+    public int hashCodeOfObject() {
+        return object.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsOfObject() {
+        return object.equals(object);
+    }
+}
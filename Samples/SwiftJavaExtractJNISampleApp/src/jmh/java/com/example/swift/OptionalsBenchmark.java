@@ -0,0 +1,78 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package com.example.swift;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures returning optional primitives from Swift.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rate of the different shapes:
+ * {@code int} is combined with its discriminator into a {@code long}, {@code long} and
+ * {@code double} use a sentinel and a reused discriminator slot, while {@code float}
+ * still allocates a discriminator array per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 3, jvmArgsAppend = { "--enable-native-access=ALL-UNNAMED" })
+public class OptionalsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({ "true", "false" })
+        public boolean present;
+
+        OptionalInt intInput;
+        OptionalLong longInput;
+        OptionalDouble doubleInput;
+        Optional<Float> floatInput;
+
+        @Setup(Level.Trial)
+        public void beforeAll() {
+            intInput = present ? OptionalInt.of(42) : OptionalInt.empty();
+            longInput = present ? OptionalLong.of(42) : OptionalLong.empty();
+            doubleInput = present ? OptionalDouble.of(4.2) : OptionalDouble.empty();
+            floatInput = present ? Optional.of(4.2f) : Optional.empty();
+        }
+    }
+
+    @Benchmark
+    public OptionalInt optionalInt(BenchmarkState state) {
+        return MySwiftLibrary.optionalInt(state.intInput);
+    }
+
+    @Benchmark
+    public OptionalLong optionalLong(BenchmarkState state) {
+        return MySwiftLibrary.optionalLong(state.longInput);
+    }
+
+    @Benchmark
+    public OptionalDouble optionalDouble(BenchmarkState state) {
+        return MySwiftLibrary.optionalDouble(state.doubleInput);
+    }
+
+    @Benchmark
+    public Optional<Float> optionalFloat(BenchmarkState state) {
+        return MySwiftLibrary.optionalFloat(state.floatInput);
+    }
+}
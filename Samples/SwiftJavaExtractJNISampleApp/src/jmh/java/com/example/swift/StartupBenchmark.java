@@ -0,0 +1,74 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package com.example.swift;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from a fresh JVM to the first call of each of the 1000 {@code startupFunctionN}
+ * functions, including the initialization of the module class.
+ * <p>
+ * The sample is generated with {@code enableEagerNativeRegistration}, so the module class registers all
+ * its native methods in one batch when it is initialized. The {@code lazyLinking} fork disables that with
+ * {@code -Dswift-java.register-natives=false}, which leaves the JVM to look up every native method by its
+ * symbol name on its first call.
+ * <p>
+ * The functions are called reflectively, which costs the same in both forks.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    static final int FUNCTION_COUNT = 1000;
+
+    List<Method> functions;
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchMethodException {
+        // Looking up the methods does not initialize the class.
+        functions = new ArrayList<>(FUNCTION_COUNT);
+        for (int i = 0; i < FUNCTION_COUNT; i++) {
+            functions.add(MySwiftLibrary.class.getMethod("startupFunction" + i, long.class));
+        }
+    }
+
+    private long callAll() throws ReflectiveOperationException {
+        long result = 0;
+        for (Method function : functions) {
+            result += (long) function.invoke(null, 1L);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @Fork(value = 20, jvmArgsAppend = { "--enable-native-access=ALL-UNNAMED" })
+    public long eagerRegistration() throws ReflectiveOperationException {
+        return callAll();
+    }
+
+    @Benchmark
+    @Fork(value = 20, jvmArgsAppend = { "--enable-native-access=ALL-UNNAMED", "-Dswift-java.register-natives=false" })
+    public long lazyLinking() throws ReflectiveOperationException {
+        return callAll();
+    }
+}
@@ -0,0 +1,53 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package com.example.swift;
+
+import org.openjdk.jmh.annotations.*;
+import org.swift.swiftkit.core.tuple.Tuple2;
+
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures returning tuples from Swift.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rate of the two shapes:
+ * a tuple of primitives is returned as a specialized class filled from a reused
+ * {@code long[]}, while the optional element keeps the other tuple on the generic
+ * {@code Tuple2} path, with an out array and a boxed value per element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 3, jvmArgsAppend = { "--enable-native-access=ALL-UNNAMED" })
+public class TuplesBenchmark {
+
+    @Benchmark
+    public LongDoubleTuple primitiveTuple() {
+        return MySwiftLibrary.returnLongDoublePair();
+    }
+
+    @Benchmark
+    public Tuple2<Long, OptionalDouble> genericTuple() {
+        return MySwiftLibrary.returnLongOptionalDoublePair();
+    }
+
+    @Benchmark
+    public int labeledPrimitiveTuple() {
+        var result = MySwiftLibrary.labeledTuple();
+        return result.x() + result.y();
+    }
+}
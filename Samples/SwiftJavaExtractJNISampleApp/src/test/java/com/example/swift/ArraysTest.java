@@ -111,6 +111,16 @@ public class ArraysTest {
         // snippet.end
     }
 
+    @Test
+    void makeObjectArray() {
+        try (var arena = SwiftArena.ofConfined()) {
+            MySwiftClass[] result = MySwiftLibrary.makeObjectArray(1000, arena);
+            assertEquals(1000, result.length);
+            assertEquals(0, result[0].getX());
+            assertEquals(999, result[999].getY());
+        }
+    }
+
     @Test
     void nestedByteArray() {
         // snippet.nestedArraysUsage
@@ -16,6 +16,7 @@ package com.example.swift;
 
 import com.example.swift.MySwiftLibrary;
 import org.junit.jupiter.api.Test;
+import org.swift.swiftkit.core.JNIOptionalSupport;
 import org.swift.swiftkit.core.SwiftArena;
 
 import java.time.Instant;
@@ -65,6 +66,15 @@ public class OptionalsTest {
         // snippet.end
     }
 
+    @Test
+    void optionalLong_sentinelValue() {
+        // The value used to return `nil` is still a valid present value
+        assertEquals(OptionalLong.of(JNIOptionalSupport.LONG_NONE_SENTINEL),
+                MySwiftLibrary.optionalLong(OptionalLong.of(JNIOptionalSupport.LONG_NONE_SENTINEL)));
+        assertEquals(OptionalLong.empty(), MySwiftLibrary.optionalLong(OptionalLong.empty()));
+        assertEquals(OptionalLong.of(0), MySwiftLibrary.optionalLong(OptionalLong.of(0)));
+    }
+
     @Test
     void optionalLongOrZero() {
         // snippet.optionalParameterUsageJava
@@ -85,6 +95,16 @@ public class OptionalsTest {
         assertEquals(OptionalDouble.of(2.718), MySwiftLibrary.optionalDouble(OptionalDouble.of(2.718)));
     }
 
+    @Test
+    void optionalDouble_sentinelValue() {
+        double sentinel = Double.longBitsToDouble(JNIOptionalSupport.DOUBLE_NONE_SENTINEL_BITS);
+        OptionalDouble result = MySwiftLibrary.optionalDouble(OptionalDouble.of(sentinel));
+        assertTrue(result.isPresent());
+        assertEquals(JNIOptionalSupport.DOUBLE_NONE_SENTINEL_BITS, Double.doubleToRawLongBits(result.getAsDouble()));
+        assertEquals(OptionalDouble.empty(), MySwiftLibrary.optionalDouble(OptionalDouble.empty()));
+        assertEquals(OptionalDouble.of(Double.NaN), MySwiftLibrary.optionalDouble(OptionalDouble.of(Double.NaN)));
+    }
+
     @Test
     void optionalString() {
         assertEquals(Optional.empty(), MySwiftLibrary.optionalString(Optional.empty()));
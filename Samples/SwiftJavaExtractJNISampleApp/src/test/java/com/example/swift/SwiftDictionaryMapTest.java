@@ -16,8 +16,10 @@ package com.example.swift;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import org.junit.jupiter.api.Test;
 import org.swift.swiftkit.core.collections.SwiftDictionaryMap;
+import org.swift.swiftkit.core.collections.SwiftLongDoubleMap;
 import org.swift.swiftkit.core.SwiftArena;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -97,4 +99,60 @@ public class SwiftDictionaryMapTest {
         assertEquals(1L, javaMap.get("hello"));
         assertEquals(2L, javaMap.get("world"));
     }
+
+    @Test
+    void passJavaHashMapToSwift() {
+        Map<String, Long> javaMap = new HashMap<>();
+        javaMap.put("hello", 1L);
+        javaMap.put("world", 2L);
+        javaMap.put("swift", 3L);
+
+        assertEquals(3L, MySwiftLibrary.countOfStringToLongDictionary(javaMap));
+
+        try (var arena = SwiftArena.ofConfined()) {
+            SwiftDictionaryMap<String, Long> modified =
+                MySwiftLibrary.insertIntoStringToLongDictionary(javaMap, "java", 4L, arena);
+            assertEquals(4, modified.size());
+            assertEquals(3L, modified.get("swift"));
+            assertEquals(4L, modified.get("java"));
+        }
+    }
+
+    @Test
+    void passJavaHashMapWithPrimitiveKeysAndValuesToSwift() {
+        Map<Long, Double> javaMap = new HashMap<>();
+        for (long i = 0; i < 1000; i++) {
+            javaMap.put(i, 0.5);
+        }
+        assertEquals(500.0, MySwiftLibrary.sumOfLongToDoubleDictionaryValues(javaMap));
+    }
+
+    @Test
+    void longToDoubleDictionaryPrimitiveAccess() {
+        try (var arena = SwiftArena.ofConfined()) {
+            SwiftLongDoubleMap dict = MySwiftLibrary.makeLongToDoubleDictionary(4, arena);
+            assertEquals(4, dict.size());
+            assertTrue(dict.containsLong(3));
+            assertFalse(dict.containsLong(4));
+            assertEquals(1.5, dict.getDouble(3));
+            assertEquals(-1.0, dict.getOrDefault(42, -1.0));
+            assertThrows(NoSuchElementException.class, () -> dict.getDouble(42));
+
+            // The boxed Map interface keeps working on the specialized view
+            assertEquals(1.0, dict.get(2L));
+            assertNull(dict.get(42L));
+            assertNull(dict.get("not a long"));
+
+            double[] out = new double[3];
+            dict.getAll(new long[] { 0, 1, 42 }, out, -1.0);
+            assertArrayEquals(new double[] { 0.0, 0.5, -1.0 }, out);
+
+            long[] keys = dict.keysToArray();
+            double[] values = dict.valuesToArray();
+            assertEquals(4, keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                assertEquals(keys[i] * 0.5, values[i]);
+            }
+        }
+    }
 }
@@ -14,9 +14,11 @@
 
 package com.example.swift;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.swift.swiftkit.core.collections.SwiftLongSet;
 import org.swift.swiftkit.core.collections.SwiftSet;
 import org.swift.swiftkit.core.SwiftArena;
 
@@ -145,4 +147,30 @@ public class SwiftSetTest {
             assertTrue(roundtripped.contains(30L));
         }
     }
+
+    @Test
+    void longSetPrimitiveAccess() {
+        try (var arena = SwiftArena.ofConfined()) {
+            SwiftLongSet set = MySwiftLibrary.makeLongSet(arena);
+            assertTrue(set.containsLong(20));
+            assertFalse(set.containsLong(99));
+
+            boolean[] out = new boolean[3];
+            set.containsAll(new long[] { 10, 99, 30 }, out);
+            assertArrayEquals(new boolean[] { true, false, true }, out);
+
+            long[] elements = set.toLongArray();
+            Arrays.sort(elements);
+            assertArrayEquals(new long[] { 10, 20, 30 }, elements);
+        }
+    }
+
+    @Test
+    void passJavaHashSetToSwift() {
+        Set<Long> javaSet = new HashSet<>();
+        for (long i = 1; i <= 100; i++) {
+            javaSet.add(i);
+        }
+        assertEquals(5050L, MySwiftLibrary.sumOfLongSet(javaSet));
+    }
 }
@@ -29,12 +29,30 @@ public class TupleTest {
     @Test
     void returnIntPair() {
         // snippet.tupleUsageJava
-        Tuple2<Integer, Long> result = MySwiftLibrary.returnIntPair();
+        IntLongTuple result = MySwiftLibrary.returnIntPair();
         assertEquals(42, result.$0);
         assertEquals(43L, result.$1);
         // snippet.end
     }
 
+    @Test
+    void primitiveTuple_valueSemantics() {
+        assertEquals(MySwiftLibrary.returnIntPair(), new IntLongTuple(42, 43L));
+        assertEquals(MySwiftLibrary.returnIntPair().hashCode(), new IntLongTuple(42, 43L).hashCode());
+        assertEquals("IntLongTuple(42, 43)", MySwiftLibrary.returnIntPair().toString());
+    }
+
+    @Test
+    void returnPrimitiveExtremes() {
+        ByteCharIntFloatDoubleBooleanTuple result = MySwiftLibrary.returnPrimitiveExtremes();
+        assertEquals(Byte.MIN_VALUE, result.$0);
+        assertEquals(Character.MAX_VALUE, result.$1);
+        assertEquals(Integer.MIN_VALUE, result.$2);
+        assertEquals(-1.5f, result.$3);
+        assertEquals(Double.NEGATIVE_INFINITY, result.$4);
+        assertTrue(result.$5);
+    }
+
     @Test
     void sumIntPair() {
         assertEquals(12L, MySwiftLibrary.sumIntPair(new Tuple2<>(5, 7L)));
@@ -61,15 +79,9 @@ public class TupleTest {
         // Access via named accessors
         assertEquals(10, result.x());
         assertEquals(20, result.y());
-        // Positional access still works (inherited from Tuple2)
+        // Positional access still works, through primitive fields
         assertEquals(10, result.$0);
         assertEquals(20, result.$1);
-
-        // The labelled tuple is a subclass of Tuple2
-        assertInstanceOf(Tuple2.class, result);
-        // And the generic types match positionally as well
-        @SuppressWarnings("unused")
-        Tuple2<Integer, Integer> check = result;
     }
 
     @Test
@@ -82,7 +94,7 @@ public class TupleTest {
     @Test
     void echoTriple() {
         Tuple3<Boolean, Double, Long> input = new Tuple3<>(true, 3.14, 100L);
-        Tuple3<Boolean, Double, Long> result = MySwiftLibrary.echoTriple(input);
+        BooleanDoubleLongTuple result = MySwiftLibrary.echoTriple(input);
         assertEquals(true, result.$0);
         assertEquals(3.14, result.$1, 0.001);
         assertEquals(100L, result.$2);
@@ -173,6 +173,47 @@ public class VehicleEnumTest {
         }
     }
 
+    @Test
+    void getDiscriminators() {
+        try (var arena = SwiftArena.ofConfined()) {
+            Vehicle[] vehicles = {
+                Vehicle.bicycle(arena),
+                Vehicle.car("BMW", Optional.empty(), arena),
+                Vehicle.motorbike("Yamaha", 750, OptionalInt.empty(), arena),
+                Vehicle.bicycle(arena),
+            };
+            assertArrayEquals(
+                new Vehicle.Discriminator[] {
+                    Vehicle.Discriminator.BICYCLE,
+                    Vehicle.Discriminator.CAR,
+                    Vehicle.Discriminator.MOTORBIKE,
+                    Vehicle.Discriminator.BICYCLE,
+                },
+                Vehicle.getDiscriminators(vehicles));
+            assertEquals(0, Vehicle.getDiscriminators(new Vehicle[0]).length);
+        }
+    }
+
+    @Test
+    void getCases() {
+        try (var arena = SwiftArena.ofConfined()) {
+            Vehicle[] vehicles = {
+                Vehicle.bicycle(arena),
+                Vehicle.car("BMW", Optional.of("Boat trailer"), arena),
+                Vehicle.motorbike("Yamaha", 750, OptionalInt.of(2), arena),
+            };
+            Vehicle.Case[] cases = Vehicle.getCases(vehicles, arena);
+            assertEquals(3, cases.length);
+            assertInstanceOf(Vehicle.Case.Bicycle.class, cases[0]);
+            Vehicle.Case.Car car = assertInstanceOf(Vehicle.Case.Car.class, cases[1]);
+            assertEquals("BMW", car.arg0());
+            assertEquals(Optional.of("Boat trailer"), car.trailer());
+            Vehicle.Case.Motorbike motorbike = assertInstanceOf(Vehicle.Case.Motorbike.class, cases[2]);
+            assertEquals(750, motorbike.horsePower());
+            assertEquals(OptionalInt.of(2), motorbike.helmets());
+        }
+    }
+
     @Test
     void getCase() {
         try (var arena = SwiftArena.ofConfined()) {
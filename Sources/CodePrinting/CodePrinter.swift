@@ -344,11 +344,7 @@ extension CodePrinter {
     }
 
     let outputPath = URL(fileURLWithPath: targetDirectory).appendingPathComponent(filename)
-    try contents.write(
-      to: outputPath,
-      atomically: true,
-      encoding: .utf8
-    )
+    try GeneratedFiles.write(contents, to: outputPath)
 
     return outputPath
   }
@@ -0,0 +1,138 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+#if canImport(FoundationEssentials)
+import FoundationEssentials
+#else
+import Foundation
+#endif
+
+/// Writes generated files without touching the ones whose contents did not change,
+/// so that javac, Gradle and SwiftPM do not recompile them.
+///
+/// Set ``current`` for the duration of a generator run to collect which files were
+/// written and which were unchanged, e.g. to report them or to prune stale files:
+///
+/// ```swift
+/// let generatedFiles = GeneratedFiles()
+/// try GeneratedFiles.$current.withValue(generatedFiles) {
+///   try generator.generate()
+/// }
+/// print(generatedFiles.summary)
+/// ```
+public final class GeneratedFiles: @unchecked Sendable {
+  // Not synchronized: a generator run writes its files from a single thread.
+
+  /// The files of the currently running generator, if any.
+  @TaskLocal public static var current: GeneratedFiles?
+
+  /// Files whose contents changed, or which did not exist before.
+  public private(set) var written: [URL] = []
+
+  /// Files which already had the generated contents, and were left untouched.
+  public private(set) var unchanged: [URL] = []
+
+  /// Stale generated files which were removed by ``pruneStaleFiles(in:manifestName:)``.
+  public private(set) var removed: [URL] = []
+
+  public init() {}
+
+  /// Write `contents` to `url`, unless the file already holds exactly these contents.
+  ///
+  /// - Returns: whether the file was written
+  @discardableResult
+  public static func write(_ contents: String, to url: URL) throws -> Bool {
+    let data = Data(contents.utf8)
+    let changed = !fileHasContents(atPath: url.path, data)
+    if changed {
+      try data.write(to: url, options: .atomic)
+      current?.written.append(url)
+    } else {
+      current?.unchanged.append(url)
+    }
+    return changed
+  }
+
+  /// Compares the size first, so that the contents of most changed files are never read.
+  private static func fileHasContents(atPath path: String, _ data: Data) -> Bool {
+    guard let attributes = try? FileManager.default.attributesOfItem(atPath: path),
+      let size = (attributes[.size] as? Int) ?? (attributes[.size] as? UInt64).map(Int.init),
+      size == data.count
+    else {
+      return false
+    }
+    return FileManager.default.contents(atPath: path) == data
+  }
+
+  /// Remove the files in `directories` which were generated by an earlier run, but not by this one.
+  ///
+  /// Every directory holds a manifest named `manifestName`, which lists the files generated into it
+  /// by the last run, relative to the directory. Only files listed in the previous manifest are
+  /// removed, so files written by hand or by other tools are never deleted. The manifest is then
+  /// replaced with the files generated by this run.
+  ///
+  /// The first run without a manifest removes nothing.
+  public func pruneStaleFiles(in directories: [String], manifestName: String) throws {
+    let producedPaths = (written + unchanged).map { $0.standardizedFileURL.path }
+
+    for directory in directories {
+      let directoryURL = URL(fileURLWithPath: directory).standardizedFileURL
+      guard FileManager.default.fileExists(atPath: directoryURL.path) else {
+        continue
+      }
+      let manifestURL = directoryURL.appendingPathComponent(manifestName)
+      let prefix = directoryURL.path.hasSuffix("/") ? directoryURL.path : directoryURL.path + "/"
+      let produced = Set(
+        producedPaths
+          .filter { $0.hasPrefix(prefix) }
+          .map { String($0.dropFirst(prefix.count)) }
+      )
+
+      for entry in Self.readManifest(at: manifestURL) where !produced.contains(entry) {
+        let file = directoryURL.appendingPathComponent(entry)
+        guard FileManager.default.fileExists(atPath: file.path) else {
+          continue
+        }
+        try FileManager.default.removeItem(at: file)
+        removed.append(file)
+      }
+
+      let manifest = Data(produced.sorted().map { $0 + "\n" }.joined().utf8)
+      if !Self.fileHasContents(atPath: manifestURL.path, manifest) {
+        try manifest.write(to: manifestURL, options: .atomic)
+      }
+    }
+  }
+
+  /// The relative paths listed in a manifest, skipping any that would point outside of its directory.
+  private static func readManifest(at url: URL) -> [String] {
+    guard let data = FileManager.default.contents(atPath: url.path) else {
+      return []
+    }
+    return String(decoding: data, as: UTF8.self)
+      .split(separator: "\n")
+      .map(String.init)
+      .filter { !$0.hasPrefix("/") && !$0.split(separator: "/").contains("..") }
+  }
+
+  /// A one line summary of the files this run wrote, left unchanged, and removed.
+  public var summary: String {
+    var summary = "\(written.count) written, \(unchanged.count) unchanged"
+    if !removed.isEmpty {
+      summary += ", \(removed.count) stale removed"
+    }
+    return summary
+  }
+}
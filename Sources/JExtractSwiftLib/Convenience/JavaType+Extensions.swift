@@ -18,6 +18,12 @@ import SwiftJavaJNICore
 extension JavaType {
 
   var jniTypeSignature: String {
+    jniTypeSignature(defaultPackage: nil)
+  }
+
+  /// The JNI type signature, with classes that have no package resolved in `defaultPackage`,
+  /// e.g. the classes generated into the Java package of the module.
+  func jniTypeSignature(defaultPackage: String?) -> String {
     switch self {
     case .boolean: return "Z"
     case .byte: return "B"
@@ -29,12 +35,12 @@ extension JavaType {
     case .double: return "D"
     case .class(let package, let name, _):
       let nameWithInnerClasses = name.replacingOccurrences(of: ".", with: "$")
-      if let package {
+      if let package = package ?? defaultPackage {
         return "L\(package.replacingOccurrences(of: ".", with: "/"))/\(nameWithInnerClasses);"
       } else {
         return "L\(nameWithInnerClasses);"
       }
-    case .array(let javaType): return "[\(javaType.jniTypeSignature)"
+    case .array(let javaType): return "[\(javaType.jniTypeSignature(defaultPackage: defaultPackage))"
     case .void: fatalError("There is no type signature for 'void'")
     }
   }
@@ -49,6 +55,16 @@ extension JavaType {
     }
   }
 
+  /// The sentinel a JNI `Optional` result of this type is returned as when it is `nil`,
+  /// for 64-bit primitives that cannot be combined with a discriminator byte.
+  var jniOptionalNoneSentinel: JNIOptionalNoneSentinel? {
+    switch self {
+    case .long: .long
+    case .double: .double
+    default: nil
+    }
+  }
+
   var optionalType: String? {
     switch self {
     case .boolean: "Optional<Boolean>"
@@ -127,6 +143,31 @@ extension JavaType {
     }
   }
 
+  /// Swift expression widening the JNI value `value` of this primitive type into a `jlong`
+  /// tuple slot, see `JNITupleSupport`. The bits are preserved, not the numeric value.
+  func jniTupleSlotValue(_ value: String) -> String {
+    switch self {
+    case .long: value
+    case .boolean, .byte, .char, .short, .int: "jlong(\(value))"
+    case .float: "jlong(\(value).bitPattern)"
+    case .double: "jlong(bitPattern: \(value).bitPattern)"
+    default: fatalError("Tuple slots are only available for JNI primitive types, was: \(self)")
+    }
+  }
+
+  /// Java expression reading a value of this primitive type from the `long` tuple slot `slot`,
+  /// the inverse of ``jniTupleSlotValue(_:)``.
+  func decodingJNITupleSlot(_ slot: String) -> String {
+    switch self {
+    case .long: slot
+    case .boolean: "\(slot) != 0"
+    case .byte, .char, .short, .int: "(\(self)) \(slot)"
+    case .float: "Float.intBitsToFloat((int) \(slot))"
+    case .double: "Double.longBitsToDouble(\(slot))"
+    default: fatalError("Tuple slots are only available for JNI primitive types, was: \(self)")
+    }
+  }
+
   /// Returns whether this type returns `JavaValue` from SwiftJava
   var implementsJavaValue: Bool {
     switch self {
@@ -205,3 +246,44 @@ extension JavaType {
     }
   }
 }
+
+/// The value a 64-bit primitive `Optional` result is returned as when it is `nil`.
+///
+/// A non-`nil` result that happens to equal the sentinel additionally sets the
+/// discriminator, so the discriminator is only written for `nil` and for that one value.
+/// Mirrors `JNIOptionalSupport` in SwiftKitCore and `_JNIOptionalSentinel` in SwiftJavaRuntimeSupport.
+enum JNIOptionalNoneSentinel {
+  case long
+  case double
+
+  /// Swift expression of the sentinel, as a JNI value.
+  var valueExpr: String {
+    switch self {
+    case .long: "_JNIOptionalSentinel.int64"
+    case .double: "jdouble(bitPattern: _JNIOptionalSentinel.doubleBitPattern)"
+    }
+  }
+
+  /// Swift condition that `value` is the sentinel.
+  ///
+  /// A `double` is compared by its bits, since the sentinel is a NaN.
+  func isSentinelCondition(_ value: String) -> String {
+    switch self {
+    case .long: "\(value) == _JNIOptionalSentinel.int64"
+    case .double: "\(value).bitPattern == _JNIOptionalSentinel.doubleBitPattern"
+    }
+  }
+
+  /// Java condition that the native result is not the sentinel.
+  var javaIsNotSentinelCheck: JNISwift2JavaGenerator.JavaNativeConversionStep {
+    switch self {
+    case .long:
+      .notEquals(.placeholder, .constant("JNIOptionalSupport.LONG_NONE_SENTINEL"))
+    case .double:
+      .notEquals(
+        .call(.placeholder, function: "Double.doubleToRawLongBits"),
+        .constant("JNIOptionalSupport.DOUBLE_NONE_SENTINEL_BITS")
+      )
+    }
+  }
+}
@@ -81,8 +81,12 @@ extension FFMSwift2JavaGenerator {
 struct CdeclLowering {
   var knownTypes: SwiftKnownTypes
 
-  init(knownTypes: SwiftKnownTypes) {
+  /// Whether arrays of fixed-width numbers are returned by lending their storage, see `enableBorrowedArrayResults`.
+  var borrowArrayResults: Bool = false
+
+  init(knownTypes: SwiftKnownTypes, borrowArrayResults: Bool = false) {
     self.knownTypes = knownTypes
+    self.borrowArrayResults = borrowArrayResults
   }
 
   init(symbolTable: SwiftSymbolTable) {
@@ -772,6 +776,40 @@ struct CdeclLowering {
           // Not supported at this point.
           throw LoweringError.unhandledType(type)
 
+        case .array(let element) where borrowArrayResults && CType(borrowedArrayElement: element) != nil:
+          // The array storage is retained for Java, which reads the elements in place
+          // and releases the '_owner' when it is done with them.
+          return LoweredResult(
+            cdeclResultType: .void,
+            cdeclOutParameters: [
+              SwiftParameter(
+                convention: .byValue,
+                parameterName: "\(outParameterName)_pointer",
+                type: knownTypes.unsafeMutablePointer(knownTypes.optionalSugar(knownTypes.unsafeRawPointer)),
+              ),
+              SwiftParameter(
+                convention: .byValue,
+                parameterName: "\(outParameterName)_byteCount",
+                type: knownTypes.unsafeMutablePointer(knownTypes.int),
+              ),
+              SwiftParameter(
+                convention: .byValue,
+                parameterName: "\(outParameterName)_owner",
+                type: knownTypes.unsafeMutablePointer(knownTypes.optionalSugar(knownTypes.unsafeMutableRawPointer)),
+              ),
+            ],
+            conversion: .method(
+              base: "_swiftjava_borrowArray",
+              methodName: nil,
+              arguments: [
+                .init(label: nil, argument: .placeholder),
+                .init(label: "pointer", argument: .constant("\(outParameterName)_pointer")),
+                .init(label: "byteCount", argument: .constant("\(outParameterName)_byteCount")),
+                .init(label: "owner", argument: .constant("\(outParameterName)_owner")),
+              ],
+            ),
+          )
+
         case .array(let element) where element == knownTypes.uint8:
           let resultName = "_result"
 
@@ -1169,3 +1207,20 @@ enum LoweringError: Error {
   case isolatedParameterNotSupported(file: String = #file, line: Int = #line)
   case actorIsolatedMemberNotSupported(file: String = #file, line: Int = #line)
 }
+
+extension CType {
+  /// The C type of the elements of a Swift array result, if the array can be lent to Java in place.
+  ///
+  /// Only fixed-width integers and floating point numbers qualify, which Java reads with a plain value layout.
+  init?(borrowedArrayElement type: SwiftType) {
+    guard let cType = try? CType(cdeclType: type) else {
+      return nil
+    }
+    switch cType {
+    case .integral(.signed), .integral(.unsigned), .floating:
+      self = cType
+    default:
+      return nil
+    }
+  }
+}
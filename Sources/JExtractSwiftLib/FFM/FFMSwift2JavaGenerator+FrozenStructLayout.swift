@@ -0,0 +1,165 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+import CodePrinting
+import SwiftExtract
+import SwiftSyntax
+
+/// The stored properties of a `@frozen` struct whose memory layout is known when generating its bindings.
+///
+/// Swift lays out the stored properties of a struct in declaration order, each at the next offset that
+/// satisfies its alignment. A `@frozen` struct keeps that layout stable, and lists all its stored properties,
+/// even in a `.swiftinterface`. When all of them are primitives, the generated `$LAYOUT` names every field,
+/// and the property accessors read and write the instance's memory through `VarHandle`s, without a downcall.
+struct FrozenStructLayout {
+  struct Field {
+    /// The name of the property, as spelled in Swift, e.g. `` `default` ``.
+    var name: String
+    var type: CType
+    /// Whether the property has `willSet` or `didSet` observers, which a direct write would skip.
+    var isObserved: Bool
+
+    /// The name of the field in the `$LAYOUT`.
+    var layoutName: String {
+      name.replacingOccurrences(of: "`", with: "")
+    }
+
+    /// The name of the Java constant holding the `VarHandle` of this field.
+    var varHandleName: String {
+      "$\(layoutName)$VH"
+    }
+  }
+
+  var fields: [Field]
+
+  /// Returns nil unless `decl` is a non-generic `@frozen` struct whose stored properties all have primitive types.
+  init?(_ decl: ExtractedNominalType) {
+    guard decl.swiftNominal.kind == .struct,
+      !decl.isSpecialization,
+      decl.genericParameters.isEmpty,
+      decl.attribute(named: "frozen") != nil
+    else {
+      return nil
+    }
+
+    var fields: [Field] = []
+    for member in decl.declGroupSyntax.memberBlock.members {
+      if member.decl.is(IfConfigDeclSyntax.self) {
+        // The stored properties would depend on the build configuration.
+        return nil
+      }
+      guard let variable = member.decl.as(VariableDeclSyntax.self),
+        !variable.modifiers.contains(where: { $0.name.tokenKind == .keyword(.static) || $0.name.tokenKind == .keyword(.class) })
+      else {
+        continue
+      }
+
+      for binding in variable.bindings {
+        var isObserved = false
+        switch binding.accessorBlock?.accessors {
+        case nil:
+          break
+        case .getter?:
+          continue // computed
+        case .accessors(let accessors)?:
+          let observers: [Keyword] = [.willSet, .didSet]
+          guard accessors.allSatisfy({ accessor in observers.contains { accessor.accessorSpecifier.tokenKind == .keyword($0) } }) else {
+            continue // computed
+          }
+          isObserved = true
+        }
+
+        // Lazy properties and property wrappers are stored differently than their declared type.
+        guard !variable.modifiers.contains(where: { $0.name.tokenKind == .keyword(.lazy) }),
+          variable.attributes.isEmpty,
+          let typeName = binding.typeAnnotation?.type.trimmedDescription,
+          let type = Self.primitiveFieldType(typeName)
+        else {
+          return nil
+        }
+        fields.append(Field(name: binding.pattern.trimmedDescription, type: type, isObserved: isObserved))
+      }
+    }
+
+    guard !fields.isEmpty else {
+      return nil
+    }
+    self.fields = fields
+  }
+
+  /// The C type of a stored property of a Swift primitive type.
+  private static func primitiveFieldType(_ typeName: String) -> CType? {
+    let name = typeName.hasPrefix("Swift.") ? String(typeName.dropFirst("Swift.".count)) : typeName
+    switch name {
+    case "Bool": return .integral(.bool)
+    case "Int8": return .integral(.signed(bits: 8))
+    case "Int16": return .integral(.signed(bits: 16))
+    case "Int32": return .integral(.signed(bits: 32))
+    case "Int64": return .integral(.signed(bits: 64))
+    case "UInt8": return .integral(.unsigned(bits: 8))
+    case "UInt16": return .integral(.unsigned(bits: 16))
+    case "UInt32": return .integral(.unsigned(bits: 32))
+    case "UInt64": return .integral(.unsigned(bits: 64))
+    case "Int": return .integral(.ptrdiff_t)
+    case "UInt": return .integral(.size_t)
+    case "Float": return .floating(.float)
+    case "Double": return .floating(.double)
+    default: return nil
+    }
+  }
+
+  /// The field read or written by `accessor`, if it can access the memory of the instance directly.
+  func field(accessedBy accessor: ExtractedFunc) -> Field? {
+    guard case .instance = accessor.functionSignature.selfParameter,
+      let field = fields.first(where: { $0.name == accessor.name })
+    else {
+      return nil
+    }
+    switch accessor.apiKind {
+    case .getter:
+      return field
+    case .setter:
+      return field.isObserved ? nil : field
+    default:
+      return nil
+    }
+  }
+}
+
+extension FFMSwift2JavaGenerator {
+  /// Print the `$LAYOUT` of a struct with a known layout, and a `VarHandle` for every field.
+  func printFrozenStructMemoryLayout(_ printer: inout JavaPrinter, _ layout: FrozenStructLayout) {
+    printer.print(
+      "public static final GroupLayout $LAYOUT = SwiftValueWitnessTable.layoutOfSwiftType(TYPE_METADATA.$memorySegment(),"
+    )
+    printer.indent()
+    for (field, isLast) in layout.fields.withIsLast {
+      printer.print("\(field.type.foreignValueLayout).withName(\"\(field.layoutName)\")\(isLast ? ");" : ",")")
+    }
+    printer.outdent()
+    printer.print(
+      """
+      public final GroupLayout $layout() {
+          return $LAYOUT;
+      }
+      """
+    )
+    for field in layout.fields {
+      printer.print(
+        "private static final VarHandle \(field.varHandleName) = $LAYOUT.varHandle(MemoryLayout.PathElement.groupElement(\"\(field.layoutName)\"));"
+      )
+    }
+  }
+}
@@ -29,7 +29,10 @@ extension FFMSwift2JavaGenerator {
 
     printer.printSeparator(decl.displayName)
 
-    printJavaBindingDescriptorClass(&printer, decl)
+    // Accessors of fields with a known layout access memory directly, without a downcall.
+    if currentFrozenStructLayout?.field(accessedBy: decl) == nil {
+      printJavaBindingDescriptorClass(&printer, decl)
+    }
 
     printJavaBindingWrapperHelperClass(&printer, decl)
 
@@ -74,15 +77,28 @@ extension FFMSwift2JavaGenerator {
       private static class \(cFunc.name)
       """
     ) { printer in
-      printFunctionDescriptorDefinition(&printer, cFunc.resultType, cFunc.parameters)
-      printer.print(
-        """
-        private static final MemorySegment ADDR =
-          \(lookup).findOrThrow("\(cFunc.name)");
-        private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
-        """
-      )
-      printJavaBindingDowncallMethod(&printer, cFunc)
+      if config.effectiveEnableSharedDowncallHandles {
+        // Only the address is specific to this function, the handle is shared by its signature.
+        let signature = SharedDowncallSignature(cFunc)
+        sharedDowncallSignatures[signature.className] = signature
+        printer.print(
+          """
+          private static final MemorySegment ADDR =
+            \(lookup).findOrThrow("\(cFunc.name)");
+          """
+        )
+        printJavaBindingDowncallMethod(&printer, cFunc, handle: "\(signature.className).HANDLE", boundArguments: ["ADDR"])
+      } else {
+        printFunctionDescriptorDefinition(&printer, cFunc.resultType, cFunc.parameters)
+        printer.print(
+          """
+          private static final MemorySegment ADDR =
+            \(lookup).findOrThrow("\(cFunc.name)");
+          private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+          """
+        )
+        printJavaBindingDowncallMethod(&printer, cFunc)
+      }
       additionalContent?(&printer)
     }
   }
@@ -115,9 +131,13 @@ extension FFMSwift2JavaGenerator {
     printer.print(");")
   }
 
+  /// Print the `call` method of a descriptor class, which invokes `handle` with `boundArguments`
+  /// followed by the parameters of `cFunc`.
   func printJavaBindingDowncallMethod(
     _ printer: inout JavaPrinter,
     _ cFunc: CFunction,
+    handle: String = "HANDLE",
+    boundArguments: [String] = [],
   ) {
     let returnTy = cFunc.resultType.javaType
     let maybeReturn = cFunc.resultType.isVoid ? "" : "return (\(returnTy)) "
@@ -137,18 +157,30 @@ extension FFMSwift2JavaGenerator {
       args.append(name)
     }
     let paramsStr = params.joined(separator: .comma)
-    let argsStr = args.joined(separator: .comma)
+    let argsStr = (boundArguments + args).joined(separator: .comma)
+    // The thunk name is a constant, so tracing does not need to find out the caller.
+    let traceArgsStr = (["\"\(cFunc.name)\""] + args).joined(separator: .comma)
 
+    // The JFR event is disabled by default, in which case the JIT removes it entirely.
+    // Without JFR (e.g. on Android, or without the jdk.jfr module) the event class is never loaded.
     printer.print(
       """
       public static \(returnTy) call(\(paramsStr)) {
+        var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+        if (event$ != null) {
+          event$.begin();
+        }
         try {
           if (CallTraces.TRACE_DOWNCALLS) {
-            CallTraces.traceDowncall(\(argsStr));
+            CallTraces.traceDowncallTo(\(traceArgsStr));
           }
-          \(maybeReturn)HANDLE.invokeExact(\(argsStr));
+          \(maybeReturn)\(handle).invokeExact(\(argsStr));
         } catch (Throwable ex$) {
           throw new AssertionError("should not reach here", ex$);
+        } finally {
+          if (event$ != null) {
+            event$.end("\(cFunc.name)");
+          }
         }
       }
       """
@@ -435,6 +467,32 @@ extension FFMSwift2JavaGenerator {
 
       printDowncall(&printer, decl)
     }
+
+    // The borrowed elements are only valid within the arena, so also offer a copy that outlives it.
+    if let elementType = translatedSignature.result.borrowedArrayElementType {
+      let copyParamDecls = translatedSignature.parameters.map { $0.parameter.renderParameter() }
+      let arguments = translatedSignature.parameters.map { $0.parameter.name } + ["arena$"]
+      printer.print(
+        """
+
+        /**
+         * Copies the elements of the returned Swift array into a Java array,
+         * rather than borrowing them in place like {@code \(methodName)(..., swiftArena)}.
+         */
+        """
+      )
+      printer.printBraceBlock(
+        """
+        \(annotationsStr)\(modifiers) \(JavaType.array(elementType)) \(methodName)(\(copyParamDecls.joined(separator: .comma)))\(throwsClause)
+        """
+      ) { printer in
+        printer.printBraceBlock("try (var arena$ = AllocatingSwiftArena.ofConfined())") { printer in
+          printer.print(
+            "return \(methodName)(\(arguments.joined(separator: .comma))).toArray(ValueLayout.JAVA_\(elementType.description.uppercased()));"
+          )
+        }
+      }
+    }
   }
 
   /// Print the actual downcall to the Swift API.
@@ -468,30 +526,41 @@ extension FFMSwift2JavaGenerator {
     }
 
     // Indirect return receivers.
-    for outParameter in translatedSignature.result.outParameters {
-      guard case .concrete(let type) = outParameter.type else {
-        continue
+    if let primitiveTupleShape = translatedSignature.result.primitiveTupleShape {
+      // A single allocation, the Swift thunk receives a pointer into it for every element.
+      let slotSize = PrimitiveTupleShape.ffmSlotByteSize
+      printer.print(
+        "MemorySegment result$ = arena$.allocate(\(primitiveTupleShape.elementTypes.count * slotSize), \(slotSize));"
+      )
+      for idx in primitiveTupleShape.elementTypes.indices {
+        downCallArguments.append(idx == 0 ? "result$" : "result$.asSlice(\(idx * slotSize))")
       }
-      let memoryLayout = renderMemoryLayoutValue(for: type)
-
-      let arena =
-        if let className = type.className,
-          analysis.extractedTypes[className] != nil
-        {
-          // Use passed-in 'SwiftArena' for 'SwiftValue'.
-          "swiftArena"
-        } else {
-          // Otherwise use the temporary 'Arena'.
-          "arena$"
+    } else {
+      for outParameter in translatedSignature.result.outParameters {
+        guard case .concrete(let type) = outParameter.type else {
+          continue
         }
+        let memoryLayout = renderMemoryLayoutValue(for: type)
+
+        let arena =
+          if let className = type.className,
+            analysis.extractedTypes[className] != nil
+          {
+            // Use passed-in 'SwiftArena' for 'SwiftValue'.
+            "swiftArena"
+          } else {
+            // Otherwise use the temporary 'Arena'.
+            "arena$"
+          }
 
-      // FIXME: use trailing$ convention
-      let varName = outParameter.name.isEmpty ? "result$" : "result$_" + outParameter.name
+        // FIXME: use trailing$ convention
+        let varName = outParameter.name.isEmpty ? "result$" : "result$_" + outParameter.name
 
-      printer.print(
-        "MemorySegment \(varName) = \(arena).allocate(\(memoryLayout));"
-      )
-      downCallArguments.append(varName)
+        printer.print(
+          "MemorySegment \(varName) = \(arena).allocate(\(memoryLayout));"
+        )
+        downCallArguments.append(varName)
+      }
     }
 
     let thunkName = thunkNameRegistry.functionThunkName(decl: decl)
@@ -537,13 +606,28 @@ extension FFMSwift2JavaGenerator {
     }
 
     //=== Part 3: Downcall.
-    let downCall = "\(thunkName).call(\(downCallArguments.joined(separator: .comma)))"
+    let downCall: String
+    if let field = currentFrozenStructLayout?.field(accessedBy: decl) {
+      // The 'self' argument is last, preceded by the new value for a setter.
+      let selfSegment = downCallArguments.last!
+      if decl.apiKind == .setter {
+        downCall = "\(field.varHandleName).set(\(selfSegment), 0L, \(downCallArguments.first!))"
+      } else {
+        downCall = "(\(field.type.javaType)) \(field.varHandleName).get(\(selfSegment), 0L)"
+      }
+    } else {
+      downCall = "\(thunkName).call(\(downCallArguments.joined(separator: .comma)))"
+    }
 
     /// Helper to emit the error check after a downcall
     func printErrorCheck(_ printer: inout JavaPrinter) {
       guard translatedSignature.isThrowing else { return }
       printer.printIfBlock("!result$throws.get(ValueLayout.ADDRESS, 0).equals(MemorySegment.NULL)") { printer in
-        printer.print("throw new \(JavaType.swiftJavaErrorException.className!)(result$throws.get(ValueLayout.ADDRESS, 0), AllocatingSwiftArena.ofAuto());")
+        if config.effectiveEnableLightweightErrors {
+          printer.print("throw \(JavaType.swiftJavaErrorException.className!).lightweight(result$throws.get(ValueLayout.ADDRESS, 0));")
+        } else {
+          printer.print("throw new \(JavaType.swiftJavaErrorException.className!)(result$throws.get(ValueLayout.ADDRESS, 0), AllocatingSwiftArena.ofAuto());")
+        }
       }
     }
 
@@ -658,6 +742,8 @@ extension FFMSwift2JavaGenerator.JavaConversionStep {
       return false
     case .constructSwiftValue, .wrapMemoryAddressUnsafe:
       return true
+    case .swiftArena:
+      return true
     case .temporaryArena:
       return true
 
@@ -692,7 +778,7 @@ extension FFMSwift2JavaGenerator.JavaConversionStep {
     switch self {
     case .placeholder, .placeholderForDowncall, .placeholderForSwiftThunkName:
       return false
-    case .explodedName, .constant, .javaNew:
+    case .explodedName, .constant, .javaNew, .swiftArena:
       return false
     case .temporaryArena:
       return true
@@ -747,6 +833,9 @@ extension FFMSwift2JavaGenerator.JavaConversionStep {
         return "/*placeholderForDowncall undefined!*/"
       }
 
+    case .swiftArena:
+      return "swiftArena"
+
     case .temporaryArena:
       return "arena$"
 
@@ -819,9 +908,9 @@ extension FFMSwift2JavaGenerator.JavaConversionStep {
     case .constant(let value):
       return value
 
-    case .readMemorySegment(let inner, let javaType):
+    case .readMemorySegment(let inner, let javaType, let offset):
       let inner = inner.render(&printer, placeholder)
-      return "\(inner).get(\(ForeignValueLayout(javaType: javaType)!), 0)"
+      return "\(inner).get(\(ForeignValueLayout(javaType: javaType)!), \(offset))"
 
     case .replacingPlaceholder(let inner, let root):
       return inner.render(&printer, root, placeholderForDowncall: placeholderForDowncall)
@@ -99,6 +99,17 @@ extension FFMSwift2JavaGenerator {
 
     /// Whether this result requires 32-bit integer overflow checking
     var needs32BitIntOverflowCheck: OverflowCheckType = .none
+
+    /// Set for tuples of primitives, which are returned as a specialized tuple class.
+    ///
+    /// Their out parameters are then not allocated one by one, but as 8-byte slots
+    /// of a single `result$` segment.
+    var primitiveTupleShape: PrimitiveTupleShape? = nil
+
+    /// Set for arrays lent to Java as a `MemorySegment`, to the Java type of their elements.
+    ///
+    /// Such functions get an overload that copies the elements into a Java array.
+    var borrowedArrayElementType: JavaType? = nil
   }
 
   /// Translated Java API representing a Swift API.
@@ -177,7 +188,7 @@ extension FFMSwift2JavaGenerator {
     }
 
     func translate(_ decl: ExtractedFunc) throws -> TranslatedFunctionDecl {
-      let lowering = CdeclLowering(knownTypes: knownTypes)
+      let lowering = CdeclLowering(knownTypes: knownTypes, borrowArrayResults: config.effectiveEnableBorrowedArrayResults)
       let loweredSignature = try lowering.lowerFunctionSignature(decl.functionSignature)
 
       // Name.
@@ -752,6 +763,28 @@ extension FFMSwift2JavaGenerator {
               conversion: .call(.placeholder, function: "SwiftStrings.fromCString", withArena: false)
             )
 
+          case .array(let element) where config.effectiveEnableBorrowedArrayResults && CType(borrowedArrayElement: element) != nil:
+            return TranslatedResult(
+              javaResultType: .javaForeignMemorySegment,
+              annotations: resultAnnotations,
+              outParameters: [
+                JavaParameter(name: "pointer", type: .javaForeignMemorySegment),
+                JavaParameter(name: "byteCount", type: .long),
+                JavaParameter(name: "owner", type: .javaForeignMemorySegment),
+              ],
+              conversion: .call(
+                .commaSeparated([
+                  .readMemorySegment(.explodedName(component: "pointer"), as: .javaForeignMemorySegment),
+                  .readMemorySegment(.explodedName(component: "byteCount"), as: .long),
+                  .readMemorySegment(.explodedName(component: "owner"), as: .javaForeignMemorySegment),
+                  .swiftArena,
+                ]),
+                function: "SwiftRuntime.borrowArray",
+                withArena: false
+              ),
+              borrowedArrayElementType: CType(borrowedArrayElement: element)!.javaType
+            )
+
           case .array(let element) where element == knownTypes.uint8:
             return TranslatedResult(
               javaResultType:
@@ -859,6 +892,29 @@ extension FFMSwift2JavaGenerator {
         elementJavaTypes.append(javaType)
       }
 
+      if let shape = PrimitiveTupleShape(.tuple(elements), elementType: { try? translateTupleElementResult(type: $0).0 }) {
+        // Read every element straight from its slot of the single 'result$' segment.
+        return TranslatedResult(
+          javaResultType: shape.javaType,
+          annotations: resultAnnotations,
+          outParameters: outParameters,
+          conversion: .tupleFromOutParams(
+            tupleClassName: "new \(shape.className)",
+            elements: shape.elementTypes.enumerated().map { idx, javaType in
+              (
+                outParamName: "result$",
+                elementConversion: .readMemorySegment(
+                  .placeholder,
+                  as: javaType,
+                  offset: idx * PrimitiveTupleShape.ffmSlotByteSize
+                )
+              )
+            }
+          ),
+          primitiveTupleShape: shape
+        )
+      }
+
       let javaResultType: JavaType = .tuple(elementTypes: elementJavaTypes)
       let fullTupleClassName = javaResultType.fullyQualifiedClassName!
 
@@ -921,6 +977,9 @@ extension FFMSwift2JavaGenerator {
     /// however this has the benefit of not needing to pass the name substituion separately.
     case placeholderForSwiftThunkName
 
+    /// The `swiftArena` passed by the caller, which the result belongs to.
+    case swiftArena
+
     /// The temporary `arena$` that is necessary to complete the conversion steps.
     ///
     /// This is distinct from just a constant 'arena$' string, since it forces the creation of a temporary arena.
@@ -988,7 +1047,7 @@ extension FFMSwift2JavaGenerator {
     indirect case commaSeparated([JavaConversionStep], separator: String = ", ")
 
     /// Refer an exploded argument suffixed with `_\(name)`.
-    indirect case readMemorySegment(JavaConversionStep, as: JavaType)
+    indirect case readMemorySegment(JavaConversionStep, as: JavaType, offset: Int = 0)
 
     /// Use `placeholder` as the root when rendering `inner` (same idea as JNI `replacingPlaceholder`).
     indirect case replacingPlaceholder(JavaConversionStep, placeholder: String)
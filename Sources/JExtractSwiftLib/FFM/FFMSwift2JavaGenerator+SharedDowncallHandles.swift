@@ -0,0 +1,95 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+import CodePrinting
+
+/// The C signature of a downcall, which determines its `FunctionDescriptor`.
+///
+/// When ``Configuration/enableSharedDowncallHandles`` is set, all functions with the same signature call
+/// through one downcall handle which is not bound to an address, and pass the address of their thunk
+/// as the first argument. The handle is held by a small class per signature, e.g. `DowncallHandle_J_JJ`,
+/// so it is only linked when the first function of that signature is called.
+struct SharedDowncallSignature {
+  var resultType: CType
+  var parameterTypes: [CType]
+
+  init(_ cFunc: CFunction) {
+    self.resultType = cFunc.resultType
+    self.parameterTypes = cFunc.parameters.map(\.type)
+  }
+
+  /// The name of the holder class, e.g. `DowncallHandle_J_JJ` for `int64_t (*)(int64_t, int64_t)`.
+  var className: String {
+    let result = resultType.sharedDowncallSignatureCode
+    let parameters = parameterTypes.map(\.sharedDowncallSignatureCode).joined()
+    return parameters.isEmpty ? "DowncallHandle_\(result)" : "DowncallHandle_\(result)_\(parameters)"
+  }
+}
+
+extension CType {
+  /// A letter identifying the value layout of this type in a ``SharedDowncallSignature``.
+  ///
+  /// Types with the same layout share a letter, e.g. signed and unsigned 64-bit integers.
+  fileprivate var sharedDowncallSignatureCode: String {
+    switch self {
+    case .void: "V"
+    case .integral(.bool): "Z"
+    case .integral(.signed(bits: 8)), .integral(.unsigned(bits: 8)): "B"
+    case .integral(.signed(bits: 16)): "S"
+    case .integral(.unsigned(bits: 16)): "C"
+    case .integral(.signed(bits: 32)), .integral(.unsigned(bits: 32)): "I"
+    case .integral(.signed(bits: 64)), .integral(.unsigned(bits: 64)): "J"
+    case .integral(.ptrdiff_t), .integral(.size_t): "W"
+    case .floating(.float): "F"
+    case .floating(.double): "D"
+    case .pointer(_), .function(resultType: _, parameters: _, variadic: _): "A"
+    case .qualified(const: _, volatile: _, type: let inner): inner.sharedDowncallSignatureCode
+    case .tag(_), .integral(.signed(bits: _)), .integral(.unsigned(bits: _)):
+      fatalError("unsupported downcall type: \(self)")
+    }
+  }
+}
+
+extension FFMSwift2JavaGenerator {
+  /// Print the holder class of the downcall handle shared by all functions with the given signature.
+  ///
+  ///   ```java
+  ///   final class DowncallHandle_J_JJ {
+  ///     private static final FunctionDescriptor DESC = FunctionDescriptor.of(...);
+  ///     static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(DESC);
+  ///   }
+  ///   ```
+  func printSharedDowncallHandleFile(_ printer: inout JavaPrinter, _ signature: SharedDowncallSignature) {
+    printHeader(&printer)
+    printPackage(&printer)
+    printImports(&printer)
+
+    let cFunc = CFunction(
+      resultType: signature.resultType,
+      name: "",
+      parameters: signature.parameterTypes.enumerated().map { CParameter(name: "p\($0.offset)", type: $0.element) },
+      isVariadic: false
+    )
+    printer.printJavadocComment(
+      "The downcall handle shared by every function with the C signature {@code \(cFunc.functionType)}."
+    )
+    printer.printBraceBlock("final class \(signature.className)") { printer in
+      printer.print("private \(signature.className)() {}")
+      printer.println()
+      printFunctionDescriptorDefinition(&printer, cFunc.resultType, cFunc.parameters)
+      printer.print("static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(DESC);")
+    }
+  }
+}
@@ -58,6 +58,13 @@ package class FFMSwift2JavaGenerator: Swift2JavaGenerator {
     }
   }
 
+  /// The signatures of the downcall handles shared by the functions printed so far, keyed by class name,
+  /// when ``Configuration/enableSharedDowncallHandles`` is set.
+  var sharedDowncallSignatures: [String: SharedDowncallSignature] = [:]
+
+  /// The layout of the current type being generated, if it is a `@frozen` struct with a known layout.
+  var currentFrozenStructLayout: FrozenStructLayout? = nil
+
   /// Override symbol lookup class for the current type being generated
   var currentSymbolLookup: SymbolLookupTarget = .module
 
@@ -215,6 +222,47 @@ extension FFMSwift2JavaGenerator {
         log.info("Generated: \((self.swiftModuleName + ".java").bold) (at \(outputFile.absoluteString))")
       }
     }
+
+    // Print a specialized class for every tuple of primitives returned by a printed function.
+    for shape in usedPrimitiveTupleShapes {
+      let filename = "\(shape.className).java"
+      log.debug("Printing contents: \(filename)")
+      printPrimitiveTupleFile(&printer, shape)
+
+      if let outputFile = try printer.writeContents(
+        outputDirectory: javaOutputDirectory,
+        javaPackagePath: javaPackagePath,
+        filename: filename,
+      ) {
+        log.info("Generated: \((shape.className + ".java").bold) (at \(outputFile.absoluteString))")
+      }
+    }
+
+    // Print a holder class for every downcall signature shared by the printed functions.
+    for (className, signature) in sharedDowncallSignatures.sorted(by: { $0.key < $1.key }) {
+      let filename = "\(className).java"
+      log.debug("Printing contents: \(filename)")
+      printSharedDowncallHandleFile(&printer, signature)
+
+      if let outputFile = try printer.writeContents(
+        outputDirectory: javaOutputDirectory,
+        javaPackagePath: javaPackagePath,
+        filename: filename,
+      ) {
+        log.info("Generated: \((className + ".java").bold) (at \(outputFile.absoluteString))")
+      }
+    }
+  }
+
+  /// The shapes of all primitive tuples returned by the functions translated so far.
+  private var usedPrimitiveTupleShapes: [PrimitiveTupleShape] {
+    var shapes: [String: PrimitiveTupleShape] = [:]
+    for case let translatedDecl? in translatedDecls.values {
+      if let shape = translatedDecl.translatedSignature.result.primitiveTupleShape {
+        shapes[shape.className] = shape
+      }
+    }
+    return shapes.values.sorted { $0.className < $1.className }
   }
 }
 
@@ -260,6 +308,8 @@ extension FFMSwift2JavaGenerator {
 
     let isErrorType = decl.swiftNominal.isSwiftJavaErrorType
     self.currentSymbolLookup = isErrorType ? .swiftRuntime : .module
+    self.currentFrozenStructLayout = FrozenStructLayout(decl)
+    defer { self.currentFrozenStructLayout = nil }
 
     printNominal(&printer, decl) { printer in
       // We use a static field to abuse the initialization order such that by the time we get type metadata,
@@ -285,10 +335,11 @@ extension FFMSwift2JavaGenerator {
           @SuppressWarnings("unused")
           private static final boolean INITIALIZED_LIBS = initializeLibs();
           static boolean initializeLibs() {
-              SwiftLibraries.loadLibraryWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_CORE);
-              SwiftLibraries.loadLibraryWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA);
-              SwiftLibraries.loadLibraryWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_RUNTIME_FUNCTIONS);
-              SwiftLibraries.loadLibraryWithFallbacks(LIB_NAME);
+              SwiftLibraries.loadLibrariesWithFallbacks(
+                      SwiftLibraries.LIB_NAME_SWIFT_CORE,
+                      SwiftLibraries.LIB_NAME_SWIFT_JAVA,
+                      SwiftLibraries.LIB_NAME_SWIFT_RUNTIME_FUNCTIONS,
+                      LIB_NAME);
               return true;
           }
           """
@@ -312,7 +363,11 @@ extension FFMSwift2JavaGenerator {
         printSpecialExtras(&printer)
       } else {
         // Layout of the class
-        printClassMemoryLayout(&printer, decl)
+        if let frozenStructLayout = currentFrozenStructLayout {
+          printFrozenStructMemoryLayout(&printer, frozenStructLayout)
+        } else {
+          printClassMemoryLayout(&printer, decl)
+        }
 
         printer.print("")
 
@@ -383,6 +438,18 @@ extension FFMSwift2JavaGenerator {
     )
   }
 
+  func printPrimitiveTupleFile(_ printer: inout JavaPrinter, _ shape: PrimitiveTupleShape) {
+    printHeader(&printer)
+    printPackage(&printer)
+
+    printer.printJavadocComment(shape.javadoc)
+    printer.printPrimitiveTupleClass(
+      modifiers: ["public", "final"],
+      className: shape.className,
+      elementTypes: shape.elementTypes
+    )
+  }
+
   func printImports(_ printer: inout JavaPrinter) {
     for i in FFMSwift2JavaGenerator.defaultJavaImports {
       printer.print("import \(i);")
@@ -440,6 +507,15 @@ extension FFMSwift2JavaGenerator {
           public \(self.javaClassName(for: decl))(MemorySegment errorPointer, AllocatingSwiftArena arena) {
             super(fetchDescription(errorPointer), wrapPointer(errorPointer, arena), arena);
           }
+          private \(self.javaClassName(for: decl))(MemorySegment wrapped, SwiftAnyType swiftType) {
+            super(wrapped, swiftType);
+          }
+          /**
+           * Creates a lightweight error, registered with the shared {@link FFMSwiftErrorInstance#LIGHTWEIGHT_ARENA}.
+           */
+          public static \(self.javaClassName(for: decl)) lightweight(MemorySegment errorPointer) {
+            return registerLightweight(new \(self.javaClassName(for: decl))(wrapPointer(errorPointer, LIGHTWEIGHT_ARENA), TYPE_METADATA));
+          }
           private static MemorySegment wrapPointer(MemorySegment errorPointer, AllocatingSwiftArena arena) {
             MemorySegment wrapped = arena.allocate(ValueLayout.ADDRESS);
             wrapped.set(ValueLayout.ADDRESS, 0, errorPointer);
@@ -459,6 +535,7 @@ extension FFMSwift2JavaGenerator {
       return { printer in
         // Error types inherit toString() from Exception; print fetchDescription helper instead
         self.printSwiftJavaErrorFetchDescriptionMethod(&printer, decl)
+        self.printSwiftJavaErrorFetchMessageMethod(&printer)
       }
     }
     return nil
@@ -522,10 +599,11 @@ extension FFMSwift2JavaGenerator {
         printer.print(
           """
               if (SwiftLibraries.AUTO_LOAD_LIBS) {
-                  SwiftLibraries.loadLibraryWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_CORE);
-                  SwiftLibraries.loadLibraryWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA);
-                  SwiftLibraries.loadLibraryWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_RUNTIME_FUNCTIONS);
-                  SwiftLibraries.loadLibraryWithFallbacks(LIB_NAME);
+                  SwiftLibraries.loadLibrariesWithFallbacks(
+                          SwiftLibraries.LIB_NAME_SWIFT_CORE,
+                          SwiftLibraries.LIB_NAME_SWIFT_JAVA,
+                          SwiftLibraries.LIB_NAME_SWIFT_RUNTIME_FUNCTIONS,
+                          LIB_NAME);
               }
           """
         )
@@ -617,6 +695,19 @@ extension FFMSwift2JavaGenerator {
     }
   }
 
+  /// Print the `fetchMessage` override for SwiftJavaError, which lightweight errors
+  /// call to fetch their message only when it is first requested
+  func printSwiftJavaErrorFetchMessageMethod(_ printer: inout JavaPrinter) {
+    printer.print(
+      """
+      @Override
+      protected String fetchMessage() {
+        return errorDescription();
+      }
+      """
+    )
+  }
+
   /// Print the `fetchDescription` static helper for SwiftJavaError.
   /// This calls the `errorDescription()` downcall to get the error message
   /// for the super constructor
@@ -639,7 +730,7 @@ extension FFMSwift2JavaGenerator {
           // Wrap the raw opaque pointer into a pointer-to-reference for the thunk
           MemorySegment selfPtr = arena$.allocate(ValueLayout.ADDRESS);
           selfPtr.set(ValueLayout.ADDRESS, 0, errorPointer);
-          MemorySegment result$ = (MemorySegment) \(thunkName).HANDLE.invokeExact(selfPtr);
+          MemorySegment result$ = \(thunkName).call(selfPtr);
           return SwiftStrings.fromCString(result$);
         } catch (Throwable ex) {
           return "Swift error (address: 0x" + Long.toHexString(errorPointer.address()) + ")";
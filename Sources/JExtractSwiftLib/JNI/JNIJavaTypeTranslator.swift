@@ -115,4 +115,17 @@ enum JNIJavaTypeTranslator {
       nil
     }
   }
+
+  /// The shape of a function result of type `swiftType`, if it is returned as
+  /// a specialized tuple class with primitive fields rather than a boxed `TupleN`.
+  static func primitiveTupleShape(of swiftType: SwiftType, config: Configuration) -> PrimitiveTupleShape? {
+    PrimitiveTupleShape(swiftType) { elementType in
+      guard case .nominal(let nominalType) = elementType,
+        let knownType = nominalType.nominalTypeDecl.knownTypeKind
+      else {
+        return nil
+      }
+      return translate(knownType: knownType, config: config)
+    }
+  }
 }
@@ -74,14 +74,16 @@ extension JNISwift2JavaGenerator {
       try writeGeneratedFile(&printer, filename: filename, displayName: protocolType.swiftNominal.javaExistentialBoxName, into: &exportedFileNames)
     }
 
+    // Print a specialized class for every unlabeled tuple of primitives returned by a printed function.
+    for primitiveTupleShape in self.usedPrimitiveTupleShapes {
+      let filename = printPrimitiveTupleFile(&printer, primitiveTupleShape)
+      try writeGeneratedFile(&printer, filename: filename, displayName: primitiveTupleShape.className, into: &exportedFileNames)
+    }
+
     // Write java sources list file
     if let generatedJavaSourcesListFileOutput = config.generatedJavaSourcesListFileOutput, !exportedFileNames.isEmpty {
       let outputPath = URL(fileURLWithPath: javaOutputDirectory).appending(path: generatedJavaSourcesListFileOutput)
-      try exportedFileNames.joined(separator: "\n").write(
-        to: outputPath,
-        atomically: true,
-        encoding: .utf8,
-      )
+      try GeneratedFiles.write(exportedFileNames.joined(separator: "\n"), to: outputPath)
       logger.info("Generated file at \(outputPath)")
     }
   }
@@ -147,13 +149,14 @@ extension JNISwift2JavaGenerator {
           """
 
           static {
-            SwiftLibraries.loadLibraryWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA);
-            SwiftLibraries.loadLibraryWithFallbacks(LIB_NAME);
+            SwiftLibraries.loadLibrariesWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA, LIB_NAME);
           }
           """
         )
       }
 
+      printRegisterNatives(&printer)
+
       for decl in analysis.extractedGlobalFuncs {
         self.logger.trace("Print global function: \(decl)")
         printFunctionDowncallMethods(&printer, decl)
@@ -235,6 +238,41 @@ extension JNISwift2JavaGenerator {
     return filename
   }
 
+  /// The shapes of all unlabeled primitive tuples returned by the functions translated so far,
+  /// which share one top-level class per shape, e.g. `LongDoubleTuple`.
+  ///
+  /// Labeled tuples are printed as nested classes of the function's parent instead.
+  private var usedPrimitiveTupleShapes: [PrimitiveTupleShape] {
+    var shapes: [String: PrimitiveTupleShape] = [:]
+    for decl in translatedDecls.keys {
+      let resultType = decl.functionSignature.result.type
+      guard let shape = JNIJavaTypeTranslator.primitiveTupleShape(of: resultType, config: config),
+        case .tuple(let elements) = resultType,
+        elements.allSatisfy({ $0.label == nil })
+      else {
+        continue
+      }
+      shapes[shape.className] = shape
+    }
+    return shapes.values.sorted { $0.className < $1.className }
+  }
+
+  private func printPrimitiveTupleFile(_ printer: inout JavaPrinter, _ shape: PrimitiveTupleShape) -> String {
+    let filename = "\(shape.className).java"
+    logger.debug("Printing contents: \(filename)")
+
+    printHeader(&printer)
+    printPackage(&printer)
+
+    printer.printJavadocComment(shape.javadoc)
+    printer.printPrimitiveTupleClass(
+      modifiers: ["public", "final"],
+      className: shape.className,
+      elementTypes: shape.elementTypes
+    )
+    return filename
+  }
+
   /// Prints `public final class <P>Box implements JNISwiftInstance, <P> { ... }`.
   ///
   /// Boxes a value returned as `any P` / `some P`: it carries the concrete
@@ -340,14 +378,15 @@ extension JNISwift2JavaGenerator {
           @SuppressWarnings("unused")
           private static final boolean INITIALIZED_LIBS = initializeLibs();
           static boolean initializeLibs() {
-              SwiftLibraries.loadLibraryWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA);
-              SwiftLibraries.loadLibraryWithFallbacks(LIB_NAME);
+              SwiftLibraries.loadLibrariesWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA, LIB_NAME);
               return true;
           }
           """
         )
       }
 
+      printRegisterNatives(&printer)
+
       let nestedTypes = self.analysis.extractedTypes.filter { _, type in
         type.parent == decl.swiftNominal
       }
@@ -456,7 +495,21 @@ extension JNISwift2JavaGenerator {
       """
     )
     let pointerArg = pointerParams.map { "long \($0)" }.joined(separator: ", ")
+    let pointerArgNames = pointerParams.joined(separator: ", ")
     printer.printBraceBlock("private \(javaName)(\(pointerArg), SwiftArena swiftArena)") { printer in
+      printer.print(
+        """
+        this(\(pointerArgNames));
+
+        // Only register once we have fully initialized the object since this will need the object pointer.
+        swiftArena.register(this);
+        """
+      )
+    }
+    printer.println()
+
+    printer.printJavadocComment("Initializes the object without registering it with an arena, which the caller must do.")
+    printer.printBraceBlock("private \(javaName)(\(pointerArg))") { printer in
       for param in pointerParams {
         printer.print(
           """
@@ -465,14 +518,7 @@ extension JNISwift2JavaGenerator {
           """
         )
       }
-      printer.print(
-        """
-        this.$cleanup = $createCleanup();
-
-        // Only register once we have fully initialized the object since this will need the object pointer.
-        swiftArena.register(this);
-        """
-      )
+      printer.print("this.$cleanup = $createCleanup();")
     }
   }
 
@@ -506,6 +552,43 @@ extension JNISwift2JavaGenerator {
       }
       """
     )
+
+    // Arrays are only returned in bulk for non-generic types, identified by their memory address alone.
+    guard pointerParams == ["selfPointer"], genericClause.isEmpty else {
+      return
+    }
+    printer.println()
+    printer.print(
+      """
+      /**
+       * Wrap every memory address in {@code selfPointers}, as if by {@link #wrapMemoryAddressUnsafe(long, SwiftArena)},
+       * and register all the wrappers with {@code swiftArena} in one bulk operation.
+       * <p>
+       * The same warnings as for {@link #wrapMemoryAddressUnsafe(long, SwiftArena)} apply to every element.
+       * If the wrappers cannot be registered, all the objects are destroyed before the exception is rethrown.
+       */
+      public static \(javaName)[] wrapMemoryAddressesUnsafe(long[] selfPointers, SwiftArena swiftArena) {
+        \(javaName)[] result = new \(javaName)[selfPointers.length];
+        try {
+          for (int i = 0; i < selfPointers.length; i++) {
+            result[i] = new \(javaName)(selfPointers[i]);
+          }
+          swiftArena.registerAll(result);
+        } catch (Throwable e) {
+          // No arena owns the objects yet, so destroy them instead of leaking them.
+          try (ClosableSwiftArena arena = SwiftArena.ofConfined()) {
+            for (long selfPointer : selfPointers) {
+              if (selfPointer != 0) {
+                wrapMemoryAddressUnsafe(selfPointer, arena);
+              }
+            }
+          }
+          throw e;
+        }
+        return result;
+      }
+      """
+    )
   }
 
   /// Prints common Swift object methods such as `equals`, `hashCode` etc.
@@ -629,10 +712,43 @@ extension JNISwift2JavaGenerator {
       )
     }
 
+    // `Discriminator.values()` clones its array on every call
+    printer.print("private static final Discriminator[] $DISCRIMINATORS = Discriminator.values();")
+    printer.println()
+
     printer.printBraceBlock("public Discriminator getDiscriminator()") { printer in
       printer.print("var raw = SwiftObjects.getRawDiscriminator(this.$memoryAddress(), this.$typeMetadataAddress());")
-      printer.print("return Discriminator.values()[raw];")
+      printer.print("return $DISCRIMINATORS[raw];")
     }
+    printer.println()
+
+    let wildcardClause =
+      if decl.genericParameterNames.isEmpty {
+        ""
+      } else {
+        "<\(decl.genericParameterNames.map { _ in "?" }.joined(separator: .comma))>"
+      }
+    printer.print(
+      """
+      /**
+       * Returns the discriminators of all {@code values}, read in a single native call.
+       */
+      public static Discriminator[] getDiscriminators(\(decl.effectiveJavaSimpleName)\(wildcardClause)[] values) {
+        long[] selfPointers$ = new long[values.length];
+        long[] selfTypePointers$ = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+          selfPointers$[i] = values[i].$memoryAddress();
+          selfTypePointers$[i] = values[i].$typeMetadataAddress();
+        }
+        int[] raw = SwiftObjects.getRawDiscriminators(selfPointers$, selfTypePointers$);
+        Discriminator[] discriminators = new Discriminator[raw.length];
+        for (int i = 0; i < raw.length; i++) {
+          discriminators[i] = $DISCRIMINATORS[raw[i]];
+        }
+        return discriminators;
+      }
+      """
+    )
   }
 
   private func printEnumCaseInterface(_ printer: inout JavaPrinter, _ decl: ExtractedNominalType) {
@@ -667,8 +783,16 @@ extension JNISwift2JavaGenerator {
       self.translatedEnumCase(for: $0)
     }.contains(where: \.requiresSwiftArena)
 
+    let arenaParameter = requiresSwiftArena ? ", SwiftArena swiftArena" : ""
+    let arenaArgument = requiresSwiftArena ? ", swiftArena" : ""
+
     printer.printBraceBlock("public Case\(caseGenericClause) getCase(\(requiresSwiftArena ? "SwiftArena swiftArena" : ""))") { printer in
-      printer.printBraceBlock("return switch (this.getDiscriminator())", .semicolonNewLine) { printer in
+      printer.print("return this.getCase(this.getDiscriminator()\(arenaArgument));")
+    }
+    printer.println()
+
+    printer.printBraceBlock("private Case\(caseGenericClause) getCase(Discriminator discriminator\(arenaParameter))") { printer in
+      printer.printBraceBlock("return switch (discriminator)", .semicolonNewLine) { printer in
         for enumCase in decl.cases {
           if let translatedCase = self.translatedEnumCase(for: enumCase) {
             if enumCase.parameters.isEmpty {
@@ -676,9 +800,9 @@ extension JNISwift2JavaGenerator {
                 "case \(enumCase.name.uppercased()) -> new Case.\(translatedCase.name)\(caseGenericClause)();"
               )
             } else {
-              let arenaArgument = translatedCase.requiresSwiftArena ? "swiftArena" : ""
+              let caseArenaArgument = translatedCase.requiresSwiftArena ? "swiftArena" : ""
               printer.print(
-                "case \(enumCase.name.uppercased()) -> this.getAs\(translatedCase.name)(\(arenaArgument)).orElseThrow();"
+                "case \(enumCase.name.uppercased()) -> this.getAs\(translatedCase.name)(\(caseArenaArgument)).orElseThrow();"
               )
             }
           } else {
@@ -690,6 +814,30 @@ extension JNISwift2JavaGenerator {
         }
       }
     }
+
+    // Java cannot create arrays of a generic `Case<T>`
+    guard caseGenericClause.isEmpty else {
+      return
+    }
+    printer.println()
+    printer.print(
+      """
+      /**
+       * Returns the cases of all {@code values}.
+       * <p>
+       * The discriminators are read in a single native call, after which only
+       * values of cases with associated values need a call to extract them.
+       */
+      public static Case[] getCases(\(decl.effectiveJavaSimpleName)[] values\(arenaParameter)) {
+        Discriminator[] discriminators = getDiscriminators(values);
+        Case[] cases = new Case[values.length];
+        for (int i = 0; i < values.length; i++) {
+          cases[i] = values[i].getCase(discriminators[i]\(arenaArgument));
+        }
+        return cases;
+      }
+      """
+    )
   }
 
   private func printEnumStaticInitializers(_ printer: inout JavaPrinter, _ decl: ExtractedNominalType) {
@@ -841,7 +989,16 @@ extension JNISwift2JavaGenerator {
     let translatedDecl = translatedDecl(for: decl)!
 
     for labeledTuple in translatedDecl.usedLabeledTuples {
-      printAdHocLabeledTupleStaticClass(&printer, labeledTuple)
+      // Labeled tuples of primitives are not generic, see `translatePrimitiveTupleResult`
+      let resultType = decl.functionSignature.result.type
+      if case .class(_, _, let typeParameters) = labeledTuple, typeParameters.isEmpty,
+        let primitiveTupleShape = JNIJavaTypeTranslator.primitiveTupleShape(of: resultType, config: config),
+        case .tuple(let elements) = resultType
+      {
+        printAdHocLabeledPrimitiveTupleStaticClass(&printer, labeledTuple, primitiveTupleShape, elements: elements)
+      } else {
+        printAdHocLabeledTupleStaticClass(&printer, labeledTuple)
+      }
     }
   }
 
@@ -955,6 +1112,25 @@ extension JNISwift2JavaGenerator {
     }
   }
 
+  /// Print the call binding all native methods of the class in one batch once the class is
+  /// initialized, see ``Configuration/enableEagerNativeRegistration``.
+  ///
+  /// Must be printed after the libraries are loaded.
+  private func printRegisterNatives(_ printer: inout JavaPrinter) {
+    guard config.effectiveEnableEagerNativeRegistration else {
+      return
+    }
+
+    printer.print(
+      """
+
+      @SuppressWarnings("unused")
+      private static final boolean REGISTERED_NATIVES = SwiftLibraries.REGISTER_NATIVES && $registerNatives();
+      private static native boolean $registerNatives();
+      """
+    )
+  }
+
   private func printNativeFunction(_ printer: inout JavaPrinter, _ translatedDecl: TranslatedFunctionDecl) {
     let nativeSignature = translatedDecl.nativeFunctionSignature
     let resultType = nativeSignature.result.javaType
@@ -1037,11 +1213,20 @@ extension JNISwift2JavaGenerator {
       }
     } else {
       printer.print("private static native long $typeMetadataAddressDowncall();")
-      printer.print("@Override")
-      printer.printBraceBlock("public long $typeMetadataAddress()") { printer in
+      printer.println()
+      // The metadata of a non-generic type never changes, so it is resolved once, when first needed.
+      // A holder class (rather than a field of this class) keeps the downcall out of the class
+      // initializer, which may run before the native library is loaded.
+      printer.printJavadocComment("Holds the type metadata address, resolved on first use.")
+      printer.printBraceBlock("private static final class $TypeMetadata") { printer in
         // INFO: We are omitting `CallTraces.traceDowncall` here.
         // It internally calls `toString`, which in turn calls `$typeMetadataAddress`, creating an infinite loop.
-        printer.print("return \(type.effectiveJavaSimpleName).$typeMetadataAddressDowncall();")
+        printer.print("static final long ADDRESS = \(type.effectiveJavaSimpleName).$typeMetadataAddressDowncall();")
+      }
+      printer.println()
+      printer.print("@Override")
+      printer.printBraceBlock("public long $typeMetadataAddress()") { printer in
+        printer.print("return $TypeMetadata.ADDRESS;")
       }
     }
   }
@@ -223,6 +223,7 @@ extension JNISwift2JavaGenerator {
           translatedFunctionSignature: &translatedFunctionSignature,
           nativeFunctionSignature: &nativeFunctionSignature,
           originalFunctionSignature: decl.functionSignature,
+          functionName: "\(parentName.fullName).\(javaName)",
           mode: config.effectiveAsyncFuncMode,
         )
       }
@@ -311,12 +312,23 @@ extension JNISwift2JavaGenerator {
         exceptions.append(.integerOverflow)
       }
 
-      let resultType = try translateResult(
-        swiftType: functionSignature.result.type,
-        methodName: methodName,
-        genericParameters: functionSignature.genericParameters,
-        genericRequirements: functionSignature.genericRequirements,
-      )
+      let resultType: TranslatedResult
+      if let primitiveTupleShape = JNIJavaTypeTranslator.primitiveTupleShape(of: functionSignature.result.type, config: config),
+        case .tuple(let elements) = functionSignature.result.type
+      {
+        resultType = translatePrimitiveTupleResult(
+          primitiveTupleShape,
+          methodName: methodName,
+          elements: elements,
+        )
+      } else {
+        resultType = try translateResult(
+          swiftType: functionSignature.result.type,
+          methodName: methodName,
+          genericParameters: functionSignature.genericParameters,
+          genericRequirements: functionSignature.genericRequirements,
+        )
+      }
 
       return TranslatedFunctionSignature(
         selfParameter: selfParameter,
@@ -397,7 +409,7 @@ extension JNISwift2JavaGenerator {
       case .staticMethod, .classMethod, .initializer:
         return TranslatedParameter(
           parameter: JavaParameter(name: "selfTypePointer", type: .long),
-          conversion: .constant("$typeMetadataAddressDowncall()"),
+          conversion: .constant("$TypeMetadata.ADDRESS"),
         )
       }
     }
@@ -642,6 +654,7 @@ extension JNISwift2JavaGenerator {
       translatedFunctionSignature: inout TranslatedFunctionSignature,
       nativeFunctionSignature: inout NativeFunctionSignature,
       originalFunctionSignature: SwiftFunctionSignature,
+      functionName: String,
       mode: JExtractAsyncFuncMode,
     ) {
       // Update translated function
@@ -671,13 +684,16 @@ extension JNISwift2JavaGenerator {
       )
 
       let result = translatedFunctionSignature.result
+      // The result conversion runs on whichever thread completes the future.
+      let resultOutParameters = result.outParameters.map(\.allocatedPerCall)
       translatedFunctionSignature.result = TranslatedResult(
         javaType: translatedFutureType,
         nativeJavaType: .void,
         annotations: result.annotations,
-        outParameters: result.outParameters + [futureOutParameter],
+        outParameters: resultOutParameters + [futureOutParameter],
+        // The task is recorded as a JFR event when enabled, see `SwiftAsyncTaskEvent`.
         conversion: .method(
-          .constant("future$"),
+          .constant("org.swift.swiftkit.core.jfr.SwiftEvents.trackAsyncTask(future$, \"\(functionName)\")"),
           function: "thenApply",
           arguments: [
             .lambda(
@@ -692,7 +708,8 @@ extension JNISwift2JavaGenerator {
       nativeFunctionSignature.result.conversion = .asyncCompleteFuture(
         swiftFunctionResultType: originalFunctionSignature.result.type,
         nativeFunctionSignature: nativeFunctionSignature,
-        isThrowing: originalFunctionSignature.isThrowing || originalFunctionSignature.isImplicitlyThrowing,
+        isThrowing: originalFunctionSignature.isThrowing || originalFunctionSignature.isImplicitlyThrowing
+          || nativeFunctionSignature.parameters.contains(where: \.conversionThrows),
         completeMethodID: completeMethodID,
         completeExceptionallyMethodID: completeExceptionallyMethodID,
       )
@@ -1217,7 +1234,8 @@ extension JNISwift2JavaGenerator {
 
         // out names are always ...$N, no need to use real named tuple names here, this is just for the thunk
         elementOutParamNames.append(outParamName)
-        outParameters.append(contentsOf: elementResult.outParameters)
+        // Several elements may need a discriminator at the same time.
+        outParameters.append(contentsOf: elementResult.outParameters.map(\.allocatedPerCall))
 
         if !elementResult.nativeJavaType.isVoid {
           let arrayType: JavaType = .array(elementResult.nativeJavaType)
@@ -1275,6 +1293,56 @@ extension JNISwift2JavaGenerator {
       )
     }
 
+    /// Translate a tuple result whose elements are all primitives, see `PrimitiveTupleShape`.
+    ///
+    /// Swift writes all elements into a single `long[]` out parameter, which is the calling
+    /// thread's `JNITupleSupport.scratchSlots()`, and they are read into the primitive fields
+    /// of a specialized tuple class without boxing.
+    func translatePrimitiveTupleResult(
+      _ shape: PrimitiveTupleShape,
+      methodName: String,
+      elements: [SwiftTupleElement],
+      resultName: String = "result",
+    ) -> TranslatedResult {
+      let slotsName = "\(resultName)_slots$"
+
+      let javaResultType: JavaType
+      if elements.contains(where: { $0.label != nil }) {
+        let names = elements.enumerated().map { idx, element in
+          element.label ?? "$\(idx)"
+        }
+        javaResultType = .primitiveLabeledTuple(methodName, names: names)
+      } else {
+        javaResultType = shape.javaType
+      }
+
+      var tupleAnnotations: [JavaAnnotation] = []
+      for element in elements {
+        let elementAnnotations = getJavaTypeAnnotations(swiftType: element.type, config: config)
+        for annotation in elementAnnotations where !tupleAnnotations.contains(annotation) {
+          tupleAnnotations.append(annotation)
+        }
+      }
+
+      return TranslatedResult(
+        javaType: javaResultType,
+        nativeJavaType: .void,
+        annotations: tupleAnnotations,
+        outParameters: [
+          OutParameter(
+            name: slotsName,
+            type: .array(.long),
+            allocation: .threadLocalTupleSlots(count: shape.elementTypes.count)
+          )
+        ],
+        conversion: .tupleFromSlots(
+          tupleClassName: "\(javaResultType)",
+          slotsName: slotsName,
+          elementTypes: shape.elementTypes
+        )
+      )
+    }
+
     func translateOptionalResult(
       wrappedType swiftType: SwiftType,
       methodName: String,
@@ -1314,6 +1382,25 @@ extension JNISwift2JavaGenerator {
                   optionalType: optionalClass,
                 ),
               )
+            } else if let noneSentinel = javaType.jniOptionalNoneSentinel {
+              // 64-bit primitives have no spare bits for a discriminator. Instead, `nil` is returned
+              // as a sentinel value, and only when the result equals the sentinel is the discriminator
+              // written into a reused, thread-local slot, so no call allocates.
+              return TranslatedResult(
+                javaType: .class(package: nil, name: returnType),
+                nativeJavaType: javaType,
+                annotations: parameterAnnotations,
+                outParameters: [
+                  OutParameter(name: discriminatorName, type: .array(.byte), allocation: .threadLocalDiscriminatorSlot)
+                ],
+                conversion: .toOptionalFromSentinelOrIndirectReturn(
+                  discriminatorName: .constant(discriminatorName),
+                  optionalClass: optionalClass,
+                  nativeResultJavaType: javaType,
+                  isNotNoneSentinel: noneSentinel.javaIsNotSentinelCheck,
+                  resultName: resultName,
+                ),
+              )
             } else {
               // Otherwise, we return the result as normal, but
               // use an indirect return for the discriminator.
@@ -1529,6 +1616,16 @@ extension JNISwift2JavaGenerator {
           genericRequirements: genericRequirements,
         )
         // We assume this is a JExtract class.
+        if case .class(_, _, let typeParameters) = javaType, typeParameters.isEmpty {
+          // Wrap all elements in a single loop, registering them with the arena in bulk.
+          return TranslatedResult(
+            javaType: .array(javaType),
+            nativeJavaType: .array(.long),
+            annotations: annotations,
+            outParameters: [],
+            conversion: .wrapMemoryAddressesUnsafe(.placeholder, javaType)
+          )
+        }
         return TranslatedResult(
           javaType: .array(javaType),
           nativeJavaType: .array(.long),
@@ -1591,15 +1688,13 @@ extension JNISwift2JavaGenerator {
         genericParameters: genericParameters,
         genericRequirements: genericRequirements,
       )
-      let dictType = JavaType.swiftDictionaryMap(keyJavaType, valueJavaType)
+      // Accept any java.util.Map; a SwiftDictionaryMap is unwrapped on the Swift side
+      // without copying, while other maps are converted in bulk.
+      let mapType = JavaType.javaUtilMap(keyJavaType, valueJavaType)
 
       return TranslatedParameter(
-        parameter: JavaParameter(name: parameterName, type: dictType),
-        conversion: .method(
-          .requireNonNull(.placeholder, message: "\(parameterName) must not be null"),
-          function: "$memoryAddress",
-          arguments: [],
-        ),
+        parameter: JavaParameter(name: parameterName, type: mapType),
+        conversion: .requireNonNull(.placeholder, message: "\(parameterName) must not be null"),
       )
     }
 
@@ -1619,7 +1714,12 @@ extension JNISwift2JavaGenerator {
         genericParameters: genericParameters,
         genericRequirements: genericRequirements,
       )
-      let dictType = JavaType.swiftDictionaryMap(keyJavaType, valueJavaType)
+      let dictType: JavaType =
+        switch (keyType.primitiveCollectionComponentKind, valueType.primitiveCollectionComponentKind) {
+        case (.int64, .int64): .swiftLongLongMap
+        case (.int64, .double): .swiftLongDoubleMap
+        default: .swiftDictionaryMap(keyJavaType, valueJavaType)
+        }
 
       return TranslatedResult(
         javaType: dictType,
@@ -1640,15 +1740,13 @@ extension JNISwift2JavaGenerator {
         genericParameters: genericParameters,
         genericRequirements: genericRequirements,
       )
-      let setType = JavaType.swiftSet(elementJavaType)
+      // Accept any java.util.Set; a SwiftSet is unwrapped on the Swift side
+      // without copying, while other sets are converted in bulk.
+      let setType = JavaType.javaUtilSet(elementJavaType)
 
       return TranslatedParameter(
         parameter: JavaParameter(name: parameterName, type: setType),
-        conversion: .method(
-          .requireNonNull(.placeholder, message: "\(parameterName) must not be null"),
-          function: "$memoryAddress",
-          arguments: [],
-        ),
+        conversion: .requireNonNull(.placeholder, message: "\(parameterName) must not be null"),
       )
     }
 
@@ -1662,7 +1760,11 @@ extension JNISwift2JavaGenerator {
         genericParameters: genericParameters,
         genericRequirements: genericRequirements,
       )
-      let setType = JavaType.swiftSet(elementJavaType)
+      let setType: JavaType =
+        switch elementType.primitiveCollectionComponentKind {
+        case .int64: .swiftLongSet
+        default: .swiftSet(elementJavaType)
+        }
 
       return TranslatedResult(
         javaType: setType,
@@ -1780,6 +1882,12 @@ extension JNISwift2JavaGenerator {
       case newArray(JavaType, size: Int)
       case new
 
+      /// A `byte[1]` reused by the current thread, see `JNIOptionalSupport`
+      case threadLocalDiscriminatorSlot
+
+      /// A `long[]` of at least `count` elements reused by the current thread, see `JNITupleSupport`
+      case threadLocalTupleSlots(count: Int)
+
       func render(type: JavaType) -> String {
         switch self {
         case .newArray(let javaType, let size):
@@ -1795,6 +1903,12 @@ extension JNISwift2JavaGenerator {
 
         case .new:
           return "new \(type)()"
+
+        case .threadLocalDiscriminatorSlot:
+          return "JNIOptionalSupport.discriminatorSlot()"
+
+        case .threadLocalTupleSlots:
+          return "JNITupleSupport.scratchSlots()"
         }
       }
     }
@@ -1802,6 +1916,20 @@ extension JNISwift2JavaGenerator {
     let name: String
     let type: JavaType
     let allocation: Allocation
+
+    /// This out parameter, allocated for every call instead of reusing the thread-local slot,
+    /// for results that are not read right after the native call returns on the calling thread,
+    /// or that need several discriminators at once.
+    var allocatedPerCall: OutParameter {
+      switch allocation {
+      case .threadLocalDiscriminatorSlot:
+        OutParameter(name: name, type: type, allocation: .newArray(.byte, size: 1))
+      case .threadLocalTupleSlots(let count):
+        OutParameter(name: name, type: type, allocation: .newArray(.long, size: count))
+      case .newArray, .new:
+        self
+      }
+    }
   }
 
   /// Represent a Swift closure type in the user facing Java API.
@@ -1853,6 +1981,10 @@ extension JNISwift2JavaGenerator {
     /// Call the `MyType.wrapMemoryAddressUnsafe` in order to wrap a memory address using the Java binding type
     indirect case wrapMemoryAddressUnsafe(JavaNativeConversionStep, JavaType)
 
+    /// Call the `MyType.wrapMemoryAddressesUnsafe` in order to wrap an array of memory addresses
+    /// of a non-generic Java binding type at once
+    indirect case wrapMemoryAddressesUnsafe(JavaNativeConversionStep, JavaType)
+
     indirect case call(JavaNativeConversionStep, function: String)
 
     indirect case method(JavaNativeConversionStep, function: String, arguments: [JavaNativeConversionStep] = [])
@@ -1878,6 +2010,10 @@ extension JNISwift2JavaGenerator {
 
     indirect case equals(JavaNativeConversionStep, JavaNativeConversionStep)
 
+    indirect case notEquals(JavaNativeConversionStep, JavaNativeConversionStep)
+
+    indirect case or(JavaNativeConversionStep, JavaNativeConversionStep)
+
     indirect case subscriptOf(JavaNativeConversionStep, arguments: [JavaNativeConversionStep])
 
     static func toOptionalFromIndirectReturn(
@@ -1902,6 +2038,33 @@ extension JNISwift2JavaGenerator {
       )
     }
 
+    /// Like `toOptionalFromIndirectReturn`, but the discriminator is only
+    /// consulted when the native result equals the sentinel used to encode `nil`.
+    static func toOptionalFromSentinelOrIndirectReturn(
+      discriminatorName: JavaNativeConversionStep,
+      optionalClass: String,
+      nativeResultJavaType: JavaType,
+      isNotNoneSentinel: JavaNativeConversionStep,
+      resultName: String,
+    ) -> JavaNativeConversionStep {
+      .aggregate(
+        variable: (name: "\(resultName)$", type: nativeResultJavaType),
+        [
+          .ternary(
+            .or(
+              isNotNoneSentinel,
+              .equals(
+                .subscriptOf(discriminatorName, arguments: [.constant("0")]),
+                .constant("1"),
+              ),
+            ),
+            thenExp: .method(.constant(optionalClass), function: "of", arguments: [.placeholder]),
+            elseExp: .method(.constant(optionalClass), function: "empty"),
+          )
+        ],
+      )
+    }
+
     /// Perform multiple conversions using the same input.
     case aggregate(variable: (name: String, type: JavaType)? = nil, [JavaNativeConversionStep])
 
@@ -1926,6 +2089,10 @@ extension JNISwift2JavaGenerator {
     /// E.g. `new Tuple2<>(result_0$[0], result_1$[0])`
     case tupleFromOutParams(tupleClassName: String, elements: [(outParamName: String, elementConversion: JavaNativeConversionStep)])
 
+    /// Constructs a specialized primitive tuple from the `long` slots Swift wrote its elements into.
+    /// E.g. `new LongDoubleTuple(result_slots$[0], Double.longBitsToDouble(result_slots$[1]))`
+    case tupleFromSlots(tupleClassName: String, slotsName: String, elementTypes: [JavaType])
+
     indirect case placeToVar(JavaNativeConversionStep, name: String, type: JavaType? = nil)
 
     /// `Arrays.stream(args)`
@@ -1974,6 +2141,10 @@ extension JNISwift2JavaGenerator {
           }
         return "\(javaType.fullyQualifiedClassName!).\(genericClause)wrapMemoryAddressUnsafe(\(inner), swiftArena)"
 
+      case .wrapMemoryAddressesUnsafe(let inner, let javaType):
+        let inner = inner.render(&printer, placeholder)
+        return "\(javaType.fullyQualifiedClassName!).wrapMemoryAddressesUnsafe(\(inner), swiftArena)"
+
       case .constructJavaClass(let inner, let javaType):
         let inner = inner.render(&printer, placeholder)
         return "new \(javaType)(\(inner))"
@@ -2032,6 +2203,16 @@ extension JNISwift2JavaGenerator {
         let rhs = rhs.render(&printer, placeholder)
         return "\(lhs) == \(rhs)"
 
+      case .notEquals(let lhs, let rhs):
+        let lhs = lhs.render(&printer, placeholder)
+        let rhs = rhs.render(&printer, placeholder)
+        return "\(lhs) != \(rhs)"
+
+      case .or(let lhs, let rhs):
+        let lhs = lhs.render(&printer, placeholder)
+        let rhs = rhs.render(&printer, placeholder)
+        return "\(lhs) || \(rhs)"
+
       case .subscriptOf(let inner, let arguments):
         let inner = inner.render(&printer, placeholder)
         let arguments = arguments.map { $0.render(&printer, placeholder) }
@@ -2096,6 +2277,12 @@ extension JNISwift2JavaGenerator {
         }
         return "new \(tupleClassName)(\(args.joined(separator: .comma)))"
 
+      case .tupleFromSlots(let tupleClassName, let slotsName, let elementTypes):
+        let args = elementTypes.enumerated().map { idx, elementType in
+          elementType.decodingJNITupleSlot("\(slotsName)[\(idx)]")
+        }
+        return "new \(tupleClassName)(\(args.joined(separator: .comma)))"
+
       case .placeToVar(let inner, let name, let type):
         let inner = inner.render(&printer, placeholder)
         let type = type?.description ?? "var"
@@ -2110,7 +2297,7 @@ extension JNISwift2JavaGenerator {
       case .placeholder, .constant, .isOptionalPresent, .combinedName:
         return false
 
-      case .constructSwiftValue, .wrapMemoryAddressUnsafe:
+      case .constructSwiftValue, .wrapMemoryAddressUnsafe, .wrapMemoryAddressesUnsafe:
         return true
 
       case .constructJavaClass(let inner, _):
@@ -2137,7 +2324,7 @@ extension JNISwift2JavaGenerator {
       case .ternary(let cond, let thenExp, let elseExp):
         return cond.requiresSwiftArena || thenExp.requiresSwiftArena || elseExp.requiresSwiftArena
 
-      case .equals(let lhs, let rhs):
+      case .equals(let lhs, let rhs), .notEquals(let lhs, let rhs), .or(let lhs, let rhs):
         return lhs.requiresSwiftArena || rhs.requiresSwiftArena
 
       case .subscriptOf(let inner, _):
@@ -2167,6 +2354,9 @@ extension JNISwift2JavaGenerator {
       case .tupleFromOutParams(_, let elements):
         return elements.contains(where: { $0.elementConversion.requiresSwiftArena })
 
+      case .tupleFromSlots:
+        return false
+
       case .placeToVar(let inner, _, _):
         return inner.requiresSwiftArena
       }
@@ -2226,3 +2416,20 @@ extension JNISwift2JavaGenerator {
     }
   }
 }
+
+/// Dictionary and set components for which SwiftKit offers a primitive-specialized
+/// collection view, such as `SwiftLongDoubleMap` or `SwiftLongSet`.
+private enum PrimitiveCollectionComponentKind {
+  case int64
+  case double
+}
+
+extension SwiftType {
+  fileprivate var primitiveCollectionComponentKind: PrimitiveCollectionComponentKind? {
+    switch self.asNominalTypeDeclaration?.knownTypeKind {
+    case .int64, .int: .int64
+    case .double: .double
+    default: nil
+    }
+  }
+}
@@ -13,6 +13,7 @@
 //===----------------------------------------------------------------------===//
 
 import CodePrinting
+import SwiftExtract
 import SwiftJavaJNICore
 
 extension JNISwift2JavaGenerator {
@@ -80,4 +81,27 @@ extension JNISwift2JavaGenerator {
 
     }
   }
+
+  /// Print an ad-hoc static inner class for a labeled tuple result whose elements are all primitives,
+  /// e.g. `(x: Int32, y: Int32)`.
+  ///
+  /// Rather than extending the boxed `TupleN`, the class has primitive fields `$0`, `$1`, ...
+  /// and the same named accessor methods as ``printAdHocLabeledTupleStaticClass(_:_:)``.
+  func printAdHocLabeledPrimitiveTupleStaticClass(
+    _ printer: inout JavaPrinter,
+    _ labeledTupleType: JavaType,
+    _ shape: PrimitiveTupleShape,
+    elements: [SwiftTupleElement]
+  ) {
+    guard case .class(_, let rawClassName, _) = labeledTupleType else {
+      return
+    }
+
+    printer.printPrimitiveTupleClass(
+      modifiers: ["public", "static", "final"],
+      className: rawClassName,
+      elementTypes: shape.elementTypes,
+      accessorNames: elements.enumerated().map { idx, element in element.label ?? "$\(idx)" }
+    )
+  }
 }
@@ -99,7 +99,14 @@ extension JNISwift2JavaGenerator {
           nil
         }
 
-      let result = try translateResult(swiftType: functionSignature.result.type, methodName: methodName)
+      let result: NativeResult
+      if JNIJavaTypeTranslator.primitiveTupleShape(of: functionSignature.result.type, config: config) != nil,
+        case .tuple(let elements) = functionSignature.result.type
+      {
+        result = try translatePrimitiveTupleResult(methodName: methodName, elements: elements, resultName: "result")
+      } else {
+        result = try translateResult(swiftType: functionSignature.result.type, methodName: methodName)
+      }
       assert(
         translatedFunctionSignature.result.nativeJavaType == result.javaType,
         "Not synchronized with JavaTranslation, \(translatedFunctionSignature.result.nativeJavaType) != \(result.javaType), name=\(methodName)"
@@ -658,14 +665,29 @@ extension JNISwift2JavaGenerator {
                   .getJNIValue(.placeholder)
                 }
 
+              // 64-bit primitives return `nil` as a sentinel value, and only write
+              // the discriminator when it is needed to tell the two apart.
+              let conversion: NativeSwiftConversionStep =
+                if let noneSentinel = javaType.jniOptionalNoneSentinel {
+                  .optionalRaisingSentinelIndirectReturn(
+                    valueConversion,
+                    resultName: "\(resultName)$",
+                    returnType: javaType,
+                    noneSentinel: noneSentinel,
+                    discriminatorParameterName: discriminatorName
+                  )
+                } else {
+                  .optionalRaisingIndirectReturn(
+                    valueConversion,
+                    resultName: "\(resultName)$",
+                    returnType: javaType,
+                    discriminatorParameterName: discriminatorName
+                  )
+                }
+
               return NativeResult(
                 javaType: javaType,
-                conversion: .optionalRaisingIndirectReturn(
-                  valueConversion,
-                  resultName: "\(resultName)$",
-                  returnType: javaType,
-                  discriminatorParameterName: discriminatorName
-                ),
+                conversion: conversion,
                 outParameters: [
                   JavaParameter(name: discriminatorName, type: .array(.byte))
                 ]
@@ -971,6 +993,31 @@ extension JNISwift2JavaGenerator {
       )
     }
 
+    /// Translate a tuple result whose elements are all primitives, see `PrimitiveTupleShape`.
+    ///
+    /// All elements are written into a single `long[]` out parameter.
+    func translatePrimitiveTupleResult(
+      methodName: String,
+      elements: [SwiftTupleElement],
+      resultName: String
+    ) throws -> NativeResult {
+      let slotsName = "\(resultName)_slots$"
+      let slotElements = try elements.enumerated().map { idx, element in
+        let elementResult = try translateResult(
+          swiftType: element.type,
+          methodName: methodName,
+          resultName: "\(resultName)_\(idx)$"
+        )
+        return (index: idx, conversion: elementResult.conversion, javaType: elementResult.javaType)
+      }
+
+      return NativeResult(
+        javaType: .void,
+        conversion: .tupleIntoSlots(elements: slotElements, slotsName: slotsName),
+        outParameters: [JavaParameter(name: slotsName, type: .array(.long))]
+      )
+    }
+
     func translateArrayResult(
       elementType: SwiftType,
       resultName: String
@@ -1138,19 +1185,20 @@ extension JNISwift2JavaGenerator {
       let valueBridgeType = try bridgeTypeName(for: valueType)
       return NativeParameter(
         parameters: [
-          JavaParameter(name: parameterName, type: .long)
+          JavaParameter(name: parameterName, type: .javaUtilMap)
         ],
         conversion: .constructor(
           swiftDictionaryType,
           arguments: [
-            ("fromJNI", .placeholder),
+            ("fromJavaMap", .placeholder),
             ("in", .constant("environment")),
             ("keyBridge", .constant("\(keyBridgeType).self")),
             ("valueBridge", .constant("\(valueBridgeType).self")),
           ]
         ),
         indirectConversion: nil,
-        conversionCheck: nil
+        conversionCheck: nil,
+        conversionThrows: true
       )
     }
 
@@ -1184,18 +1232,19 @@ extension JNISwift2JavaGenerator {
       let elementBridgeType = try bridgeTypeName(for: elementType)
       return NativeParameter(
         parameters: [
-          JavaParameter(name: parameterName, type: .long)
+          JavaParameter(name: parameterName, type: .javaUtilSet)
         ],
         conversion: .constructor(
           swiftSetType,
           arguments: [
-            ("fromJNI", .placeholder),
+            ("fromJavaSet", .placeholder),
             ("in", .constant("environment")),
             ("elementBridge", .constant("\(elementBridgeType).self")),
           ]
         ),
         indirectConversion: nil,
-        conversionCheck: nil
+        conversionCheck: nil,
+        conversionThrows: true
       )
     }
 
@@ -1293,6 +1342,10 @@ extension JNISwift2JavaGenerator {
     /// ``TranslatedFunctionType/syntheticClosure`` by the Java-translation
     /// pass in ``JavaTranslation/translate(_:)``.
     var syntheticClosure: SyntheticEscapingClosureFunctionType? = nil
+
+    /// Whether `conversion` can throw, e.g. because it calls back into Java,
+    /// in which case the error is rethrown to the caller as a Java exception.
+    var conversionThrows: Bool = false
   }
 
   struct NativeResult {
@@ -1397,6 +1450,16 @@ extension JNISwift2JavaGenerator {
       discriminatorParameterName: String
     )
 
+    /// Like `optionalRaisingIndirectReturn`, but `nil` is returned as `noneSentinel`
+    /// and the discriminator is only written when the result equals the sentinel.
+    indirect case optionalRaisingSentinelIndirectReturn(
+      NativeSwiftConversionStep,
+      resultName: String,
+      returnType: JavaType,
+      noneSentinel: JNIOptionalNoneSentinel,
+      discriminatorParameterName: String
+    )
+
     indirect case genericValueIndirectReturn(
       NativeSwiftConversionStep,
       swiftFunctionResultType: SwiftType,
@@ -1457,6 +1520,9 @@ extension JNISwift2JavaGenerator {
     /// Destructures a Swift tuple result and writes each element to an out-parameter.
     indirect case tupleDestructure(elements: [(index: Int, label: String?, conversion: NativeSwiftConversionStep, outParamName: String, javaType: JavaType)])
 
+    /// Widens every element of a primitive tuple into a `jlong` and writes them all into the `slotsName` array.
+    indirect case tupleIntoSlots(elements: [(index: Int, conversion: NativeSwiftConversionStep, javaType: JavaType)], slotsName: String)
+
     /// Promotes the outermost `.getJNIValue` to `.getJNILocalRefValue`.
     /// Used for `@_cdecl` return positions to ensure the local ref survives
     /// ARC destruction of temporary `JavaObject`s.
@@ -1849,6 +1915,37 @@ extension JNISwift2JavaGenerator {
           return ""
         }
 
+      case .optionalRaisingSentinelIndirectReturn(
+        let inner,
+        let resultName,
+        let returnType,
+        let noneSentinel,
+        let discriminatorParameterName
+      ):
+        printer.print("let \(resultName): \(returnType.jniTypeName)")
+        printer.printIfBlock("let innerResult$ = \(placeholder)") { printer in
+          let inner = inner.render(&printer, "innerResult$")
+          printer.print("\(resultName) = \(inner)")
+          printer.printIfBlock(noneSentinel.isSentinelCondition(resultName)) { printer in
+            printer.print(
+              """
+              var flag$ = Int8(1)
+              environment.interface.SetByteArrayRegion(environment, \(discriminatorParameterName), 0, 1, &flag$)
+              """
+            )
+          }
+        }
+        printer.printBraceBlock("else") { printer in
+          printer.print(
+            """
+            \(resultName) = \(noneSentinel.valueExpr)
+            var flag$ = Int8(0)
+            environment.interface.SetByteArrayRegion(environment, \(discriminatorParameterName), 0, 1, &flag$)
+            """
+          )
+        }
+        return resultName
+
       case .genericValueIndirectReturn(let inner, let swiftFunctionResultType, let outArgumentName):
         let inner = inner.render(&printer, placeholder)
         printer.printBraceBlock("do") { printer in
@@ -2147,6 +2244,26 @@ extension JNISwift2JavaGenerator {
           }
         }
         return ""
+
+      case .tupleIntoSlots(let elements, let slotsName):
+        let tupleVar = "tupleResult$"
+        printer.print("let \(tupleVar) = \(placeholder)")
+        for element in elements {
+          let converted = element.conversion.render(&printer, "\(tupleVar).\(element.index)")
+          printer.print("let element_\(element.index)_jni$ = \(converted)")
+        }
+        printer.printBraceBlock(
+          "withUnsafeTemporaryAllocation(of: jlong.self, capacity: \(elements.count))",
+          parameters: ["slots$"]
+        ) { printer in
+          for element in elements {
+            printer.print("slots$[\(element.index)] = \(element.javaType.jniTupleSlotValue("element_\(element.index)_jni$"))")
+          }
+          printer.print(
+            "environment.interface.SetLongArrayRegion(environment, \(slotsName), 0, \(elements.count), slots$.baseAddress!)"
+          )
+        }
+        return ""
       }
     }
   }
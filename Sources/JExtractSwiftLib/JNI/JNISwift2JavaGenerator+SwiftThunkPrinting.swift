@@ -169,11 +169,7 @@ extension JNISwift2JavaGenerator {
       };
       """
 
-    try contents.write(
-      toFile: outputPath,
-      atomically: true,
-      encoding: .utf8,
-    )
+    try GeneratedFiles.write(contents, to: URL(fileURLWithPath: outputPath))
     logger.info("[swift-java] Generated linker export list (\(allSymbols.count) symbols): \(outputPath)")
   }
 
@@ -304,6 +300,8 @@ extension JNISwift2JavaGenerator {
       printSwiftFunctionThunk(&printer, decl)
       printer.println()
     }
+
+    printRegisterNativesThunk(&printer, parentName: SwiftQualifiedTypeName(swiftModuleName))
   }
 
   private func printNominalTypeThunks(_ printer: inout SwiftPrinter, _ type: ExtractedNominalType) throws {
@@ -369,6 +367,8 @@ extension JNISwift2JavaGenerator {
     printSpecificTypeThunks(&printer, type)
     printTypeMetadataAddressThunk(&printer, type)
     printer.println()
+
+    printRegisterNativesThunk(&printer, parentName: type.effectiveJavaTypeName)
   }
 
   private func printProtocolThunks(_ printer: inout SwiftPrinter, _ type: ExtractedNominalType) throws {
@@ -605,16 +605,23 @@ extension JNISwift2JavaGenerator {
     let nativeSignature = translatedDecl.nativeFunctionSignature
 
     let tryClause: String = decl.isThrowing ? "try " : ""
+    let isAsync = decl.isAsync || decl.isIsolated || decl.isImplicitlyAsync
 
     // Regular parameters.
     var arguments: [String] = [String]()
     var indirectVariables: [(name: String, lowered: String)] = []
     var int32OverflowChecks: [String] = []
+    var conversionsThrow = false
 
     for (idx, parameter) in nativeSignature.parameters.enumerated() {
       let javaParameterName = translatedDecl.translatedFunctionSignature.parameters[idx].parameter.name
       let lowered = parameter.conversion.render(&printer, javaParameterName)
-      arguments.append(lowered)
+      if parameter.conversionThrows {
+        arguments.append("try \(lowered)")
+        conversionsThrow = true
+      } else {
+        arguments.append(lowered)
+      }
 
       parameter.indirectConversion.flatMap {
         indirectVariables.append((javaParameterName, $0.render(&printer, javaParameterName)))
@@ -667,12 +674,26 @@ extension JNISwift2JavaGenerator {
       guard let newValueArgument = arguments.first else {
         fatalError("Setter did not contain newValue parameter: \(decl)")
       }
-      printExistentialBoxSetterDowncall(
-        &printer,
-        decl,
-        protocolType: protocolType,
-        newValueArgument: newValueArgument,
-      )
+      if conversionsThrow {
+        // The new value is loaded inside nested functions which cannot throw,
+        // so convert it up front.
+        printCatchingErrors(&printer, nativeSignature) { printer in
+          printer.print("let newValue$ = \(newValueArgument)")
+          printExistentialBoxSetterDowncall(
+            &printer,
+            decl,
+            protocolType: protocolType,
+            newValueArgument: "newValue$",
+          )
+        }
+      } else {
+        printExistentialBoxSetterDowncall(
+          &printer,
+          decl,
+          protocolType: protocolType,
+          newValueArgument: newValueArgument,
+        )
+      }
       return
     }
 
@@ -772,26 +793,39 @@ extension JNISwift2JavaGenerator {
       }
     }
 
-    if decl.isThrowing, !(decl.isAsync || decl.isIsolated || decl.isImplicitlyAsync) {
-      printer.print("do {")
-      printer.indent()
-      printer.print(innerBody(in: &printer))
-      printer.outdent()
-      printer.print("} catch {")
-      printer.indent()
-      printer.print(
-        """
-        environment.throwAsException(error)
-        \(dummyReturn(for: nativeSignature))
-        """
-      )
-      printer.outdent()
-      printer.print("}")
+    // Async functions complete their future exceptionally instead.
+    if decl.isThrowing || conversionsThrow, !isAsync {
+      printCatchingErrors(&printer, nativeSignature) { printer in
+        printer.print(innerBody(in: &printer))
+      }
     } else {
       printer.print(innerBody(in: &printer))
     }
   }
 
+  /// Prints `body` in a `do` block which rethrows any error as a Java exception
+  /// and returns a placeholder value to the JVM.
+  private func printCatchingErrors(
+    _ printer: inout SwiftPrinter,
+    _ nativeSignature: NativeFunctionSignature,
+    body: (inout SwiftPrinter) -> Void
+  ) {
+    printer.print("do {")
+    printer.indent()
+    body(&printer)
+    printer.outdent()
+    printer.print("} catch {")
+    printer.indent()
+    printer.print(
+      """
+      environment.throwAsException(error)
+      \(dummyReturn(for: nativeSignature))
+      """
+    )
+    printer.outdent()
+    printer.print("}")
+  }
+
   private func dummyReturn(for nativeSignature: NativeFunctionSignature) -> String {
     "return \(nativeSignature.result.javaType.swiftJniPlaceholderExpr)"
   }
@@ -890,6 +924,24 @@ extension JNISwift2JavaGenerator {
       "\($0.name): \($0.type.jniTypeName)"
     }
 
+    if config.effectiveEnableEagerNativeRegistration {
+      let cParameterTypes = ["UnsafeMutablePointer<JNIEnv?>?", "jclass"] + parameters.map(\.type.jniTypeName)
+      let cResultType = resultType != .void ? resultType.jniTypeName : "Void"
+      let methodSignature =
+        "("
+        + parameters.map { $0.type.jniTypeSignature(defaultPackage: self.javaPackage) }.joined()
+        + ")"
+        + (resultType != .void ? resultType.jniTypeSignature(defaultPackage: self.javaPackage) : "V")
+      self.pendingNativeRegistrations[parentName.jniEscapedName, default: []].append(
+        JNINativeRegistrationEntry(
+          javaMethodName: javaMethodName,
+          signature: methodSignature,
+          cName: cName,
+          functionType: "@convention(c) (\(cParameterTypes.joined(separator: .comma))) -> \(cResultType)",
+        )
+      )
+    }
+
     let thunkParameters =
       [
         "environment: UnsafeMutablePointer<JNIEnv?>!",
@@ -914,6 +966,59 @@ extension JNISwift2JavaGenerator {
     }
   }
 
+  /// Prints the `$registerNatives` thunk of a Java class, which binds all native methods
+  /// printed for `parentName` so far in one `RegisterNatives` call, e.g.:
+  ///
+  /// ```swift
+  /// @_cdecl("Java_com_example_MyClass__00024registerNatives__")
+  /// public func Java_com_example_MyClass__00024registerNatives__(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass) -> jboolean {
+  ///   return _JNINativeRegistration.register(
+  ///     [
+  ///       _JNINativeMethod(name: "$foo", signature: "(J)J", function: unsafeBitCast(Java_com_example_MyClass__00024foo__J as @convention(c) (...) -> jlong, to: UnsafeMutableRawPointer.self)),
+  ///     ],
+  ///     for: thisClass,
+  ///     in: environment
+  ///   ).getJNIValue(in: environment)
+  /// }
+  /// ```
+  ///
+  /// Must be called after all other thunks of the class are printed.
+  private func printRegisterNativesThunk(_ printer: inout SwiftPrinter, parentName: SwiftQualifiedTypeName) {
+    guard config.effectiveEnableEagerNativeRegistration else {
+      return
+    }
+
+    let entries = self.pendingNativeRegistrations.removeValue(forKey: parentName.jniEscapedName) ?? []
+
+    printCDecl(
+      &printer,
+      javaMethodName: "$registerNatives",
+      parentName: parentName,
+      parameters: [],
+      resultType: .boolean,
+    ) { printer in
+      printer.print("return _JNINativeRegistration.register(")
+      printer.indent()
+      printer.print("[")
+      printer.indent()
+      for entry in entries {
+        printer.print(
+          #"_JNINativeMethod(name: "\#(entry.javaMethodName)", signature: "\#(entry.signature)", function: unsafeBitCast(\#(entry.cName) as \#(entry.functionType), to: UnsafeMutableRawPointer.self)),"#
+        )
+      }
+      printer.outdent()
+      printer.print("],")
+      printer.print("for: thisClass,")
+      printer.print("in: environment")
+      printer.outdent()
+      printer.print(").getJNIValue(in: environment)")
+    }
+    printer.println()
+
+    // Drop the entry of the registration thunk itself
+    self.pendingNativeRegistrations.removeValue(forKey: parentName.jniEscapedName)
+  }
+
   private func printJNICache(_ printer: inout SwiftPrinter, _ type: ExtractedNominalType) {
     let cacheName = JNICaching.cacheName(for: type)
     let jniClassName = "\(javaPackagePath)/\(type.effectiveJavaTypeName.jniEscapedName)"
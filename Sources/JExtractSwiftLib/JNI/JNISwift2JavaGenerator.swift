@@ -49,6 +49,11 @@ package class JNISwift2JavaGenerator: Swift2JavaGenerator {
   /// ``Configuration/linkerExportListOutput`` is set.
   var generatedCDeclSymbolNames: [String] = []
 
+  /// The native methods printed for each Java class, keyed by its JNI-escaped name,
+  /// which are bound in one `RegisterNatives` call by the class's `$registerNatives`
+  /// when ``Configuration/enableEagerNativeRegistration`` is set.
+  var pendingNativeRegistrations: [String: [JNINativeRegistrationEntry]] = [:]
+
   /// Cached Java translation result. 'nil' indicates failed translation.
   var translatedDecls: [ExtractedFunc: TranslatedFunctionDecl] = [:]
   var translatedEnumCases: [ExtractedEnumCase: TranslatedEnumCase] = [:]
@@ -194,3 +199,18 @@ extension JNISwift2JavaGenerator {
     return methods
   }
 }
+
+/// A native method printed as a `@_cdecl` thunk, to be bound by its class's `$registerNatives`.
+struct JNINativeRegistrationEntry {
+  /// The name of the `native` method on the Java side, e.g. `$foo`.
+  var javaMethodName: String
+
+  /// The JNI method signature, e.g. `(JLjava/lang/String;)Z`.
+  var signature: String
+
+  /// The name of the `@_cdecl` thunk implementing the method.
+  var cName: String
+
+  /// The `@convention(c)` function type of the thunk.
+  var functionType: String
+}
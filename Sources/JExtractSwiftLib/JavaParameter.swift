@@ -21,9 +21,14 @@ struct JavaParameter {
     case generic(name: String, extends: [JavaType])
 
     var jniTypeSignature: String {
+      jniTypeSignature(defaultPackage: nil)
+    }
+
+    /// The JNI type signature, with classes that have no package resolved in `defaultPackage`.
+    func jniTypeSignature(defaultPackage: String?) -> String {
       switch self {
       case .concrete(let type):
-        return type.jniTypeSignature
+        return type.jniTypeSignature(defaultPackage: defaultPackage)
 
       case .generic(_, let extends):
         guard !extends.isEmpty else {
@@ -31,7 +36,7 @@ struct JavaParameter {
         }
 
         // Generics only use the first type for JNI
-        return extends.first!.jniTypeSignature
+        return extends.first!.jniTypeSignature(defaultPackage: defaultPackage)
       }
     }
 
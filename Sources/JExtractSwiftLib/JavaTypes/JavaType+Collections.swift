@@ -25,4 +25,39 @@ extension JavaType {
   static func swiftSet(_ E: JavaType) -> JavaType {
     .class(package: "org.swift.swiftkit.core.collections", name: "SwiftSet", typeParameters: [E.boxedType])
   }
+
+  /// The description of the type org.swift.swiftkit.core.collections.SwiftLongDoubleMap
+  static var swiftLongDoubleMap: JavaType {
+    .class(package: "org.swift.swiftkit.core.collections", name: "SwiftLongDoubleMap")
+  }
+
+  /// The description of the type org.swift.swiftkit.core.collections.SwiftLongLongMap
+  static var swiftLongLongMap: JavaType {
+    .class(package: "org.swift.swiftkit.core.collections", name: "SwiftLongLongMap")
+  }
+
+  /// The description of the type org.swift.swiftkit.core.collections.SwiftLongSet
+  static var swiftLongSet: JavaType {
+    .class(package: "org.swift.swiftkit.core.collections", name: "SwiftLongSet")
+  }
+
+  /// The description of the type java.util.Map<K, V>
+  static func javaUtilMap(_ K: JavaType, _ V: JavaType) -> JavaType {
+    .class(package: "java.util", name: "Map", typeParameters: [K.boxedType, V.boxedType])
+  }
+
+  /// The description of the raw type java.util.Map, as used in native method signatures
+  static var javaUtilMap: JavaType {
+    .class(package: "java.util", name: "Map")
+  }
+
+  /// The description of the type java.util.Set<E>
+  static func javaUtilSet(_ E: JavaType) -> JavaType {
+    .class(package: "java.util", name: "Set", typeParameters: [E.boxedType])
+  }
+
+  /// The description of the raw type java.util.Set, as used in native method signatures
+  static var javaUtilSet: JavaType {
+    .class(package: "java.util", name: "Set")
+  }
 }
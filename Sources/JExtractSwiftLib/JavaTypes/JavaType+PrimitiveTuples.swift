@@ -0,0 +1,172 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+import CodePrinting
+import SwiftExtract
+import SwiftJavaJNICore
+
+/// The shape of a Swift tuple result whose elements are all Java primitives, e.g. `(Int64, Double)`.
+///
+/// Such results are returned as a specialized tuple class with primitive fields,
+/// e.g. `LongDoubleTuple`, rather than as a boxed `org.swift.swiftkit.core.tuple.TupleN`.
+struct PrimitiveTupleShape: Equatable {
+  /// The Java primitive type of each element.
+  var elementTypes: [JavaType]
+
+  /// The name of the specialized class, e.g. `LongDoubleTuple`.
+  var className: String {
+    elementTypes.map(\.primitiveTupleComponentName).joined() + "Tuple"
+  }
+
+  /// The size of the slot every element is written into when returned through FFM,
+  /// which fits any primitive and keeps all of them aligned.
+  static let ffmSlotByteSize = 8
+
+  /// The specialized class, declared in the generated Java package.
+  var javaType: JavaType {
+    .class(package: nil, name: className)
+  }
+
+  var javadoc: String {
+    "A Swift tuple returned with primitive {@code \(elementTypes.map(\.description).joined(separator: ", "))} elements, without boxing."
+  }
+
+  /// Form the shape of `swiftType`, if it is a tuple of at least two elements,
+  /// each of which translates to a Java primitive type.
+  init?(_ swiftType: SwiftType, elementType translate: (SwiftType) -> JavaType?) {
+    guard case .tuple(let elements) = swiftType,
+      elements.count >= 2,
+      elements.count <= JavaType.maxTupleArity
+    else {
+      return nil
+    }
+
+    var elementTypes: [JavaType] = []
+    for element in elements {
+      guard let javaType = translate(element.type), javaType.isPrimitive, !javaType.isVoid else {
+        return nil
+      }
+      elementTypes.append(javaType)
+    }
+    self.elementTypes = elementTypes
+  }
+}
+
+extension JavaType {
+  /// The description of a labeled tuple type with primitive elements: LabeledTuple_someName_a_b
+  ///
+  /// Unlike ``labeledTuple(_:names:elementTypes:)`` the class is not generic,
+  /// its fields have the primitive element types.
+  static func primitiveLabeledTuple(_ baseName: String, names: [String]) -> JavaType {
+    .class(
+      package: nil,
+      name: "LabeledTuple_\(baseName)_\(names.joined(separator: "_"))"
+    )
+  }
+
+  fileprivate var primitiveTupleComponentName: String {
+    switch self {
+    case .boolean: "Boolean"
+    case .byte: "Byte"
+    case .char: "Char"
+    case .short: "Short"
+    case .int: "Int"
+    case .long: "Long"
+    case .float: "Float"
+    case .double: "Double"
+    default: fatalError("Only primitive types can be elements of a primitive tuple, was: \(self)")
+    }
+  }
+}
+
+extension JavaPrinter {
+
+  /// Print a specialized tuple class with primitive fields:
+  ///
+  /// ```java
+  /// public final class LongDoubleTuple {
+  ///   public final long $0;
+  ///   public final double $1;
+  ///
+  ///   public LongDoubleTuple(long $0, double $1) { ... }
+  ///   // equals, hashCode, toString
+  /// }
+  /// ```
+  ///
+  /// When `accessorNames` are given (for labeled tuples), a named accessor is added for every element.
+  mutating func printPrimitiveTupleClass(
+    modifiers: [String],
+    className: String,
+    elementTypes: [JavaType],
+    accessorNames: [String]? = nil
+  ) {
+    let indices = elementTypes.indices
+    let fieldNames = indices.map { "$\($0)" }
+
+    self.printBraceBlock("\(modifiers.joined(separator: " ")) class \(className)") { printer in
+      for (type, field) in zip(elementTypes, fieldNames) {
+        printer.print("public final \(type) \(field);")
+      }
+      printer.println()
+
+      let ctorParams = zip(elementTypes, fieldNames).map { "\($0) \($1)" }.joined(separator: .comma)
+      printer.printBraceBlock("public \(className)(\(ctorParams))") { printer in
+        for field in fieldNames {
+          printer.print("this.\(field) = \(field);")
+        }
+      }
+
+      if let accessorNames {
+        for (idx, name) in accessorNames.enumerated() {
+          printer.println()
+          printer.print("/// Accessor for the \(idx)-nth field of this tuple, named '\(name)'.")
+          printer.print("public \(elementTypes[idx]) \(name)() { return $\(idx); }")
+        }
+      }
+      printer.println()
+
+      printer.print("@Override")
+      printer.printBraceBlock("public boolean equals(Object other)") { printer in
+        printer.print("if (this == other) return true;")
+        printer.print("if (!(other instanceof \(className))) return false;")
+        printer.print("\(className) o = (\(className)) other;")
+        let comparisons = zip(elementTypes, fieldNames).map { type, field in
+          switch type {
+          case .float: "Float.compare(this.\(field), o.\(field)) == 0"
+          case .double: "Double.compare(this.\(field), o.\(field)) == 0"
+          default: "this.\(field) == o.\(field)"
+          }
+        }
+        printer.print("return \(comparisons.joined(separator: " && "));")
+      }
+      printer.println()
+
+      printer.print("@Override")
+      printer.printBraceBlock("public int hashCode()") { printer in
+        printer.print("int result = \(elementTypes[0].boxedType).hashCode($0);")
+        for (type, field) in zip(elementTypes, fieldNames).dropFirst() {
+          printer.print("result = 31 * result + \(type.boxedType).hashCode(\(field));")
+        }
+        printer.print("return result;")
+      }
+      printer.println()
+
+      printer.print("@Override")
+      printer.printBraceBlock("public String toString()") { printer in
+        let parts = fieldNames.map { "\" + \($0) + \"" }.joined(separator: ", ")
+        printer.print("return \"\(className)(\(parts))\";")
+      }
+    }
+  }
+}
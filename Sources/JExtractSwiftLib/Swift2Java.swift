@@ -12,6 +12,7 @@
 //
 //===----------------------------------------------------------------------===//
 
+import CodePrinting
 import Foundation
 import OrderedCollections
 import SwiftExtract
@@ -65,7 +66,7 @@ public struct SwiftToJava {
       !(config.swiftFilterInclude ?? []).isEmpty || !(config.swiftFilterExclude ?? []).isEmpty
 
     // Register files to the translator.
-    let fileManager = FileManager.default
+    var filePaths: [String] = []
     for file in allFiles {
       guard canExtract(from: file) else {
         continue
@@ -81,14 +82,10 @@ public struct SwiftToJava {
         }
       }
 
-      guard let data = fileManager.contents(atPath: file.path) else {
-        continue
-      }
-      guard let text = String(data: data, encoding: .utf8) else {
-        continue
-      }
-      translator.add(filePath: file.path, text: text)
+      filePaths.append(file.path)
     }
+    // Reading and parsing the files is independent per file, so it runs concurrently.
+    translator.add(filePaths: filePaths)
 
     guard let outputSwiftDirectory = config.outputSwiftDirectory else {
       fatalError("Missing --output-swift directory!")
@@ -121,6 +118,36 @@ public struct SwiftToJava {
 
     try translator.analyze()
 
+    let generatedFiles = GeneratedFiles()
+    try GeneratedFiles.$current.withValue(generatedFiles) {
+      try generate(
+        translator: translator,
+        outputSwiftDirectory: outputSwiftDirectory,
+        outputJavaDirectory: outputJavaDirectory,
+        wrappedJavaClassesLookupTable: wrappedJavaClassesLookupTable,
+        moduleJavaPackages: moduleJavaPackages
+      )
+    }
+
+    // A single type run only generates some of the files, so the others are not stale.
+    if config.singleType == nil {
+      try generatedFiles.pruneStaleFiles(
+        in: [outputSwiftDirectory, outputJavaDirectory].filter { $0 != "-" },
+        manifestName: ".\(swiftModule).jextract-generated-files"
+      )
+    }
+    log.info("Generated files: \(generatedFiles.summary)")
+
+    print("[swift-java] Imported Swift module '\(swiftModule)': " + "done.".green)
+  }
+
+  private func generate(
+    translator: SwiftAnalyzer,
+    outputSwiftDirectory: String,
+    outputJavaDirectory: String,
+    wrappedJavaClassesLookupTable: JavaClassLookupTable,
+    moduleJavaPackages: [String: String]
+  ) throws {
     switch config.effectiveMode {
     case .ffm:
       let generator = FFMSwift2JavaGenerator(
@@ -146,8 +173,6 @@ public struct SwiftToJava {
 
       try generator.generate()
     }
-
-    print("[swift-java] Imported Swift module '\(swiftModule)': " + "done.".green)
   }
 
   /// Compute a relative path (sans `.swift` extension) for a file against the
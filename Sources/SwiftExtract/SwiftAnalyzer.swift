@@ -129,6 +129,33 @@ extension SwiftAnalyzer {
     self.inputs.append(SwiftInputFile(syntax: sourceFileSyntax, path: filePath))
   }
 
+  /// Read and parse the files at the given paths concurrently, and add them in
+  /// the order of `filePaths`, so that the analysis is the same as if they were
+  /// added one after another. Files that can't be read as UTF-8 text are skipped.
+  package func add(filePaths: [String]) {
+    var parsedInputs = [SwiftInputFile?](repeating: nil, count: filePaths.count)
+    parsedInputs.withUnsafeMutableBufferPointer { buffer in
+      // Every iteration writes only its own element, so no synchronization is needed.
+      DispatchQueue.concurrentPerform(iterations: filePaths.count) { index in
+        let filePath = filePaths[index]
+        guard let data = FileManager.default.contents(atPath: filePath),
+          let text = String(data: data, encoding: .utf8)
+        else {
+          return
+        }
+        buffer[index] = SwiftInputFile(syntax: Parser.parse(source: text), path: filePath)
+      }
+    }
+
+    for input in parsedInputs {
+      guard let input else {
+        continue
+      }
+      log.debug("Adding: \(input.path)")
+      self.inputs.append(input)
+    }
+  }
+
   /// Convenient method for analyzing single file.
   package func analyze(path: String, text: String) throws {
     self.add(filePath: path, text: text)
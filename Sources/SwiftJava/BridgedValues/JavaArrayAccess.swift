@@ -0,0 +1,258 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+import SwiftJavaJNICore
+
+// ==== -----------------------------------------------------------------------
+// MARK: Borrowed access to primitive arrays
+
+/// How the elements of a Java primitive array are made available to Swift.
+public enum JavaArrayAccessMode: Sendable {
+  /// Access through `Get<Type>ArrayElements`.
+  ///
+  /// The JVM may pin the array or hand out a copy. While the elements are borrowed,
+  /// it is safe to call back into Java.
+  case elements
+
+  /// Access through `GetPrimitiveArrayCritical`.
+  ///
+  /// The JVM is most likely to hand out the array in place, without copying.
+  /// In exchange, the body must not call any other JNI function, must not block
+  /// on another thread that may be calling into Java, and should be short, since
+  /// the JVM may hold off garbage collection until the array is released.
+  case critical
+}
+
+/// A Swift type whose layout matches the one of a Java primitive array element,
+/// so that the elements of such an array can be borrowed without conversion.
+public protocol JavaPrimitiveArrayElement {
+  static func _getArrayElements(_ array: jarray, in environment: JNIEnvironment) -> UnsafeMutableRawPointer?
+  static func _releaseArrayElements(
+    _ array: jarray,
+    _ elements: UnsafeMutableRawPointer,
+    mode: jint,
+    in environment: JNIEnvironment
+  )
+}
+
+extension JNIEnvironment {
+  /// Borrow the elements of a Java primitive array for the duration of `body`,
+  /// without copying them into a Swift `Array`.
+  ///
+  /// Changes are never written back to the Java array; use
+  /// ``withMutableJavaArrayElements(of:as:access:_:)`` to modify it.
+  public func withJavaArrayElements<Element: JavaPrimitiveArrayElement, Result>(
+    of array: jarray,
+    as elementType: Element.Type = Element.self,
+    access: JavaArrayAccessMode = .elements,
+    _ body: (UnsafeBufferPointer<Element>) throws -> Result
+  ) rethrows -> Result {
+    // JNI_ABORT: if the JVM handed out a copy, free it without copying it back.
+    try _withJavaArrayElements(of: array, as: elementType, access: access, releaseMode: JNI_ABORT) {
+      try body(UnsafeBufferPointer($0))
+    }
+  }
+
+  /// Borrow the elements of a Java primitive array for the duration of `body`,
+  /// writing any changes back to the Java array when `body` returns.
+  public func withMutableJavaArrayElements<Element: JavaPrimitiveArrayElement, Result>(
+    of array: jarray,
+    as elementType: Element.Type = Element.self,
+    access: JavaArrayAccessMode = .elements,
+    _ body: (UnsafeMutableBufferPointer<Element>) throws -> Result
+  ) rethrows -> Result {
+    try _withJavaArrayElements(of: array, as: elementType, access: access, releaseMode: 0, body)
+  }
+
+  private func _withJavaArrayElements<Element: JavaPrimitiveArrayElement, Result>(
+    of array: jarray,
+    as elementType: Element.Type,
+    access: JavaArrayAccessMode,
+    releaseMode: jint,
+    _ body: (UnsafeMutableBufferPointer<Element>) throws -> Result
+  ) rethrows -> Result {
+    let count = Int(interface.GetArrayLength(self, array))
+    if count == 0 {
+      return try body(UnsafeMutableBufferPointer(start: nil, count: 0))
+    }
+
+    let elements: UnsafeMutableRawPointer?
+    switch access {
+    case .elements:
+      elements = Element._getArrayElements(array, in: self)
+    case .critical:
+      elements = interface.GetPrimitiveArrayCritical(self, array, nil)
+    }
+    guard let elements else {
+      fatalError("Failed to access the elements of a Java array of \(count) \(Element.self) (out of memory)")
+    }
+    defer {
+      switch access {
+      case .elements:
+        Element._releaseArrayElements(array, elements, mode: releaseMode, in: self)
+      case .critical:
+        interface.ReleasePrimitiveArrayCritical(self, array, elements, releaseMode)
+      }
+    }
+
+    let buffer = UnsafeMutableBufferPointer(start: elements.assumingMemoryBound(to: Element.self), count: count)
+    return try body(buffer)
+  }
+}
+
+extension Int8: JavaPrimitiveArrayElement {
+  public static func _getArrayElements(_ array: jarray, in environment: JNIEnvironment) -> UnsafeMutableRawPointer? {
+    environment.interface.GetByteArrayElements(environment, array, nil).map { UnsafeMutableRawPointer($0) }
+  }
+
+  public static func _releaseArrayElements(
+    _ array: jarray,
+    _ elements: UnsafeMutableRawPointer,
+    mode: jint,
+    in environment: JNIEnvironment
+  ) {
+    environment.interface.ReleaseByteArrayElements(environment, array, elements.assumingMemoryBound(to: jbyte.self), mode)
+  }
+}
+
+extension Int16: JavaPrimitiveArrayElement {
+  public static func _getArrayElements(_ array: jarray, in environment: JNIEnvironment) -> UnsafeMutableRawPointer? {
+    environment.interface.GetShortArrayElements(environment, array, nil).map { UnsafeMutableRawPointer($0) }
+  }
+
+  public static func _releaseArrayElements(
+    _ array: jarray,
+    _ elements: UnsafeMutableRawPointer,
+    mode: jint,
+    in environment: JNIEnvironment
+  ) {
+    environment.interface.ReleaseShortArrayElements(environment, array, elements.assumingMemoryBound(to: jshort.self), mode)
+  }
+}
+
+extension UInt16: JavaPrimitiveArrayElement {
+  public static func _getArrayElements(_ array: jarray, in environment: JNIEnvironment) -> UnsafeMutableRawPointer? {
+    environment.interface.GetCharArrayElements(environment, array, nil).map { UnsafeMutableRawPointer($0) }
+  }
+
+  public static func _releaseArrayElements(
+    _ array: jarray,
+    _ elements: UnsafeMutableRawPointer,
+    mode: jint,
+    in environment: JNIEnvironment
+  ) {
+    environment.interface.ReleaseCharArrayElements(environment, array, elements.assumingMemoryBound(to: jchar.self), mode)
+  }
+}
+
+extension Int32: JavaPrimitiveArrayElement {
+  public static func _getArrayElements(_ array: jarray, in environment: JNIEnvironment) -> UnsafeMutableRawPointer? {
+    environment.interface.GetIntArrayElements(environment, array, nil).map { UnsafeMutableRawPointer($0) }
+  }
+
+  public static func _releaseArrayElements(
+    _ array: jarray,
+    _ elements: UnsafeMutableRawPointer,
+    mode: jint,
+    in environment: JNIEnvironment
+  ) {
+    environment.interface.ReleaseIntArrayElements(environment, array, elements.assumingMemoryBound(to: jint.self), mode)
+  }
+}
+
+extension Int64: JavaPrimitiveArrayElement {
+  public static func _getArrayElements(_ array: jarray, in environment: JNIEnvironment) -> UnsafeMutableRawPointer? {
+    environment.interface.GetLongArrayElements(environment, array, nil).map { UnsafeMutableRawPointer($0) }
+  }
+
+  public static func _releaseArrayElements(
+    _ array: jarray,
+    _ elements: UnsafeMutableRawPointer,
+    mode: jint,
+    in environment: JNIEnvironment
+  ) {
+    environment.interface.ReleaseLongArrayElements(environment, array, elements.assumingMemoryBound(to: jlong.self), mode)
+  }
+}
+
+extension Float: JavaPrimitiveArrayElement {
+  public static func _getArrayElements(_ array: jarray, in environment: JNIEnvironment) -> UnsafeMutableRawPointer? {
+    environment.interface.GetFloatArrayElements(environment, array, nil).map { UnsafeMutableRawPointer($0) }
+  }
+
+  public static func _releaseArrayElements(
+    _ array: jarray,
+    _ elements: UnsafeMutableRawPointer,
+    mode: jint,
+    in environment: JNIEnvironment
+  ) {
+    environment.interface.ReleaseFloatArrayElements(environment, array, elements.assumingMemoryBound(to: jfloat.self), mode)
+  }
+}
+
+extension Double: JavaPrimitiveArrayElement {
+  public static func _getArrayElements(_ array: jarray, in environment: JNIEnvironment) -> UnsafeMutableRawPointer? {
+    environment.interface.GetDoubleArrayElements(environment, array, nil).map { UnsafeMutableRawPointer($0) }
+  }
+
+  public static func _releaseArrayElements(
+    _ array: jarray,
+    _ elements: UnsafeMutableRawPointer,
+    mode: jint,
+    in environment: JNIEnvironment
+  ) {
+    environment.interface.ReleaseDoubleArrayElements(environment, array, elements.assumingMemoryBound(to: jdouble.self), mode)
+  }
+}
+
+// ==== -----------------------------------------------------------------------
+// MARK: Bulk conversion of object arrays
+
+extension JNIEnvironment {
+  /// Convert all elements of a Java object array (e.g. `String[]` or `Object[]`) into Swift values.
+  ///
+  /// Element references are obtained inside a local frame of `chunkSize` references,
+  /// which is popped as a whole once the chunk is converted. This avoids a
+  /// `DeleteLocalRef` per element while keeping the local reference table bounded
+  /// no matter how large the array is.
+  ///
+  /// `Element` must be bridged to a Java reference type, such as `String` or an
+  /// optional Java object wrapper like `JavaObject?`.
+  public func javaObjectArrayElements<Element: JavaValue>(
+    of array: jobjectArray,
+    as elementType: Element.Type = Element.self,
+    chunkSize: Int = 1024
+  ) -> [Element] where Element.JNIType == jobject? {
+    precondition(chunkSize > 0, "chunkSize must be positive")
+
+    let count = Int(interface.GetArrayLength(self, array))
+    var result: [Element] = []
+    result.reserveCapacity(count)
+
+    var start = 0
+    while start < count {
+      let end = min(start + chunkSize, count)
+      guard interface.PushLocalFrame(self, jint(end - start)) == JNI_OK else {
+        fatalError("Failed to reserve \(end - start) local references while converting a Java array (out of memory)")
+      }
+      for i in start..<end {
+        let element = interface.GetObjectArrayElement(self, array, jsize(i))
+        result.append(Element(fromJNI: element, in: self))
+      }
+      _ = interface.PopLocalFrame(self, nil)
+      start = end
+    }
+    return result
+  }
+}
@@ -326,6 +326,26 @@ class AnySwiftDictionaryBox {
   func keys(environment: JNIEnvironment) -> jobject? { fatalError("abstract") }
   func values(environment: JNIEnvironment) -> jobject? { fatalError("abstract") }
   func dictionaryAsAny() -> Any { fatalError("abstract") }
+
+  // Unboxed access used by the primitive-specialized Java views (e.g. `SwiftLongDoubleMap`).
+  // jextract only selects those views when the key is a 64-bit integer, and the value
+  // a 64-bit integer or a `Double`, so other dictionaries never receive these calls.
+  func containsKey(int64Key key: Int64) -> Bool { fatalError("abstract") }
+  func int64Value(forKey key: Int64) -> Int64? { fatalError("abstract") }
+  func doubleValue(forKey key: Int64) -> Double? { fatalError("abstract") }
+  func int64Values(
+    forKeys keys: UnsafeBufferPointer<Int64>,
+    into out: UnsafeMutableBufferPointer<Int64>,
+    defaultValue: Int64
+  ) { fatalError("abstract") }
+  func doubleValues(
+    forKeys keys: UnsafeBufferPointer<Int64>,
+    into out: UnsafeMutableBufferPointer<Double>,
+    defaultValue: Double
+  ) { fatalError("abstract") }
+  func int64Keys() -> [Int64] { fatalError("abstract") }
+  func int64Values() -> [Int64] { fatalError("abstract") }
+  func doubleValues() -> [Double] { fatalError("abstract") }
 }
 
 /// Generic subclass that wraps a concrete `[K: V]` Swift dictionary.
@@ -351,17 +371,27 @@ where KeyBridge.SwiftType: Hashable {
     guard KeyBridge.isJavaObject(key, in: environment) else {
       return nil
     }
-    let swiftKey = KeyBridge.fromJavaObject(key, in: environment)
-    guard let value = dictionary[swiftKey] else { return nil }
-    return ValueBridge.toJavaObject(value, in: environment)
+    do {
+      let swiftKey = try KeyBridge.fromJavaObject(key, in: environment)
+      guard let value = dictionary[swiftKey] else { return nil }
+      return ValueBridge.toJavaObject(value, in: environment)
+    } catch {
+      environment.throwAsException(error)
+      return nil
+    }
   }
 
   override func containsKey(key: jobject?, environment: JNIEnvironment) -> Bool {
     guard KeyBridge.isJavaObject(key, in: environment) else {
       return false
     }
-    let swiftKey = KeyBridge.fromJavaObject(key, in: environment)
-    return dictionary[swiftKey] != nil
+    do {
+      let swiftKey = try KeyBridge.fromJavaObject(key, in: environment)
+      return dictionary[swiftKey] != nil
+    } catch {
+      environment.throwAsException(error)
+      return false
+    }
   }
 
   override func keys(environment: JNIEnvironment) -> jobject? {
@@ -385,6 +415,92 @@ where KeyBridge.SwiftType: Hashable {
     }
     return result
   }
+
+  // The key and value types are resolved once per call, and the dictionary reinterpreted
+  // with its concrete type, so that loops over keys or values do not cast element by element.
+
+  override func containsKey(int64Key key: Int64) -> Bool {
+    if let dictionary = _reinterpret(dictionary, as: [Int64: Value].self) {
+      return dictionary[key] != nil
+    }
+    if let dictionary = _reinterpret(dictionary, as: [Int: Value].self) {
+      return dictionary[Int(key)] != nil
+    }
+    _unsupportedType(Key.self)
+  }
+
+  override func int64Value(forKey key: Int64) -> Int64? {
+    if let dictionary = _reinterpret(dictionary, as: [Int64: Int64].self) {
+      return dictionary[key]
+    }
+    if let dictionary = _reinterpret(dictionary, as: [Int: Int64].self) {
+      return dictionary[Int(key)]
+    }
+    if let dictionary = _reinterpret(dictionary, as: [Int64: Int].self) {
+      return dictionary[key].map { Int64($0) }
+    }
+    if let dictionary = _reinterpret(dictionary, as: [Int: Int].self) {
+      return dictionary[Int(key)].map { Int64($0) }
+    }
+    _unsupportedType(type(of: dictionary))
+  }
+
+  override func doubleValue(forKey key: Int64) -> Double? {
+    if let dictionary = _reinterpret(dictionary, as: [Int64: Double].self) {
+      return dictionary[key]
+    }
+    if let dictionary = _reinterpret(dictionary, as: [Int: Double].self) {
+      return dictionary[Int(key)]
+    }
+    _unsupportedType(type(of: dictionary))
+  }
+
+  override func int64Values(
+    forKeys keys: UnsafeBufferPointer<Int64>,
+    into out: UnsafeMutableBufferPointer<Int64>,
+    defaultValue: Int64
+  ) {
+    if let dictionary = _reinterpret(dictionary, as: [Int64: Int64].self) {
+      _lookUpAll(keys, in: dictionary, into: out, defaultValue: defaultValue, key: { $0 }, value: { $0 })
+    } else if let dictionary = _reinterpret(dictionary, as: [Int: Int64].self) {
+      _lookUpAll(keys, in: dictionary, into: out, defaultValue: defaultValue, key: { Int($0) }, value: { $0 })
+    } else if let dictionary = _reinterpret(dictionary, as: [Int64: Int].self) {
+      _lookUpAll(keys, in: dictionary, into: out, defaultValue: defaultValue, key: { $0 }, value: { Int64($0) })
+    } else if let dictionary = _reinterpret(dictionary, as: [Int: Int].self) {
+      _lookUpAll(keys, in: dictionary, into: out, defaultValue: defaultValue, key: { Int($0) }, value: { Int64($0) })
+    } else {
+      _unsupportedType(type(of: dictionary))
+    }
+  }
+
+  override func doubleValues(
+    forKeys keys: UnsafeBufferPointer<Int64>,
+    into out: UnsafeMutableBufferPointer<Double>,
+    defaultValue: Double
+  ) {
+    if let dictionary = _reinterpret(dictionary, as: [Int64: Double].self) {
+      _lookUpAll(keys, in: dictionary, into: out, defaultValue: defaultValue, key: { $0 }, value: { $0 })
+    } else if let dictionary = _reinterpret(dictionary, as: [Int: Double].self) {
+      _lookUpAll(keys, in: dictionary, into: out, defaultValue: defaultValue, key: { Int($0) }, value: { $0 })
+    } else {
+      _unsupportedType(type(of: dictionary))
+    }
+  }
+
+  override func int64Keys() -> [Int64] {
+    _int64Array(Array(dictionary.keys))
+  }
+
+  override func int64Values() -> [Int64] {
+    _int64Array(Array(dictionary.values))
+  }
+
+  override func doubleValues() -> [Double] {
+    guard let values = _reinterpret(Array(dictionary.values), as: [Double].self) else {
+      _unsupportedType(Value.self)
+    }
+    return values
+  }
 }
 
 // ==== -----------------------------------------------------------------------
@@ -400,6 +516,14 @@ class AnySwiftSetBox {
   func contains(element: jobject?, environment: JNIEnvironment) -> Bool { fatalError("abstract") }
   func toArray(environment: JNIEnvironment) -> jobject? { fatalError("abstract") }
   func setAsAny() -> Any { fatalError("abstract") }
+
+  // Unboxed access used by the primitive-specialized Java view `SwiftLongSet`.
+  // jextract only selects that view when the element is a 64-bit integer.
+  func contains(int64Element element: Int64) -> Bool { fatalError("abstract") }
+  func contains(int64Elements elements: UnsafeBufferPointer<Int64>, into out: UnsafeMutableBufferPointer<jboolean>) {
+    fatalError("abstract")
+  }
+  func int64Elements() -> [Int64] { fatalError("abstract") }
 }
 
 /// Generic subclass that wraps a concrete `Set<E>` Swift set.
@@ -423,8 +547,13 @@ final class SwiftSetBox<ElementBridge: JobjectBridge>: AnySwiftSetBox where Elem
     guard ElementBridge.isJavaObject(element, in: environment) else {
       return false
     }
-    let swiftElement = ElementBridge.fromJavaObject(element, in: environment)
-    return set.contains(swiftElement)
+    do {
+      let swiftElement = try ElementBridge.fromJavaObject(element, in: environment)
+      return set.contains(swiftElement)
+    } catch {
+      environment.throwAsException(error)
+      return false
+    }
   }
 
   override func toArray(environment: JNIEnvironment) -> jobject? {
@@ -437,4 +566,79 @@ final class SwiftSetBox<ElementBridge: JobjectBridge>: AnySwiftSetBox where Elem
     }
     return result
   }
+
+  override func contains(int64Element element: Int64) -> Bool {
+    if let set = _reinterpret(set, as: Set<Int64>.self) {
+      return set.contains(element)
+    }
+    if let set = _reinterpret(set, as: Set<Int>.self) {
+      return set.contains(Int(element))
+    }
+    _unsupportedType(Element.self)
+  }
+
+  override func contains(int64Elements elements: UnsafeBufferPointer<Int64>, into out: UnsafeMutableBufferPointer<jboolean>) {
+    precondition(out.count >= elements.count, "Output buffer is smaller than the elements")
+    if let set = _reinterpret(set, as: Set<Int64>.self) {
+      for (i, element) in elements.enumerated() {
+        out[i] = set.contains(element) ? jboolean(JNI_TRUE) : jboolean(JNI_FALSE)
+      }
+    } else if let set = _reinterpret(set, as: Set<Int>.self) {
+      for (i, element) in elements.enumerated() {
+        out[i] = set.contains(Int(element)) ? jboolean(JNI_TRUE) : jboolean(JNI_FALSE)
+      }
+    } else {
+      _unsupportedType(Element.self)
+    }
+  }
+
+  override func int64Elements() -> [Int64] {
+    _int64Array(Array(set))
+  }
+}
+
+// ==== -----------------------------------------------------------------------
+// MARK: Primitive conversions for the specialized collection views
+
+/// Reinterpret `value` as `T`, if it is of exactly that type.
+///
+/// Unlike `as?`, this does not go through the runtime's dynamic casting, so a whole
+/// collection is resolved to its concrete type once, rather than each of its elements.
+@inline(__always)
+private func _reinterpret<Value, T>(_ value: Value, as type: T.Type) -> T? {
+  guard Value.self == T.self else {
+    return nil
+  }
+  return unsafeBitCast(value, to: T.self)
+}
+
+/// Convert an array of Swift 64-bit integers into Java `long` values.
+private func _int64Array<T>(_ values: [T]) -> [Int64] {
+  if let values = _reinterpret(values, as: [Int64].self) {
+    return values
+  }
+  if let values = _reinterpret(values, as: [Int].self) {
+    return values.map { Int64($0) }
+  }
+  _unsupportedType(T.self)
+}
+
+/// Look up each of `keys` in a dictionary of concrete type, writing the values to `out`.
+@inline(__always)
+private func _lookUpAll<Key: Hashable, Value, Result>(
+  _ keys: UnsafeBufferPointer<Int64>,
+  in dictionary: [Key: Value],
+  into out: UnsafeMutableBufferPointer<Result>,
+  defaultValue: Result,
+  key: (Int64) -> Key,
+  value: (Value) -> Result
+) {
+  precondition(out.count >= keys.count, "Output buffer is smaller than the keys")
+  for (i, k) in keys.enumerated() {
+    out[i] = dictionary[key(k)].map(value) ?? defaultValue
+  }
+}
+
+private func _unsupportedType(_ type: Any.Type) -> Never {
+  fatalError("\(type) is not supported by the primitive-specialized collection views")
 }
@@ -23,7 +23,10 @@ public protocol JobjectBridge {
   static func toJavaObject(_ value: SwiftType, in environment: JNIEnvironment) -> jobject?
 
   /// Convert a Java object back to a Swift value.
-  static func fromJavaObject(_ obj: jobject?, in environment: JNIEnvironment) -> SwiftType
+  ///
+  /// Throws if a Java exception is raised while converting the object,
+  /// e.g. when a collection has to be copied out of Java.
+  static func fromJavaObject(_ obj: jobject?, in environment: JNIEnvironment) throws -> SwiftType
 
   static func withJNIClass<Result>(
     in environment: JNIEnvironment,
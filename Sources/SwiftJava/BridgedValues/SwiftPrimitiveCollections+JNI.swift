@@ -0,0 +1,172 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+import SwiftJavaJNICore
+
+// The primitive-specialized views share the box of their generic superclass
+// (`SwiftDictionaryMap` / `SwiftSet`), so the `selfPointer` is the same retained box.
+
+private func dictionaryBox(from pointer: Int64) -> AnySwiftDictionaryBox {
+  let rawPointer = UnsafeRawPointer(bitPattern: Int(pointer))!
+  return Unmanaged<AnySwiftDictionaryBox>.fromOpaque(rawPointer).takeUnretainedValue()
+}
+
+private func setBox(from pointer: Int64) -> AnySwiftSetBox {
+  let rawPointer = UnsafeRawPointer(bitPattern: Int(pointer))!
+  return Unmanaged<AnySwiftSetBox>.fromOpaque(rawPointer).takeUnretainedValue()
+}
+
+// ==== -----------------------------------------------------------------------
+// MARK: SwiftLongDoubleMap
+
+@JavaClass("org.swift.swiftkit.core.collections.SwiftLongDoubleMap")
+open class SwiftLongDoubleMapJava: JavaObject {
+}
+
+@JavaImplementation("org.swift.swiftkit.core.collections.SwiftLongDoubleMap")
+extension SwiftLongDoubleMapJava {
+
+  @JavaMethod("$containsLong")
+  public static func _containsLong(environment: UnsafeMutablePointer<JNIEnv?>!, pointer: Int64, key: Int64) -> Bool {
+    dictionaryBox(from: pointer).containsKey(int64Key: key)
+  }
+
+  @JavaMethod("$getOrDefault")
+  public static func _getOrDefault(
+    environment: UnsafeMutablePointer<JNIEnv?>!,
+    pointer: Int64,
+    key: Int64,
+    defaultValue: Double
+  ) -> Double {
+    dictionaryBox(from: pointer).doubleValue(forKey: key) ?? defaultValue
+  }
+
+  @JavaMethod("$getAll")
+  public static func _getAll(
+    environment: UnsafeMutablePointer<JNIEnv?>!,
+    pointer: Int64,
+    keys: JavaObject?,
+    out: JavaObject?,
+    defaultValue: Double
+  ) {
+    let box = dictionaryBox(from: pointer)
+    environment.withJavaArrayElements(of: keys!.javaThis, as: Int64.self) { keys in
+      environment.withMutableJavaArrayElements(of: out!.javaThis, as: Double.self, access: .critical) { out in
+        box.doubleValues(forKeys: keys, into: out, defaultValue: defaultValue)
+      }
+    }
+  }
+
+  @JavaMethod("$keysToArray")
+  public static func _keysToArray(environment: UnsafeMutablePointer<JNIEnv?>!, pointer: Int64) -> [Int64] {
+    dictionaryBox(from: pointer).int64Keys()
+  }
+
+  @JavaMethod("$valuesToArray")
+  public static func _valuesToArray(environment: UnsafeMutablePointer<JNIEnv?>!, pointer: Int64) -> [Double] {
+    dictionaryBox(from: pointer).doubleValues()
+  }
+}
+
+// ==== -----------------------------------------------------------------------
+// MARK: SwiftLongLongMap
+
+@JavaClass("org.swift.swiftkit.core.collections.SwiftLongLongMap")
+open class SwiftLongLongMapJava: JavaObject {
+}
+
+@JavaImplementation("org.swift.swiftkit.core.collections.SwiftLongLongMap")
+extension SwiftLongLongMapJava {
+
+  @JavaMethod("$containsLong")
+  public static func _containsLong(environment: UnsafeMutablePointer<JNIEnv?>!, pointer: Int64, key: Int64) -> Bool {
+    dictionaryBox(from: pointer).containsKey(int64Key: key)
+  }
+
+  @JavaMethod("$getOrDefault")
+  public static func _getOrDefault(
+    environment: UnsafeMutablePointer<JNIEnv?>!,
+    pointer: Int64,
+    key: Int64,
+    defaultValue: Int64
+  ) -> Int64 {
+    dictionaryBox(from: pointer).int64Value(forKey: key) ?? defaultValue
+  }
+
+  @JavaMethod("$getAll")
+  public static func _getAll(
+    environment: UnsafeMutablePointer<JNIEnv?>!,
+    pointer: Int64,
+    keys: JavaObject?,
+    out: JavaObject?,
+    defaultValue: Int64
+  ) {
+    let box = dictionaryBox(from: pointer)
+    environment.withJavaArrayElements(of: keys!.javaThis, as: Int64.self) { keys in
+      environment.withMutableJavaArrayElements(of: out!.javaThis, as: Int64.self, access: .critical) { out in
+        box.int64Values(forKeys: keys, into: out, defaultValue: defaultValue)
+      }
+    }
+  }
+
+  @JavaMethod("$keysToArray")
+  public static func _keysToArray(environment: UnsafeMutablePointer<JNIEnv?>!, pointer: Int64) -> [Int64] {
+    dictionaryBox(from: pointer).int64Keys()
+  }
+
+  @JavaMethod("$valuesToArray")
+  public static func _valuesToArray(environment: UnsafeMutablePointer<JNIEnv?>!, pointer: Int64) -> [Int64] {
+    dictionaryBox(from: pointer).int64Values()
+  }
+}
+
+// ==== -----------------------------------------------------------------------
+// MARK: SwiftLongSet
+
+@JavaClass("org.swift.swiftkit.core.collections.SwiftLongSet")
+open class SwiftLongSetJava: JavaObject {
+}
+
+@JavaImplementation("org.swift.swiftkit.core.collections.SwiftLongSet")
+extension SwiftLongSetJava {
+
+  @JavaMethod("$containsLong")
+  public static func _containsLong(environment: UnsafeMutablePointer<JNIEnv?>!, pointer: Int64, element: Int64) -> Bool {
+    setBox(from: pointer).contains(int64Element: element)
+  }
+
+  @JavaMethod("$containsAll")
+  public static func _containsAll(
+    environment: UnsafeMutablePointer<JNIEnv?>!,
+    pointer: Int64,
+    elements: JavaObject?,
+    out: JavaObject?
+  ) {
+    let box = setBox(from: pointer)
+    // There is no borrowed access to boolean arrays, so the results are written
+    // with a single region copy instead.
+    environment.withJavaArrayElements(of: elements!.javaThis, as: Int64.self) { elements in
+      let results = [jboolean](unsafeUninitializedCapacity: elements.count) { results, count in
+        box.contains(int64Elements: elements, into: results)
+        count = elements.count
+      }
+      environment.interface.SetBooleanArrayRegion(environment, out!.javaThis, 0, jsize(results.count), results)
+    }
+  }
+
+  @JavaMethod("$toLongArray")
+  public static func _toLongArray(environment: UnsafeMutablePointer<JNIEnv?>!, pointer: Int64) -> [Int64] {
+    setBox(from: pointer).int64Elements()
+  }
+}
@@ -0,0 +1,34 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+import SwiftJavaJNICore
+
+/// Cached method IDs of JDK classes, used on hot paths such as
+/// iterating Java collections, where looking a method up on every call would
+/// dominate the cost.
+///
+/// These classes are loaded by the bootstrap class loader and are never unloaded,
+/// so their IDs stay valid for the lifetime of the process.
+enum _JDKMemberIDs {
+  static let collectionToArray = methodID("java/util/Collection", "toArray", "()[Ljava/lang/Object;")
+  static let iteratorHasNext = methodID("java/util/Iterator", "hasNext", "()Z")
+  static let iteratorNext = methodID("java/util/Iterator", "next", "()Ljava/lang/Object;")
+
+  private static func methodID(_ className: String, _ name: String, _ signature: String) -> jmethodID {
+    let environment = try! JavaVirtualMachine.shared().environment()
+    let javaClass = environment.interface.FindClass(environment, className)!
+    defer { environment.interface.DeleteLocalRef(environment, javaClass) }
+    return environment.interface.GetMethodID(environment, javaClass, name, signature)!
+  }
+}
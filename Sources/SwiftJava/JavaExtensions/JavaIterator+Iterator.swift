@@ -12,15 +12,31 @@
 //
 //===----------------------------------------------------------------------===//
 
+import SwiftJavaJNICore
+
 extension JavaIterator: IteratorProtocol {
   public typealias Element = E
 
+  /// Advance the Java iterator.
+  ///
+  /// Calls `hasNext()` and `next()` through method IDs cached for `java.util.Iterator`,
+  /// rather than looking both methods up on the receiver's class for every element.
   @_implements(IteratorProtocol,next())
   public mutating func swiftNext() -> E? {
-    if hasNext() {
-      return next() as E
+    let environment = try! JavaVirtualMachine.shared().environment()
+    let hasNext = try! environment.translatingJNIExceptions {
+      environment.interface.CallBooleanMethodA(environment, javaThis, _JDKMemberIDs.iteratorHasNext, nil)
+    }
+    guard hasNext == JNI_TRUE else {
+      return nil
     }
 
-    return nil
+    let element = try! environment.translatingJNIExceptions {
+      environment.interface.CallObjectMethodA(environment, javaThis, _JDKMemberIDs.iteratorNext, nil)
+    }
+    guard let element else {
+      fatalError("Unexpected null element returned by \(JavaIterator<E>.fullJavaClassName).next()")
+    }
+    return E(javaThis: element, environment: environment)
   }
 }
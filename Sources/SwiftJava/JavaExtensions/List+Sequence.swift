@@ -12,6 +12,8 @@
 //
 //===----------------------------------------------------------------------===//
 
+import SwiftJavaJNICore
+
 extension List: Sequence {
   public typealias Element = E
   public typealias Iterator = JavaIterator<E>
@@ -20,3 +22,57 @@ extension List: Sequence {
     self.iterator()
   }
 }
+
+extension List {
+  /// Iterate over a snapshot of this list, taken with a single `toArray()` call.
+  ///
+  /// Unlike the `java.util.Iterator` used by `for element in list`, this does not
+  /// call back into Java for every element. Later changes to the list are not observed.
+  public func snapshotElements() -> JavaListIterator<E> {
+    JavaListIterator(snapshotOf: self)
+  }
+}
+
+/// Iterates over a snapshot of a Java `List`.
+///
+/// The list is copied into a Java array with a single `toArray()` call, after which
+/// each element is read with `GetObjectArrayElement`, which does not call back into Java.
+/// This avoids the `hasNext()` / `next()` pair of Java calls that a `java.util.Iterator`
+/// costs per element.
+///
+/// Like any Swift iterator, it must not be shared between threads: it keeps using the
+/// JNI environment of the thread that created it.
+public struct JavaListIterator<E: AnyJavaObject>: IteratorProtocol, Sequence {
+  private let array: JavaObjectHolder
+  private let count: Int
+  private var index: Int = 0
+
+  init(snapshotOf list: List<E>) {
+    let environment = try! JavaVirtualMachine.shared().environment()
+    self.array = _snapshotArray(of: list, in: environment)
+    self.count = Int(environment.interface.GetArrayLength(environment, array.object))
+  }
+
+  public mutating func next() -> E? {
+    guard index < count else {
+      return nil
+    }
+    let environment = array.environment
+    let element = environment.interface.GetObjectArrayElement(environment, array.object, jsize(index))
+    index += 1
+    guard let element else {
+      fatalError("Unexpected null element at index \(index - 1) while iterating \(List<E>.fullJavaClassName)")
+    }
+    // Promotes the element to a global reference and releases the local one,
+    // so that iterating large lists does not grow the local reference table.
+    return E(javaThis: element, environment: environment)
+  }
+}
+
+/// Copy a Java collection into a Java array held by a global reference.
+private func _snapshotArray(of collection: some AnyJavaObject, in environment: JNIEnvironment) -> JavaObjectHolder {
+  let array = try! environment.translatingJNIExceptions {
+    environment.interface.CallObjectMethodA(environment, collection.javaThis, _JDKMemberIDs.collectionToArray, nil)
+  }!
+  return JavaObjectHolder(object: array, environment: environment)
+}
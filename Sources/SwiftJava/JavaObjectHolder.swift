@@ -14,11 +14,38 @@
 
 import SwiftJavaJNICore
 
+#if canImport(Darwin)
+import Darwin
+#elseif os(Windows)
+import WinSDK
+#elseif canImport(Glibc)
+import Glibc
+#elseif canImport(Android)
+import Android
+#elseif canImport(Musl)
+import Musl
+#endif
+
 /// Stores a reference to a Java object, managing it as a global reference so
 /// that the Java virtual machine will not move or deallocate the object
 /// while this instance is live.
-public final class JavaObjectHolder {
-  public private(set) var object: jobject? // TODO: thread-safety
+///
+/// The holder is immutable and may be shared between threads. When it is
+/// deinitialized on a thread attached to the JVM, its global reference is
+/// deleted right away. A thread that is not attached does not attach just to
+/// delete it. Instead, the reference is queued, and the queue is deleted in one
+/// batch by the first of:
+///
+/// - a thread attached to the JVM, which drains the queue every
+///   ``liveCountPublishInterval`` holders it creates or releases;
+/// - the releasing thread, once ``pendingReleaseBatchLimit`` references are
+///   queued or the oldest one is older than ``pendingReleaseMaximumAge``;
+/// - ``releasePendingGlobalReferences(in:)``.
+///
+/// Queued references are not kept per thread, so the ones released by threads
+/// that are idle or have exited are drained like any others.
+public final class JavaObjectHolder: @unchecked Sendable {
+  public let object: jobject?
   public let environment: JNIEnvironment
 
   /// Take a reference to a Java object and promote it to a global reference
@@ -32,20 +59,238 @@ public final class JavaObjectHolder {
     if refType == JNILocalRefType {
       environment.interface.DeleteLocalRef(environment, object)
     }
+
+    // Look the JVM up while this thread is known to be attached,
+    // rather than later from a releasing thread that might not be.
+    _ = _javaVM
+
+    if self.object != nil {
+      Self.countLiveChange(1, attachedIn: environment)
+    }
   }
 
-  /// Forget this Java object, meaning that it is no longer used from anywhere
-  /// in Swift and the Java virtual machine is free to move or deallocate it.
-  func forget() {
-    if let object {
+  deinit {
+    guard let object else {
+      return
+    }
+    if let environment = _currentThreadEnvironment() {
+      environment.interface.DeleteGlobalRef(environment, object)
+      Self.countLiveChange(-1, attachedIn: environment)
+      return
+    }
+
+    let batch = Self.references.withLock { references -> [jobject]? in
+      references.enqueue(object)
+      guard
+        references.pending.count >= Self.pendingReleaseBatchLimit
+          || references.isOlderThan(Self.pendingReleaseMaximumAge)
+      else {
+        return nil
+      }
+      return references.takePendingIfAny()
+    }
+    if let batch {
       let environment = try! JavaVirtualMachine.shared().environment()
+      Self.deleteGlobalRefs(batch, in: environment)
+    }
+  }
+}
+
+// ==== -----------------------------------------------------------------------
+// MARK: Deferred global reference release
+
+extension JavaObjectHolder {
+  /// Number of queued global references at which the thread releasing a holder
+  /// deletes the whole batch itself, attaching to the JVM if necessary.
+  public static let pendingReleaseBatchLimit = 256
+
+  /// Age of the oldest queued global reference at which the thread releasing
+  /// a holder deletes the whole batch, even if the batch limit is not reached.
+  public static let pendingReleaseMaximumAge: Duration = .seconds(1)
+
+  /// Number of holders a thread attached to the JVM creates or releases before it
+  /// adds them to ``liveGlobalReferenceCount`` and drains the queued references.
+  public static let liveCountPublishInterval = 64
+
+  /// Number of global references currently owned by Java object holders,
+  /// including the ones queued for release.
+  ///
+  /// Attached threads add their changes in batches of ``liveCountPublishInterval``,
+  /// and when they exit, so the count of other threads may lag behind by up to
+  /// that many holders each.
+  public static var liveGlobalReferenceCount: Int {
+    references.withLock { $0.live } + (_UnpublishedLiveCount.current?.delta ?? 0)
+  }
+
+  /// Number of global references of deinitialized holders that have not been deleted yet.
+  public static var pendingReleaseCount: Int {
+    references.withLock { $0.pending.count }
+  }
+
+  /// Delete all queued global references now, using the given environment,
+  /// which must belong to the current thread.
+  public static func releasePendingGlobalReferences(in environment: JNIEnvironment) {
+    let delta = _UnpublishedLiveCount.current?.take() ?? 0
+    let pending = references.withLock { references in
+      references.live += delta
+      return references.takePendingIfAny()
+    }
+    if let pending {
+      deleteGlobalRefs(pending, in: environment)
+    }
+  }
+
+  fileprivate struct References {
+    var live: Int = 0
+    private(set) var pending: [jobject] = []
+    private var oldestPending: ContinuousClock.Instant? = nil
+
+    mutating func enqueue(_ object: jobject) {
+      if pending.isEmpty {
+        oldestPending = .now
+      }
+      pending.append(object)
+    }
+
+    func isOlderThan(_ age: Duration) -> Bool {
+      guard let oldestPending else {
+        return false
+      }
+      return oldestPending.duration(to: .now) >= age
+    }
+
+    mutating func takePendingIfAny() -> [jobject]? {
+      if pending.isEmpty {
+        return nil
+      }
+      defer {
+        pending = []
+        oldestPending = nil
+      }
+      return pending
+    }
+  }
+
+  /// The live count and the queue of references released by unattached threads.
+  ///
+  /// Attached threads only take this lock once per ``liveCountPublishInterval``
+  /// holders, so it is never taken per holder on the common path.
+  fileprivate static let references = _RuntimeLock(References())
 
+  /// Record a holder created or released on the current thread, which is attached
+  /// to the JVM with the given environment.
+  private static func countLiveChange(_ change: Int, attachedIn environment: JNIEnvironment) {
+    let unpublished = _UnpublishedLiveCount.currentOrCreate
+    unpublished.delta += change
+    unpublished.changes += 1
+    if unpublished.changes >= liveCountPublishInterval {
+      releasePendingGlobalReferences(in: environment)
+    }
+  }
+
+  private static func deleteGlobalRefs(_ objects: [jobject], in environment: JNIEnvironment) {
+    for object in objects {
       environment.interface.DeleteGlobalRef(environment, object)
-      self.object = nil
     }
+    references.withLock { $0.live -= objects.count }
   }
+}
 
-  deinit {
-    self.forget()
+// ==== -----------------------------------------------------------------------
+// MARK: Attached threads
+
+/// The JVM of this process, looked up from the first thread that creates a holder.
+private let _javaVM: UnsafeMutablePointer<JavaVM?> = {
+  let environment = try! JavaVirtualMachine.shared().environment()
+  var javaVM: UnsafeMutablePointer<JavaVM?>? = nil
+  guard environment.interface.GetJavaVM(environment, &javaVM) == JNI_OK, let javaVM else {
+    fatalError("Failed to get the JavaVM of the current JNI environment")
+  }
+  return javaVM
+}()
+
+/// The JNI environment of the current thread, or `nil` if the thread is not
+/// attached to the JVM. Unlike `JavaVirtualMachine.environment()`, this never
+/// attaches the thread.
+private func _currentThreadEnvironment() -> JNIEnvironment? {
+  var environment: UnsafeMutableRawPointer? = nil
+  guard _javaVM.pointee?.pointee.GetEnv(_javaVM, &environment, JNI_VERSION_1_6) == JNI_OK, let environment else {
+    return nil
+  }
+  return environment.assumingMemoryBound(to: JNIEnv?.self)
+}
+
+/// Changes to the live count made by the current thread and not yet added
+/// to the shared count.
+///
+/// Each instance is only ever accessed by the thread owning it, so it needs no locking.
+/// When the thread exits, its remaining changes are added to the shared count.
+private final class _UnpublishedLiveCount {
+  var delta: Int = 0
+  var changes: Int = 0
+
+  func take() -> Int {
+    defer {
+      delta = 0
+      changes = 0
+    }
+    return delta
+  }
+
+  // MARK: Thread-local storage
+
+  static var current: _UnpublishedLiveCount? {
+    guard let pointer = _threadLocalValue(_unpublishedLiveCountKey) else {
+      return nil
+    }
+    return Unmanaged<_UnpublishedLiveCount>.fromOpaque(pointer).takeUnretainedValue()
   }
+
+  static var currentOrCreate: _UnpublishedLiveCount {
+    if let current {
+      return current
+    }
+    let unpublished = _UnpublishedLiveCount()
+    _setThreadLocalValue(_unpublishedLiveCountKey, Unmanaged.passRetained(unpublished).toOpaque())
+    return unpublished
+  }
+}
+
+/// Destructor of the thread-local count, run when its thread exits.
+private func _unpublishedLiveCountThreadDidExit(_ pointer: UnsafeMutableRawPointer?) {
+  guard let pointer else {
+    return
+  }
+  let delta = Unmanaged<_UnpublishedLiveCount>.fromOpaque(pointer).takeRetainedValue().take()
+  if delta != 0 {
+    JavaObjectHolder.references.withLock { $0.live += delta }
+  }
+}
+
+#if os(Windows)
+// Fiber-local storage runs its callback on thread exit, unlike TlsAlloc.
+private let _unpublishedLiveCountKey: DWORD = FlsAlloc { _unpublishedLiveCountThreadDidExit($0) }
+
+private func _threadLocalValue(_ key: DWORD) -> UnsafeMutableRawPointer? {
+  FlsGetValue(key)
+}
+
+private func _setThreadLocalValue(_ key: DWORD, _ value: UnsafeMutableRawPointer) {
+  FlsSetValue(key, value)
+}
+#else
+private let _unpublishedLiveCountKey: pthread_key_t = {
+  var key = pthread_key_t()
+  let result = pthread_key_create(&key) { _unpublishedLiveCountThreadDidExit($0) }
+  precondition(result == 0, "Failed to create the thread-local key for the global reference count")
+  return key
+}()
+
+private func _threadLocalValue(_ key: pthread_key_t) -> UnsafeMutableRawPointer? {
+  pthread_getspecific(key)
+}
+
+private func _setThreadLocalValue(_ key: pthread_key_t, _ value: UnsafeMutableRawPointer) {
+  pthread_setspecific(key, value)
 }
+#endif
@@ -94,7 +94,7 @@ extension Optional: @retroactive JavaValue where Wrapped: AnyJavaObject {
       let buffer = UnsafeMutableBufferPointer(start: outPointer, count: Int(length))
       for i in start..<start + length {
         buffer.initializeElement(
-          at: Int(i),
+          at: Int(i - start),
           to: environment.interface.GetObjectArrayElement(environment, array, Int32(i))
         )
       }
@@ -105,7 +105,7 @@ extension Optional: @retroactive JavaValue where Wrapped: AnyJavaObject {
     { environment, array, start, length, outPointer in
       let buffer = UnsafeBufferPointer(start: outPointer, count: Int(length))
       for i in start..<start + length {
-        environment.interface.SetObjectArrayElement(environment, array, i, buffer[Int(i)])
+        environment.interface.SetObjectArrayElement(environment, array, i, buffer[Int(i - start)])
       }
     }
   }
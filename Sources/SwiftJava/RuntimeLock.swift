@@ -0,0 +1,75 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+#if canImport(Darwin)
+import Darwin
+#elseif os(Windows)
+import WinSDK
+#elseif canImport(Glibc)
+import Glibc
+#elseif canImport(Android)
+import Android
+#elseif canImport(Musl)
+import Musl
+#endif
+
+/// A minimal mutex protecting a value, for use in the runtime where
+/// `Synchronization.Mutex` is not available on all supported deployment targets.
+final class _RuntimeLock<State>: @unchecked Sendable {
+  #if canImport(Darwin)
+  private typealias Primitive = os_unfair_lock
+  #elseif os(Windows)
+  private typealias Primitive = SRWLOCK
+  #else
+  private typealias Primitive = pthread_mutex_t
+  #endif
+
+  private let primitive: UnsafeMutablePointer<Primitive>
+  private var state: State
+
+  init(_ state: State) {
+    self.state = state
+    self.primitive = .allocate(capacity: 1)
+    #if canImport(Darwin)
+    primitive.initialize(to: os_unfair_lock())
+    #elseif os(Windows)
+    InitializeSRWLock(primitive)
+    #else
+    primitive.initialize(to: pthread_mutex_t())
+    pthread_mutex_init(primitive, nil)
+    #endif
+  }
+
+  deinit {
+    #if !canImport(Darwin) && !os(Windows)
+    pthread_mutex_destroy(primitive)
+    #endif
+    primitive.deinitialize(count: 1)
+    primitive.deallocate()
+  }
+
+  func withLock<Result>(_ body: (inout State) throws -> Result) rethrows -> Result {
+    #if canImport(Darwin)
+    os_unfair_lock_lock(primitive)
+    defer { os_unfair_lock_unlock(primitive) }
+    #elseif os(Windows)
+    AcquireSRWLockExclusive(primitive)
+    defer { ReleaseSRWLockExclusive(primitive) }
+    #else
+    pthread_mutex_lock(primitive)
+    defer { pthread_mutex_unlock(primitive) }
+    #endif
+    return try body(&state)
+  }
+}
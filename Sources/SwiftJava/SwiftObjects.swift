@@ -24,13 +24,7 @@ open class SwiftObjects: JavaObject {
 extension SwiftObjects {
   @JavaMethod
   public static func getRawDiscriminator(environment: UnsafeMutablePointer<JNIEnv?>!, selfPointer: Int64, selfTypePointer: Int64) -> Int32 {
-    guard let selfType$ = UnsafeRawPointer(bitPattern: Int(selfTypePointer)) else {
-      fatalError("selfType metadata address was null")
-    }
-    let typeMetadata = unsafeBitCast(selfType$, to: Any.Type.self)
-    guard let typeMetadata = typeMetadata as? (any _RawDiscriminatorRepresentable.Type) else {
-      fatalError("_RawDiscriminatorRepresentable conformance did not found in \(typeMetadata)")
-    }
+    let typeMetadata = rawDiscriminatorRepresentableType(selfTypePointer)
 
     func perform<T: _RawDiscriminatorRepresentable>(as type: T.Type) -> Int32 {
       guard let self$ = UnsafeMutablePointer<T>(bitPattern: Int(selfPointer)) else {
@@ -41,6 +35,51 @@ extension SwiftObjects {
     return perform(as: typeMetadata)
   }
 
+  @JavaMethod
+  public static func getRawDiscriminators(
+    environment: UnsafeMutablePointer<JNIEnv?>!,
+    selfPointers: [Int64],
+    selfTypePointers: [Int64]
+  ) -> [Int32] {
+    precondition(selfPointers.count == selfTypePointers.count, "Mismatched number of values and type metadata addresses")
+    var result: [Int32] = []
+    result.reserveCapacity(selfPointers.count)
+
+    // Values are almost always of the same type, so the conformance
+    // lookup is only performed once per run of values of the same type.
+    var start = 0
+    while start < selfPointers.count {
+      let selfTypePointer = selfTypePointers[start]
+      var end = start + 1
+      while end < selfPointers.count && selfTypePointers[end] == selfTypePointer {
+        end += 1
+      }
+
+      func perform<T: _RawDiscriminatorRepresentable>(as type: T.Type) {
+        for selfPointer in selfPointers[start..<end] {
+          guard let self$ = UnsafeMutablePointer<T>(bitPattern: Int(selfPointer)) else {
+            fatalError("self memory address was null")
+          }
+          result.append(self$.pointee._rawDiscriminator)
+        }
+      }
+      perform(as: rawDiscriminatorRepresentableType(selfTypePointer))
+      start = end
+    }
+    return result
+  }
+
+  private static func rawDiscriminatorRepresentableType(_ selfTypePointer: Int64) -> any _RawDiscriminatorRepresentable.Type {
+    guard let selfType$ = UnsafeRawPointer(bitPattern: Int(selfTypePointer)) else {
+      fatalError("selfType metadata address was null")
+    }
+    let typeMetadata = unsafeBitCast(selfType$, to: Any.Type.self)
+    guard let typeMetadata = typeMetadata as? (any _RawDiscriminatorRepresentable.Type) else {
+      fatalError("_RawDiscriminatorRepresentable conformance did not found in \(typeMetadata)")
+    }
+    return typeMetadata
+  }
+
   @JavaMethod
   public static func toString(environment: UnsafeMutablePointer<JNIEnv?>!, selfPointer: Int64, selfTypePointer: Int64) -> String {
     guard let selfType$ = UnsafeRawPointer(bitPattern: Int(selfTypePointer)) else {
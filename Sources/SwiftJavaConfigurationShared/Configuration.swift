@@ -179,6 +179,35 @@ public struct Configuration: Codable {
     enableJavaCallbacks ?? false
   }
 
+  /// By enabling this mode, JExtract (JNI mode) will register the native methods of every
+  /// generated class with `RegisterNatives` when the class is initialized, rather than
+  /// leaving the JVM to link each of them by symbol name on its first call.
+  public var enableEagerNativeRegistration: Bool?
+  public var effectiveEnableEagerNativeRegistration: Bool {
+    enableEagerNativeRegistration ?? false
+  }
+
+  /// By enabling this mode, JExtract (FFM mode) will generate one downcall handle for every distinct
+  /// C signature, shared by all functions with that signature, rather than one handle per function.
+  public var enableSharedDowncallHandles: Bool?
+  public var effectiveEnableSharedDowncallHandles: Bool {
+    enableSharedDowncallHandles ?? false
+  }
+
+  /// By enabling this mode, JExtract (FFM mode) will lend arrays of fixed-width numbers returned from Swift
+  /// to Java in place, as a read-only `MemorySegment` that is valid until the passed arena ends, rather than copy them.
+  public var enableBorrowedArrayResults: Bool?
+  public var effectiveEnableBorrowedArrayResults: Bool {
+    enableBorrowedArrayResults ?? false
+  }
+
+  /// By enabling this mode, JExtract (FFM mode) will throw lightweight `SwiftJavaErrorException`s from throwing functions,
+  /// which share one automatic arena, fetch their message lazily, and skip the stack trace unless asked for one.
+  public var enableLightweightErrors: Bool?
+  public var effectiveEnableLightweightErrors: Bool {
+    enableLightweightErrors ?? false
+  }
+
   /// If specified, JExtract will output to this file a list of paths to all generated Java source files.
   public var generatedJavaSourcesListFileOutput: String?
 
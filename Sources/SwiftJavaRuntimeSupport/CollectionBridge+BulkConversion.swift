@@ -0,0 +1,275 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+import SwiftJava
+
+// ==== -----------------------------------------------------------------------
+// MARK: Bulk conversion of Java object arrays
+
+extension JobjectBridge {
+  /// Convert every element of a Java `Object[]` into a Swift value.
+  ///
+  /// Arrays of boxed primitives (`Long`, `Integer`, `Double`, ...) are unboxed
+  /// on the Java side in a single call and copied out with one `Get*ArrayRegion`,
+  /// rather than paying an `xxxValue()` upcall per element.
+  ///
+  /// Throws if unboxing raises a Java exception, e.g. a `NullPointerException`
+  /// for a `null` element.
+  public static func fromJavaObjectArray(_ array: jobjectArray?, in environment: JNIEnvironment) throws -> [SwiftType] {
+    guard let array else {
+      return []
+    }
+    let count = Int(environment.interface.GetArrayLength(environment, array))
+    if count == 0 {
+      return []
+    }
+
+    if let unboxed = try _unboxPrimitiveArray(array, as: SwiftType.self, in: environment) {
+      return unboxed
+    }
+
+    var result: [SwiftType] = []
+    result.reserveCapacity(count)
+    for i in 0..<count {
+      let javaElement = environment.interface.GetObjectArrayElement(environment, array, jsize(i))
+      // Don't let the local reference table grow with the size of the collection.
+      defer {
+        environment.interface.DeleteLocalRef(environment, javaElement)
+      }
+      try result.append(fromJavaObject(javaElement, in: environment))
+    }
+    return result
+  }
+}
+
+/// Unbox an `Object[]` of boxed Java primitives with a single upcall,
+/// returning `nil` if `Element` is not a primitive we can unbox in bulk.
+private func _unboxPrimitiveArray<Element>(
+  _ array: jobjectArray,
+  as elementType: Element.Type,
+  in environment: JNIEnvironment
+) throws -> [Element]? {
+  func unbox<Primitive: JavaValue>(_ method: jmethodID, as _: Primitive.Type) throws -> [Primitive] {
+    var args = [jvalue()]
+    args[0].l = array
+    // A null element throws a NullPointerException.
+    let unboxed = try environment.translatingJNIExceptions {
+      environment.interface.CallStaticObjectMethodA(
+        environment,
+        _JNIMethodIDCache.CollectionConversions.class,
+        method,
+        &args
+      )
+    }
+    defer {
+      environment.interface.DeleteLocalRef(environment, unboxed)
+    }
+    return [Primitive](fromJNI: unsafeBitCast(unboxed, to: [Primitive].JNIType.self), in: environment)
+  }
+
+  let methods = _JNIMethodIDCache.CollectionConversions.self
+  switch elementType {
+  case is Int64.Type:
+    return try unsafeBitCast(unbox(methods.unboxLongs, as: Int64.self), to: [Element].self)
+  case is Int.Type:
+    return try unsafeBitCast(unbox(methods.unboxLongs, as: Int64.self).map { Int($0) }, to: [Element].self)
+  case is Int32.Type:
+    return try unsafeBitCast(unbox(methods.unboxInts, as: Int32.self), to: [Element].self)
+  case is Int16.Type:
+    return try unsafeBitCast(unbox(methods.unboxShorts, as: Int16.self), to: [Element].self)
+  case is Int8.Type:
+    return try unsafeBitCast(unbox(methods.unboxBytes, as: Int8.self), to: [Element].self)
+  case is Double.Type:
+    return try unsafeBitCast(unbox(methods.unboxDoubles, as: Double.self), to: [Element].self)
+  case is Float.Type:
+    return try unsafeBitCast(unbox(methods.unboxFloats, as: Float.self), to: [Element].self)
+  case is Bool.Type:
+    return try unsafeBitCast(unbox(methods.unboxBooleans, as: Bool.self), to: [Element].self)
+  default:
+    return nil
+  }
+}
+
+// ==== -----------------------------------------------------------------------
+// MARK: Dictionary and Set from arbitrary Java collections
+
+extension Dictionary {
+  /// Create a Swift dictionary from any `java.util.Map`.
+  ///
+  /// A `SwiftDictionaryMap` is unwrapped without copying. Any other map is flattened
+  /// on the Java side into parallel key and value arrays with a single upcall,
+  /// which are then converted in bulk into a dictionary of reserved capacity.
+  /// Throws if flattening or converting the map raises a Java exception.
+  public init<KeyBridge: JobjectBridge, ValueBridge: JobjectBridge>(
+    fromJavaMap map: jobject?,
+    in environment: JNIEnvironment,
+    keyBridge: KeyBridge.Type,
+    valueBridge: ValueBridge.Type
+  ) throws where KeyBridge.SwiftType == Key, ValueBridge.SwiftType == Value {
+    guard let map else {
+      fatalError("Dictionary.init(fromJavaMap:) received a null Java object")
+    }
+
+    if environment.interface.IsInstanceOf(environment, map, _JNIMethodIDCache.SwiftDictionaryMap.class) == JNI_TRUE {
+      let selfPointer = environment.interface.CallLongMethodA(
+        environment,
+        map,
+        _JNIMethodIDCache.JNISwiftInstance.memoryAddress,
+        nil
+      )
+      self.init(fromJNI: selfPointer, in: environment, keyBridge: keyBridge, valueBridge: valueBridge)
+      return
+    }
+
+    var args = [jvalue()]
+    args[0].l = map
+    let flattened = try environment.translatingJNIExceptions {
+      environment.interface.CallStaticObjectMethodA(
+        environment,
+        _JNIMethodIDCache.CollectionConversions.class,
+        _JNIMethodIDCache.CollectionConversions.flattenMap,
+        &args
+      )
+    }
+    let keysAndValues = unsafeBitCast(flattened, to: jobjectArray?.self)
+    let javaKeys = unsafeBitCast(
+      environment.interface.GetObjectArrayElement(environment, keysAndValues, 0),
+      to: jobjectArray?.self
+    )
+    let javaValues = unsafeBitCast(
+      environment.interface.GetObjectArrayElement(environment, keysAndValues, 1),
+      to: jobjectArray?.self
+    )
+    defer {
+      environment.interface.DeleteLocalRef(environment, javaValues)
+      environment.interface.DeleteLocalRef(environment, javaKeys)
+      environment.interface.DeleteLocalRef(environment, flattened)
+    }
+
+    let keys = try KeyBridge.fromJavaObjectArray(javaKeys, in: environment)
+    let values = try ValueBridge.fromJavaObjectArray(javaValues, in: environment)
+    precondition(keys.count == values.count, "Flattened Java map must have as many keys as values")
+
+    self.init(minimumCapacity: keys.count)
+    for (key, value) in zip(keys, values) {
+      self[key] = value
+    }
+  }
+}
+
+extension Set {
+  /// Create a Swift set from any `java.util.Set`.
+  ///
+  /// A `SwiftSet` is unwrapped without copying. Any other set is copied into
+  /// an array on the Java side with a single upcall, which is then converted in bulk.
+  /// Throws if copying or converting the set raises a Java exception.
+  public init<ElementBridge: JobjectBridge>(
+    fromJavaSet set: jobject?,
+    in environment: JNIEnvironment,
+    elementBridge: ElementBridge.Type
+  ) throws where ElementBridge.SwiftType == Element {
+    guard let set else {
+      fatalError("Set.init(fromJavaSet:) received a null Java object")
+    }
+
+    if environment.interface.IsInstanceOf(environment, set, _JNIMethodIDCache.SwiftSet.class) == JNI_TRUE {
+      let selfPointer = environment.interface.CallLongMethodA(
+        environment,
+        set,
+        _JNIMethodIDCache.JNISwiftInstance.memoryAddress,
+        nil
+      )
+      self.init(fromJNI: selfPointer, in: environment, elementBridge: elementBridge)
+      return
+    }
+
+    var args = [jvalue()]
+    args[0].l = set
+    let flattened = try environment.translatingJNIExceptions {
+      environment.interface.CallStaticObjectMethodA(
+        environment,
+        _JNIMethodIDCache.CollectionConversions.class,
+        _JNIMethodIDCache.CollectionConversions.flattenCollection,
+        &args
+      )
+    }
+    let javaElements = unsafeBitCast(flattened, to: jobjectArray?.self)
+    defer {
+      environment.interface.DeleteLocalRef(environment, flattened)
+    }
+
+    let elements = try ElementBridge.fromJavaObjectArray(javaElements, in: environment)
+    self.init(minimumCapacity: elements.count)
+    for element in elements {
+      self.insert(element)
+    }
+  }
+}
+
+// ==== -----------------------------------------------------------------------
+// MARK: Primitive arrays from Java lists
+
+extension List where E == JavaInteger {
+  /// Copy the elements of this `List<Integer>` into a Swift array.
+  ///
+  /// The list is unboxed on the Java side into an `int[]`, which is copied out
+  /// with a single `GetIntArrayRegion`, rather than calling `intValue()` per element.
+  /// Throws a `NullPointerException` if the list contains `null`.
+  public func toInt32Array() throws -> [Int32] {
+    try _unboxedElements(of: self, as: JavaBoxableBridge<Int32>.self)
+  }
+}
+
+extension List where E == JavaLong {
+  /// Copy the elements of this `List<Long>` into a Swift array.
+  ///
+  /// The list is unboxed on the Java side into a `long[]`, which is copied out
+  /// with a single `GetLongArrayRegion`, rather than calling `longValue()` per element.
+  /// Throws a `NullPointerException` if the list contains `null`.
+  public func toInt64Array() throws -> [Int64] {
+    try _unboxedElements(of: self, as: JavaBoxableBridge<Int64>.self)
+  }
+}
+
+extension List where E == JavaDouble {
+  /// Copy the elements of this `List<Double>` into a Swift array.
+  ///
+  /// The list is unboxed on the Java side into a `double[]`, which is copied out
+  /// with a single `GetDoubleArrayRegion`, rather than calling `doubleValue()` per element.
+  /// Throws a `NullPointerException` if the list contains `null`.
+  public func toDoubleArray() throws -> [Double] {
+    try _unboxedElements(of: self, as: JavaBoxableBridge<Double>.self)
+  }
+}
+
+private func _unboxedElements<ElementBridge: JobjectBridge>(
+  of list: some AnyJavaObject,
+  as elementBridge: ElementBridge.Type
+) throws -> [ElementBridge.SwiftType] {
+  let environment = try JavaVirtualMachine.shared().environment()
+  var args = [jvalue()]
+  args[0].l = list.javaThis
+  let flattened = try environment.translatingJNIExceptions {
+    environment.interface.CallStaticObjectMethodA(
+      environment,
+      _JNIMethodIDCache.CollectionConversions.class,
+      _JNIMethodIDCache.CollectionConversions.flattenCollection,
+      &args
+    )
+  }
+  defer {
+    environment.interface.DeleteLocalRef(environment, flattened)
+  }
+  return try ElementBridge.fromJavaObjectArray(unsafeBitCast(flattened, to: jobjectArray?.self), in: environment)
+}
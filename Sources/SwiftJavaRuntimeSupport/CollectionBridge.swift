@@ -30,17 +30,11 @@ public enum DictionaryBridge<KeyBridge: JobjectBridge, ValueBridge: JobjectBridg
     )
   }
 
-  public static func fromJavaObject(_ obj: jobject?, in environment: JNIEnvironment) -> SwiftType {
+  public static func fromJavaObject(_ obj: jobject?, in environment: JNIEnvironment) throws -> SwiftType {
     guard let obj else {
       fatalError("Dictionary.fromJavaObject received a null Java object")
     }
-    let selfPointer = environment.interface.CallLongMethodA(
-      environment,
-      obj,
-      _JNIMethodIDCache.JNISwiftInstance.memoryAddress,
-      nil
-    )
-    return SwiftType(fromJNI: selfPointer, in: environment, keyBridge: KeyBridge.self, valueBridge: ValueBridge.self)
+    return try SwiftType(fromJavaMap: obj, in: environment, keyBridge: KeyBridge.self, valueBridge: ValueBridge.self)
   }
 
   public static func withJNIClass<Result>(
@@ -67,17 +61,11 @@ public enum SetBridge<ElementBridge: JobjectBridge>: JobjectBridge where Element
     )
   }
 
-  public static func fromJavaObject(_ obj: jobject?, in environment: JNIEnvironment) -> SwiftType {
+  public static func fromJavaObject(_ obj: jobject?, in environment: JNIEnvironment) throws -> SwiftType {
     guard let obj else {
       fatalError("Set.fromJavaObject received a null Java object")
     }
-    let selfPointer = environment.interface.CallLongMethodA(
-      environment,
-      obj,
-      _JNIMethodIDCache.JNISwiftInstance.memoryAddress,
-      nil
-    )
-    return SwiftType(fromJNI: selfPointer, in: environment, elementBridge: ElementBridge.self)
+    return try SwiftType(fromJavaSet: obj, in: environment, elementBridge: ElementBridge.self)
   }
 
   public static func withJNIClass<Result>(
@@ -111,7 +99,7 @@ public enum OptionalBridge<WrappedBridge: JobjectBridge>: JobjectBridge {
     }
   }
 
-  public static func fromJavaObject(_ obj: jobject?, in environment: JNIEnvironment) -> SwiftType {
+  public static func fromJavaObject(_ obj: jobject?, in environment: JNIEnvironment) throws -> SwiftType {
     guard let obj else {
       fatalError("Optional.fromJavaObject received a null Java object")
     }
@@ -132,7 +120,7 @@ public enum OptionalBridge<WrappedBridge: JobjectBridge>: JobjectBridge {
       _JNIMethodIDCache.JavaOptional.get,
       nil
     )
-    return WrappedBridge.fromJavaObject(wrapped, in: environment)
+    return try WrappedBridge.fromJavaObject(wrapped, in: environment)
   }
 
   public static func withJNIClass<Result>(
@@ -167,22 +155,13 @@ public enum ArrayBridge<ElementBridge: JobjectBridge>: JobjectBridge {
     }
   }
 
-  public static func fromJavaObject(_ obj: jobject?, in environment: JNIEnvironment) -> SwiftType {
+  public static func fromJavaObject(_ obj: jobject?, in environment: JNIEnvironment) throws -> SwiftType {
     guard let obj else {
       fatalError("Array.fromJavaObject received a null Java object")
     }
 
     let array = unsafeBitCast(obj, to: jobjectArray?.self)
-    let count = Int(environment.interface.GetArrayLength(environment, array))
-    var result: SwiftType = []
-    result.reserveCapacity(count)
-
-    for i in 0..<count {
-      let javaElement = environment.interface.GetObjectArrayElement(environment, array, jsize(i))
-      result.append(ElementBridge.fromJavaObject(javaElement, in: environment))
-    }
-
-    return result
+    return try ElementBridge.fromJavaObjectArray(array, in: environment)
   }
 
   public static func withJNIClass<Result>(
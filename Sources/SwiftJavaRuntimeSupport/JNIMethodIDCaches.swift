@@ -163,6 +163,119 @@ extension _JNIMethodIDCache {
     }
   }
 
+  public enum CollectionConversions {
+    private static let flattenMapMethod = Method(
+      name: "flattenMap",
+      signature: "(Ljava/util/Map;)[[Ljava/lang/Object;",
+      isStatic: true
+    )
+
+    private static let flattenCollectionMethod = Method(
+      name: "flattenCollection",
+      signature: "(Ljava/util/Collection;)[Ljava/lang/Object;",
+      isStatic: true
+    )
+
+    private static let unboxLongsMethod = Method(
+      name: "unboxLongs",
+      signature: "([Ljava/lang/Object;)[J",
+      isStatic: true
+    )
+
+    private static let unboxIntsMethod = Method(
+      name: "unboxInts",
+      signature: "([Ljava/lang/Object;)[I",
+      isStatic: true
+    )
+
+    private static let unboxShortsMethod = Method(
+      name: "unboxShorts",
+      signature: "([Ljava/lang/Object;)[S",
+      isStatic: true
+    )
+
+    private static let unboxBytesMethod = Method(
+      name: "unboxBytes",
+      signature: "([Ljava/lang/Object;)[B",
+      isStatic: true
+    )
+
+    private static let unboxDoublesMethod = Method(
+      name: "unboxDoubles",
+      signature: "([Ljava/lang/Object;)[D",
+      isStatic: true
+    )
+
+    private static let unboxFloatsMethod = Method(
+      name: "unboxFloats",
+      signature: "([Ljava/lang/Object;)[F",
+      isStatic: true
+    )
+
+    private static let unboxBooleansMethod = Method(
+      name: "unboxBooleans",
+      signature: "([Ljava/lang/Object;)[Z",
+      isStatic: true
+    )
+
+    private static let cache = _JNIMethodIDCache(
+      className: "org/swift/swiftkit/core/collections/CollectionConversions",
+      methods: [
+        flattenMapMethod,
+        flattenCollectionMethod,
+        unboxLongsMethod,
+        unboxIntsMethod,
+        unboxShortsMethod,
+        unboxBytesMethod,
+        unboxDoublesMethod,
+        unboxFloatsMethod,
+        unboxBooleansMethod,
+      ]
+    )
+
+    public static var `class`: jclass {
+      cache.javaClass
+    }
+
+    /// CollectionConversions.flattenMap(Map) -> Object[][] { keys, values }
+    public static var flattenMap: jmethodID {
+      cache.methods[flattenMapMethod]!
+    }
+
+    /// CollectionConversions.flattenCollection(Collection) -> Object[]
+    public static var flattenCollection: jmethodID {
+      cache.methods[flattenCollectionMethod]!
+    }
+
+    public static var unboxLongs: jmethodID {
+      cache.methods[unboxLongsMethod]!
+    }
+
+    public static var unboxInts: jmethodID {
+      cache.methods[unboxIntsMethod]!
+    }
+
+    public static var unboxShorts: jmethodID {
+      cache.methods[unboxShortsMethod]!
+    }
+
+    public static var unboxBytes: jmethodID {
+      cache.methods[unboxBytesMethod]!
+    }
+
+    public static var unboxDoubles: jmethodID {
+      cache.methods[unboxDoublesMethod]!
+    }
+
+    public static var unboxFloats: jmethodID {
+      cache.methods[unboxFloatsMethod]!
+    }
+
+    public static var unboxBooleans: jmethodID {
+      cache.methods[unboxBooleansMethod]!
+    }
+  }
+
   public enum JavaOptional {
     private static let emptyMethod = Method(
       name: "empty",
@@ -0,0 +1,89 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+import SwiftJava
+import SwiftJavaJNICore
+
+/// A native method of a Java class, together with the `@_cdecl` thunk implementing it.
+///
+/// This type is used internally by the outputted JExtract wrappers
+/// when `enableEagerNativeRegistration` is enabled.
+public struct _JNINativeMethod {
+  public let name: String
+  public let signature: String
+  public let function: UnsafeMutableRawPointer
+
+  public init(name: String, signature: String, function: UnsafeMutableRawPointer) {
+    self.name = name
+    self.signature = signature
+    self.function = function
+  }
+}
+
+/// Registers the native methods of a generated Java class with the JVM in one batch.
+///
+/// Without registration, the JVM links every native method on its first call,
+/// by looking up its `Java_...` symbol in all loaded libraries.
+public enum _JNINativeRegistration {
+
+  /// Binds `methods` to the native methods of `javaClass` with a single `RegisterNatives` call.
+  ///
+  /// Returns `false` if the class does not declare one of the methods, in which case the pending
+  /// exception is cleared and the class keeps linking its native methods lazily by symbol name.
+  public static func register(
+    _ methods: [_JNINativeMethod],
+    for javaClass: jclass,
+    in environment: UnsafeMutablePointer<JNIEnv?>!,
+  ) -> Bool {
+    if methods.isEmpty {
+      return true
+    }
+
+    // The JVM resolves the names while registering, and does not keep the strings.
+    var cStrings: [UnsafeMutablePointer<CChar>] = []
+    cStrings.reserveCapacity(methods.count * 2)
+    defer {
+      for cString in cStrings {
+        cString.deallocate()
+      }
+    }
+
+    var nativeMethods: [JNINativeMethod] = []
+    nativeMethods.reserveCapacity(methods.count)
+    for method in methods {
+      let name = makeCString(method.name)
+      let signature = makeCString(method.signature)
+      cStrings.append(name)
+      cStrings.append(signature)
+      nativeMethods.append(JNINativeMethod(name: name, signature: signature, fnPtr: method.function))
+    }
+
+    let result = environment.interface.RegisterNatives(environment, javaClass, nativeMethods, jint(nativeMethods.count))
+    if result != JNI_OK {
+      // Clear the NoSuchMethodError, lazy linking still works for every method.
+      environment.interface.ExceptionClear(environment)
+      return false
+    }
+    return true
+  }
+
+  private static func makeCString(_ string: String) -> UnsafeMutablePointer<CChar> {
+    let utf8 = string.utf8CString
+    let cString = UnsafeMutablePointer<CChar>.allocate(capacity: utf8.count)
+    utf8.withUnsafeBufferPointer { buffer in
+      cString.initialize(from: buffer.baseAddress!, count: buffer.count)
+    }
+    return cString
+  }
+}
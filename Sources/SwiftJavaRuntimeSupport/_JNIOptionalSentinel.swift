@@ -0,0 +1,28 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+/// Values that generated JNI thunks return for a `nil` 64-bit primitive `Optional`.
+///
+/// A `Int64?` or `Double?` result has no spare bits for a discriminator, so `nil` is
+/// returned as one of these sentinels instead. Only when a non-`nil` result happens to
+/// equal the sentinel does the thunk write the discriminator byte as well.
+///
+/// These must match `org.swift.swiftkit.core.JNIOptionalSupport`.
+public enum _JNIOptionalSentinel {
+  public static let int64: Int64 = 0x5357_4946_545F_4E4F
+
+  /// The bits of a quiet NaN with a distinct payload, so ordinary results
+  /// (including `Double.nan`) practically never collide with it.
+  public static let doubleBitPattern: UInt64 = 0x7FFC_5357_4946_544E
+}
@@ -96,6 +96,34 @@ extension SwiftJava {
     )
     var enableJavaCallbacks: Bool?
 
+    @Flag(
+      inversion: .prefixedNo,
+      help:
+        "By enabling this mode, JExtract will register the native methods of every generated class in one batch when the class is initialized, instead of the JVM linking each of them lazily by symbol name. This feature is only supported in 'jni' mode.",
+    )
+    var enableEagerNativeRegistration: Bool?
+
+    @Flag(
+      inversion: .prefixedNo,
+      help:
+        "By enabling this mode, JExtract will generate one downcall handle per distinct C signature, shared by all functions with that signature, instead of one per function. This feature is only supported in 'ffm' mode.",
+    )
+    var enableSharedDowncallHandles: Bool?
+
+    @Flag(
+      inversion: .prefixedNo,
+      help:
+        "By enabling this mode, JExtract will return arrays of fixed-width numbers as read-only memory segments borrowing the Swift array storage, valid until the passed arena ends, in addition to copying them. This feature is only supported in 'ffm' mode.",
+    )
+    var enableBorrowedArrayResults: Bool?
+
+    @Flag(
+      inversion: .prefixedNo,
+      help:
+        "By enabling this mode, JExtract will throw lightweight errors from throwing functions, which share one automatic arena, fetch their message lazily, and only record a stack trace when the 'swift-java.errors.stack-traces' system property is set. This feature is only supported in 'ffm' mode.",
+    )
+    var enableLightweightErrors: Bool?
+
     @Option(help: "If specified, JExtract will output to this file a list of paths to all generated Java source files")
     var generatedJavaSourcesListFileOutput: String?
 
@@ -152,6 +180,10 @@ extension SwiftJava.JExtractCommand {
 
     configure(&config.writeEmptyFiles, overrideWith: writeEmptyFiles)
     configure(&config.enableJavaCallbacks, overrideWith: enableJavaCallbacks)
+    configure(&config.enableEagerNativeRegistration, overrideWith: enableEagerNativeRegistration)
+    configure(&config.enableSharedDowncallHandles, overrideWith: enableSharedDowncallHandles)
+    configure(&config.enableBorrowedArrayResults, overrideWith: enableBorrowedArrayResults)
+    configure(&config.enableLightweightErrors, overrideWith: enableLightweightErrors)
 
     configure(&config.minimumInputAccessLevelMode, overrideWith: self.minimumInputAccessLevelMode)
     configure(&config.memoryManagementMode, overrideWith: self.memoryManagementMode)
@@ -193,6 +225,22 @@ extension SwiftJava.JExtractCommand {
       if let enableJavaCallbacks = config.enableJavaCallbacks, enableJavaCallbacks {
         throw IllegalModeCombinationError("FFM mode does not support enabling Java callbacks! \(Self.helpMessage())")
       }
+
+      if let enableEagerNativeRegistration = config.enableEagerNativeRegistration, enableEagerNativeRegistration {
+        throw IllegalModeCombinationError("FFM mode does not support eager native registration! \(Self.helpMessage())")
+      }
+    }
+
+    if config.effectiveMode == .jni {
+      if let enableSharedDowncallHandles = config.enableSharedDowncallHandles, enableSharedDowncallHandles {
+        throw IllegalModeCombinationError("JNI mode does not support shared downcall handles! \(Self.helpMessage())")
+      }
+      if let enableBorrowedArrayResults = config.enableBorrowedArrayResults, enableBorrowedArrayResults {
+        throw IllegalModeCombinationError("JNI mode does not support borrowed array results! \(Self.helpMessage())")
+      }
+      if let enableLightweightErrors = config.enableLightweightErrors, enableLightweightErrors {
+        throw IllegalModeCombinationError("JNI mode does not support lightweight errors! \(Self.helpMessage())")
+      }
     }
   }
 }
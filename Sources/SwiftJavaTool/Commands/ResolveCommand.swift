@@ -39,6 +39,9 @@ extension SwiftJava {
       swiftModule
     }
 
+    @Flag(help: "Resolve the dependencies again, even if the lockfile in the output directory matches them.")
+    var refreshDependencies: Bool = false
+
     @Argument(
       help: """
         Additional configuration paths (swift-java.config) files, with defined 'dependencies', \
@@ -68,9 +71,6 @@ extension SwiftJava.ResolveCommand {
       return
     }
 
-    let dependenciesClasspath =
-      try await resolveDependencies(swiftModule: swiftModule, dependencies: dependenciesToResolve)
-
     // FIXME: disentangle the output directory from SwiftJava and then make it a required option in this Command
     guard let outputDirectory = self.commonOptions.outputDirectory else {
       fatalError(
@@ -78,6 +78,14 @@ extension SwiftJava.ResolveCommand {
       )
     }
 
+    let dependenciesClasspath =
+      try await resolveDependencies(
+        swiftModule: swiftModule,
+        dependencies: dependenciesToResolve,
+        mavenRepositories: config.mavenRepositories,
+        lockfile: URL(fileURLWithPath: outputDirectory).appendingPathComponent("\(swiftModule).swift-java.lock")
+      )
+
     try writeSwiftJavaClasspathFile(
       swiftModule: swiftModule,
       outputDirectory: outputDirectory,
@@ -91,11 +99,15 @@ extension SwiftJava.ResolveCommand {
   ///   - swiftModule: module name from --swift-module. e.g.: --swift-module MySwiftModule
   ///   - dependencies: parsed maven-style dependency descriptors (groupId:artifactId:version)
   ///                   from Sources/MySwiftModule/swift-java.config "dependencies" array.
+  ///   - mavenRepositories: repositories from swift-java.config "mavenRepositories", defaulting to Maven Central.
+  ///   - lockfile: lockfile recording the classpath of an earlier resolution, reused if it still matches.
   ///
   /// - Throws:
   func resolveDependencies(
     swiftModule: String,
-    dependencies: [JavaDependencyDescriptor]
+    dependencies: [JavaDependencyDescriptor],
+    mavenRepositories: [MavenRepositoryDescriptor]? = nil,
+    lockfile: URL? = nil
   ) async throws -> ResolvedDependencyClasspath {
     let deps = dependencies.map { $0.descriptionGradleStyle }
     log.debug("Resolve and fetch dependencies for: \(deps)")
@@ -103,9 +115,22 @@ extension SwiftJava.ResolveCommand {
     let workDir = URL(fileURLWithPath: FileManager.default.currentDirectoryPath)
       .appendingPathComponent(".build")
 
-    let dependenciesClasspath = await resolveDependencies(workDir: workDir, dependencies: dependencies)
+    let clock = ContinuousClock()
+    let start = clock.now
+    let (dependenciesClasspath, source) = await resolveDependencies(
+      workDir: workDir,
+      dependencies: dependencies,
+      mavenRepositories: mavenRepositories,
+      lockfile: lockfile
+    )
+    let elapsed = (clock.now - start).components
+    let milliseconds = elapsed.seconds * 1000 + elapsed.attoseconds / 1_000_000_000_000_000
     let classpathEntries = dependenciesClasspath.split(separator: ":")
 
+    print(
+      "[swift-java] Resolved \(classpathEntries.count) classpath entries for '\(swiftModule)' "
+        + "from \(source.rawValue) in \(milliseconds) ms"
+    )
     log.info("Resolved classpath for \(deps.count) dependencies of '\(swiftModule)', classpath entries: \(classpathEntries.count)")
 
     for entry in classpathEntries {
@@ -118,12 +143,13 @@ extension SwiftJava.ResolveCommand {
   /// Resolves maven-style dependencies from swift-java.config under temporary project directory.
   ///
   /// - Parameter dependencies: maven-style dependencies to resolve
-  /// - Returns: Colon-separated classpath
+  /// - Returns: Colon-separated classpath, and where it was resolved from
   func resolveDependencies(
     workDir: URL,
     dependencies: [JavaDependencyDescriptor],
-    mavenRepositories: [MavenRepositoryDescriptor]? = nil
-  ) async -> String {
+    mavenRepositories: [MavenRepositoryDescriptor]? = nil,
+    lockfile: URL? = nil
+  ) async -> (classpath: String, source: JavaDependencyResolver.Source) {
     log.debug("Create directory: \(workDir.absoluteString)")
 
     var resolveConfig = SwiftJavaConfigurationShared.Configuration()
@@ -131,7 +157,12 @@ extension SwiftJava.ResolveCommand {
     resolveConfig.mavenRepositories = mavenRepositories
 
     do {
-      return try await JavaDependencyResolver.resolve(config: resolveConfig, workDir: workDir)
+      return try await JavaDependencyResolver.resolve(
+        config: resolveConfig,
+        workDir: workDir,
+        lockfile: lockfile,
+        refresh: refreshDependencies
+      )
     } catch {
       fatalError("Failed to resolve dependencies: \(error)")
     }
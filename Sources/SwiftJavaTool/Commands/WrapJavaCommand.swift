@@ -13,6 +13,7 @@
 //===----------------------------------------------------------------------===//
 
 import ArgumentParser
+import CodePrinting
 import Foundation
 import JavaUtilJar
 import Logging
@@ -130,17 +131,40 @@ extension SwiftJava.WrapJavaCommand {
 
     let jvm = try self.makeJVM(classpathEntries: classpathEntries)
 
+    let generatedFiles = GeneratedFiles()
     try self.generateWrappers(
       config: config,
       // classpathEntries: classpathEntries,
       dependencyConfigs: dependencyConfigs,
-      environment: jvm.environment()
+      environment: jvm.environment(),
+      recordingIn: generatedFiles
     )
+
+    // Only prune a dedicated output directory, not the default one in the module's sources.
+    if self.commonOptions.outputDirectory != nil, let outputDirectory = self.actualOutputDirectory {
+      try generatedFiles.pruneStaleFiles(
+        in: [outputDirectory.path],
+        manifestName: ".\(effectiveSwiftModule).wrap-java-generated-files"
+      )
+    }
+    print("[swift-java] Generated Swift wrappers: \(generatedFiles.summary)")
   }
 }
 
 extension SwiftJava.WrapJavaCommand {
 
+  /// Generate the wrappers, recording which files were written or left unchanged in `generatedFiles`.
+  mutating func generateWrappers(
+    config: Configuration,
+    dependencyConfigs: [NamedDependencyConfig],
+    environment: JNIEnvironment,
+    recordingIn generatedFiles: GeneratedFiles
+  ) throws {
+    try GeneratedFiles.$current.withValue(generatedFiles) {
+      try generateWrappers(config: config, dependencyConfigs: dependencyConfigs, environment: environment)
+    }
+  }
+
   mutating func generateWrappers(
     config: Configuration,
     dependencyConfigs: [NamedDependencyConfig],
@@ -13,6 +13,7 @@
 //===----------------------------------------------------------------------===//
 
 import ArgumentParser
+import CodePrinting
 import Foundation
 import JExtractSwiftLib
 import JavaLangReflect
@@ -94,8 +95,11 @@ extension SwiftJavaBaseAsyncParsableCommand {
     // Write the file:
     let file = outputDir.appendingPathComponent(filename)
     print("[trace][swift-java] Writing \(description) to '\(file.path)'... ", terminator: "")
-    try contents.write(to: file, atomically: true, encoding: .utf8)
-    print("done.".green)
+    if try GeneratedFiles.write(contents, to: file) {
+      print("done.".green)
+    } else {
+      print("unchanged.".green)
+    }
   }
 }
 
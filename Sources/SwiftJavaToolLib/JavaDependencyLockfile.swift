@@ -0,0 +1,71 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+import CodePrinting
+import Foundation
+import SwiftJavaConfigurationShared
+
+/// Records the classpath resolved for a list of dependencies and repositories, so that resolving them
+/// again does not need to run Gradle, or even access the network.
+///
+/// The lockfile is plain JSON with sorted keys, so it can be checked in to make builds reproducible.
+public struct JavaDependencyLockfile: Codable, Equatable {
+  /// The dependencies the classpath was resolved for.
+  public var dependencies: [JavaDependencyDescriptor]
+
+  /// The repositories the classpath was resolved from.
+  public var repositories: [MavenRepositoryDescriptor]
+
+  /// The resolved classpath entries, in order.
+  public var classpath: [String]
+
+  public init(
+    dependencies: [JavaDependencyDescriptor],
+    repositories: [MavenRepositoryDescriptor],
+    classpath: [String]
+  ) {
+    self.dependencies = dependencies
+    self.repositories = repositories
+    self.classpath = classpath
+  }
+
+  /// Whether this lockfile can be used in place of resolving `dependencies` from `repositories`.
+  ///
+  /// A lockfile whose classpath entries have been removed, e.g. by cleaning the Gradle cache, is not valid.
+  public func isValid(
+    for dependencies: [JavaDependencyDescriptor],
+    repositories: [MavenRepositoryDescriptor]
+  ) -> Bool {
+    self.dependencies == dependencies
+      && self.repositories == repositories
+      && classpath.allSatisfy { FileManager.default.fileExists(atPath: $0) }
+  }
+
+  /// Returns nil if the file does not exist or cannot be decoded, e.g. because it was written by another version.
+  public static func read(from url: URL) -> JavaDependencyLockfile? {
+    guard let data = FileManager.default.contents(atPath: url.path) else {
+      return nil
+    }
+    return try? JSONDecoder().decode(JavaDependencyLockfile.self, from: data)
+  }
+
+  public func write(to url: URL) throws {
+    let encoder = JSONEncoder()
+    encoder.outputFormatting = [.prettyPrinted, .sortedKeys]
+    let data = try encoder.encode(self)
+    try FileManager.default.createDirectory(at: url.deletingLastPathComponent(), withIntermediateDirectories: true)
+    try GeneratedFiles.write(String(decoding: data, as: UTF8.self), to: url)
+  }
+}
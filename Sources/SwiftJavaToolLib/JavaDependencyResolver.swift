@@ -29,7 +29,8 @@ import System
 /// Resolves Java/Maven dependencies using Gradle, with support for custom repositories.
 ///
 /// The resolver creates a temporary Gradle project, runs dependency resolution,
-/// and returns the resulting classpath.
+/// and returns the resulting classpath. Dependencies found in Maven repositories on disk
+/// are resolved without Gradle, see ``MavenLocalRepositoryResolver``.
 public struct JavaDependencyResolver {
 
   static let SwiftJavaClasspathPrefix = "SWIFT_JAVA_CLASSPATH:"
@@ -48,11 +49,75 @@ public struct JavaDependencyResolver {
     config: SwiftJavaConfigurationShared.Configuration,
     workDir: URL
   ) async throws -> String {
+    try await resolve(config: config, workDir: workDir, lockfile: nil).classpath
+  }
+
+  /// Where a resolved classpath came from.
+  public enum Source: String, Sendable {
+    /// A lockfile written by an earlier resolution of the same dependencies and repositories.
+    case lockfile
+    /// Maven repositories on disk, read without running Gradle.
+    case localRepositories = "local repositories"
+    case gradle
+  }
+
+  /// Resolve dependencies, reusing the classpath recorded in `lockfile` if it matches them.
+  ///
+  /// The lockfile is reused as long as it was written for the same dependencies and repositories, and all
+  /// of its classpath entries still exist. Otherwise, dependencies which are all available in Maven
+  /// repositories on disk are resolved without starting Gradle, and only the remaining cases run Gradle.
+  /// The lockfile is then updated with the new classpath.
+  ///
+  /// - Parameters:
+  ///   - config: Configuration containing dependencies and optional repositories.
+  ///   - workDir: Working directory for creating the temporary Gradle project.
+  ///   - lockfile: Location of the lockfile to reuse and update, if any.
+  ///   - refresh: Whether to ignore an existing lockfile, e.g. to pick up newly published snapshots.
+  /// - Returns: Colon-separated classpath string of resolved dependencies, and where it came from.
+  public static func resolve(
+    config: SwiftJavaConfigurationShared.Configuration,
+    workDir: URL,
+    lockfile: URL?,
+    refresh: Bool = false
+  ) async throws -> (classpath: String, source: Source) {
     let dependencies = config.dependencies ?? []
     guard !dependencies.isEmpty else {
       throw JavaDependencyResolverError.noDependencies
     }
+    let repositories = config.mavenRepositories ?? [.mavenCentral]
 
+    if let lockfile, !refresh,
+      let locked = JavaDependencyLockfile.read(from: lockfile),
+      locked.isValid(for: dependencies, repositories: repositories)
+    {
+      return (locked.classpath.joined(separator: ":"), .lockfile)
+    }
+
+    let classpath: String
+    let source: Source
+    if let localClasspath = MavenLocalRepositoryResolver(repositories: repositories)?.resolve(dependencies) {
+      classpath = localClasspath.joined(separator: ":")
+      source = .localRepositories
+    } else {
+      classpath = try await resolveWithGradle(dependencies: dependencies, repositories: repositories, workDir: workDir)
+      source = .gradle
+    }
+
+    if let lockfile {
+      try JavaDependencyLockfile(
+        dependencies: dependencies,
+        repositories: repositories,
+        classpath: classpath.split(separator: ":").map(String.init)
+      ).write(to: lockfile)
+    }
+    return (classpath, source)
+  }
+
+  static func resolveWithGradle(
+    dependencies: [JavaDependencyDescriptor],
+    repositories: [MavenRepositoryDescriptor],
+    workDir: URL
+  ) async throws -> String {
     let resolverDir = try createTemporaryDirectory(in: workDir)
     defer {
       try? FileManager.default.removeItem(at: resolverDir)
@@ -62,7 +127,7 @@ public struct JavaDependencyResolver {
     try writeGradleProject(
       directory: resolverDir,
       dependencies: dependencies,
-      repositories: config.mavenRepositories ?? [.mavenCentral]
+      repositories: repositories
     )
 
     return try await runGradle(in: resolverDir)
@@ -0,0 +1,426 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+import Foundation
+import SwiftJavaConfigurationShared
+
+#if canImport(FoundationXML)
+import FoundationXML
+#endif
+
+// ==== -----------------------------------------------------------------------
+// MARK: MavenLocalRepositoryResolver
+
+/// Resolves dependencies from Maven repositories on disk, such as `mavenLocal()`, without running Gradle.
+///
+/// Transitive dependencies are read from the `.pom` files next to the jars, including the properties,
+/// dependencies and dependency management inherited from parent POMs. Only the `compile` and `runtime`
+/// scopes are followed, and optional dependencies and exclusions are honored.
+///
+/// Whenever Gradle could resolve a dependency differently, e.g. because of a version conflict which
+/// Gradle settles by picking the highest version, a BOM import, a missing parent POM, or a coordinate
+/// with an undefined property, this resolver gives up and returns nil, so that the caller falls back to Gradle.
+struct MavenLocalRepositoryResolver {
+  struct Repository {
+    let root: URL
+    /// If set, only these groups are resolved from this repository.
+    let includeGroups: [String]?
+  }
+
+  let repositories: [Repository]
+
+  /// Returns nil if any of the repositories is not on disk.
+  init?(repositories: [MavenRepositoryDescriptor]) {
+    var localRepositories: [Repository] = []
+    for repository in repositories {
+      switch repository {
+      case .mavenLocal(let includeGroups):
+        let root = FileManager.default.homeDirectoryForCurrentUser
+          .appendingPathComponent(".m2")
+          .appendingPathComponent("repository")
+        localRepositories.append(Repository(root: root, includeGroups: includeGroups))
+      case .maven(let url, let artifactUrls):
+        guard artifactUrls?.isEmpty ?? true, let root = Self.localRoot(url) else {
+          return nil
+        }
+        localRepositories.append(Repository(root: root, includeGroups: nil))
+      case .mavenCentral, .google:
+        return nil
+      }
+    }
+    self.repositories = localRepositories
+  }
+
+  /// A plain path, or a `file:` URL.
+  private static func localRoot(_ url: String) -> URL? {
+    if url.hasPrefix("file:") {
+      return URL(string: url).flatMap { $0.isFileURL ? $0 : nil }
+    }
+    guard !url.contains("://") else {
+      return nil
+    }
+    return URL(fileURLWithPath: url)
+  }
+
+  /// The jar files of the dependencies and their transitive runtime dependencies, in breadth-first order.
+  func resolve(_ dependencies: [JavaDependencyDescriptor]) -> [String]? {
+    struct Pending {
+      let dependency: JavaDependencyDescriptor
+      let exclusions: Set<MavenPOM.Exclusion>
+    }
+
+    var classpath: [String] = []
+    var resolvedVersions: [String: String] = [:]
+    var queue = dependencies.map { Pending(dependency: $0, exclusions: []) }
+    var index = 0
+    while index < queue.count {
+      let pending = queue[index]
+      index += 1
+      let dependency = pending.dependency
+
+      let module = "\(dependency.groupID):\(dependency.artifactID)"
+      if let resolvedVersion = resolvedVersions[module] {
+        // Gradle would pick the highest version, and its dependencies, which may differ from the nearest one.
+        guard resolvedVersion == dependency.version else {
+          return nil
+        }
+        continue
+      }
+      resolvedVersions[module] = dependency.version
+
+      guard let repository = repository(containing: dependency) else {
+        return nil
+      }
+      // Like Gradle, require the metadata rather than assuming a jar without dependencies.
+      guard let pom = effectivePOM(of: dependency, in: repository) else {
+        return nil
+      }
+      // The dependency management of an imported BOM is not read, and may apply to any dependency.
+      guard !pom.importsDependencyManagement || pom.dependencies.isEmpty else {
+        return nil
+      }
+      if pom.packaging ?? "jar" != "pom" {
+        let jar = artifactDirectory(of: dependency, in: repository)
+          .appendingPathComponent("\(dependency.artifactID)-\(dependency.version).jar")
+        guard FileManager.default.fileExists(atPath: jar.path) else {
+          return nil
+        }
+        classpath.append(jar.path)
+      }
+
+      for transitive in pom.dependencies where transitive.isRuntimeDependency {
+        guard !pending.exclusions.contains(where: { $0.matches(transitive) }) else {
+          continue
+        }
+        guard let descriptor = transitive.descriptor else {
+          // Not resolvable without the full Maven model, e.g. a version from an imported BOM.
+          return nil
+        }
+        queue.append(Pending(dependency: descriptor, exclusions: pending.exclusions.union(transitive.exclusions)))
+      }
+    }
+    return classpath
+  }
+
+  private func repository(containing dependency: JavaDependencyDescriptor) -> Repository? {
+    repositories.first { repository in
+      if let includeGroups = repository.includeGroups, !includeGroups.isEmpty,
+        !includeGroups.contains(dependency.groupID)
+      {
+        return false
+      }
+      return FileManager.default.fileExists(atPath: artifactDirectory(of: dependency, in: repository).path)
+    }
+  }
+
+  private func artifactDirectory(of dependency: JavaDependencyDescriptor, in repository: Repository) -> URL {
+    repository.root
+      .appendingPathComponent(dependency.groupID.replacing(".", with: "/"))
+      .appendingPathComponent(dependency.artifactID)
+      .appendingPathComponent(dependency.version)
+  }
+
+  /// The POM of the dependency, with the properties, dependencies and dependency management of its parents applied.
+  ///
+  /// Returns nil if the POM or one of its parents cannot be read.
+  private func effectivePOM(of dependency: JavaDependencyDescriptor, in repository: Repository) -> MavenPOM? {
+    let pomFile = artifactDirectory(of: dependency, in: repository)
+      .appendingPathComponent("\(dependency.artifactID)-\(dependency.version).pom")
+    guard let data = FileManager.default.contents(atPath: pomFile.path), var pom = MavenPOM.parse(data) else {
+      return nil
+    }
+
+    var parentDescriptor = pom.parent
+    var visited: Set<JavaDependencyDescriptor> = []
+    while let parent = parentDescriptor {
+      guard visited.insert(parent).inserted,
+        ![parent.groupID, parent.artifactID, parent.version].contains(where: { $0.contains("${") }),
+        let parentRepository = self.repository(containing: parent),
+        let parentData = FileManager.default.contents(
+          atPath: artifactDirectory(of: parent, in: parentRepository)
+            .appendingPathComponent("\(parent.artifactID)-\(parent.version).pom").path
+        ),
+        let parentPOM = MavenPOM.parse(parentData)
+      else {
+        return nil
+      }
+      pom.inherit(from: parentPOM)
+      parentDescriptor = parentPOM.parent
+    }
+
+    pom.resolveProperties()
+    return pom
+  }
+}
+
+// ==== -----------------------------------------------------------------------
+// MARK: MavenPOM
+
+/// The parts of a Maven `pom.xml` which determine the runtime classpath.
+struct MavenPOM {
+  var groupID: String?
+  var artifactID: String?
+  var version: String?
+  var packaging: String?
+  var parent: JavaDependencyDescriptor?
+  var properties: [String: String] = [:]
+  var dependencies: [Dependency] = []
+  /// The dependency management, by `groupId:artifactId`.
+  var managedDependencies: [String: Dependency] = [:]
+  /// Whether the dependency management imports a BOM, whose managed dependencies are not read.
+  var importsDependencyManagement = false
+
+  struct Dependency {
+    var groupID: String = ""
+    var artifactID: String = ""
+    var version: String?
+    var scope: String?
+    var type: String?
+    var optional: Bool = false
+    var exclusions: Set<Exclusion> = []
+
+    /// Identifies the dependency in the dependency management, and among the inherited dependencies.
+    var managementKey: String {
+      "\(groupID):\(artifactID)"
+    }
+
+    var isRuntimeDependency: Bool {
+      !optional && ["compile", "runtime"].contains(scope ?? "compile") && (type ?? "jar") == "jar"
+    }
+
+    /// Nil if the version is missing, or a coordinate refers to a property that is not defined.
+    var descriptor: JavaDependencyDescriptor? {
+      guard let version,
+        ![groupID, artifactID, version].contains(where: { $0.isEmpty || $0.contains("${") })
+      else {
+        return nil
+      }
+      return JavaDependencyDescriptor(groupID: groupID, artifactID: artifactID, version: version)
+    }
+
+    func substituting(_ substitute: (String) -> String) -> Dependency {
+      var dependency = self
+      dependency.groupID = substitute(groupID)
+      dependency.artifactID = substitute(artifactID)
+      dependency.version = version.map(substitute)
+      dependency.scope = scope.map(substitute)
+      dependency.type = type.map(substitute)
+      return dependency
+    }
+  }
+
+  struct Exclusion: Hashable {
+    var groupID: String
+    var artifactID: String
+
+    func matches(_ dependency: Dependency) -> Bool {
+      (groupID == "*" || groupID == dependency.groupID) && (artifactID == "*" || artifactID == dependency.artifactID)
+    }
+  }
+
+  static func parse(_ data: Data) -> MavenPOM? {
+    let handler = MavenPOMParser()
+    let parser = XMLParser(data: data)
+    parser.delegate = handler
+    guard parser.parse() else {
+      return nil
+    }
+    return handler.pom
+  }
+
+  /// Apply the inherited values of a parent POM, which this POM's own values override.
+  mutating func inherit(from parent: MavenPOM) {
+    groupID = groupID ?? parent.groupID
+    version = version ?? parent.version
+    properties.merge(parent.properties) { own, _ in own }
+    managedDependencies.merge(parent.managedDependencies) { own, _ in own }
+    importsDependencyManagement = importsDependencyManagement || parent.importsDependencyManagement
+
+    // The dependencies of a parent are dependencies of its children, unless they declare the same one.
+    let declared = Set(dependencies.map(\.managementKey))
+    dependencies += parent.dependencies.filter { !declared.contains($0.managementKey) }
+  }
+
+  /// Substitute `${...}` references, and fill in the version, scope and exclusions of dependencies
+  /// from the dependency management.
+  ///
+  /// Properties may refer to other properties, so they are substituted until nothing changes.
+  /// References that remain, e.g. to an undefined property or in a cycle, leave the coordinates unresolved.
+  mutating func resolveProperties() {
+    var values = properties
+    values["project.groupId"] = groupID
+    values["project.artifactId"] = artifactID
+    values["project.version"] = version
+    values["pom.version"] = version
+    values["project.parent.groupId"] = parent?.groupID
+    values["project.parent.version"] = parent?.version
+
+    func substitute(_ value: String, in values: [String: String]) -> String {
+      guard value.contains("${") else {
+        return value
+      }
+      var result = value
+      for (name, replacement) in values {
+        result = result.replacing("${\(name)}", with: replacement)
+      }
+      return result
+    }
+
+    // Every round resolves one more level of references, so a chain is resolved after at most one round per property.
+    for _ in 0...values.count {
+      let substituted = values.mapValues { substitute($0, in: values) }
+      if substituted == values {
+        break
+      }
+      values = substituted
+    }
+
+    let resolvedManagement = managedDependencies.values.map { $0.substituting { substitute($0, in: values) } }
+    managedDependencies = Dictionary(resolvedManagement.map { ($0.managementKey, $0) }) { first, _ in first }
+
+    dependencies = dependencies.map { dependency in
+      var dependency = dependency.substituting { substitute($0, in: values) }
+      if let managed = managedDependencies[dependency.managementKey] {
+        dependency.version = dependency.version ?? managed.version
+        dependency.scope = dependency.scope ?? managed.scope
+        if dependency.exclusions.isEmpty {
+          dependency.exclusions = managed.exclusions
+        }
+      }
+      return dependency
+    }
+  }
+}
+
+/// Collects a ``MavenPOM`` from the elements of a `pom.xml`.
+final class MavenPOMParser: _AndroidAPIVersionsParserBase, XMLParserDelegate {
+  private(set) var pom = MavenPOM()
+  private var path: [String] = []
+  private var text = ""
+  private var dependency = MavenPOM.Dependency()
+  private var exclusion = MavenPOM.Exclusion(groupID: "", artifactID: "")
+  private var parent = (groupID: "", artifactID: "", version: "")
+
+  func parser(
+    _ parser: XMLParser,
+    didStartElement elementName: String,
+    namespaceURI: String?,
+    qualifiedName: String?,
+    attributes attrs: [String: String]
+  ) {
+    path.append(elementName)
+    text = ""
+    switch path {
+    case ["project", "dependencies", "dependency"],
+      ["project", "dependencyManagement", "dependencies", "dependency"]:
+      dependency = MavenPOM.Dependency()
+    case ["project", "dependencies", "dependency", "exclusions", "exclusion"],
+      ["project", "dependencyManagement", "dependencies", "dependency", "exclusions", "exclusion"]:
+      exclusion = MavenPOM.Exclusion(groupID: "", artifactID: "")
+    default:
+      break
+    }
+  }
+
+  func parser(_ parser: XMLParser, foundCharacters string: String) {
+    text += string
+  }
+
+  func parser(
+    _ parser: XMLParser,
+    didEndElement elementName: String,
+    namespaceURI: String?,
+    qualifiedName: String?
+  ) {
+    let value = text.trimmingCharacters(in: .whitespacesAndNewlines)
+    text = ""
+    defer { path.removeLast() }
+
+    switch path {
+    case ["project", "groupId"]: pom.groupID = value
+    case ["project", "artifactId"]: pom.artifactID = value
+    case ["project", "version"]: pom.version = value
+    case ["project", "packaging"]: pom.packaging = value
+    case ["project", "parent", "groupId"]: parent.groupID = value
+    case ["project", "parent", "artifactId"]: parent.artifactID = value
+    case ["project", "parent", "version"]: parent.version = value
+    case ["project", "parent"]:
+      pom.parent = JavaDependencyDescriptor(groupID: parent.groupID, artifactID: parent.artifactID, version: parent.version)
+
+    case let path where path.count == 3 && path[0] == "project" && path[1] == "properties":
+      pom.properties[elementName] = value
+
+    case ["project", "dependencies", "dependency", "groupId"],
+      ["project", "dependencyManagement", "dependencies", "dependency", "groupId"]:
+      dependency.groupID = value
+    case ["project", "dependencies", "dependency", "artifactId"],
+      ["project", "dependencyManagement", "dependencies", "dependency", "artifactId"]:
+      dependency.artifactID = value
+    case ["project", "dependencies", "dependency", "version"],
+      ["project", "dependencyManagement", "dependencies", "dependency", "version"]:
+      dependency.version = value
+    case ["project", "dependencies", "dependency", "scope"],
+      ["project", "dependencyManagement", "dependencies", "dependency", "scope"]:
+      dependency.scope = value
+    case ["project", "dependencies", "dependency", "type"],
+      ["project", "dependencyManagement", "dependencies", "dependency", "type"]:
+      dependency.type = value
+    case ["project", "dependencies", "dependency", "optional"]:
+      dependency.optional = value == "true"
+    case ["project", "dependencies", "dependency", "exclusions", "exclusion", "groupId"],
+      ["project", "dependencyManagement", "dependencies", "dependency", "exclusions", "exclusion", "groupId"]:
+      exclusion.groupID = value
+    case ["project", "dependencies", "dependency", "exclusions", "exclusion", "artifactId"],
+      ["project", "dependencyManagement", "dependencies", "dependency", "exclusions", "exclusion", "artifactId"]:
+      exclusion.artifactID = value
+    case ["project", "dependencies", "dependency", "exclusions", "exclusion"],
+      ["project", "dependencyManagement", "dependencies", "dependency", "exclusions", "exclusion"]:
+      dependency.exclusions.insert(exclusion)
+
+    case ["project", "dependencies", "dependency"]:
+      pom.dependencies.append(dependency)
+    case ["project", "dependencyManagement", "dependencies", "dependency"]:
+      if dependency.scope == "import" {
+        // The dependencies managed by an imported BOM are not read.
+        pom.importsDependencyManagement = true
+        break
+      }
+      pom.managedDependencies[dependency.managementKey] = dependency
+
+    default:
+      break
+    }
+  }
+}
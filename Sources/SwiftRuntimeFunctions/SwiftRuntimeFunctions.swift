@@ -44,6 +44,36 @@ public func _swiftjava_stringToCString(_ string: String) -> UnsafeMutablePointer
   }
 }
 
+/// Lends the elements of an array to Java (FFM), which reads them in place.
+///
+/// Stores the address and size in bytes of the elements, and a retained owner of their storage,
+/// which keeps the elements alive and unchanged until the caller (Java FFM) releases it with `swift_release`.
+public func _swiftjava_borrowArray<Element>(
+  _ array: [Element],
+  pointer: UnsafeMutablePointer<UnsafeRawPointer?>,
+  byteCount: UnsafeMutablePointer<Int>,
+  owner: UnsafeMutablePointer<UnsafeMutableRawPointer?>
+) {
+  let storage = _SwiftJavaBorrowedArray(array)
+  storage.elements.withUnsafeBytes { bytes in
+    pointer.pointee = bytes.baseAddress
+    byteCount.pointee = bytes.count
+  }
+  owner.pointee = Unmanaged.passRetained(storage).toOpaque()
+}
+
+/// Owns the storage of an array lent to Java.
+///
+/// A `ContiguousArray` always has native storage, whose elements stay at the same address
+/// for as long as it is not mutated, so the address escaping `withUnsafeBytes` remains valid.
+final class _SwiftJavaBorrowedArray<Element> {
+  let elements: ContiguousArray<Element>
+
+  init(_ array: [Element]) {
+    self.elements = ContiguousArray(array)
+  }
+}
+
 @_alwaysEmitIntoClient @_transparent
 func _swiftjava_withHeapObject<R>(
   of object: AnyObject,
@@ -0,0 +1,74 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the startup cost of making a library bundled as a resource loadable, once its bytes are read:
+ * writing it to a fresh temporary file on every start, compared to finding it already extracted
+ * in the {@link SwiftLibraryCache} of an earlier run, either by hashing its bytes or by the key of its JAR entry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 2)
+public class SwiftLibraryCacheBenchmark {
+
+    @Param({ "1048576", "16777216" })
+    int librarySize;
+
+    byte[] contents;
+    SwiftLibraryCache cache;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        contents = new byte[librarySize];
+        new Random(42).nextBytes(contents);
+
+        cache = new SwiftLibraryCache(Files.createTempDirectory("swift-library-cache-benchmark"));
+        cache.extract("libBenchmark.so", contents);
+        cache.extract("libBenchmark.so", "crc32-benchmark", contents.length, () -> contents);
+    }
+
+    @Benchmark
+    public Path temporaryFile() throws IOException {
+        File tempFile = File.createTempFile("Benchmark", "");
+        try {
+            return Files.write(tempFile.toPath(), contents);
+        } finally {
+            Files.delete(tempFile.toPath());
+        }
+    }
+
+    @Benchmark
+    public Path cachedLibrary() throws IOException {
+        return cache.extract("libBenchmark.so", contents);
+    }
+
+    @Benchmark
+    public Path cachedLibraryByKey() throws IOException {
+        return cache.extract("libBenchmark.so", "crc32-benchmark", contents.length, () -> contents);
+    }
+}
@@ -15,6 +15,8 @@
 package org.swift.swiftkit.core;
 
 
+import org.swift.swiftkit.core.jfr.SwiftArenaOpenEvent;
+import org.swift.swiftkit.core.jfr.SwiftEvents;
 import org.swift.swiftkit.core.ref.SwiftCleaner;
 
 import java.util.Objects;
@@ -42,10 +44,18 @@ final class AutoSwiftMemorySession implements SwiftArena {
 
     public AutoSwiftMemorySession(ThreadFactory cleanerThreadFactory) {
         this.swiftCleaner = SwiftCleaner.create(cleanerThreadFactory);
+        if (SwiftEvents.AVAILABLE) {
+            SwiftArenaOpenEvent.commit(getClass());
+        }
     }
 
     @Override
     public void register(SwiftInstance instance) {
+        register((SwiftResource) instance);
+    }
+
+    @Override
+    public void register(SwiftResource instance) {
         Objects.requireNonNull(instance, "value");
 
         // We make sure we don't capture `instance` in the
@@ -53,4 +63,13 @@ final class AutoSwiftMemorySession implements SwiftArena {
         var cleanupAction = instance.$cleanup();
         swiftCleaner.register(instance, cleanupAction);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void registerAll(SwiftInstance[] instances) {
+        Runnable[] cleanupActions = new Runnable[instances.length];
+        for (int i = 0; i < instances.length; i++) {
+            cleanupActions[i] = Objects.requireNonNull(instances[i], "value").$cleanup();
+        }
+        swiftCleaner.registerAll(instances, cleanupActions);
+    }
+}
@@ -0,0 +1,96 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core;
+
+/**
+ * A call recorded by {@link CallTraces}, which is formatted only when it is written to a {@link CallTraceSink}.
+ */
+public final class CallTrace {
+
+    public enum Kind {
+        /** A call from Java into a Swift function. */
+        DOWNCALL,
+        /** A message traced with {@link CallTraces#trace(Object...)}. */
+        TRACE
+    }
+
+    private final Kind kind;
+    private final String callSite;
+    private final Object[] arguments;
+    private final String threadName;
+    private final long timestampMillis;
+
+    CallTrace(Kind kind, String callSite, Object[] arguments, String threadName, long timestampMillis) {
+        this.kind = kind;
+        this.callSite = callSite;
+        this.arguments = arguments;
+        this.threadName = threadName;
+        this.timestampMillis = timestampMillis;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    /**
+     * The called Swift function for a downcall, or the traced Java method otherwise.
+     */
+    public String callSite() {
+        return callSite;
+    }
+
+    /**
+     * The traced arguments, which are only converted to strings when the trace is written.
+     */
+    public Object[] arguments() {
+        return arguments;
+    }
+
+    public String threadName() {
+        return threadName;
+    }
+
+    /**
+     * The time of the call, in milliseconds since the epoch.
+     */
+    public long timestampMillis() {
+        return timestampMillis;
+    }
+
+    /**
+     * The arguments separated by commas.
+     */
+    public String formatArguments() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < arguments.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(arguments[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The trace in the format written by {@link CallTraceSink#stderr()}.
+     */
+    @Override
+    public String toString() {
+        if (kind == Kind.DOWNCALL) {
+            return "[java][" + threadName + "] Downcall: " + callSite + "(" + formatArguments() + ")";
+        }
+        return "[java][" + threadName + "] " + callSite + ": " + formatArguments();
+    }
+}
@@ -0,0 +1,81 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core;
+
+/**
+ * The ring buffer of the calls traced on one thread.
+ * <p>
+ * Only the owning thread adds traces, without taking a lock. Flushing the buffer, which the owning
+ * thread only does once it is full, is serialized by the buffer's monitor, so that any thread can flush it.
+ */
+final class CallTraceBuffer {
+
+    private final Thread owner;
+    private final CallTrace[] traces;
+
+    /** The number of calls seen for sampling; only accessed by the owner. */
+    private long calls;
+
+    /** The number of traces ever added; only written by the owner. */
+    private volatile long written;
+
+    /** The number of traces ever flushed; only written while holding the monitor. */
+    private volatile long flushed;
+
+    CallTraceBuffer(Thread owner, int capacity) {
+        this.owner = owner;
+        this.traces = new CallTrace[capacity];
+    }
+
+    Thread owner() {
+        return owner;
+    }
+
+    /**
+     * Whether the current call is the one in {@code period} calls that is traced.
+     * Must only be called by the owning thread.
+     */
+    boolean isSampled(int period) {
+        return period == 1 || ++calls % period == 0;
+    }
+
+    /**
+     * Add a trace, flushing the buffer to {@code sink} first if it is full.
+     * Must only be called by the owning thread.
+     */
+    void add(CallTrace trace, CallTraceSink sink) {
+        long index = written;
+        if (index - flushed >= traces.length) {
+            flushTo(sink);
+        }
+        traces[(int) (index % traces.length)] = trace;
+        // Publishes the trace to a thread flushing the buffer.
+        written = index + 1;
+    }
+
+    /**
+     * Write the traces added since the last flush to {@code sink}, in order.
+     */
+    synchronized void flushTo(CallTraceSink sink) {
+        long end = written;
+        for (long index = flushed; index < end; index++) {
+            int slot = (int) (index % traces.length);
+            CallTrace trace = traces[slot];
+            traces[slot] = null;
+            sink.write(trace);
+        }
+        flushed = end;
+    }
+}
@@ -0,0 +1,123 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core;
+
+import org.swift.swiftkit.core.jfr.SwiftEvents;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Where {@link CallTraces} writes the recorded calls.
+ * <p>
+ * Every call is written and flushed as soon as it is recorded, unless the sink opts into buffering with
+ * {@link #isBuffered()}. Calls for a buffered sink are kept per thread, and written in batches: when the buffer
+ * of a thread is full, when {@link CallTraces#flush()} is called, and when the JVM exits.
+ * The sink is selected with the {@code jextract.trace.sink} system property:
+ * <ul>
+ *     <li>{@code stderr}, the default, prints every call to {@link System#err} right away,</li>
+ *     <li>{@code file:<path>} appends every call to the file at {@code path}, buffered,</li>
+ *     <li>{@code jfr} records every call as an {@code org.swift.swiftkit.CallTrace} JFR event, buffered,</li>
+ * </ul>
+ * or set with {@link CallTraces#setSink(CallTraceSink)}.
+ */
+public interface CallTraceSink {
+
+    /**
+     * Write one recorded call. Calls of the same thread are written in order,
+     * and never concurrently with each other.
+     */
+    void write(CallTrace trace);
+
+    /**
+     * Flush the calls written so far, after a call or a batch was written.
+     */
+    default void flush() {
+    }
+
+    /**
+     * Whether calls are buffered per thread and written in batches, rather than one by one as they are recorded.
+     * Buffering is cheaper, but the latest calls may not be written yet, e.g. when the process crashes.
+     */
+    default boolean isBuffered() {
+        return false;
+    }
+
+    /**
+     * A sink printing every call to {@link System#err}.
+     */
+    static CallTraceSink stderr() {
+        return new CallTraceSink() {
+            @Override
+            public void write(CallTrace trace) {
+                System.err.println(trace);
+            }
+
+            @Override
+            public void flush() {
+                System.err.flush();
+            }
+        };
+    }
+
+    /**
+     * A sink appending every call to the file at {@code path}.
+     */
+    static CallTraceSink file(Path path) throws IOException {
+        PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+        return new CallTraceSink() {
+            @Override
+            public synchronized void write(CallTrace trace) {
+                writer.println(trace);
+            }
+
+            @Override
+            public synchronized void flush() {
+                writer.flush();
+            }
+
+            @Override
+            public boolean isBuffered() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * The sink selected by {@code value} of the {@code jextract.trace.sink} system property.
+     */
+    static CallTraceSink configured(String value) {
+        if (value == null || value.isEmpty() || value.equals("stderr")) {
+            return stderr();
+        } else if (value.equals("jfr")) {
+            if (!SwiftEvents.AVAILABLE) {
+                throw new IllegalStateException("JDK Flight Recorder is not available for the call trace sink");
+            }
+            return SwiftEvents.callTraceSink();
+        } else if (value.startsWith("file:")) {
+            try {
+                return file(Paths.get(value.substring("file:".length())));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not open call trace file: " + value, e);
+            }
+        }
+        throw new IllegalArgumentException("Unsupported call trace sink: " + value);
+    }
+}
@@ -14,6 +14,24 @@
 
 package org.swift.swiftkit.core;
 
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracing of calls into Swift, enabled with the {@code jextract.trace.downcalls} system property.
+ * <p>
+ * Generated bindings identify the called function with a constant string, so no stack has to be walked.
+ * Every call is written to the {@link CallTraceSink}, selected with the {@code jextract.trace.sink} property,
+ * right away. A {@link CallTraceSink#isBuffered() buffered} sink, such as a file, instead has recording
+ * a call cost a few field writes into a ring buffer of the calling thread, and the calls are only formatted
+ * when the buffer is written to the sink.
+ * <p>
+ * Only 1 in {@code N} calls of every thread is traced if the {@code jextract.trace.sampling} property is
+ * set to {@code N}, and the {@code jextract.trace.buffer-size} property sets the number of calls buffered
+ * per thread, 256 by default.
+ */
 public class CallTraces {
     public static final boolean TRACE_DOWNCALLS =
         Boolean.getBoolean("jextract.trace.downcalls");
@@ -21,41 +39,108 @@ public class CallTraces {
     // Used to manually debug with complete backtraces on every traceDowncall
     public static final boolean TRACE_DOWNCALLS_FULL = false;
 
+    static final int SAMPLING = Math.max(1, Integer.getInteger("jextract.trace.sampling", 1));
+
+    static final int BUFFER_SIZE = Math.max(1, Integer.getInteger("jextract.trace.buffer-size", 256));
+
+    private static volatile CallTraceSink sink = TRACE_DOWNCALLS ?
+            CallTraceSink.configured(System.getProperty("jextract.trace.sink")) :
+            CallTraceSink.stderr();
+
+    private static final Set<CallTraceBuffer> buffers = ConcurrentHashMap.newKeySet();
+
+    private static final ThreadLocal<CallTraceBuffer> buffer = ThreadLocal.withInitial(() -> {
+        CallTraceBuffer buffer = new CallTraceBuffer(Thread.currentThread(), BUFFER_SIZE);
+        buffers.add(buffer);
+        return buffer;
+    });
+
+    static {
+        if (TRACE_DOWNCALLS) {
+            Runtime.getRuntime().addShutdownHook(new Thread(CallTraces::flush, "swift-java-call-traces"));
+        }
+    }
+
+    /**
+     * Trace a call of the Swift {@code function} with the given arguments.
+     *
+     * @param function a constant identifying the called function, such as the name of its thunk
+     */
+    public static void traceDowncallTo(String function, Object... args) {
+        record(CallTrace.Kind.DOWNCALL, function, args);
+    }
+
+    /**
+     * Trace a downcall, identified by the calling Java method.
+     * <p>
+     * Prefer {@link #traceDowncallTo(String, Object...)}, which does not need to walk the stack.
+     */
     public static void traceDowncall(Object... args) {
-        RuntimeException ex = new RuntimeException();
-
-        String traceArgs = joinArgs(args);
-        System.err.printf("[java][%s:%d] Downcall: %s.%s(%s)\n",
-                ex.getStackTrace()[1].getFileName(),
-                ex.getStackTrace()[1].getLineNumber(),
-                ex.getStackTrace()[1].getClassName(),
-                ex.getStackTrace()[1].getMethodName(),
-                traceArgs);
+        record(CallTrace.Kind.DOWNCALL, null, args);
         if (TRACE_DOWNCALLS_FULL) {
-            ex.printStackTrace();
+            new RuntimeException().printStackTrace();
         }
     }
 
     public static void trace(Object... args) {
-        RuntimeException ex = new RuntimeException();
+        record(CallTrace.Kind.TRACE, null, args);
+    }
 
-        String traceArgs = joinArgs(args);
-        System.err.printf("[java][%s:%d] %s: %s\n",
-                ex.getStackTrace()[1].getFileName(),
-                ex.getStackTrace()[1].getLineNumber(),
-                ex.getStackTrace()[1].getMethodName(),
-                traceArgs);
+    /**
+     * Replace the sink the traced calls are written to, after writing the calls traced so far to the current sink.
+     */
+    public static void setSink(CallTraceSink sink) {
+        flush();
+        CallTraces.sink = sink;
     }
 
-    private static String joinArgs(Object[] args) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < args.length; i++) {
-            if (i > 0) {
-                sb.append(", ");
+    /**
+     * Write the calls traced by all threads so far to the sink.
+     */
+    public static void flush() {
+        CallTraceSink sink = CallTraces.sink;
+        for (Iterator<CallTraceBuffer> iterator = buffers.iterator(); iterator.hasNext(); ) {
+            CallTraceBuffer buffer = iterator.next();
+            buffer.flushTo(sink);
+            if (!buffer.owner().isAlive()) {
+                iterator.remove();
             }
-            sb.append(args[i].toString());
         }
-        return sb.toString();
+        sink.flush();
+    }
+
+    /**
+     * Write a sampled call to the sink, or record it in the buffer of the current thread if the sink is buffered.
+     *
+     * @param callSite the called function, or null to record the calling Java method
+     */
+    private static void record(CallTrace.Kind kind, String callSite, Object[] args) {
+        CallTraceBuffer buffer = CallTraces.buffer.get();
+        if (!buffer.isSampled(SAMPLING)) {
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        CallTrace trace = new CallTrace(kind, callSite != null ? callSite : callerName(), args,
+                thread.getName(), System.currentTimeMillis());
+        CallTraceSink sink = CallTraces.sink;
+        if (sink.isBuffered()) {
+            buffer.add(trace, sink);
+        } else {
+            sink.write(trace);
+            sink.flush();
+        }
     }
 
+    /**
+     * The location of the method that called into {@code CallTraces}, e.g. {@code MyClass.method(MyClass.java:42)}.
+     */
+    private static String callerName() {
+        Optional<StackWalker.StackFrame> caller = StackWalker.getInstance().walk(frames -> frames
+                .dropWhile(frame -> frame.getClassName().equals(CallTraces.class.getName()))
+                .findFirst());
+        return caller
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() +
+                        "(" + frame.getFileName() + ":" + frame.getLineNumber() + ")")
+                .orElse("<unknown>");
+    }
 }
@@ -14,6 +14,11 @@
 
 package org.swift.swiftkit.core;
 
+import org.swift.swiftkit.core.jfr.SwiftArenaCloseEvent;
+import org.swift.swiftkit.core.jfr.SwiftArenaOpenEvent;
+import org.swift.swiftkit.core.jfr.SwiftEvents;
+
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
@@ -32,6 +37,9 @@ public class ConfinedSwiftMemorySession implements ClosableSwiftArena {
     public ConfinedSwiftMemorySession() {
         this.state = new AtomicInteger(ACTIVE);
         this.resources = new ConfinedResourceList();
+        if (SwiftEvents.AVAILABLE) {
+            SwiftArenaOpenEvent.commit(getClass());
+        }
     }
 
     void checkValid() throws RuntimeException {
@@ -46,18 +54,65 @@ public class ConfinedSwiftMemorySession implements ClosableSwiftArena {
 
         // Cleanup all resources
         if (this.state.compareAndSet(ACTIVE, CLOSED)) {
-            this.resources.runCleanup();
+            if (SwiftEvents.AVAILABLE) {
+                runRecordedCleanup();
+            } else {
+                this.resources.runCleanup();
+            }
         } // else, was already closed; do nothing
     }
 
+    private void runRecordedCleanup() {
+        SwiftArenaCloseEvent event = new SwiftArenaCloseEvent();
+        if (!event.isEnabled()) {
+            this.resources.runCleanup();
+            return;
+        }
+
+        event.begin();
+        int objectCount = this.resources.size();
+        this.resources.runCleanup();
+        event.end();
+        if (event.shouldCommit()) {
+            event.arenaType = getClass().getName();
+            event.objectCount = objectCount;
+            event.allocatedBytes = allocatedBytes();
+            event.commit();
+        }
+    }
+
+    /**
+     * The number of bytes this arena allocated, reported when it is closed.
+     * Arenas that only track Swift objects allocate nothing.
+     */
+    protected long allocatedBytes() {
+        return 0;
+    }
+
     @Override
     public void register(SwiftInstance instance) {
+        register((SwiftResource) instance);
+    }
+
+    @Override
+    public void register(SwiftResource instance) {
         checkValid();
 
         SwiftInstanceCleanup cleanup = instance.$cleanup();
         this.resources.add(cleanup);
     }
 
+    @Override
+    public void registerAll(SwiftInstance[] instances) {
+        checkValid();
+
+        SwiftInstanceCleanup[] cleanups = new SwiftInstanceCleanup[instances.length];
+        for (int i = 0; i < instances.length; i++) {
+            cleanups[i] = instances[i].$cleanup();
+        }
+        this.resources.addAll(cleanups);
+    }
+
     static final class ConfinedResourceList implements SwiftResourceList {
         final Queue<SwiftInstanceCleanup> resourceCleanups = new ConcurrentLinkedQueue<>();
 
@@ -65,6 +120,15 @@ public class ConfinedSwiftMemorySession implements ClosableSwiftArena {
             resourceCleanups.add(cleanup);
         }
 
+        void addAll(SwiftInstanceCleanup[] cleanups) {
+            // Links all the cleanups up front, and appends them to the queue at once.
+            resourceCleanups.addAll(Arrays.asList(cleanups));
+        }
+
+        int size() {
+            return resourceCleanups.size();
+        }
+
         @Override
         public void runCleanup() {
             for (SwiftInstanceCleanup cleanup : resourceCleanups) {
@@ -0,0 +1,49 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core;
+
+/**
+ * Support for returning optional {@code long} and {@code double} values from Swift
+ * in JNI mode, used by generated code.
+ * <p>
+ * Such values have no spare bits for a discriminator, so Swift returns {@code nil} as a sentinel value.
+ * Only when the result equals the sentinel is the discriminator consulted, which Swift writes
+ * into a per-thread slot, so that no call needs to allocate.
+ * <p>
+ * The sentinels must match {@code _JNIOptionalSentinel} in {@code SwiftJavaRuntimeSupport}.
+ */
+public final class JNIOptionalSupport {
+    private JNIOptionalSupport() {
+    }
+
+    /** The value an empty {@code OptionalLong} is returned as. */
+    public static final long LONG_NONE_SENTINEL = 0x5357_4946_545F_4E4FL;
+
+    /** The raw bits of the (NaN) value an empty {@code OptionalDouble} is returned as. */
+    public static final long DOUBLE_NONE_SENTINEL_BITS = 0x7FFC_5357_4946_544EL;
+
+    private static final ThreadLocal<byte[]> DISCRIMINATOR_SLOT = ThreadLocal.withInitial(() -> new byte[1]);
+
+    /**
+     * The discriminator slot of the current thread.
+     * <p>
+     * The slot is only valid until the next call on the same thread, so it must be read
+     * right after the native call returns, and must not be used for calls completing
+     * on another thread.
+     */
+    public static byte[] discriminatorSlot() {
+        return DISCRIMINATOR_SLOT.get();
+    }
+}
@@ -39,7 +39,7 @@ public interface JNISwiftInstance extends SwiftInstance {
         }
         return () -> {
             if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(
+                CallTraces.traceDowncallTo(
                         "SwiftObjects.destroy",
                         "self", memoryAddress,
                         "selfType", SwiftObjects.typeDescription(typeMetadataAddress)
@@ -0,0 +1,43 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core;
+
+/**
+ * Support for returning Swift tuples of primitive values in JNI mode, used by generated code.
+ * <p>
+ * Swift writes every element of such a tuple, widened to a {@code long}, into a per-thread
+ * array of slots with a single {@code SetLongArrayRegion} call, so that no call needs to
+ * allocate anything but the resulting tuple object.
+ */
+public final class JNITupleSupport {
+    private JNITupleSupport() {
+    }
+
+    /** The maximum number of elements of a tuple, matching {@code org.swift.swiftkit.core.tuple.Tuple24}. */
+    public static final int MAX_ARITY = 24;
+
+    private static final ThreadLocal<long[]> SCRATCH_SLOTS = ThreadLocal.withInitial(() -> new long[MAX_ARITY]);
+
+    /**
+     * The tuple element slots of the current thread.
+     * <p>
+     * The slots are only valid until the next call on the same thread, so they must be read
+     * right after the native call returns, and must not be used for calls completing
+     * on another thread.
+     */
+    public static long[] scratchSlots() {
+        return SCRATCH_SLOTS.get();
+    }
+}
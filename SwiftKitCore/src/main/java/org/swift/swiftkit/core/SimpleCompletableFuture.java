@@ -17,6 +17,7 @@ package org.swift.swiftkit.core;
 import java.util.Deque;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 /**
@@ -67,9 +68,7 @@ public final class SimpleCompletableFuture<T> implements Future<T> {
                 newFuture.completeExceptionally(((CompletedExceptionally) observed).exception);
             } else {
                 try {
-                    // We're guaranteed that an observed result is of type T.
-                    // noinspection unchecked
-                    U newResult = fn.apply(observed == NULL ? null : (T) observed);
+                    U newResult = fn.apply(valueOf(observed));
                     newFuture.complete(newResult);
                 } catch (Throwable t) {
                     newFuture.completeExceptionally(t);
@@ -79,6 +78,25 @@ public final class SimpleCompletableFuture<T> implements Future<T> {
         return newFuture;
     }
 
+    /**
+     * Runs {@code action} with the result, or with the exception, of this future once it completes,
+     * or right away if it already has.
+     *
+     * <p>This method is analogous to
+     * {@link java.util.concurrent.CompletableFuture#whenComplete CompletableFuture.whenComplete},
+     * but returns nothing.
+     */
+    public void whenComplete(BiConsumer<? super T, ? super Throwable> action) {
+        addCallback(() -> {
+            Object observed = this.result.get();
+            if (observed instanceof CompletedExceptionally) {
+                action.accept(null, ((CompletedExceptionally) observed).exception);
+            } else {
+                action.accept(valueOf(observed), null);
+            }
+        });
+    }
+
     /**
      * If not already completed, sets the value returned by {@link #get()} and
      * related methods to the given value.
@@ -202,15 +220,20 @@ public final class SimpleCompletableFuture<T> implements Future<T> {
                 throw (CancellationException) exception;
             }
             throw new ExecutionException(exception);
-        } else if (observed == NULL) {
-            return null;
         } else {
-            // We're guaranteed that we only allowed registering completions of type `T`
-            // noinspection unchecked
-            return (T) observed;
+            return valueOf(observed);
         }
     }
 
+    /**
+     * The value of an observed result that is not {@link CompletedExceptionally}.
+     */
+    @SuppressWarnings("unchecked")
+    private T valueOf(Object observed) {
+        // We're guaranteed that we only allowed registering completions of type `T`
+        return observed == NULL ? null : (T) observed;
+    }
+
     private void addCallback(Runnable action) {
         callbacks.add(action);
         if (isDone()) {
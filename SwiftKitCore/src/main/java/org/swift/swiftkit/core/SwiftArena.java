@@ -30,6 +30,32 @@ public interface SwiftArena {
      */
     void register(SwiftInstance instance);
 
+    /**
+     * Register a resource holding Swift memory that is not a single Swift object, e.g. the elements of a
+     * {@link org.swift.swiftkit.core.collections.SwiftObjectList} that were not wrapped yet.
+     * Its memory should be considered managed by this arena, and be destroyed when the arena is closed.
+     * <p>
+     * The arenas of SwiftKit accept any resource. By default, other arenas only accept {@link SwiftInstance}s.
+     */
+    default void register(SwiftResource resource) {
+        if (!(resource instanceof SwiftInstance)) {
+            throw new UnsupportedOperationException(getClass().getName() + " cannot register " + resource.getClass().getName());
+        }
+        register((SwiftInstance) resource);
+    }
+
+    /**
+     * Register all the given Swift objects, as if by calling {@link #register(SwiftInstance)} for each of them.
+     * <p>
+     * Arenas override this to register many objects at once at a lower cost than one by one,
+     * which matters when wrapping all the elements of a large array returned from Swift.
+     */
+    default void registerAll(SwiftInstance[] instances) {
+        for (SwiftInstance instance : instances) {
+            register(instance);
+        }
+    }
+
     static ClosableSwiftArena ofConfined() {
         return new ConfinedSwiftMemorySession();
     }
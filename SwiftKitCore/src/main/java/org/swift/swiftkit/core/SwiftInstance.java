@@ -14,7 +14,7 @@
 
 package org.swift.swiftkit.core;
 
-public interface SwiftInstance {
+public interface SwiftInstance extends SwiftResource {
     /**
      * Pointer to the {@code self} of the underlying Swift object or value.
      *
@@ -33,6 +33,7 @@ public interface SwiftInstance {
      * <p>
      * <b>Warning:</b> The cleanup must not capture {@code this}.
      */
+    @Override
     SwiftInstanceCleanup $cleanup();
 
     /**
@@ -41,9 +42,11 @@ public interface SwiftInstance {
      * If this object has been destroyed, calling this method will cause an {@link IllegalStateException}
      * to be thrown. This check should be performed before accessing {@code $memorySegment} to prevent
      * use-after-free errors.
+     * <p>
+     * Whether the check is performed is controlled by {@link SwiftLivenessChecks}.
      */
     default void $ensureAlive() {
-        if (this.$cleanup().isDestroyed()) {
+        if (SwiftLivenessChecks.shouldCheck() && this.$cleanup().isDestroyed()) {
             throw new IllegalStateException("Attempted to call method on already destroyed instance of " + getClass().getSimpleName() + "!");
         }
     }
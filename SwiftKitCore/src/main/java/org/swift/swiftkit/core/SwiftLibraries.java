@@ -14,13 +14,24 @@
 
 package org.swift.swiftkit.core;
 
+import org.swift.swiftkit.core.jfr.SwiftEvents;
+import org.swift.swiftkit.core.jfr.SwiftLibraryLoadEvent;
 import org.swift.swiftkit.core.util.PlatformUtils;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
 import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.jar.JarEntry;
 
 public final class SwiftLibraries {
 
@@ -40,6 +51,15 @@ public final class SwiftLibraries {
             true
             : Boolean.getBoolean("swiftkit.auto-load-libraries");
 
+    /**
+     * Allows for configuration if jextracted types generated with {@code enableEagerNativeRegistration} should register
+     * all their native methods when they are initialized.
+     * <p>
+     * Pass {@code -Dswift-java.register-natives=false} to have the JVM link every native method lazily on its first call
+     * instead, e.g. to compare the startup time of both.
+     */
+    public static final boolean REGISTER_NATIVES = !"false".equals(System.getProperty("swift-java.register-natives"));
+
     @SuppressWarnings("unused")
     private static final boolean INITIALIZED_LIBS = AUTO_LOAD_LIBS ? loadLibraries(false) : true;
 
@@ -86,6 +106,32 @@ public final class SwiftLibraries {
      * @throws RuntimeException if all loading strategies fail
      */
     public static void loadLibraryWithFallbacks(String libname) {
+        if (!SwiftEvents.AVAILABLE) {
+            loadLibraryFrom(libname);
+            return;
+        }
+
+        SwiftLibraryLoadEvent event = new SwiftLibraryLoadEvent();
+        event.begin();
+        String source = null;
+        try {
+            source = loadLibraryFrom(libname);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.libraryName = libname;
+                event.source = source;
+                event.succeeded = source != null;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Load the library with the first strategy that succeeds,
+     * and return a description of where it was loaded from.
+     */
+    private static String loadLibraryFrom(String libname) {
         Throwable loadLibraryException = null;
         // Try 1: Load from java.library.path
         try {
@@ -93,7 +139,7 @@ public final class SwiftLibraries {
             if (CallTraces.TRACE_DOWNCALLS) {
                 System.out.println("[swift-java] Loaded " + libname + " from java.library.path");
             }
-            return;
+            return "java.library.path";
         } catch (Throwable e) {
             loadLibraryException = e;
             if (CallTraces.TRACE_DOWNCALLS) {
@@ -108,7 +154,7 @@ public final class SwiftLibraries {
             if (CallTraces.TRACE_DOWNCALLS) {
                 System.out.println("[swift-java] Loaded " + libname + " from JAR resources");
             }
-            return;
+            return "resource";
         } catch (Throwable e) {
             loadResourceException = e;
             if (CallTraces.TRACE_DOWNCALLS) {
@@ -126,7 +172,7 @@ public final class SwiftLibraries {
                     if (CallTraces.TRACE_DOWNCALLS) {
                         System.out.println("[swift-java] Loaded " + libname + " from system path: " + systemPath);
                     }
-                    return;
+                    return systemPath;
                 } catch (Throwable e) {
                     loadSystemPathException = e;
                 }
@@ -146,41 +192,135 @@ public final class SwiftLibraries {
         throw exception;
     }
 
+    /**
+     * Loads the given libraries with {@link #loadLibraryWithFallbacks(String)}, in order.
+     * <p>
+     * Libraries are loaded in order because a library may depend on one loaded before it, but the
+     * libraries that have to be extracted from JAR resources are extracted up front in parallel.
+     *
+     * @param libnames The library names to load, dependencies first
+     * @throws RuntimeException if all loading strategies fail for one of the libraries
+     */
+    public static void loadLibrariesWithFallbacks(String... libnames) {
+        extractResourceLibraries(libnames);
+        for (String libname : libnames) {
+            loadLibraryWithFallbacks(libname);
+        }
+    }
+
     // Cache of already-loaded libraries to prevent duplicate extraction
-    private static final java.util.concurrent.ConcurrentHashMap<String, File> loadedLibraries = new java.util.concurrent.ConcurrentHashMap<>();
+    private static final java.util.concurrent.ConcurrentHashMap<String, Path> loadedLibraries = new java.util.concurrent.ConcurrentHashMap<>();
+
+    // Libraries extracted from JAR resources, which may not be loaded yet
+    private static final java.util.concurrent.ConcurrentHashMap<String, Path> extractedLibraries = new java.util.concurrent.ConcurrentHashMap<>();
+
+    private static final SwiftLibraryCache libraryCache = SwiftLibraryCache.configured();
 
     public static void loadResourceLibrary(String libname) {
         loadedLibraries.computeIfAbsent(libname, key -> {
-            String resourceName = PlatformUtils.dynamicLibraryName(key);
+            Path library = extractedLibraries.computeIfAbsent(key, SwiftLibraries::extractResourceLibrary);
+
+            System.load(library.toAbsolutePath().toString());
+
             if (CallTraces.TRACE_DOWNCALLS) {
-                System.out.println("[swift-java] Loading resource library: " + resourceName);
+                System.out.println("[swift-java] Loaded and cached library: " + key + " from " + library);
             }
 
-            try (InputStream libInputStream = SwiftLibraries.class.getResourceAsStream("/" + resourceName)) {
-                if (libInputStream == null) {
-                    throw new RuntimeException("Expected library '" + key + "' ('" + resourceName + "') was not found as resource!");
-                }
+            return library;
+        });
 
-                // TODO: we could do an in memory file system here
-                // Extract to temp file
-                File tempFile = File.createTempFile(key, "");
-                tempFile.deleteOnExit();
-                Files.copy(libInputStream, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        if (CallTraces.TRACE_DOWNCALLS) {
+            System.out.println("[swift-java] Library already loaded from cache: " + libname);
+        }
+    }
 
-                System.load(tempFile.getAbsolutePath());
+    /**
+     * Extract the libraries that are neither loaded yet, nor found on the {@code java.library.path},
+     * but bundled as resources, in parallel.
+     * <p>
+     * Failures are ignored here, and reported by loading the library afterwards.
+     */
+    private static void extractResourceLibraries(String... libnames) {
+        List<CompletableFuture<Path>> extractions = new ArrayList<>();
+        for (String libname : libnames) {
+            if (loadedLibraries.containsKey(libname) || extractedLibraries.containsKey(libname)
+                    || isOnJavaLibraryPath(libname)
+                    || SwiftLibraries.class.getResource("/" + PlatformUtils.dynamicLibraryName(libname)) == null) {
+                continue;
+            }
+            extractions.add(CompletableFuture.supplyAsync(() ->
+                    extractedLibraries.computeIfAbsent(libname, SwiftLibraries::extractResourceLibrary)));
+        }
 
+        for (CompletableFuture<Path> extraction : extractions) {
+            try {
+                extraction.join();
+            } catch (CompletionException e) {
                 if (CallTraces.TRACE_DOWNCALLS) {
-                    System.out.println("[swift-java] Loaded and cached library: " + key + " from " + tempFile.getAbsolutePath());
+                    System.err.println("[swift-java] Failed to extract library: " + e.getCause().getMessage());
                 }
+            }
+        }
+    }
 
-                return tempFile;
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to load dynamic library '" + key + "' ('" + resourceName + "') as resource!", e);
+    private static boolean isOnJavaLibraryPath(String libname) {
+        String javaLibraryPath = getJavaLibraryPath();
+        if (javaLibraryPath == null) {
+            return false;
+        }
+        String fileName = System.mapLibraryName(libname);
+        for (String directory : javaLibraryPath.split(File.pathSeparator)) {
+            if (!directory.isEmpty() && new File(directory, fileName).isFile()) {
+                return true;
             }
-        });
+        }
+        return false;
+    }
 
+    /**
+     * Extract the library bundled as a resource into the {@link SwiftLibraryCache},
+     * or into a temporary file if the cache is not writable.
+     * <p>
+     * A library in a JAR is cached under the CRC-32 and size recorded in its JAR entry,
+     * so a library extracted by an earlier run is found without reading the resource.
+     */
+    private static Path extractResourceLibrary(String libname) {
+        String resourceName = PlatformUtils.dynamicLibraryName(libname);
         if (CallTraces.TRACE_DOWNCALLS) {
-            System.out.println("[swift-java] Library already loaded from cache: " + libname);
+            System.out.println("[swift-java] Loading resource library: " + resourceName);
+        }
+
+        URL resource = SwiftLibraries.class.getResource("/" + resourceName);
+        if (resource == null) {
+            throw new RuntimeException("Expected library '" + libname + "' ('" + resourceName + "') was not found as resource!");
+        }
+        SwiftLibraryCache.Contents contents = () -> {
+            try (InputStream libInputStream = resource.openStream()) {
+                return libInputStream.readAllBytes();
+            }
+        };
+
+        try {
+            URLConnection connection = resource.openConnection();
+            JarEntry entry = connection instanceof JarURLConnection ? ((JarURLConnection) connection).getJarEntry() : null;
+            if (entry != null && entry.getCrc() != -1 && entry.getSize() != -1) {
+                String key = String.format("crc32-%08x-%d", entry.getCrc(), entry.getSize());
+                return libraryCache.extract(resourceName, key, entry.getSize(), contents);
+            }
+            return libraryCache.extract(resourceName, contents.read());
+        } catch (IOException | UncheckedIOException e) {
+            if (CallTraces.TRACE_DOWNCALLS) {
+                System.err.println("[swift-java] Failed to extract " + resourceName + " into " + libraryCache.directory() + ": " + e.getMessage());
+            }
+        }
+
+        try {
+            File tempFile = File.createTempFile(libname, "");
+            tempFile.deleteOnExit();
+            Files.write(tempFile.toPath(), contents.read());
+            return tempFile.toPath();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load dynamic library '" + libname + "' ('" + resourceName + "') as resource!", e);
         }
     }
 
@@ -0,0 +1,285 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core;
+
+import org.swift.swiftkit.core.util.PlatformUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A directory that dynamic libraries bundled as resources are extracted to, so that they can be loaded.
+ * <p>
+ * Every library is stored under a key derived from its contents, e.g. {@code <directory>/<key>/libMyLibrary.so},
+ * so a library extracted by an earlier run is loaded again without reading or writing it, and different versions
+ * of a library never overwrite each other. An extracted library is trusted by its key and its size.
+ * A library is written to a temporary file first and then renamed into place, while holding a lock file,
+ * so concurrent processes never load a partially written library.
+ * <p>
+ * The directory has to be owned by the current user and accessible only by them, otherwise it is refused,
+ * so that no other user can plant a library in it. Entries that were not used for {@link #MAXIMUM_UNUSED_AGE}
+ * are removed whenever a new entry is extracted.
+ * <p>
+ * The directory is set with the {@code swift-java.library-cache-dir} system property. The value {@code memory}
+ * selects the in-memory file system {@code /dev/shm} on Linux, which avoids writing the libraries to disk.
+ * By default, the per-user cache directory is used, e.g. {@code ~/.cache/swift-java/libraries} on Linux.
+ */
+final class SwiftLibraryCache {
+
+    static final String DIRECTORY_PROPERTY = "swift-java.library-cache-dir";
+
+    /** How long an entry may go unused before it is removed. */
+    static final Duration MAXIMUM_UNUSED_AGE = Duration.ofDays(30);
+
+    /** How often the last use of an entry is recorded, in its directory's modification time. */
+    private static final Duration USE_RECORDING_INTERVAL = Duration.ofDays(1);
+
+    private static final Set<PosixFilePermission> PRIVATE_PERMISSIONS = PosixFilePermissions.fromString("rwx------");
+
+    private final Path directory;
+
+    /** Serializes the extraction of the same library within this process, which a file lock does not. */
+    private static final ConcurrentHashMap<Path, Object> extractionLocks = new ConcurrentHashMap<>();
+
+    /** Whether {@link #directory} was verified to be private, which is done once per process. */
+    private volatile boolean verified;
+
+    /** The contents of a library, which are only read if it has to be extracted. */
+    @FunctionalInterface
+    interface Contents {
+        byte[] read() throws IOException;
+    }
+
+    SwiftLibraryCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * The cache configured with {@link #DIRECTORY_PROPERTY}.
+     */
+    static SwiftLibraryCache configured() {
+        String configured = System.getProperty(DIRECTORY_PROPERTY);
+        if ("memory".equals(configured) && PlatformUtils.isLinux()) {
+            return new SwiftLibraryCache(Paths.get("/dev/shm", "swift-java-libraries-" + System.getProperty("user.name")));
+        } else if (configured != null && !configured.equals("memory")) {
+            return new SwiftLibraryCache(Paths.get(configured));
+        }
+
+        String userHome = System.getProperty("user.home");
+        String xdgCacheHome = System.getenv("XDG_CACHE_HOME");
+        Path userCache;
+        if (PlatformUtils.isMacOS()) {
+            userCache = Paths.get(userHome, "Library", "Caches");
+        } else if (xdgCacheHome != null && !xdgCacheHome.isEmpty()) {
+            userCache = Paths.get(xdgCacheHome);
+        } else {
+            userCache = Paths.get(userHome, ".cache");
+        }
+        return new SwiftLibraryCache(userCache.resolve("swift-java").resolve("libraries"));
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    /**
+     * Returns the path of the library {@code fileName} with the given contents in this cache,
+     * writing it unless an earlier extraction already did.
+     *
+     * @throws IOException if the cache directory is not writable, or is accessible by other users
+     */
+    Path extract(String fileName, byte[] contents) throws IOException {
+        return extract(fileName, "sha256-" + sha256(contents), contents.length, () -> contents);
+    }
+
+    /**
+     * Returns the path of the library {@code fileName} in this cache, stored under {@code key},
+     * writing it unless an earlier extraction already did.
+     *
+     * @param key a key that identifies the contents of the library, like a hash of them
+     * @param size the size of the library in bytes
+     * @param contents the contents of the library, read only if it has not been extracted yet
+     * @throws IOException if the cache directory is not writable, or is accessible by other users
+     */
+    Path extract(String fileName, String key, long size, Contents contents) throws IOException {
+        verifyPrivateDirectory();
+
+        Path entryDirectory = directory.resolve(key);
+        Path library = entryDirectory.resolve(fileName);
+        if (isExtracted(library, size)) {
+            recordUse(entryDirectory);
+            return library;
+        }
+
+        Files.createDirectories(entryDirectory);
+        Path lockFile = entryDirectory.resolve(fileName + ".lock");
+        synchronized (extractionLocks.computeIfAbsent(lockFile, k -> new Object())) {
+            try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // Released by closing the channel.
+                lockChannel.lock();
+
+                // Another process may have extracted the library while we waited for the lock.
+                if (isExtracted(library, size)) {
+                    return library;
+                }
+
+                byte[] bytes = contents.read();
+                if (bytes.length != size) {
+                    throw new IOException("Library " + fileName + " has " + bytes.length + " bytes, but " + size + " were expected");
+                }
+
+                Path temporary = Files.createTempFile(entryDirectory, fileName, ".tmp");
+                try {
+                    Files.write(temporary, bytes);
+                    Files.move(temporary, library, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    Files.deleteIfExists(temporary);
+                }
+            }
+        }
+
+        removeUnusedEntries(entryDirectory);
+        return library;
+    }
+
+    /**
+     * Whether {@code library} was completely extracted.
+     * <p>
+     * The directory is private and every library is renamed into place after it was written,
+     * so the key and the size identify the library without reading it.
+     */
+    private static boolean isExtracted(Path library, long size) throws IOException {
+        try {
+            return Files.size(library) == size;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates {@link #directory} accessible only by the current user, or verifies that an existing one is,
+     * on file systems with POSIX permissions.
+     */
+    private void verifyPrivateDirectory() throws IOException {
+        if (verified) {
+            return;
+        }
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createDirectories(directory);
+            verified = true;
+            return;
+        }
+
+        if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+            Path parent = directory.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try {
+                Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(PRIVATE_PERMISSIONS));
+            } catch (FileAlreadyExistsException e) {
+                // Created concurrently, and verified below.
+            }
+        }
+
+        PosixFileAttributes attributes = Files.getFileAttributeView(directory, PosixFileAttributeView.class, LinkOption.NOFOLLOW_LINKS)
+                .readAttributes();
+        UserPrincipal currentUser = directory.getFileSystem().getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!attributes.isDirectory()) {
+            throw new IOException("Refusing library cache " + directory + ": not a directory");
+        }
+        if (!attributes.owner().equals(currentUser)) {
+            throw new IOException("Refusing library cache " + directory + ": owned by " + attributes.owner().getName() + ", not " + currentUser.getName());
+        }
+        if (!attributes.permissions().equals(PRIVATE_PERMISSIONS)) {
+            throw new IOException("Refusing library cache " + directory + ": permissions are "
+                    + PosixFilePermissions.toString(attributes.permissions()) + ", not rwx------");
+        }
+        verified = true;
+    }
+
+    /**
+     * Records that the entry was used, at most once per {@link #USE_RECORDING_INTERVAL},
+     * so that loading a library does not write to the cache every time.
+     */
+    private static void recordUse(Path entryDirectory) {
+        try {
+            FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+            FileTime lastUse = Files.getLastModifiedTime(entryDirectory);
+            if (now.toMillis() - lastUse.toMillis() > USE_RECORDING_INTERVAL.toMillis()) {
+                Files.setLastModifiedTime(entryDirectory, now);
+            }
+        } catch (IOException e) {
+            // Only delays the removal of the entry.
+        }
+    }
+
+    /**
+     * Removes the entries other than {@code current} that were not used for {@link #MAXIMUM_UNUSED_AGE}.
+     * <p>
+     * This is best-effort: a library that is still loaded by a running process stays mapped after its file is removed.
+     */
+    private void removeUnusedEntries(Path current) {
+        long oldest = System.currentTimeMillis() - MAXIMUM_UNUSED_AGE.toMillis();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                if (entry.equals(current) || !Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)
+                        || Files.getLastModifiedTime(entry, LinkOption.NOFOLLOW_LINKS).toMillis() >= oldest) {
+                    continue;
+                }
+                try (Stream<Path> files = Files.list(entry)) {
+                    for (Path file : (Iterable<Path>) files::iterator) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+                Files.deleteIfExists(entry);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // Retried with the next extraction.
+        }
+    }
+
+    static String sha256(byte[] contents) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required to be supported by every Java platform", e);
+        }
+
+        byte[] hash = digest.digest(contents);
+        StringBuilder hex = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+            hex.append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
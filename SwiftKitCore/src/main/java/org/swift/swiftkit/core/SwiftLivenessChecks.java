@@ -0,0 +1,117 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core;
+
+import java.util.function.Supplier;
+
+/**
+ * Controls the liveness checks performed by {@link SwiftInstance#$ensureAlive()} before a Swift
+ * object is used, which turn a use-after-destroy into an {@link IllegalStateException}.
+ * <p>
+ * The checking mode is set with the {@code swiftkit.liveness.checks} system property, and is a
+ * {@code static final} constant the JIT folds:
+ * <ul>
+ *   <li>{@code full} (default): every call on a Swift object is checked.</li>
+ *   <li>{@code debug}: calls are only checked when Java assertions are enabled for this package
+ *       (e.g. with {@code -ea}). Otherwise the checks are compiled out.</li>
+ *   <li>{@code scoped}: every call is checked, except inside {@link #unchecked(Supplier)} regions
+ *       on the same thread. Every check looks up the region depth of the current thread first,
+ *       so this mode only pays off when hot loops inside regions dominate.</li>
+ * </ul>
+ * <p>
+ * An unknown mode is reported on standard error, and the default {@code full} mode is used.
+ */
+public final class SwiftLivenessChecks {
+
+    private SwiftLivenessChecks() {
+        // no instances
+    }
+
+    public static final String MODE_PROPERTY = "swiftkit.liveness.checks";
+
+    private static final String MODE = mode(System.getProperty(MODE_PROPERTY, "full"));
+
+    /**
+     * Whether liveness checks are performed at all, as configured by {@link #MODE_PROPERTY}.
+     */
+    public static final boolean ENABLED = !MODE.equals("debug") || SwiftLivenessChecks.class.desiredAssertionStatus();
+
+    /**
+     * Whether {@link #unchecked(Supplier)} regions skip the checks, i.e. the mode is {@code scoped}.
+     */
+    private static final boolean SCOPED = MODE.equals("scoped");
+
+    private static String mode(String mode) {
+        switch (mode) {
+            case "full":
+            case "debug":
+            case "scoped":
+                return mode;
+            default:
+                System.err.println("[swift-java] Unknown " + MODE_PROPERTY + " mode '" + mode +
+                    "', expected 'full', 'debug' or 'scoped'; using 'full'");
+                return "full";
+        }
+    }
+
+    /**
+     * The depth of nested {@link #unchecked(Supplier)} regions on the current thread.
+     * Only consulted by the checks in the {@code scoped} mode.
+     */
+    private static final ThreadLocal<int[]> regionDepth = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * Whether {@link SwiftInstance#$ensureAlive()} should check the object.
+     * <p>
+     * Outside the {@code scoped} mode this folds to a constant.
+     */
+    static boolean shouldCheck() {
+        return ENABLED && (!SCOPED || !inUncheckedRegion());
+    }
+
+    static boolean inUncheckedRegion() {
+        return regionDepth.get()[0] != 0;
+    }
+
+    /**
+     * Run {@code body} without liveness checks in the {@code scoped} mode, and return its result.
+     * In the other modes, {@code body} is checked like any other code.
+     * <p>
+     * The caller is responsible for all Swift objects used by {@code body} to stay alive
+     * until it returns. Using a destroyed object inside the region is undefined behavior
+     * rather than an {@link IllegalStateException}.
+     * <p>
+     * Checks are only skipped on the thread running {@code body}. Regions may be nested.
+     */
+    public static <T> T unchecked(Supplier<T> body) {
+        int[] depth = regionDepth.get();
+        depth[0] += 1;
+        try {
+            return body.get();
+        } finally {
+            depth[0] -= 1;
+        }
+    }
+
+    /**
+     * Run {@code body} without liveness checks, see {@link #unchecked(Supplier)}.
+     */
+    public static void runUnchecked(Runnable body) {
+        unchecked(() -> {
+            body.run();
+            return null;
+        });
+    }
+}
@@ -25,6 +25,7 @@ public class SwiftObjects {
     }
 
     public static native int getRawDiscriminator(long selfPointer, long selfTypePointer);
+    public static native int[] getRawDiscriminators(long[] selfPointers, long[] selfTypePointers);
     public static native String toString(long selfPointer, long selfTypePointer);
     public static native String toDebugString(long selfPointer, long selfTypePointer);
     public static native void destroy(long selfPointer, long selfTypePointer);
@@ -0,0 +1,32 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core;
+
+/**
+ * A resource whose Swift memory is destroyed by the {@link SwiftArena} it is registered with.
+ * <p>
+ * Arenas only need the cleanup of a resource, and the resource itself to find out when it
+ * becomes unreachable. {@link SwiftInstance} is the common case. Resources that have no single
+ * memory address, like the elements of a {@link org.swift.swiftkit.core.collections.SwiftObjectList}
+ * that were not wrapped yet, implement only this interface.
+ */
+public interface SwiftResource {
+    /**
+     * Returns the cleanup associated with this resource.
+     * <p>
+     * <b>Warning:</b> The cleanup must not capture {@code this}.
+     */
+    SwiftInstanceCleanup $cleanup();
+}
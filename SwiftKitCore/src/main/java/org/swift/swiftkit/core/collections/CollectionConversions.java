@@ -0,0 +1,130 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.collections;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Map;
+
+/**
+ * Bulk conversion helpers used by Swift when a plain Java collection
+ * (i.e. not a {@link SwiftDictionaryMap} or {@link SwiftSet}) is passed into a Swift API.
+ * <p>
+ * Swift calls into these once per collection, instead of once (or more) per element,
+ * and then copies the resulting arrays out with a single JNI array region operation.
+ * <p>
+ * Boxed {@code null} elements cannot be unboxed, and throw a {@link NullPointerException},
+ * as unboxing them one by one would.
+ */
+public final class CollectionConversions {
+
+    private CollectionConversions() {
+        // no instances
+    }
+
+    /**
+     * Copy the entries of a map into two parallel arrays in a single pass.
+     *
+     * @return a two element array, containing the keys array at index {@code 0}
+     *         and the values array at index {@code 1}
+     */
+    public static Object[][] flattenMap(Map<?, ?> map) {
+        final int size = map.size();
+        final Object[] keys = new Object[size];
+        final Object[] values = new Object[size];
+        int i = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i += 1;
+        }
+        if (i != size) {
+            throw new ConcurrentModificationException(
+                "Map size changed while being converted to Swift, expected " + size + " entries but found " + i);
+        }
+        return new Object[][] { keys, values };
+    }
+
+    /**
+     * Copy the elements of a collection into an array.
+     */
+    public static Object[] flattenCollection(Collection<?> collection) {
+        return collection.toArray();
+    }
+
+    public static long[] unboxLongs(Object[] boxed) {
+        final long[] result = new long[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            result[i] = (Long) element(boxed, i);
+        }
+        return result;
+    }
+
+    public static int[] unboxInts(Object[] boxed) {
+        final int[] result = new int[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            result[i] = (Integer) element(boxed, i);
+        }
+        return result;
+    }
+
+    public static short[] unboxShorts(Object[] boxed) {
+        final short[] result = new short[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            result[i] = (Short) element(boxed, i);
+        }
+        return result;
+    }
+
+    public static byte[] unboxBytes(Object[] boxed) {
+        final byte[] result = new byte[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            result[i] = (Byte) element(boxed, i);
+        }
+        return result;
+    }
+
+    public static double[] unboxDoubles(Object[] boxed) {
+        final double[] result = new double[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            result[i] = (Double) element(boxed, i);
+        }
+        return result;
+    }
+
+    public static float[] unboxFloats(Object[] boxed) {
+        final float[] result = new float[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            result[i] = (Float) element(boxed, i);
+        }
+        return result;
+    }
+
+    public static boolean[] unboxBooleans(Object[] boxed) {
+        final boolean[] result = new boolean[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            result[i] = (Boolean) element(boxed, i);
+        }
+        return result;
+    }
+
+    private static Object element(Object[] boxed, int index) {
+        final Object value = boxed[index];
+        if (value == null) {
+            throw new NullPointerException("Cannot unbox null element at index " + index);
+        }
+        return value;
+    }
+}
@@ -34,7 +34,7 @@ public class SwiftDictionaryMap<K, V> extends AbstractMap<K, V> implements JNISw
     private final long selfPointer;
     private final SwiftInstanceCleanup cleanup;
 
-    private SwiftDictionaryMap(long selfPointer) {
+    protected SwiftDictionaryMap(long selfPointer) {
         this.selfPointer = selfPointer;
         this.cleanup = $createCleanup();
     }
@@ -112,11 +112,15 @@ public class SwiftDictionaryMap<K, V> extends AbstractMap<K, V> implements JNISw
      * 
      * @return A copy of Swift Dictionary on the Java heap, detached from the Swift Dictionary's lifetime
      */
+    @SuppressWarnings("unchecked")
     public Map<K, V> toJavaMap() {
-        HashMap<K, V> copy = new HashMap<>(this.size());
-        for (var key : keySet()) {
-            final V value = get(key);
-            copy.put(key, value);
+        // Copy all entries with a single liveness check, rather than one per looked up key.
+        $ensureAlive();
+        Object[] keys = $keys(selfPointer);
+        Object[] values = $values(selfPointer);
+        HashMap<K, V> copy = new HashMap<>(keys.length * 4 / 3 + 1);
+        for (int i = 0; i < keys.length; i++) {
+            copy.put((K) keys[i], (V) values[i]);
         }
         return copy;
     }
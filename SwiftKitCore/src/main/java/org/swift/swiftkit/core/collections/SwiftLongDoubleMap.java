@@ -0,0 +1,143 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.collections;
+
+import java.util.*;
+
+import org.swift.swiftkit.core.*;
+
+/**
+ * A primitive-specialized view of a Swift {@code [Int64: Double]} (or {@code [Int: Double]}) dictionary.
+ * <p>
+ * In addition to the {@link java.util.Map} interface, this type offers methods taking and returning
+ * {@code long} keys and {@code double} values, which cross into Swift without boxing.
+ */
+public final class SwiftLongDoubleMap extends SwiftDictionaryMap<Long, Double> {
+
+    private SwiftLongDoubleMap(long selfPointer) {
+        super(selfPointer);
+    }
+
+    @SuppressWarnings("unchecked") // hides the generic factory of the superclass
+    public static SwiftLongDoubleMap wrapMemoryAddressUnsafe(long selfPointer, SwiftArena arena) {
+        SwiftLongDoubleMap map = new SwiftLongDoubleMap(selfPointer);
+        arena.register(map);
+        return map;
+    }
+
+    /**
+     * Returns {@code true} if the Swift dictionary contains the given key.
+     */
+    public boolean containsLong(long key) {
+        return $containsLong($memoryAddress(), key);
+    }
+
+    /**
+     * Returns the value for the given key.
+     *
+     * @throws NoSuchElementException if the dictionary does not contain the key
+     */
+    public double getDouble(long key) {
+        final long self = $memoryAddress();
+        final double value = $getOrDefault(self, key, Double.NaN);
+        if (Double.isNaN(value) && !$containsLong(self, key)) {
+            throw new NoSuchElementException("Key not present in Swift dictionary: " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value for the given key, or {@code defaultValue} if the dictionary does not contain the key.
+     */
+    public double getOrDefault(long key, double defaultValue) {
+        return $getOrDefault($memoryAddress(), key, defaultValue);
+    }
+
+    /**
+     * Look up all {@code keys} with a single call into Swift, writing the values into {@code out}.
+     * Keys that are not present in the dictionary produce {@code 0.0}.
+     */
+    public void getAll(long[] keys, double[] out) {
+        getAll(keys, out, 0.0);
+    }
+
+    /**
+     * Look up all {@code keys} with a single call into Swift, writing the values into {@code out}.
+     * Keys that are not present in the dictionary produce {@code defaultValue}.
+     */
+    public void getAll(long[] keys, double[] out, double defaultValue) {
+        if (out.length < keys.length) {
+            throw new IllegalArgumentException("Output array is smaller than the keys array: " + out.length + " < " + keys.length);
+        }
+        $getAll($memoryAddress(), keys, out, defaultValue);
+    }
+
+    /**
+     * Copy all keys of the dictionary into a new array.
+     * The order matches the one of {@link #valuesToArray()}.
+     */
+    public long[] keysToArray() {
+        return $keysToArray($memoryAddress());
+    }
+
+    /**
+     * Copy all values of the dictionary into a new array.
+     * The order matches the one of {@link #keysToArray()}.
+     */
+    public double[] valuesToArray() {
+        return $valuesToArray($memoryAddress());
+    }
+
+    // === Map interface ===
+
+    @Override
+    public Double get(Object key) {
+        if (!(key instanceof Long)) {
+            return null;
+        }
+        final long self = $memoryAddress();
+        final long k = (Long) key;
+        final double value = $getOrDefault(self, k, Double.NaN);
+        if (Double.isNaN(value) && !$containsLong(self, k)) {
+            return null;
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Long && containsLong((Long) key);
+    }
+
+    @Override
+    public Set<Entry<Long, Double>> entrySet() {
+        final long self = $memoryAddress();
+        final long[] keys = $keysToArray(self);
+        final double[] values = $valuesToArray(self);
+        Set<Entry<Long, Double>> entries = new LinkedHashSet<>();
+        for (int i = 0; i < keys.length; i++) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(keys[i], values[i]));
+        }
+        return entries;
+    }
+
+    // ==== Native methods
+
+    private static native boolean $containsLong(long selfPointer, long key);
+    private static native double $getOrDefault(long selfPointer, long key, double defaultValue);
+    private static native void $getAll(long selfPointer, long[] keys, double[] out, double defaultValue);
+    private static native long[] $keysToArray(long selfPointer);
+    private static native double[] $valuesToArray(long selfPointer);
+}
@@ -0,0 +1,148 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.collections;
+
+import java.util.*;
+
+import org.swift.swiftkit.core.*;
+
+/**
+ * A primitive-specialized view of a Swift {@code [Int64: Int64]} (or {@code [Int: Int]}) dictionary.
+ * <p>
+ * In addition to the {@link java.util.Map} interface, this type offers methods taking and returning
+ * {@code long} keys and values, which cross into Swift without boxing.
+ */
+public final class SwiftLongLongMap extends SwiftDictionaryMap<Long, Long> {
+
+    /**
+     * Sentinel used to detect missing keys without a second call into Swift in the common case.
+     */
+    private static final long MISSING = Long.MIN_VALUE;
+
+    private SwiftLongLongMap(long selfPointer) {
+        super(selfPointer);
+    }
+
+    @SuppressWarnings("unchecked") // hides the generic factory of the superclass
+    public static SwiftLongLongMap wrapMemoryAddressUnsafe(long selfPointer, SwiftArena arena) {
+        SwiftLongLongMap map = new SwiftLongLongMap(selfPointer);
+        arena.register(map);
+        return map;
+    }
+
+    /**
+     * Returns {@code true} if the Swift dictionary contains the given key.
+     */
+    public boolean containsLong(long key) {
+        return $containsLong($memoryAddress(), key);
+    }
+
+    /**
+     * Returns the value for the given key.
+     *
+     * @throws NoSuchElementException if the dictionary does not contain the key
+     */
+    public long getLong(long key) {
+        final long self = $memoryAddress();
+        final long value = $getOrDefault(self, key, MISSING);
+        if (value == MISSING && !$containsLong(self, key)) {
+            throw new NoSuchElementException("Key not present in Swift dictionary: " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value for the given key, or {@code defaultValue} if the dictionary does not contain the key.
+     */
+    public long getOrDefault(long key, long defaultValue) {
+        return $getOrDefault($memoryAddress(), key, defaultValue);
+    }
+
+    /**
+     * Look up all {@code keys} with a single call into Swift, writing the values into {@code out}.
+     * Keys that are not present in the dictionary produce {@code 0}.
+     */
+    public void getAll(long[] keys, long[] out) {
+        getAll(keys, out, 0L);
+    }
+
+    /**
+     * Look up all {@code keys} with a single call into Swift, writing the values into {@code out}.
+     * Keys that are not present in the dictionary produce {@code defaultValue}.
+     */
+    public void getAll(long[] keys, long[] out, long defaultValue) {
+        if (out.length < keys.length) {
+            throw new IllegalArgumentException("Output array is smaller than the keys array: " + out.length + " < " + keys.length);
+        }
+        $getAll($memoryAddress(), keys, out, defaultValue);
+    }
+
+    /**
+     * Copy all keys of the dictionary into a new array.
+     * The order matches the one of {@link #valuesToArray()}.
+     */
+    public long[] keysToArray() {
+        return $keysToArray($memoryAddress());
+    }
+
+    /**
+     * Copy all values of the dictionary into a new array.
+     * The order matches the one of {@link #keysToArray()}.
+     */
+    public long[] valuesToArray() {
+        return $valuesToArray($memoryAddress());
+    }
+
+    // === Map interface ===
+
+    @Override
+    public Long get(Object key) {
+        if (!(key instanceof Long)) {
+            return null;
+        }
+        final long self = $memoryAddress();
+        final long k = (Long) key;
+        final long value = $getOrDefault(self, k, MISSING);
+        if (value == MISSING && !$containsLong(self, k)) {
+            return null;
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Long && containsLong((Long) key);
+    }
+
+    @Override
+    public Set<Entry<Long, Long>> entrySet() {
+        final long self = $memoryAddress();
+        final long[] keys = $keysToArray(self);
+        final long[] values = $valuesToArray(self);
+        Set<Entry<Long, Long>> entries = new LinkedHashSet<>();
+        for (int i = 0; i < keys.length; i++) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(keys[i], values[i]));
+        }
+        return entries;
+    }
+
+    // ==== Native methods
+
+    private static native boolean $containsLong(long selfPointer, long key);
+    private static native long $getOrDefault(long selfPointer, long key, long defaultValue);
+    private static native void $getAll(long selfPointer, long[] keys, long[] out, long defaultValue);
+    private static native long[] $keysToArray(long selfPointer);
+    private static native long[] $valuesToArray(long selfPointer);
+}
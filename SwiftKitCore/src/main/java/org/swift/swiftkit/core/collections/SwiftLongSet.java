@@ -0,0 +1,98 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.collections;
+
+import java.util.*;
+
+import org.swift.swiftkit.core.*;
+
+/**
+ * A primitive-specialized view of a Swift {@code Set<Int64>} (or {@code Set<Int>}).
+ * <p>
+ * In addition to the {@link java.util.Set} interface, this type offers methods taking
+ * {@code long} elements, which cross into Swift without boxing.
+ */
+public final class SwiftLongSet extends SwiftSet<Long> {
+
+    private SwiftLongSet(long selfPointer) {
+        super(selfPointer);
+    }
+
+    @SuppressWarnings("unchecked") // hides the generic factory of the superclass
+    public static SwiftLongSet wrapMemoryAddressUnsafe(long selfPointer, SwiftArena arena) {
+        SwiftLongSet set = new SwiftLongSet(selfPointer);
+        arena.register(set);
+        return set;
+    }
+
+    /**
+     * Returns {@code true} if the Swift set contains the given element.
+     */
+    public boolean containsLong(long element) {
+        return $containsLong($memoryAddress(), element);
+    }
+
+    /**
+     * Check membership of all {@code elements} with a single call into Swift,
+     * writing the results into {@code out}.
+     */
+    public void containsAll(long[] elements, boolean[] out) {
+        if (out.length < elements.length) {
+            throw new IllegalArgumentException("Output array is smaller than the elements array: " + out.length + " < " + elements.length);
+        }
+        $containsAll($memoryAddress(), elements, out);
+    }
+
+    /**
+     * Copy all elements of the set into a new array.
+     */
+    public long[] toLongArray() {
+        return $toLongArray($memoryAddress());
+    }
+
+    // === Set interface ===
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Long && containsLong((Long) o);
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        final long[] elements = toLongArray();
+        return new Iterator<Long>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < elements.length;
+            }
+
+            @Override
+            public Long next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elements[index++];
+            }
+        };
+    }
+
+    // ==== Native methods
+
+    private static native boolean $containsLong(long selfPointer, long element);
+    private static native void $containsAll(long selfPointer, long[] elements, boolean[] out);
+    private static native long[] $toLongArray(long selfPointer);
+}
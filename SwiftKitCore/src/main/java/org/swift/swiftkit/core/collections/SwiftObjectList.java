@@ -0,0 +1,172 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.collections;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.swift.swiftkit.core.*;
+
+/**
+ * A read-only list view of Swift objects returned from Swift as an array of memory addresses,
+ * which wraps every element into its Java type on first access.
+ * <p>
+ * Compared to wrapping the whole array up front, e.g. with a generated {@code wrapMemoryAddressesUnsafe},
+ * callers that only look at a few elements of a large result don't pay for the others.
+ * <p>
+ * The list owns the Swift objects until they are wrapped. Wrapped elements are registered with the
+ * arena of the list on first access, and destroyed with it like any other object. Elements that were
+ * never accessed are destroyed when the arena releases the list itself, i.e. when a confined arena is
+ * closed, or when an automatic arena finds the list unreachable.
+ */
+public final class SwiftObjectList<T extends SwiftInstance> extends AbstractList<T> implements RandomAccess {
+
+    /**
+     * Wraps a memory address into its Java type, registering it with the arena,
+     * e.g. a method reference to a generated {@code MySwiftClass::wrapMemoryAddressUnsafe}.
+     */
+    @FunctionalInterface
+    public interface Wrapper<T> {
+        T wrapMemoryAddressUnsafe(long selfPointer, SwiftArena swiftArena);
+    }
+
+    private final SwiftArena swiftArena;
+    private final Wrapper<T> wrapper;
+    private final Object[] elements;
+
+    /** Owns the memory addresses that have not been wrapped yet; registered with the arena. */
+    private final UnwrappedElements<T> unwrapped;
+
+    private SwiftObjectList(long[] selfPointers, SwiftArena swiftArena, Wrapper<T> wrapper) {
+        this.swiftArena = swiftArena;
+        this.wrapper = wrapper;
+        this.elements = new Object[selfPointers.length];
+        this.unwrapped = new UnwrappedElements<>(selfPointers, wrapper);
+        swiftArena.register(this.unwrapped);
+    }
+
+    /**
+     * Assume that the passed {@code long}s represent memory addresses of Swift objects of the type
+     * created by {@code wrapper}, and take ownership of them.
+     * <p>
+     * Warnings:
+     * <ul>
+     *   <li>No checks are performed about the compatibility of the pointed at memory and the wrapped types.</li>
+     *   <li>The list takes ownership of {@code selfPointers}, which must not be modified afterwards.</li>
+     * </ul>
+     */
+    public static <T extends SwiftInstance> SwiftObjectList<T> wrapMemoryAddressesUnsafe(
+            long[] selfPointers, SwiftArena swiftArena, Wrapper<T> wrapper) {
+        Objects.requireNonNull(selfPointers, "selfPointers");
+        Objects.requireNonNull(swiftArena, "swiftArena");
+        Objects.requireNonNull(wrapper, "wrapper");
+        return new SwiftObjectList<>(selfPointers, swiftArena, wrapper);
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, elements.length);
+        synchronized (unwrapped) {
+            Object element = elements[index];
+            if (element == null) {
+                long selfPointer = unwrapped.take(index);
+                element = wrapper.wrapMemoryAddressUnsafe(selfPointer, swiftArena);
+                elements[index] = element;
+            }
+            return (T) element;
+        }
+    }
+
+    /**
+     * The elements that have not been wrapped yet, registered with the arena.
+     * <p>
+     * Only referenced by the list, so that an automatic arena finds it unreachable together with the list.
+     */
+    private static final class UnwrappedElements<T> implements SwiftResource {
+        private final Cleanup<T> cleanup;
+
+        UnwrappedElements(long[] selfPointers, Wrapper<T> wrapper) {
+            this.cleanup = new Cleanup<>(selfPointers, wrapper);
+        }
+
+        /** Transfer the ownership of the element at {@code index} to the caller. */
+        long take(int index) {
+            return cleanup.take(index);
+        }
+
+        @Override
+        public SwiftInstanceCleanup $cleanup() {
+            return cleanup;
+        }
+    }
+
+    /**
+     * Destroys the elements that were never wrapped.
+     * <p>
+     * Holds only their memory addresses and the wrapper that knows their type,
+     * and must not reference the list or its {@link UnwrappedElements}.
+     */
+    private static final class Cleanup<T> implements SwiftInstanceCleanup {
+        private final long[] selfPointers;
+        private final Wrapper<T> wrapper;
+        private boolean destroyed;
+
+        Cleanup(long[] selfPointers, Wrapper<T> wrapper) {
+            this.selfPointers = selfPointers;
+            this.wrapper = wrapper;
+        }
+
+        synchronized long take(int index) {
+            if (destroyed) {
+                throw new IllegalStateException("Attempted to access an element of an already destroyed SwiftObjectList!");
+            }
+            long selfPointer = selfPointers[index];
+            selfPointers[index] = 0;
+            return selfPointer;
+        }
+
+        @Override
+        public synchronized boolean isDestroyed() {
+            return destroyed;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (destroyed) {
+                    return;
+                }
+                destroyed = true;
+            }
+
+            // Nothing can take elements anymore, so wrap the remaining ones
+            // just to destroy them the way their type requires.
+            try (ClosableSwiftArena arena = SwiftArena.ofConfined()) {
+                for (long selfPointer : selfPointers) {
+                    if (selfPointer != 0) {
+                        wrapper.wrapMemoryAddressUnsafe(selfPointer, arena);
+                    }
+                }
+            }
+        }
+    }
+}
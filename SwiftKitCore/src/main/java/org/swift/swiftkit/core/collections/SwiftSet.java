@@ -33,7 +33,7 @@ public class SwiftSet<E> extends AbstractSet<E> implements JNISwiftInstance {
     private final long selfPointer;
     private final SwiftInstanceCleanup cleanup;
 
-    private SwiftSet(long selfPointer) {
+    protected SwiftSet(long selfPointer) {
         this.selfPointer = selfPointer;
         this.cleanup = $createCleanup();
     }
@@ -114,8 +114,15 @@ public class SwiftSet<E> extends AbstractSet<E> implements JNISwiftInstance {
      *
      * @return A copy of Swift Set on the Java heap, detached from the Swift Set's lifetime
      */
+    @SuppressWarnings("unchecked")
     public Set<E> toJavaSet() {
-        return new HashSet<>(this);
+        $ensureAlive();
+        Object[] elements = $toArray(selfPointer);
+        HashSet<E> copy = new HashSet<>(elements.length * 4 / 3 + 1);
+        for (Object element : elements) {
+            copy.add((E) element);
+        }
+        return copy;
     }
 
     // ==== Native methods
@@ -0,0 +1,41 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A {@code SwiftArena} was closed, destroying the Swift objects registered with it.
+ * The duration of the event is the time the cleanup took.
+ */
+@Name("org.swift.swiftkit.ArenaClose")
+@Label("Swift Arena Close")
+@Category({ "Swift", "Memory" })
+@Description("A SwiftArena was closed and destroyed its objects")
+@Enabled(false)
+public final class SwiftArenaCloseEvent extends Event {
+
+    @Label("Arena Type")
+    public String arenaType;
+
+    @Label("Object Count")
+    @Description("The number of Swift objects destroyed")
+    public int objectCount;
+
+    @Label("Allocated Bytes")
+    @Description("The memory allocated in the arena, if it allocates memory")
+    @DataAmount
+    public long allocatedBytes;
+}
@@ -0,0 +1,40 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A {@code SwiftArena} was created.
+ */
+@Name("org.swift.swiftkit.ArenaOpen")
+@Label("Swift Arena Open")
+@Category({ "Swift", "Memory" })
+@Description("A SwiftArena was created")
+@Enabled(false)
+public final class SwiftArenaOpenEvent extends Event {
+
+    @Label("Arena Type")
+    public String arenaType;
+
+    /** Record that an arena of {@code arenaType} was created, if the event is enabled. */
+    public static void commit(Class<?> arenaType) {
+        SwiftArenaOpenEvent event = new SwiftArenaOpenEvent();
+        if (event.shouldCommit()) {
+            event.arenaType = arenaType.getName();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.jfr;
+
+import jdk.jfr.*;
+import org.swift.swiftkit.core.SimpleCompletableFuture;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An asynchronous Swift function called from Java, from the start of its task until its future completed.
+ */
+@Name("org.swift.swiftkit.AsyncTask")
+@Label("Swift Async Task")
+@Category({ "Swift", "Interop" })
+@Description("An async Swift function called from Java, from start to completion")
+@Enabled(false)
+public final class SwiftAsyncTaskEvent extends Event {
+
+    @Label("Function")
+    public String function;
+
+    @Label("Succeeded")
+    @Description("Whether the task completed with a result rather than an error")
+    public boolean succeeded;
+
+    /**
+     * Record the task completing {@code future}, if the event is enabled, and return the future.
+     */
+    static <T> CompletableFuture<T> track(CompletableFuture<T> future, String function) {
+        SwiftAsyncTaskEvent event = new SwiftAsyncTaskEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            future.whenComplete((result, error) -> event.complete(function, error == null));
+        }
+        return future;
+    }
+
+    /**
+     * Record the task completing {@code future}, if the event is enabled, and return the future.
+     */
+    static <T> SimpleCompletableFuture<T> track(SimpleCompletableFuture<T> future, String function) {
+        SwiftAsyncTaskEvent event = new SwiftAsyncTaskEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            future.whenComplete((result, error) -> event.complete(function, error == null));
+        }
+        return future;
+    }
+
+    private void complete(String function, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.function = function;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A call traced by {@code CallTraces}, written by the {@code jfr} call trace sink.
+ * <p>
+ * Calls are buffered before they are recorded, so the time of the call is the {@code callTime} field,
+ * rather than the start time of the event.
+ */
+@Name("org.swift.swiftkit.CallTrace")
+@Label("Swift Call Trace")
+@Category({ "Swift", "Interop" })
+@Description("A call traced with -Djextract.trace.downcalls=true")
+@StackTrace(false)
+public final class SwiftCallTraceEvent extends Event {
+
+    @Label("Kind")
+    public String kind;
+
+    @Label("Call Site")
+    @Description("The called Swift function, or the traced Java method")
+    public String callSite;
+
+    @Label("Arguments")
+    public String arguments;
+
+    @Label("Thread Name")
+    public String threadName;
+
+    @Label("Call Time")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    public long callTime;
+}
@@ -0,0 +1,38 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * The cleaner thread of an automatic {@code SwiftArena} destroyed the Swift objects that the garbage
+ * collector found unreachable. The duration of the event is the time the cleanup took.
+ */
+@Name("org.swift.swiftkit.CleanerActivity")
+@Label("Swift Cleaner Activity")
+@Category({ "Swift", "Memory" })
+@Description("An automatic SwiftArena destroyed unreachable Swift objects")
+@Enabled(false)
+@StackTrace(false)
+public final class SwiftCleanerEvent extends Event {
+
+    @Label("Queue Depth")
+    @Description("The number of unreachable objects that were waiting to be destroyed")
+    public int queueDepth;
+
+    @Label("Registered Count")
+    @Description("The number of objects the cleaner still tracks afterwards")
+    public int registeredCount;
+}
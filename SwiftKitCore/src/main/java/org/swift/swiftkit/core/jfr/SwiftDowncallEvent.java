@@ -0,0 +1,71 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.jfr;
+
+import jdk.jfr.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A call from Java into a Swift function, and how long it took.
+ * <p>
+ * Downcalls are frequent, so besides the standard {@code threshold} setting to only record slow calls,
+ * the {@code swift-java.jfr.downcall-sampling} system property records only 1 in {@code N} downcalls,
+ * chosen at random. Stack traces are off by default, and can be enabled with the {@code stackTrace} setting.
+ */
+@Name("org.swift.swiftkit.Downcall")
+@Label("Swift Downcall")
+@Category({ "Swift", "Interop" })
+@Description("A call from Java into Swift")
+@Enabled(false)
+@StackTrace(false)
+public final class SwiftDowncallEvent extends Event {
+
+    /**
+     * Record 1 in {@code SAMPLING_PERIOD} downcalls.
+     */
+    static final int SAMPLING_PERIOD = samplingPeriod(System.getProperty("swift-java.jfr.downcall-sampling"));
+
+    @Label("Function")
+    @Description("The Swift thunk that was called")
+    public String function;
+
+    /**
+     * End the event started with {@link #begin()} and commit it if it is enabled, sampled, and exceeds
+     * the threshold, recording the {@code function} that was called.
+     */
+    public void end(String function) {
+        end();
+        if (shouldCommit() && isSampled()) {
+            this.function = function;
+            commit();
+        }
+    }
+
+    private static boolean isSampled() {
+        return SAMPLING_PERIOD <= 1 || ThreadLocalRandom.current().nextInt(SAMPLING_PERIOD) == 0;
+    }
+
+    static int samplingPeriod(String value) {
+        if (value == null) {
+            return 1;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.jfr;
+
+import org.swift.swiftkit.core.CallTrace;
+import org.swift.swiftkit.core.CallTraceSink;
+import org.swift.swiftkit.core.SimpleCompletableFuture;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Entry points for recording the Swift events, which are safe to use where JDK Flight Recorder is not
+ * available, such as on Android or in a runtime image without the {@code jdk.jfr} module.
+ * <p>
+ * The event classes extend {@link jdk.jfr.Event}, so they must only be loaded if {@link #AVAILABLE} is true.
+ */
+public final class SwiftEvents {
+
+    private SwiftEvents() {
+        // just a namespace
+    }
+
+    /**
+     * Whether JDK Flight Recorder is available, and the events may be used.
+     */
+    public static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, SwiftEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Record the async Swift {@code function} completing {@code future} as a {@link SwiftAsyncTaskEvent},
+     * and return the future.
+     */
+    public static <T> CompletableFuture<T> trackAsyncTask(CompletableFuture<T> future, String function) {
+        return AVAILABLE ? SwiftAsyncTaskEvent.track(future, function) : future;
+    }
+
+    /**
+     * Record the async Swift {@code function} completing {@code future} as a {@link SwiftAsyncTaskEvent},
+     * and return the future.
+     */
+    public static <T> SimpleCompletableFuture<T> trackAsyncTask(SimpleCompletableFuture<T> future, String function) {
+        return AVAILABLE ? SwiftAsyncTaskEvent.track(future, function) : future;
+    }
+
+    /**
+     * A buffered call trace sink recording every call as a {@link SwiftCallTraceEvent},
+     * with the time of the call in {@code callTime}.
+     * Must only be used if {@link #AVAILABLE} is true.
+     */
+    public static CallTraceSink callTraceSink() {
+        return new CallTraceSink() {
+            @Override
+            public void write(CallTrace trace) {
+                SwiftCallTraceEvent event = new SwiftCallTraceEvent();
+                if (event.shouldCommit()) {
+                    event.kind = trace.kind().name();
+                    event.callSite = trace.callSite();
+                    event.arguments = trace.formatArguments();
+                    event.threadName = trace.threadName();
+                    event.callTime = trace.timestampMillis();
+                    event.commit();
+                }
+            }
+
+            @Override
+            public boolean isBuffered() {
+                return true;
+            }
+        };
+    }
+}
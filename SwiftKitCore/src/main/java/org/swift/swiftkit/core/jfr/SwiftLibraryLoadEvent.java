@@ -0,0 +1,38 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A dynamic library was loaded by {@code SwiftLibraries}, and how long it took.
+ */
+@Name("org.swift.swiftkit.LibraryLoad")
+@Label("Swift Library Load")
+@Category({ "Swift", "Interop" })
+@Description("A Swift dynamic library was loaded")
+@Enabled(false)
+public final class SwiftLibraryLoadEvent extends Event {
+
+    @Label("Library Name")
+    public String libraryName;
+
+    @Label("Source")
+    @Description("Where the library was loaded from, e.g. java.library.path or a JAR resource")
+    public String source;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,28 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+/**
+ * JDK Flight Recorder events for the cost of calling between Java and Swift.
+ * <p>
+ * All events are disabled by default, and cost nothing until they are enabled in a recording
+ * with the standard JFR settings, e.g. for downcalls sampled at 1 in 100 calls:
+ * <pre>
+ * java -XX:StartFlightRecording:org.swift.swiftkit.Downcall#enabled=true -Dswift-java.jfr.downcall-sampling=100 ...
+ * </pre>
+ * or with {@code jcmd <pid> JFR.start} and a {@code .jfc} settings file for a running process.
+ * <p>
+ * The {@code org.swift.swiftkit.CallTrace} event is the exception, because it is only emitted when
+ * call tracing is enabled with {@code -Djextract.trace.downcalls=true -Djextract.trace.sink=jfr}.
+ */
+package org.swift.swiftkit.core.jfr;
@@ -14,6 +14,9 @@
 
 package org.swift.swiftkit.core.ref;
 
+import org.swift.swiftkit.core.jfr.SwiftCleanerEvent;
+import org.swift.swiftkit.core.jfr.SwiftEvents;
+
 import java.lang.ref.ReferenceQueue;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -52,16 +55,69 @@ public class SwiftCleaner implements Runnable {
         new PhantomCleanable(resourceHolder, this, cleaningAction);
     }
 
+    /**
+     * Register every resource holder with the cleaning action at the same index,
+     * taking the lock on the list of cleanables only once.
+     */
+    public void registerAll(Object[] resourceHolders, Runnable[] cleaningActions) {
+        if (resourceHolders.length != cleaningActions.length) {
+            throw new IllegalArgumentException("Mismatched number of resource holders and cleaning actions: " +
+                    resourceHolders.length + " != " + cleaningActions.length);
+        }
+        synchronized (list) {
+            for (int i = 0; i < resourceHolders.length; i++) {
+                register(resourceHolders[i], cleaningActions[i]);
+            }
+        }
+    }
+
     @Override
     public void run() {
         while (!list.isEmpty()) {
             try {
                 PhantomCleanable removed = (PhantomCleanable) referenceQueue.remove(60 * 1000L);
-                removed.cleanup();
+                if (removed == null) {
+                    // Timed out waiting, check whether there is anything left to clean up.
+                    continue;
+                }
+                if (SwiftEvents.AVAILABLE) {
+                    cleanupQueued(removed);
+                } else {
+                    removed.cleanup();
+                }
             } catch (Throwable e) {
                 // ignore exceptions from the cleanup action
                 // (including interruption of cleanup thread)
             }
         }
     }
+
+    /**
+     * Clean up {@code first} and every other cleanable that is already enqueued,
+     * and record them as one cleaner event if it is enabled.
+     */
+    private void cleanupQueued(PhantomCleanable first) {
+        SwiftCleanerEvent event = new SwiftCleanerEvent();
+        if (!event.isEnabled()) {
+            first.cleanup();
+            return;
+        }
+
+        event.begin();
+        int queueDepth = 0;
+        for (PhantomCleanable removed = first; removed != null; removed = (PhantomCleanable) referenceQueue.poll()) {
+            queueDepth++;
+            try {
+                removed.cleanup();
+            } catch (Throwable e) {
+                // ignore exceptions from the cleanup action
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.queueDepth = queueDepth;
+            event.registeredCount = list.size();
+            event.commit();
+        }
+    }
 }
@@ -1,3 +1,6 @@
 # R8/ProGuard rules
 -keep class org.swift.swiftkit.** { *; }
 -keep interface org.swift.swiftkit.** { *; }
+
+# JDK Flight Recorder events, only used where jdk.jfr is available
+-dontwarn jdk.jfr.**
@@ -0,0 +1,68 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CallTraceBufferTest {
+
+    static CallTrace downcall(String function, Object... args) {
+        return new CallTrace(CallTrace.Kind.DOWNCALL, function, args, "main", 0);
+    }
+
+    @Test
+    void flushesWhenFull() {
+        List<String> written = new ArrayList<>();
+        CallTraceSink sink = trace -> written.add(trace.callSite());
+        CallTraceBuffer buffer = new CallTraceBuffer(Thread.currentThread(), 2);
+
+        buffer.add(downcall("first"), sink);
+        buffer.add(downcall("second"), sink);
+        assertEquals(List.of(), written);
+
+        buffer.add(downcall("third"), sink);
+        assertEquals(List.of("first", "second"), written);
+
+        buffer.flushTo(sink);
+        assertEquals(List.of("first", "second", "third"), written);
+
+        buffer.flushTo(sink);
+        assertEquals(3, written.size());
+    }
+
+    @Test
+    void samplesOneInN() {
+        CallTraceBuffer buffer = new CallTraceBuffer(Thread.currentThread(), 2);
+        int sampled = 0;
+        for (int i = 0; i < 100; i++) {
+            if (buffer.isSampled(10)) {
+                sampled++;
+            }
+        }
+        assertEquals(10, sampled);
+        assertTrue(buffer.isSampled(1));
+    }
+
+    @Test
+    void formatsLazily() {
+        assertEquals("[java][main] Downcall: swiftjava_SwiftModule_add_a_b(1, 2)", downcall("swiftjava_SwiftModule_add_a_b", 1, 2).toString());
+        assertEquals("[java][main] Downcall: swiftjava_SwiftModule_reset()", downcall("swiftjava_SwiftModule_reset").toString());
+    }
+}
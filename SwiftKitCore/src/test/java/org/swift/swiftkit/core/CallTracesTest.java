@@ -0,0 +1,62 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CallTracesTest {
+
+    @AfterEach
+    void restoreSink() {
+        CallTraces.setSink(CallTraceSink.stderr());
+    }
+
+    @Test
+    void writesEveryCallRightAway() {
+        List<String> written = new ArrayList<>();
+        CallTraces.setSink(trace -> written.add(trace.callSite()));
+
+        CallTraces.traceDowncallTo("swiftjava_SwiftModule_reset");
+        assertEquals(List.of("swiftjava_SwiftModule_reset"), written);
+    }
+
+    @Test
+    void buffersCallsForBufferedSink() {
+        List<String> written = new ArrayList<>();
+        CallTraces.setSink(new CallTraceSink() {
+            @Override
+            public void write(CallTrace trace) {
+                written.add(trace.callSite());
+            }
+
+            @Override
+            public boolean isBuffered() {
+                return true;
+            }
+        });
+
+        CallTraces.traceDowncallTo("swiftjava_SwiftModule_reset");
+        assertEquals(List.of(), written);
+
+        CallTraces.flush();
+        assertEquals(List.of("swiftjava_SwiftModule_reset"), written);
+    }
+}
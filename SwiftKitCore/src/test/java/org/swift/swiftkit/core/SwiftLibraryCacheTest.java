@@ -0,0 +1,113 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class SwiftLibraryCacheTest {
+
+    @Test
+    void extractsByContentHash() throws IOException {
+        SwiftLibraryCache cache = new SwiftLibraryCache(Files.createTempDirectory("swift-library-cache"));
+        byte[] contents = "library".getBytes(StandardCharsets.UTF_8);
+
+        Path library = cache.extract("libLibrary.so", contents);
+        assertEquals(cache.directory().resolve("sha256-" + SwiftLibraryCache.sha256(contents)).resolve("libLibrary.so"), library);
+        assertArrayEquals(contents, Files.readAllBytes(library));
+    }
+
+    @Test
+    void reusesExtractedLibrary() throws IOException {
+        SwiftLibraryCache cache = new SwiftLibraryCache(Files.createTempDirectory("swift-library-cache"));
+        byte[] contents = "library".getBytes(StandardCharsets.UTF_8);
+
+        Path library = cache.extract("libLibrary.so", contents);
+        FileTime written = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(library, written);
+
+        assertEquals(library, cache.extract("libLibrary.so", contents));
+        assertEquals(written, Files.getLastModifiedTime(library));
+    }
+
+    @Test
+    void keepsDifferentVersionsApart() throws IOException {
+        SwiftLibraryCache cache = new SwiftLibraryCache(Files.createTempDirectory("swift-library-cache"));
+
+        Path first = cache.extract("libLibrary.so", "first".getBytes(StandardCharsets.UTF_8));
+        Path second = cache.extract("libLibrary.so", "second".getBytes(StandardCharsets.UTF_8));
+        assertNotEquals(first, second);
+        assertEquals("first", Files.readString(first));
+        assertEquals("second", Files.readString(second));
+    }
+
+    @Test
+    void reusesExtractedLibraryWithoutReadingIt() throws IOException {
+        SwiftLibraryCache cache = new SwiftLibraryCache(Files.createTempDirectory("swift-library-cache"));
+        byte[] contents = "library".getBytes(StandardCharsets.UTF_8);
+
+        Path library = cache.extract("libLibrary.so", "key", contents.length, () -> contents);
+        assertEquals(library, cache.extract("libLibrary.so", "key", contents.length, () -> {
+            throw new AssertionError("An extracted library should not be read again");
+        }));
+    }
+
+    @Test
+    void replacesTruncatedLibrary() throws IOException {
+        SwiftLibraryCache cache = new SwiftLibraryCache(Files.createTempDirectory("swift-library-cache"));
+        byte[] contents = "library".getBytes(StandardCharsets.UTF_8);
+
+        Path library = cache.extract("libLibrary.so", contents);
+        Files.writeString(library, "lib");
+
+        assertEquals(library, cache.extract("libLibrary.so", contents));
+        assertArrayEquals(contents, Files.readAllBytes(library));
+    }
+
+    @Test
+    void refusesDirectoryAccessibleByOtherUsers() throws IOException {
+        Path directory = Files.createTempDirectory("swift-library-cache");
+        assumeTrue(Files.getFileAttributeView(directory, PosixFileAttributeView.class) != null);
+        Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwxrwxrwx"));
+
+        SwiftLibraryCache cache = new SwiftLibraryCache(directory);
+        assertThrows(IOException.class, () -> cache.extract("libLibrary.so", "library".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void removesUnusedEntries() throws IOException {
+        SwiftLibraryCache cache = new SwiftLibraryCache(Files.createTempDirectory("swift-library-cache"));
+
+        Path unused = cache.extract("libLibrary.so", "first".getBytes(StandardCharsets.UTF_8)).getParent();
+        FileTime lastUse = FileTime.from(Instant.now().minus(SwiftLibraryCache.MAXIMUM_UNUSED_AGE).minus(Duration.ofDays(1)));
+        Files.setLastModifiedTime(unused, lastUse);
+
+        Path second = cache.extract("libLibrary.so", "second".getBytes(StandardCharsets.UTF_8));
+        assertFalse(Files.exists(unused));
+        assertTrue(Files.exists(second));
+    }
+}
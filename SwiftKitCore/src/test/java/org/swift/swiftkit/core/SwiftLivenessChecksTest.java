@@ -0,0 +1,61 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SwiftLivenessChecksTest {
+
+    @Test
+    void uncheckedRegionsAreConfinedToTheirThread() throws InterruptedException {
+        assertFalse(SwiftLivenessChecks.inUncheckedRegion());
+
+        AtomicBoolean otherThreadInRegion = new AtomicBoolean(true);
+        SwiftLivenessChecks.runUnchecked(() -> {
+            assertTrue(SwiftLivenessChecks.inUncheckedRegion());
+
+            Thread other = new Thread(() -> otherThreadInRegion.set(SwiftLivenessChecks.inUncheckedRegion()));
+            other.start();
+            try {
+                other.join();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertFalse(otherThreadInRegion.get());
+        assertFalse(SwiftLivenessChecks.inUncheckedRegion());
+    }
+
+    @Test
+    void nestedRegions() {
+        SwiftLivenessChecks.runUnchecked(() -> {
+            SwiftLivenessChecks.runUnchecked(() -> assertTrue(SwiftLivenessChecks.inUncheckedRegion()));
+            assertTrue(SwiftLivenessChecks.inUncheckedRegion());
+        });
+        assertFalse(SwiftLivenessChecks.inUncheckedRegion());
+    }
+
+    @Test
+    void regionsOnlySkipChecksInScopedMode() {
+        // The tests run in the default full mode.
+        SwiftLivenessChecks.runUnchecked(() -> assertTrue(SwiftLivenessChecks.shouldCheck()));
+        assertTrue(SwiftLivenessChecks.shouldCheck());
+    }
+}
@@ -0,0 +1,121 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.collections;
+
+import org.junit.jupiter.api.Test;
+import org.swift.swiftkit.core.ClosableSwiftArena;
+import org.swift.swiftkit.core.JNISwiftInstance;
+import org.swift.swiftkit.core.SwiftArena;
+import org.swift.swiftkit.core.SwiftInstanceCleanup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SwiftObjectListTest {
+
+    @Test
+    public void wrapsElementsOnFirstAccess() {
+        List<Long> destroyed = new ArrayList<>();
+        try (ClosableSwiftArena arena = SwiftArena.ofConfined()) {
+            SwiftObjectList<FakeSwiftInstance> list = SwiftObjectList.wrapMemoryAddressesUnsafe(
+                    new long[] { 1, 2, 3 }, arena, (pointer, a) -> new FakeSwiftInstance(pointer, a, destroyed));
+
+            assertEquals(3, list.size());
+            FakeSwiftInstance second = list.get(1);
+            assertEquals(2, second.$memoryAddress());
+            assertSame(second, list.get(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        }
+
+        // The accessed element is destroyed by the arena, the others by the list.
+        assertEquals(3, destroyed.size());
+        assertTrue(destroyed.containsAll(List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    @SuppressWarnings("removal") // System.runFinalization() will be removed
+    public void autoArenaDestroysUnaccessedElementsOfUnreachableList() {
+        List<Long> destroyed = new CopyOnWriteArrayList<>();
+        SwiftObjectList<FakeSwiftInstance> list = SwiftObjectList.wrapMemoryAddressesUnsafe(
+                new long[] { 1, 2 }, SwiftArena.ofAuto(), (pointer, a) -> new FakeSwiftInstance(pointer, a, destroyed));
+
+        // noinspection UnusedAssignment
+        list = null;
+
+        var i = 1_000;
+        while (destroyed.size() < 2) {
+            System.runFinalization();
+            System.gc();
+
+            if (i-- < 1) {
+                throw new RuntimeException("Elements were not destroyed! Did the arena keep the list reachable?");
+            }
+        }
+        assertTrue(destroyed.containsAll(List.of(1L, 2L)));
+    }
+
+    @Test
+    public void registerAllRegistersEveryInstance() {
+        List<Long> destroyed = new ArrayList<>();
+        try (ClosableSwiftArena arena = SwiftArena.ofConfined()) {
+            FakeSwiftInstance[] instances = new FakeSwiftInstance[] {
+                    new FakeSwiftInstance(1, null, destroyed),
+                    new FakeSwiftInstance(2, null, destroyed),
+            };
+            arena.registerAll(instances);
+        }
+        assertEquals(List.of(1L, 2L), destroyed);
+    }
+
+    private static final class FakeSwiftInstance implements JNISwiftInstance {
+        private final long selfPointer;
+        private final List<Long> destroyed;
+        private final SwiftInstanceCleanup cleanup;
+
+        FakeSwiftInstance(long selfPointer, SwiftArena arena, List<Long> destroyed) {
+            this.selfPointer = selfPointer;
+            this.destroyed = destroyed;
+            this.cleanup = $createCleanup();
+            if (arena != null) {
+                arena.register(this);
+            }
+        }
+
+        @Override
+        public Runnable $createDestroyFunction() {
+            long selfPointer = this.selfPointer;
+            List<Long> destroyed = this.destroyed;
+            return () -> destroyed.add(selfPointer);
+        }
+
+        @Override
+        public long $typeMetadataAddress() {
+            return 0;
+        }
+
+        @Override
+        public long $memoryAddress() {
+            return selfPointer;
+        }
+
+        @Override
+        public SwiftInstanceCleanup $cleanup() {
+            return cleanup;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.core.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.swift.swiftkit.core.SimpleCompletableFuture;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SwiftEventsTest {
+
+    @Test
+    void disabledByDefault() {
+        assertTrue(SwiftEvents.AVAILABLE);
+        assertFalse(new SwiftDowncallEvent().isEnabled());
+        assertFalse(new SwiftAsyncTaskEvent().isEnabled());
+        assertFalse(new SwiftArenaCloseEvent().isEnabled());
+    }
+
+    @Test
+    void recordsAsyncTaskOnCompletion() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(SwiftAsyncTaskEvent.class);
+            recording.start();
+
+            CompletableFuture<Long> completed = new CompletableFuture<>();
+            SwiftEvents.trackAsyncTask(completed, "SwiftModule.completed");
+            completed.complete(42L);
+
+            SimpleCompletableFuture<Long> failed = new SimpleCompletableFuture<>();
+            SwiftEvents.trackAsyncTask(failed, "SwiftModule.failed");
+            failed.completeExceptionally(new IllegalStateException());
+
+            CompletableFuture<Long> pending = new CompletableFuture<>();
+            SwiftEvents.trackAsyncTask(pending, "SwiftModule.pending");
+
+            recording.stop();
+            Path file = Files.createTempFile("swift-events", ".jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+            Files.delete(file);
+        }
+
+        assertEquals(2, events.size());
+        assertEquals("SwiftModule.completed", events.get(0).getString("function"));
+        assertTrue(events.get(0).getBoolean("succeeded"));
+        assertEquals("SwiftModule.failed", events.get(1).getString("function"));
+        assertFalse(events.get(1).getBoolean("succeeded"));
+    }
+
+    @Test
+    void samplingPeriod() {
+        assertEquals(1, SwiftDowncallEvent.samplingPeriod(null));
+        assertEquals(1, SwiftDowncallEvent.samplingPeriod("0"));
+        assertEquals(1, SwiftDowncallEvent.samplingPeriod("often"));
+        assertEquals(100, SwiftDowncallEvent.samplingPeriod(" 100 "));
+    }
+}
@@ -16,6 +16,9 @@ package org.swift.swiftkit.ffm;
 
 import org.swift.swiftkit.core.SwiftArena;
 import org.swift.swiftkit.core.SwiftInstance;
+import org.swift.swiftkit.core.SwiftResource;
+import org.swift.swiftkit.core.jfr.SwiftArenaOpenEvent;
+import org.swift.swiftkit.core.jfr.SwiftEvents;
 
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
@@ -48,10 +51,18 @@ final class AllocatingAutoSwiftMemorySession implements AllocatingSwiftArena {
     public AllocatingAutoSwiftMemorySession(ThreadFactory cleanerThreadFactory) {
         this.cleaner = Cleaner.create(cleanerThreadFactory);
         this.arena = Arena.ofAuto();
+        if (SwiftEvents.AVAILABLE) {
+            SwiftArenaOpenEvent.commit(getClass());
+        }
     }
 
     @Override
     public void register(SwiftInstance instance) {
+        register((SwiftResource) instance);
+    }
+
+    @Override
+    public void register(SwiftResource instance) {
         Objects.requireNonNull(instance, "value");
 
         // We make sure we don't capture `instance` in the
@@ -64,4 +75,4 @@ final class AllocatingAutoSwiftMemorySession implements AllocatingSwiftArena {
     public MemorySegment allocate(long byteSize, long byteAlignment) {
         return arena.allocate(byteSize, byteAlignment);
     }
-}
\ No newline at end of file
+}
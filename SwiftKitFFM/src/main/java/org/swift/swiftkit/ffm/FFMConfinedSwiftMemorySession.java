@@ -22,6 +22,9 @@ import java.lang.foreign.MemorySegment;
 final class FFMConfinedSwiftMemorySession extends ConfinedSwiftMemorySession implements ClosableAllocatingSwiftArena {
     final Arena arena;
 
+    /** Only read when the arena is closed, so it is confined like the arena itself. */
+    private long allocatedBytes;
+
     public FFMConfinedSwiftMemorySession() {
         super();
         this.arena = Arena.ofConfined();
@@ -35,6 +38,12 @@ final class FFMConfinedSwiftMemorySession extends ConfinedSwiftMemorySession imp
 
     @Override
     public MemorySegment allocate(long byteSize, long byteAlignment) {
+        allocatedBytes += byteSize;
         return arena.allocate(byteSize, byteAlignment);
     }
+
+    @Override
+    protected long allocatedBytes() {
+        return allocatedBytes;
+    }
 }
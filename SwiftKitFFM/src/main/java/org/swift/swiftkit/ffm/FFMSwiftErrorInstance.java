@@ -25,13 +25,28 @@ import java.lang.foreign.MemorySegment;
  * {@link SwiftInstance} for proper lifecycle management.
  */
 public abstract class FFMSwiftErrorInstance extends Exception implements SwiftInstance {
+    /**
+     * System property which makes lightweight errors record a stack trace, like any other exception.
+     */
+    public static final String STACK_TRACES_PROPERTY = "swift-java.errors.stack-traces";
+
+    static final boolean LIGHTWEIGHT_STACK_TRACES = Boolean.getBoolean(STACK_TRACES_PROPERTY);
+
+    /**
+     * The automatic arena shared by all lightweight errors, instead of a new arena, and cleaner thread, per error.
+     */
+    protected static final AllocatingSwiftArena LIGHTWEIGHT_ARENA = AllocatingSwiftArena.ofAuto();
+
     private final MemorySegment memorySegment;
     private final FFMSwiftInstanceCleanup cleanup;
+    private final boolean lightweight;
+    private volatile String lazyMessage;
 
     protected FFMSwiftErrorInstance(String message, MemorySegment segment, AllocatingSwiftArena arena) {
         super(message);
         this.memorySegment = segment;
         this.cleanup = new FFMSwiftInstanceCleanup(segment, $swiftType());
+        this.lightweight = false;
         arena.register(this);
     }
 
@@ -39,9 +54,55 @@ public abstract class FFMSwiftErrorInstance extends Exception implements SwiftIn
         super();
         this.memorySegment = segment;
         this.cleanup = new FFMSwiftInstanceCleanup(segment, $swiftType());
+        this.lightweight = false;
         arena.register(this);
     }
 
+    /**
+     * Creates a lightweight error, for errors thrown at high rates, which must then be passed to
+     * {@link #registerLightweight(FFMSwiftErrorInstance)}.
+     * <p>
+     * Its message is only fetched from Swift, with {@link #fetchMessage()}, when it is first requested,
+     * and it does not record a stack trace, unless the {@value #STACK_TRACES_PROPERTY} system property is set.
+     *
+     * @param segment the memory segment of the error, allocated in the {@link #LIGHTWEIGHT_ARENA}
+     * @param swiftType the Swift type metadata of the error, i.e. what {@link #$swiftType()} returns
+     */
+    protected FFMSwiftErrorInstance(MemorySegment segment, SwiftAnyType swiftType) {
+        super(null, null, true, LIGHTWEIGHT_STACK_TRACES);
+        this.memorySegment = segment;
+        this.cleanup = new FFMSwiftInstanceCleanup(segment, swiftType);
+        this.lightweight = true;
+    }
+
+    /**
+     * Registers a fully constructed lightweight error with the {@link #LIGHTWEIGHT_ARENA}, and returns it.
+     */
+    protected static <E extends FFMSwiftErrorInstance> E registerLightweight(E error) {
+        LIGHTWEIGHT_ARENA.register(error);
+        return error;
+    }
+
+    /**
+     * Fetches the message of a lightweight error from Swift, when it is first requested.
+     */
+    protected String fetchMessage() {
+        return null;
+    }
+
+    @Override
+    public String getMessage() {
+        if (!lightweight) {
+            return super.getMessage();
+        }
+        String message = lazyMessage;
+        if (message == null) {
+            message = fetchMessage();
+            lazyMessage = message;
+        }
+        return message;
+    }
+
     public final MemorySegment $memorySegment() {
         return memorySegment;
     }
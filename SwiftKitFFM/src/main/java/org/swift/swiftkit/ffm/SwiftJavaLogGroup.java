@@ -0,0 +1,29 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+package org.swift.swiftkit.ffm;
+
+enum SwiftJavaLogGroup {
+    LIFECYCLE;
+
+    static boolean LOG_LIFECYCLE = 
+        Boolean.getBoolean("swift-java.log.lifecycle");
+
+    boolean isEnabled() {
+        switch (this) {
+            case LIFECYCLE: return LOG_LIFECYCLE;
+        }
+        throw new IllegalArgumentException("Not handled log group: " + this);
+    }
+}
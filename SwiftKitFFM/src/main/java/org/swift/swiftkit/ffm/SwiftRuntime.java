@@ -24,7 +24,7 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.util.*;
 
-import static org.swift.swiftkit.core.CallTraces.traceDowncall;
+import static org.swift.swiftkit.core.CallTraces.traceDowncallTo;
 import static org.swift.swiftkit.core.util.StringUtils.stripPrefix;
 import static org.swift.swiftkit.core.util.StringUtils.stripSuffix;
 
@@ -130,7 +130,7 @@ public class SwiftRuntime {
         var mh$ = swift_retainCount.HANDLE;
         try {
             if (CallTraces.TRACE_DOWNCALLS) {
-                traceDowncall("swift_retainCount", object);
+                traceDowncallTo("swift_retainCount", object);
             }
             return (long) mh$.invokeExact(object);
         } catch (Throwable ex$) {
@@ -160,7 +160,7 @@ public class SwiftRuntime {
         var mh$ = swift_retain.HANDLE;
         try {
             if (CallTraces.TRACE_DOWNCALLS) {
-                traceDowncall("swift_retain", object);
+                traceDowncallTo("swift_retain", object);
             }
             mh$.invokeExact(object);
         } catch (Throwable ex$) {
@@ -190,7 +190,7 @@ public class SwiftRuntime {
         var mh$ = swift_release.HANDLE;
         try {
             if (CallTraces.TRACE_DOWNCALLS) {
-                traceDowncall("swift_release", object);
+                traceDowncallTo("swift_release", object);
             }
             mh$.invokeExact(object);
         } catch (Throwable ex$) {
@@ -202,6 +202,34 @@ public class SwiftRuntime {
         release(object.$instance());
     }
 
+    // ==== ------------------------------------------------------------------------------------------------------------
+    // Borrowed arrays
+
+    /**
+     * Borrow the elements of a Swift array in place, as returned by functions extracted with
+     * {@code enableBorrowedArrayResults}, without copying them.
+     * <p>
+     * The returned segment is read-only, and valid until the arena is closed, or, for an automatic arena,
+     * until the segment becomes unreachable. Until then the Swift array storage is kept alive by {@code owner},
+     * which is released when the segment becomes invalid.
+     *
+     * @param elements the address of the first element
+     * @param byteCount the size of all elements, in bytes
+     * @param owner the retained Swift object that owns the elements
+     * @param arena the arena which scopes the returned segment
+     */
+    public static MemorySegment borrowArray(MemorySegment elements, long byteCount, MemorySegment owner, AllocatingSwiftArena arena) {
+        Arena scope;
+        if (arena instanceof FFMConfinedSwiftMemorySession confined) {
+            scope = confined.arena;
+        } else {
+            // A new automatic arena per segment, so the owner is released as soon as this segment
+            // becomes unreachable, rather than when all memory of a shared automatic arena does.
+            scope = Arena.ofAuto();
+        }
+        return elements.reinterpret(byteCount, scope, ignored -> release(owner)).asReadOnly();
+    }
+
     // ==== ------------------------------------------------------------------------------------------------------------
     // getTypeByName
 
@@ -226,7 +254,7 @@ public class SwiftRuntime {
         var mh$ = swift_getTypeByName.HANDLE;
         try {
             if (CallTraces.TRACE_DOWNCALLS) {
-                traceDowncall("_typeByName");
+                traceDowncallTo("_typeByName");
             }
             // TODO: A bit annoying to generate, we need an arena for the conversion...
             try (Arena arena = Arena.ofConfined()) {
@@ -281,7 +309,7 @@ public class SwiftRuntime {
             mangledName = stripSuffix(mangledName, "Ma");
             mangledName = stripSuffix(mangledName, "CN");
             if (CallTraces.TRACE_DOWNCALLS) {
-                traceDowncall("swift_getTypeByMangledNameInEnvironment", mangledName);
+                traceDowncallTo("swift_getTypeByMangledNameInEnvironment", mangledName);
             }
             try (Arena arena = Arena.ofConfined()) {
                 MemorySegment stringMemorySegment = arena.allocateFrom(mangledName);
@@ -470,17 +498,3 @@ public class SwiftRuntime {
     }
 
 }
-
-enum SwiftJavaLogGroup {
-    LIFECYCLE;
-
-    static boolean LOG_LIFECYCLE = 
-        Boolean.getBoolean("swift-java.log.lifecycle");
-
-    boolean isEnabled() {
-        switch (this) {
-            case LIFECYCLE: return LOG_LIFECYCLE;
-        }
-        throw new IllegalArgumentException("Not handled log group: " + this);
-    }
-}
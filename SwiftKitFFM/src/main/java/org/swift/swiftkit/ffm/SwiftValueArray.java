@@ -0,0 +1,317 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+package org.swift.swiftkit.ffm;
+
+import org.swift.swiftkit.core.SwiftInstance;
+import org.swift.swiftkit.core.SwiftInstanceCleanup;
+
+import static org.swift.swiftkit.ffm.SwiftJavaLogGroup.LIFECYCLE;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.ref.Reference;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A list of Swift values, e.g. {@code @frozen} structs, stored contiguously in a single memory segment,
+ * like the buffer of a Swift {@code ContiguousArray<T>}: element {@code i} is stored at {@code i * stride},
+ * where the stride is {@link SwiftValueWitnessTable#strideOfSwiftType(MemorySegment)} of the element type.
+ * <p>
+ * The array owns its elements, and is registered with its arena as a single instance, so all its
+ * elements are destroyed by one cleanup, instead of one cleanup per wrapped element.
+ * <p>
+ * {@link #get(int)} returns a view of the element stored in the array, which does not own the element,
+ * and is not registered with any arena. A view keeps the array reachable, so an automatic arena does not
+ * destroy the array while any of its views is in use, but closing a confined arena destroys the array
+ * and all its views. Use {@link #copy(int, AllocatingSwiftArena)} to keep an element beyond that.
+ * <p>
+ * The memory segment of the array can be passed to Swift functions that accept an
+ * {@code UnsafeRawBufferPointer} or {@code UnsafeMutableRawBufferPointer}, which can rebind it
+ * to an {@code UnsafeBufferPointer<T>} of the element type.
+ */
+public final class SwiftValueArray<T extends FFMSwiftInstance> extends AbstractList<T> implements RandomAccess, SwiftInstance {
+
+    /**
+     * Wraps a memory address into its Java type, registering it with the arena,
+     * e.g. a method reference to a generated {@code MySwiftStruct::wrapMemoryAddressUnsafe}.
+     */
+    @FunctionalInterface
+    public interface Wrapper<T> {
+        T wrapMemoryAddressUnsafe(MemorySegment selfPointer, AllocatingSwiftArena arena);
+    }
+
+    private final SwiftAnyType elementType;
+    private final Wrapper<T> wrapper;
+    private final MemorySegment memorySegment;
+    private final int count;
+    private final long stride;
+    private final Elements cleanup;
+    private final BorrowedArena borrowedArena;
+    private final boolean viewsKeepArrayReachable;
+
+    private SwiftValueArray(SwiftAnyType elementType, Wrapper<T> wrapper, MemorySegment memorySegment, int count,
+                            AllocatingSwiftArena arena) {
+        this.elementType = elementType;
+        this.wrapper = wrapper;
+        this.memorySegment = memorySegment;
+        this.count = count;
+        this.stride = SwiftValueWitnessTable.strideOfSwiftType(elementType.$memorySegment());
+        this.cleanup = new Elements(elementType, memorySegment, count);
+        this.borrowedArena = new BorrowedArena(arena);
+        // A confined arena keeps the array reachable until it is closed.
+        this.viewsKeepArrayReachable = !(arena instanceof ClosableAllocatingSwiftArena);
+
+        // Only register once we have fully initialized the object since this will need the object pointer.
+        arena.register(this);
+    }
+
+    /**
+     * Copy the given values into a new contiguous array allocated in the arena.
+     * <p>
+     * Values of a POD type, like {@code @frozen} structs of primitive fields, are copied without calling into Swift.
+     *
+     * @param elementType the Swift type of the elements, e.g. the generated {@code MySwiftStruct.TYPE_METADATA}
+     * @param values the values to copy, which remain owned by the caller
+     * @param wrapper wraps the memory address of an element, e.g. {@code MySwiftStruct::wrapMemoryAddressUnsafe}
+     * @param arena the arena the array belongs to. When the arena goes out of scope, all elements are destroyed.
+     */
+    public static <T extends FFMSwiftInstance> SwiftValueArray<T> copyOf(
+            SwiftAnyType elementType, List<? extends T> values, Wrapper<T> wrapper, AllocatingSwiftArena arena) {
+        Objects.requireNonNull(elementType, "elementType");
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(wrapper, "wrapper");
+        Objects.requireNonNull(arena, "arena");
+
+        MemorySegment typeMetadata = elementType.$memorySegment();
+        long size = SwiftValueWitnessTable.sizeOfSwiftType(typeMetadata);
+        long stride = SwiftValueWitnessTable.strideOfSwiftType(typeMetadata);
+        boolean pod = SwiftValueWitnessTable.isPOD(typeMetadata);
+        MemorySegment elements = arena.allocate(values.size() * stride, SwiftValueWitnessTable.alignmentOfSwiftType(typeMetadata));
+        for (int i = 0; i < values.size(); i++) {
+            T value = values.get(i);
+            value.$ensureAlive();
+            if (pod) {
+                MemorySegment.copy(value.$memorySegment(), 0, elements, i * stride, size);
+            } else {
+                SwiftValueWitnessTable.initializeWithCopy(elementType, elements.asSlice(i * stride, size), value.$memorySegment());
+            }
+        }
+        return new SwiftValueArray<>(elementType, wrapper, elements, values.size(), arena);
+    }
+
+    /**
+     * Assume that the passed {@code MemorySegment} holds {@code count} initialized values of {@code elementType},
+     * stored contiguously one stride apart, e.g. written by a Swift function into a buffer allocated from the arena,
+     * and take ownership of them.
+     * <p>
+     * Warnings:
+     * <ul>
+     *   <li>No checks are performed about the compatibility of the pointed at memory and the element type.</li>
+     *   <li>The array destroys the values, but does not deallocate the memory, which must outlive the array.</li>
+     * </ul>
+     */
+    public static <T extends FFMSwiftInstance> SwiftValueArray<T> wrapMemoryAddressUnsafe(
+            MemorySegment elements, int count, SwiftAnyType elementType, Wrapper<T> wrapper, AllocatingSwiftArena arena) {
+        Objects.requireNonNull(elements, "elements");
+        Objects.requireNonNull(elementType, "elementType");
+        Objects.requireNonNull(wrapper, "wrapper");
+        Objects.requireNonNull(arena, "arena");
+        long stride = SwiftValueWitnessTable.strideOfSwiftType(elementType.$memorySegment());
+        return new SwiftValueArray<>(elementType, wrapper, elements.reinterpret(count * stride), count, arena);
+    }
+
+    /**
+     * The Swift type of the elements.
+     */
+    public SwiftAnyType elementType() {
+        return elementType;
+    }
+
+    /**
+     * The number of bytes between successive elements.
+     */
+    public long stride() {
+        return stride;
+    }
+
+    /**
+     * The memory of all the elements, which is {@code size() * stride()} bytes long.
+     */
+    public MemorySegment $memorySegment() {
+        return memorySegment;
+    }
+
+    @Override
+    public long $memoryAddress() {
+        return memorySegment.address();
+    }
+
+    @Override
+    public SwiftInstanceCleanup $cleanup() {
+        return cleanup;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * A view of the element at {@code index}, which keeps this array reachable.
+     * <p>
+     * Changes made through the view are stored in the array. Memory allocated through the arena
+     * of the view is allocated from the arena of this array.
+     */
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, count);
+        $ensureAlive();
+        return wrapper.wrapMemoryAddressUnsafe(view(index), borrowedArena);
+    }
+
+    /**
+     * Replace the element at {@code index} with a copy of {@code value}, destroying the previous element.
+     */
+    public void assign(int index, T value) {
+        Objects.checkIndex(index, count);
+        $ensureAlive();
+        value.$ensureAlive();
+        SwiftValueWitnessTable.assignWithCopy(elementType, element(index), value.$memorySegment());
+    }
+
+    /**
+     * Copy the element at {@code index} into a new value owned by the arena.
+     */
+    public T copy(int index, AllocatingSwiftArena arena) {
+        Objects.checkIndex(index, count);
+        $ensureAlive();
+        MemorySegment copy = arena.allocate(stride, SwiftValueWitnessTable.alignmentOfSwiftType(elementType.$memorySegment()));
+        SwiftValueWitnessTable.initializeArrayWithCopy(elementType, copy, element(index), 1);
+        return wrapper.wrapMemoryAddressUnsafe(copy, arena);
+    }
+
+    /**
+     * Copy all elements into a new contiguous array owned by the arena.
+     */
+    public SwiftValueArray<T> copy(AllocatingSwiftArena arena) {
+        $ensureAlive();
+        MemorySegment copy = arena.allocate(memorySegment.byteSize(), SwiftValueWitnessTable.alignmentOfSwiftType(elementType.$memorySegment()));
+        SwiftValueWitnessTable.initializeArrayWithCopy(elementType, copy, memorySegment, count);
+        return new SwiftValueArray<>(elementType, wrapper, copy, count, arena);
+    }
+
+    /**
+     * Copy all elements into individual values owned by the arena.
+     * <p>
+     * The values are copied with one bulk copy, but every value is registered with the arena on its own,
+     * so prefer {@link #copy(AllocatingSwiftArena)} for large arrays.
+     */
+    public List<T> toList(AllocatingSwiftArena arena) {
+        $ensureAlive();
+        MemorySegment copy = arena.allocate(memorySegment.byteSize(), SwiftValueWitnessTable.alignmentOfSwiftType(elementType.$memorySegment()));
+        SwiftValueWitnessTable.initializeArrayWithCopy(elementType, copy, memorySegment, count);
+
+        List<T> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(wrapper.wrapMemoryAddressUnsafe(copy.asSlice(i * stride, stride), arena));
+        }
+        return values;
+    }
+
+    private MemorySegment element(int index) {
+        return memorySegment.asSlice(index * stride, stride);
+    }
+
+    /**
+     * The memory segment of a view, which keeps this array reachable.
+     * <p>
+     * A wrapped instance keeps only its memory segment, so the view segment is scoped to a new automatic
+     * arena, whose cleanup action references this array. A slice of a confined arena is returned as is,
+     * since it keeps the scope checks of that arena, and the arena keeps the array reachable anyway.
+     */
+    private MemorySegment view(int index) {
+        MemorySegment element = element(index);
+        if (!viewsKeepArrayReachable) {
+            return element;
+        }
+        return element.reinterpret(Arena.ofAuto(), ignored -> Reference.reachabilityFence(this));
+    }
+
+    /**
+     * The arena of the element views, which are owned by the array rather than registered on their own,
+     * and allocate from the arena of the array.
+     */
+    private static final class BorrowedArena implements AllocatingSwiftArena {
+        private final AllocatingSwiftArena arena;
+
+        BorrowedArena(AllocatingSwiftArena arena) {
+            this.arena = arena;
+        }
+
+        @Override
+        public void register(SwiftInstance instance) {
+            // The element is destroyed by the cleanup of its array.
+        }
+
+        @Override
+        public MemorySegment allocate(long byteSize, long byteAlignment) {
+            return arena.allocate(byteSize, byteAlignment);
+        }
+    }
+
+    /**
+     * Destroys all elements of an array.
+     * <p>
+     * Must not reference the array, so that an automatic arena can find the array unreachable.
+     */
+    private static final class Elements implements SwiftInstanceCleanup {
+        private static final AtomicIntegerFieldUpdater<Elements> DESTROYED =
+                AtomicIntegerFieldUpdater.newUpdater(Elements.class, "destroyed");
+
+        private final SwiftAnyType elementType;
+        private final MemorySegment memorySegment;
+        private final int count;
+
+        @SuppressWarnings("unused") // accessed via DESTROYED field updater
+        private volatile int destroyed;
+
+        Elements(SwiftAnyType elementType, MemorySegment memorySegment, int count) {
+            this.elementType = elementType;
+            this.memorySegment = memorySegment;
+            this.count = count;
+        }
+
+        @Override
+        public boolean isDestroyed() {
+            return destroyed != 0;
+        }
+
+        @Override
+        public void run() {
+            if (DESTROYED.compareAndSet(this, 0, 1)) {
+                SwiftRuntime.log(LIFECYCLE, "Destroy " + count + " swift values [" + elementType.getSwiftName() + "]: " + memorySegment);
+                SwiftValueWitnessTable.destroyArray(elementType, memorySegment, count);
+            } else {
+                throw new IllegalStateException("Double destruction attempt detected!");
+            }
+        }
+    }
+}
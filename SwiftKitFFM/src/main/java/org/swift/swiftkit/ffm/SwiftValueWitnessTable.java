@@ -16,6 +16,9 @@ package org.swift.swiftkit.ffm;
 
 import java.lang.foreign.*;
 import java.lang.invoke.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static java.lang.foreign.ValueLayout.JAVA_BYTE;
 
@@ -131,8 +134,8 @@ public abstract class SwiftValueWitnessTable {
      * has appropriate size/alignment to model the memory associated with a
      * Swift type.
      * <p>
-     * In the future, this layout could be extended to provide more detail,
-     * such as the fields of a Swift struct.
+     * For structs whose fields are known when the bindings are generated, see
+     * {@link #layoutOfSwiftType(MemorySegment, MemoryLayout...)}.
      *
      * @param typeMetadata the memory segment must point to a Swift metadata
      */
@@ -159,12 +162,73 @@ public abstract class SwiftValueWitnessTable {
     }
 
 
+    /**
+     * Produce a layout that describes the stored properties of a Swift struct, which are laid out
+     * in declaration order, each at the next offset that satisfies its alignment.
+     * <p>
+     * This is only valid for structs whose layout is known when the bindings are generated, such as
+     * {@code @frozen} structs of primitive fields. The resulting size and alignment are checked against
+     * the type metadata, so that bindings generated from a different version of the struct fail here,
+     * rather than access the wrong memory.
+     *
+     * @param typeMetadata the memory segment must point to a Swift metadata
+     * @param fields the named layouts of the stored properties, in declaration order
+     * @throws IllegalStateException if the fields do not match the size or alignment of the Swift type
+     */
+    public static GroupLayout layoutOfSwiftType(MemorySegment typeMetadata, MemoryLayout... fields) {
+        List<MemoryLayout> members = new ArrayList<>(fields.length + 1);
+        long offset = 0;
+        long alignment = 1;
+        for (MemoryLayout field : fields) {
+            long fieldAlignment = field.byteAlignment();
+            long fieldOffset = (offset + fieldAlignment - 1) / fieldAlignment * fieldAlignment;
+            if (fieldOffset > offset) {
+                members.add(MemoryLayout.paddingLayout(fieldOffset - offset));
+            }
+            members.add(field);
+            offset = fieldOffset + field.byteSize();
+            alignment = Math.max(alignment, fieldAlignment);
+        }
+
+        long size = sizeOfSwiftType(typeMetadata);
+        long stride = strideOfSwiftType(typeMetadata);
+        String name = SwiftRuntime.nameOfSwiftType(typeMetadata, true);
+        if (offset != size || alignment != alignmentOfSwiftType(typeMetadata)) {
+            throw new IllegalStateException("Stored properties " + Arrays.toString(fields) +
+                    " do not match the layout of Swift type " + name +
+                    " (size: " + size + ", alignment: " + alignmentOfSwiftType(typeMetadata) + ")");
+        }
+
+        // constructing a zero-length paddingLayout is illegal, so we avoid doing so
+        if (stride > size) {
+            members.add(MemoryLayout.paddingLayout(stride - size));
+        }
+        return MemoryLayout.structLayout(members.toArray(new MemoryLayout[0])).withName(name);
+    }
+
+
     /**
      * Offset for the "flags" field within the value witness table.
      */
     static final long $flags$offset =
             $LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("flags"));
 
+    /**
+     * The "IsNonPOD" bit of the "flags" field within the value witness table.
+     */
+    private static final long $flags$isNonPOD = 0x00010000;
+
+    /**
+     * Determine whether the given Swift type is POD ("plain old data"), i.e. whether its values can be
+     * copied with a plain memory copy and need no destroy, like structs of only trivial stored properties.
+     *
+     * @param typeMetadata the memory segment must point to a Swift metadata
+     */
+    public static boolean isPOD(MemorySegment typeMetadata) {
+        long flags = SwiftRuntime.getSwiftInt(valueWitnessTable(typeMetadata), SwiftValueWitnessTable.$flags$offset);
+        return (flags & $flags$isNonPOD) == 0;
+    }
+
     /**
      * {@snippet lang = C:
      * ///void(*destroy)(T *object, witness_t *self);
@@ -221,6 +285,27 @@ public abstract class SwiftValueWitnessTable {
         }
     }
 
+    /**
+     * Destroy {@code count} values stored contiguously, one every stride of the type, starting at {@code array}.
+     * <p>
+     * Values of a POD type need no destroy, so this does not call into Swift for them.
+     */
+    public static void destroyArray(SwiftAnyType type, MemorySegment array, long count) {
+        if (count == 0 || isPOD(type.$memorySegment())) {
+            return;
+        }
+
+        var mh = destroy.handle(type);
+        long stride = strideOfSwiftType(type.$memorySegment());
+        try {
+            for (long i = 0; i < count; i++) {
+                mh.invokeExact(array.asSlice(i * stride), type.$memorySegment());
+            }
+        } catch (Throwable th) {
+            throw new AssertionError("Failed to destroy " + count + " values of '" + type + "' at " + array, th);
+        }
+    }
+
     /**
      * {@snippet lang = C:
      * ///   T *(*initializeWithCopy)(T *dest, T *src, M *self);
@@ -279,4 +364,85 @@ public abstract class SwiftValueWitnessTable {
         }
     }
 
+    /**
+     * Given {@code count} invalid objects of this type stored contiguously at {@code dest},
+     * initialize them as copies of the {@code count} objects stored contiguously at {@code src}.
+     * <p>
+     * Values of a POD type are copied with a single memory copy.
+     */
+    public static void initializeArrayWithCopy(SwiftAnyType type, MemorySegment dest, MemorySegment src, long count) {
+        long stride = strideOfSwiftType(type.$memorySegment());
+        if (isPOD(type.$memorySegment())) {
+            MemorySegment.copy(src, 0, dest, 0, count * stride);
+            return;
+        }
+
+        var mh = initializeWithCopy.handle(type);
+        try {
+            for (long i = 0; i < count; i++) {
+                var unused = (MemorySegment) mh.invokeExact(dest.asSlice(i * stride), src.asSlice(i * stride), type.$memorySegment());
+            }
+        } catch (Throwable th) {
+            throw new AssertionError("Failed to initializeWithCopy " + count + " values of '" + type + "' (" + dest + ", " + src + ")", th);
+        }
+    }
+
+    /**
+     * {@snippet lang = C:
+     * ///   T *(*assignWithCopy)(T *dest, T *src, M *self);
+     * ///
+     * /// Given a valid object of this type, change it to be a copy of the
+     * /// source object.  Returns the dest object.
+     * FUNCTION_VALUE_WITNESS(assignWithCopy,
+     *                        AssignWithCopy,
+     *                        MUTABLE_VALUE_TYPE,
+     *                        (MUTABLE_VALUE_TYPE, MUTABLE_VALUE_TYPE, TYPE_TYPE))
+     *}
+     */
+    private static class assignWithCopy {
+
+        static final long $offset =
+                $LAYOUT.byteOffset(MemoryLayout.PathElement.groupElement("assignWithCopy"));
+
+        static final FunctionDescriptor DESC = FunctionDescriptor.of(
+                /* -> */ ValueLayout.ADDRESS, // returns the destination object
+                ValueLayout.ADDRESS, // destination
+                ValueLayout.ADDRESS, // source
+                ValueLayout.ADDRESS // pointer to the type metadata
+        );
+
+        /**
+         * Function pointer for the assignWithCopy operation
+         */
+        static MemorySegment addr(SwiftAnyType ty) {
+            // Get the value witness table of the type
+            final var vwt = SwiftValueWitnessTable.valueWitnessTable(ty.$memorySegment());
+
+            // Get the address of the function stored at the offset of the witness table
+            long funcAddress = SwiftRuntime.getSwiftInt(vwt, assignWithCopy.$offset);
+            return MemorySegment.ofAddress(funcAddress);
+        }
+
+        static MethodHandle handle(SwiftAnyType ty) {
+            return Linker.nativeLinker().downcallHandle(addr(ty), DESC);
+        }
+    }
+
+
+    /**
+     * Given a valid object of this type, change it to be a copy of
+     * the source object, destroying its previous value.
+     * <p>
+     * Returns the dest object.
+     */
+    public static MemorySegment assignWithCopy(SwiftAnyType type, MemorySegment dest, MemorySegment src) {
+        var mh = assignWithCopy.handle(type);
+
+        try {
+            return (MemorySegment) mh.invokeExact(dest, src, type.$memorySegment());
+        } catch (Throwable th) {
+            throw new AssertionError("Failed to assignWithCopy '" + type + "' (" + dest + ", " + src + ")", th);
+        }
+    }
+
 }
@@ -35,6 +35,15 @@ public final class SwiftJavaErrorException extends FFMSwiftErrorInstance impleme
   public SwiftJavaErrorException(MemorySegment errorPointer, AllocatingSwiftArena arena) {
     super(fetchDescription(errorPointer), wrapPointer(errorPointer, arena), arena);
   }
+  private SwiftJavaErrorException(MemorySegment wrapped, SwiftAnyType swiftType) {
+    super(wrapped, swiftType);
+  }
+  /**
+   * Creates a lightweight error, registered with the shared {@link FFMSwiftErrorInstance#LIGHTWEIGHT_ARENA}.
+   */
+  public static SwiftJavaErrorException lightweight(MemorySegment errorPointer) {
+    return registerLightweight(new SwiftJavaErrorException(wrapPointer(errorPointer, LIGHTWEIGHT_ARENA), TYPE_METADATA));
+  }
   private static MemorySegment wrapPointer(MemorySegment errorPointer, AllocatingSwiftArena arena) {
     MemorySegment wrapped = arena.allocate(ValueLayout.ADDRESS);
     wrapped.set(ValueLayout.ADDRESS, 0, errorPointer);
@@ -58,13 +67,21 @@ public final class SwiftJavaErrorException extends FFMSwiftErrorInstance impleme
       SwiftRuntime.findOrThrow("swiftjava_SwiftRuntimeFunctions_SwiftJavaError_errorDescription");
     private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
     public static java.lang.foreign.MemorySegment call(java.lang.foreign.MemorySegment self) {
+      var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+      if (event$ != null) {
+        event$.begin();
+      }
       try {
         if (CallTraces.TRACE_DOWNCALLS) {
-          CallTraces.traceDowncall(self);
+          CallTraces.traceDowncallTo("swiftjava_SwiftRuntimeFunctions_SwiftJavaError_errorDescription", self);
         }
         return (java.lang.foreign.MemorySegment) HANDLE.invokeExact(self);
       } catch (Throwable ex$) {
         throw new AssertionError("should not reach here", ex$);
+      } finally {
+        if (event$ != null) {
+          event$.end("swiftjava_SwiftRuntimeFunctions_SwiftJavaError_errorDescription");
+        }
       }
     }
   } // printJavaBindingDescriptorClass(_:_:symbolLookup:additionalContent:) @ JExtractSwiftLib/FFMSwift2JavaGenerator+JavaBindingsPrinting.swift:65
@@ -96,13 +113,21 @@ public final class SwiftJavaErrorException extends FFMSwiftErrorInstance impleme
       SwiftRuntime.findOrThrow("swiftjava_SwiftRuntimeFunctions_SwiftJavaError_errorType");
     private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
     public static java.lang.foreign.MemorySegment call(java.lang.foreign.MemorySegment self) {
+      var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+      if (event$ != null) {
+        event$.begin();
+      }
       try {
         if (CallTraces.TRACE_DOWNCALLS) {
-          CallTraces.traceDowncall(self);
+          CallTraces.traceDowncallTo("swiftjava_SwiftRuntimeFunctions_SwiftJavaError_errorType", self);
         }
         return (java.lang.foreign.MemorySegment) HANDLE.invokeExact(self);
       } catch (Throwable ex$) {
         throw new AssertionError("should not reach here", ex$);
+      } finally {
+        if (event$ != null) {
+          event$.end("swiftjava_SwiftRuntimeFunctions_SwiftJavaError_errorType");
+        }
       }
     }
   } // printJavaBindingDescriptorClass(_:_:symbolLookup:additionalContent:) @ JExtractSwiftLib/FFMSwift2JavaGenerator+JavaBindingsPrinting.swift:65
@@ -116,6 +141,10 @@ public final class SwiftJavaErrorException extends FFMSwiftErrorInstance impleme
     $ensureAlive();
     return swiftjava_SwiftRuntimeFunctions_SwiftJavaError_errorType.call(this.$memorySegment());
   } // printJavaBindingWrapperMethod(_:_:) @ JExtractSwiftLib/FFMSwift2JavaGenerator+JavaBindingsPrinting.swift:403
+  @Override
+  protected String fetchMessage() {
+    return errorDescription();
+  }
   private static String fetchDescription(MemorySegment errorPointer) {
     try (var arena$ = Arena.ofConfined()) {
       // Wrap the raw opaque pointer into a pointer-to-reference for the thunk
@@ -0,0 +1,91 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+import CodePrinting
+import Foundation
+import Testing
+
+@Suite
+struct GeneratedFilesTests {
+  let fileManager = FileManager.default
+
+  func makeTemporaryDirectory() throws -> URL {
+    let directory = fileManager.temporaryDirectory.appending(path: "GeneratedFilesTests-\(UUID())")
+    try fileManager.createDirectory(at: directory, withIntermediateDirectories: true)
+    return directory
+  }
+
+  @Test
+  func unchangedFileIsNotWritten() throws {
+    let file = try makeTemporaryDirectory().appending(path: "Generated.swift")
+    let generatedFiles = GeneratedFiles()
+
+    try GeneratedFiles.$current.withValue(generatedFiles) {
+      #expect(try GeneratedFiles.write("// Generated by swift-java\n", to: file))
+
+      let written = Date(timeIntervalSince1970: 0)
+      try fileManager.setAttributes([.modificationDate: written], ofItemAtPath: file.path)
+
+      #expect(try !GeneratedFiles.write("// Generated by swift-java\n", to: file))
+      #expect(try fileManager.attributesOfItem(atPath: file.path)[.modificationDate] as? Date == written)
+    }
+
+    #expect(generatedFiles.written == [file])
+    #expect(generatedFiles.unchanged == [file])
+  }
+
+  @Test
+  func changedFileIsWritten() throws {
+    let file = try makeTemporaryDirectory().appending(path: "Generated.swift")
+
+    try GeneratedFiles.write("// Generated by swift-java\nstruct A {}\n", to: file)
+    // Same size, different contents.
+    #expect(try GeneratedFiles.write("// Generated by swift-java\nstruct B {}\n", to: file))
+    #expect(try String(contentsOf: file, encoding: .utf8) == "// Generated by swift-java\nstruct B {}\n")
+  }
+
+  @Test
+  func pruneRemovesOnlyFilesOfThePreviousManifest() throws {
+    let directory = try makeTemporaryDirectory()
+    let kept = directory.appending(path: "Kept.swift")
+    let stale = directory.appending(path: "nested/Stale.swift")
+    let handWritten = directory.appending(path: "HandWritten.swift")
+    try fileManager.createDirectory(at: stale.deletingLastPathComponent(), withIntermediateDirectories: true)
+    // Looks generated, but was never listed in a manifest.
+    try "// Generated by swift-java\n".write(to: handWritten, atomically: true, encoding: .utf8)
+
+    let firstRun = GeneratedFiles()
+    try GeneratedFiles.$current.withValue(firstRun) {
+      try GeneratedFiles.write("// Generated by swift-java\n", to: kept)
+      try GeneratedFiles.write("// Generated by swift-java\n", to: stale)
+    }
+    try firstRun.pruneStaleFiles(in: [directory.path], manifestName: ".Module.generated-files")
+    #expect(firstRun.removed.isEmpty)
+
+    let secondRun = GeneratedFiles()
+    try GeneratedFiles.$current.withValue(secondRun) {
+      try GeneratedFiles.write("// Generated by swift-java\n", to: kept)
+    }
+    try secondRun.pruneStaleFiles(in: [directory.path], manifestName: ".Module.generated-files")
+
+    #expect(fileManager.fileExists(atPath: kept.path))
+    #expect(fileManager.fileExists(atPath: handWritten.path))
+    #expect(!fileManager.fileExists(atPath: stale.path))
+    #expect(secondRun.summary == "0 written, 1 unchanged, 1 stale removed")
+    #expect(
+      try String(contentsOf: directory.appending(path: ".Module.generated-files"), encoding: .utf8) == "Kept.swift\n"
+    )
+  }
+}
@@ -156,13 +156,21 @@ final class DataImportTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_receiveData_dat");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(java.lang.foreign.MemorySegment dat) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(dat);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_receiveData_dat", dat);
               }
               HANDLE.invokeExact(dat);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_receiveData_dat");
+              }
             }
           }
         }
@@ -194,13 +202,21 @@ final class DataImportTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_returnData");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(java.lang.foreign.MemorySegment _result) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(_result);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_returnData", _result);
               }
               HANDLE.invokeExact(_result);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_returnData");
+              }
             }
           }
         }
@@ -236,13 +252,21 @@ final class DataImportTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_Data_init_bytes_count");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(java.lang.foreign.MemorySegment bytes, long count, java.lang.foreign.MemorySegment _result) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(bytes, count, _result);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_Data_init_bytes_count", bytes, count, _result);
               }
               HANDLE.invokeExact(bytes, count, _result);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_Data_init_bytes_count");
+              }
             }
           }
         }
@@ -282,13 +306,21 @@ final class DataImportTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_Data_count$get");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static long call(java.lang.foreign.MemorySegment self) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(self);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_Data_count$get", self);
               }
               return (long) HANDLE.invokeExact(self);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_Data_count$get");
+              }
             }
           }
         } 
@@ -328,13 +360,21 @@ final class DataImportTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_Data_withUnsafeBytes__");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(java.lang.foreign.MemorySegment body, java.lang.foreign.MemorySegment self) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(body, self);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_Data_withUnsafeBytes__", body, self);
               }
               HANDLE.invokeExact(body, self);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_Data_withUnsafeBytes__");
+              }
             }
           }
           /**
@@ -452,13 +492,21 @@ final class DataImportTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_receiveDataProtocol_dat_dat2");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(java.lang.foreign.MemorySegment dat, java.lang.foreign.MemorySegment dat2) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(dat, dat2);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_receiveDataProtocol_dat_dat2", dat, dat2);
               }
               HANDLE.invokeExact(dat, dat2);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_receiveDataProtocol_dat_dat2");
+              }
             }
           }
         }
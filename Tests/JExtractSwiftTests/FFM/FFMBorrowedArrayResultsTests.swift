@@ -0,0 +1,107 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+import JExtractSwiftLib
+import SwiftJavaConfigurationShared
+import Testing
+
+@Suite
+struct FFMBorrowedArrayResultsTests {
+  let source = """
+    public func ramp(count: Int32) -> [Int32]
+    """
+
+  var config: Configuration {
+    var config = Configuration()
+    config.enableBorrowedArrayResults = true
+    return config
+  }
+
+  @Test
+  func borrowedResult_java() throws {
+    try assertOutput(
+      input: source,
+      config: config,
+      .ffm,
+      .java,
+      expectedChunks: [
+        """
+        public static java.lang.foreign.MemorySegment ramp(int count, AllocatingSwiftArena swiftArena) {
+          try(var arena$ = Arena.ofConfined()) {
+            MemorySegment result$_pointer = arena$.allocate(SwiftValueLayout.SWIFT_POINTER);
+            MemorySegment result$_byteCount = arena$.allocate(SwiftValueLayout.SWIFT_INT64);
+            MemorySegment result$_owner = arena$.allocate(SwiftValueLayout.SWIFT_POINTER);
+            swiftjava_SwiftModule_ramp_count.call(count, result$_pointer, result$_byteCount, result$_owner);
+            return SwiftRuntime.borrowArray(result$_pointer.get(SwiftValueLayout.SWIFT_POINTER, 0), result$_byteCount.get(SwiftValueLayout.SWIFT_INT64, 0), result$_owner.get(SwiftValueLayout.SWIFT_POINTER, 0), swiftArena);
+          }
+        }
+        """,
+        """
+        public static int[] ramp(int count) {
+          try (var arena$ = AllocatingSwiftArena.ofConfined()) {
+            return ramp(count, arena$).toArray(ValueLayout.JAVA_INT);
+          }
+        }
+        """,
+      ]
+    )
+  }
+
+  @Test
+  func borrowedResult_swift() throws {
+    try assertOutput(
+      input: source,
+      config: config,
+      .ffm,
+      .swift,
+      expectedChunks: [
+        """
+        @_cdecl("swiftjava_SwiftModule_ramp_count")
+        public func swiftjava_SwiftModule_ramp_count(_ count: Int32, _ _result_pointer: UnsafeMutablePointer<UnsafeRawPointer?>, _ _result_byteCount: UnsafeMutablePointer<Int>, _ _result_owner: UnsafeMutablePointer<UnsafeMutableRawPointer?>) {
+          _swiftjava_borrowArray(ramp(count: count), pointer: _result_pointer, byteCount: _result_byteCount, owner: _result_owner)
+        }
+        """
+      ]
+    )
+  }
+
+  @Test
+  func nonNumericElements_notBorrowed() throws {
+    try assertOutput(
+      input: "public func names() -> [String]",
+      config: config,
+      .ffm,
+      .java,
+      expectedChunks: [],
+      notExpectedChunks: [
+        "SwiftRuntime.borrowArray"
+      ]
+    )
+  }
+
+  @Test
+  func disabledByDefault() throws {
+    try assertOutput(
+      input: source,
+      .ffm,
+      .java,
+      expectedChunks: [],
+      notExpectedChunks: [
+        "SwiftRuntime.borrowArray",
+        "AllocatingSwiftArena swiftArena",
+      ]
+    )
+  }
+}
@@ -0,0 +1,128 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+import JExtractSwiftLib
+import Testing
+
+@Suite
+struct FFMFrozenStructTests {
+  let source = """
+    @frozen
+    public struct Point {
+      public var x: Int64
+      public var y: Double
+      public var flag: Bool
+      public var observed: Int32 {
+        didSet {}
+      }
+      public var computed: Int64 { x * 2 }
+    }
+    """
+
+  @Test
+  func layout_namesStoredProperties() throws {
+    try assertOutput(
+      input: source,
+      .ffm,
+      .java,
+      expectedChunks: [
+        """
+        public static final GroupLayout $LAYOUT = SwiftValueWitnessTable.layoutOfSwiftType(TYPE_METADATA.$memorySegment(),
+          SwiftValueLayout.SWIFT_INT64.withName("x"),
+          SwiftValueLayout.SWIFT_DOUBLE.withName("y"),
+          SwiftValueLayout.SWIFT_BOOL.withName("flag"),
+          SwiftValueLayout.SWIFT_INT32.withName("observed"));
+        public final GroupLayout $layout() {
+            return $LAYOUT;
+        }
+        private static final VarHandle $x$VH = $LAYOUT.varHandle(MemoryLayout.PathElement.groupElement("x"));
+        private static final VarHandle $y$VH = $LAYOUT.varHandle(MemoryLayout.PathElement.groupElement("y"));
+        private static final VarHandle $flag$VH = $LAYOUT.varHandle(MemoryLayout.PathElement.groupElement("flag"));
+        private static final VarHandle $observed$VH = $LAYOUT.varHandle(MemoryLayout.PathElement.groupElement("observed"));
+        """
+      ]
+    )
+  }
+
+  @Test
+  func accessors_useVarHandles() throws {
+    try assertOutput(
+      input: source,
+      .ffm,
+      .java,
+      expectedChunks: [
+        """
+        public long getX() {
+          $ensureAlive();
+          return (long) $x$VH.get(this.$memorySegment(), 0L);
+        }
+        """,
+        """
+        public void setX(long newValue) {
+          $ensureAlive();
+          $x$VH.set(this.$memorySegment(), 0L, newValue);
+        }
+        """,
+        """
+        public boolean isFlag() {
+          $ensureAlive();
+          return (boolean) $flag$VH.get(this.$memorySegment(), 0L);
+        }
+        """,
+        // The observer must run, so the setter stays a downcall.
+        """
+        public void setObserved(int newValue) {
+          $ensureAlive();
+          swiftjava_SwiftModule_Point_observed$set.call(newValue, this.$memorySegment());
+        }
+        """,
+        // Computed properties are not stored, and still call their getter.
+        """
+        public long getComputed() {
+          $ensureAlive();
+          return swiftjava_SwiftModule_Point_computed$get.call(this.$memorySegment());
+        }
+        """,
+      ],
+      notExpectedChunks: [
+        "private static class swiftjava_SwiftModule_Point_x$get",
+        "private static class swiftjava_SwiftModule_Point_x$set",
+      ]
+    )
+  }
+
+  @Test
+  func nonFrozenOrNonPrimitive_keepsOpaqueLayout() throws {
+    for input in [
+      "public struct Point { public var x: Int64 }",
+      "@frozen public struct Named { public var name: String }",
+      "@frozen public struct Lazy { public lazy var x: Int64 = 0 }",
+    ] {
+      try assertOutput(
+        input: input,
+        .ffm,
+        .java,
+        expectedChunks: [
+          """
+          public static final GroupLayout $LAYOUT = (GroupLayout) SwiftValueWitnessTable.layoutOfSwiftType(TYPE_METADATA.$memorySegment());
+          """
+        ],
+        notExpectedChunks: [
+          "$VH"
+        ]
+      )
+    }
+  }
+}
@@ -0,0 +1,126 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+
+import JExtractSwiftLib
+import SwiftJavaConfigurationShared
+import Testing
+
+@Suite
+struct FFMSharedDowncallHandlesTests {
+  let source = """
+    public func add(a: Int64, b: Int64) -> Int64
+    public func subtract(a: Int64, b: Int64) -> Int64
+    public func reset()
+    """
+
+  var config: Configuration {
+    var config = Configuration()
+    config.enableSharedDowncallHandles = true
+    return config
+  }
+
+  @Test
+  func descriptorClass_bindsOnlyAddress() throws {
+    try assertOutput(
+      input: source,
+      config: config,
+      .ffm,
+      .java,
+      expectedChunks: [
+        """
+        private static class swiftjava_SwiftModule_add_a_b {
+          private static final MemorySegment ADDR =
+            SwiftModule.findOrThrow("swiftjava_SwiftModule_add_a_b");
+          public static long call(long a, long b) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
+            try {
+              if (CallTraces.TRACE_DOWNCALLS) {
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_add_a_b", a, b);
+              }
+              return (long) DowncallHandle_J_JJ.HANDLE.invokeExact(ADDR, a, b);
+        """,
+        """
+        private static class swiftjava_SwiftModule_subtract_a_b {
+          private static final MemorySegment ADDR =
+            SwiftModule.findOrThrow("swiftjava_SwiftModule_subtract_a_b");
+        """,
+        """
+              return (long) DowncallHandle_J_JJ.HANDLE.invokeExact(ADDR, a, b);
+        """,
+        """
+              DowncallHandle_V.HANDLE.invokeExact(ADDR);
+        """,
+      ],
+      notExpectedChunks: [
+        "Linker.nativeLinker().downcallHandle(ADDR, DESC)"
+      ]
+    )
+  }
+
+  @Test
+  func sharedHandleClass_perSignature() throws {
+    try assertOutput(
+      input: source,
+      config: config,
+      .ffm,
+      .java,
+      expectedChunks: [
+        """
+        /**
+         * The downcall handle shared by every function with the C signature {@code int64_t (int64_t, int64_t)}.
+         */
+        final class DowncallHandle_J_JJ {
+          private DowncallHandle_J_JJ() {}
+
+          private static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            /* -> */SwiftValueLayout.SWIFT_INT64,
+            /* p0: */SwiftValueLayout.SWIFT_INT64,
+            /* p1: */SwiftValueLayout.SWIFT_INT64
+          );
+          static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(DESC);
+        }
+        """,
+        """
+        final class DowncallHandle_V {
+          private DowncallHandle_V() {}
+
+          private static final FunctionDescriptor DESC = FunctionDescriptor.ofVoid();
+          static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(DESC);
+        }
+        """,
+      ]
+    )
+  }
+
+  @Test
+  func disabledByDefault() throws {
+    try assertOutput(
+      input: source,
+      .ffm,
+      .java,
+      expectedChunks: [
+        """
+        private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+        """
+      ],
+      notExpectedChunks: [
+        "DowncallHandle_"
+      ]
+    )
+  }
+}
@@ -60,13 +60,21 @@ struct FFMSubscriptsTests {
         """
         private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
         public static double call(java.lang.foreign.MemorySegment self) {
+          var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+          if (event$ != null) {
+            event$.begin();
+          }
           try {
             if (CallTraces.TRACE_DOWNCALLS) {
-              CallTraces.traceDowncall(self);
+              CallTraces.traceDowncallTo("swiftjava_SwiftModule_MyStruct_subscript$get", self);
             }
             return (double) HANDLE.invokeExact(self);
           } catch (Throwable ex$) {
             throw new AssertionError("should not reach here", ex$);
+          } finally {
+            if (event$ != null) {
+              event$.end("swiftjava_SwiftModule_MyStruct_subscript$get");
+            }
           }
         }
         """,
@@ -92,13 +100,21 @@ struct FFMSubscriptsTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_MyStruct_subscript$set");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(double newValue, java.lang.foreign.MemorySegment self) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(newValue, self);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_MyStruct_subscript$set", newValue, self);
               }
               HANDLE.invokeExact(newValue, self);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_MyStruct_subscript$set");
+              }
             }
           }
         """,
@@ -129,13 +145,21 @@ struct FFMSubscriptsTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_MyStruct_subscript$get");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static int call(int index, java.lang.foreign.MemorySegment self) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(index, self);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_MyStruct_subscript$get", index, self);
               }
               return (int) HANDLE.invokeExact(index, self);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_MyStruct_subscript$get");
+              }
             }
           }
         """,
@@ -162,13 +186,21 @@ struct FFMSubscriptsTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_MyStruct_subscript$set");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(int index, int newValue, java.lang.foreign.MemorySegment self) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(index, newValue, self);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_MyStruct_subscript$set", index, newValue, self);
               }
               HANDLE.invokeExact(index, newValue, self);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_MyStruct_subscript$set");
+              }
             }
           }
         """,
@@ -13,6 +13,7 @@
 //===----------------------------------------------------------------------===//
 
 import JExtractSwiftLib
+import SwiftJavaConfigurationShared
 import Testing
 
 @Suite
@@ -88,13 +89,21 @@ struct FFMThrowingTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_throwingVoid");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(java.lang.foreign.MemorySegment result$throws) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(result$throws);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_throwingVoid", result$throws);
               }
               HANDLE.invokeExact(result$throws);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_throwingVoid");
+              }
             }
           }
         }
@@ -144,13 +153,21 @@ struct FFMThrowingTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_throwingReturn_x");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static long call(long x, java.lang.foreign.MemorySegment result$throws) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(x, result$throws);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_throwingReturn_x", x, result$throws);
               }
               return (long) HANDLE.invokeExact(x, result$throws);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_throwingReturn_x");
+              }
             }
           }
         }
@@ -178,6 +195,37 @@ struct FFMThrowingTests {
     )
   }
 
+  @Test
+  func lightweightErrors_javaBindings() throws {
+    var config = Configuration()
+    config.enableLightweightErrors = true
+
+    try assertOutput(
+      input: throwingSource,
+      config: config,
+      .ffm,
+      .java,
+      expectedChunks: [
+        """
+        public static long throwingReturn(long x) throws SwiftJavaErrorException {
+          try(var arena$ = Arena.ofConfined()) {
+            MemorySegment result$throws = arena$.allocate(ValueLayout.ADDRESS);
+            result$throws.set(ValueLayout.ADDRESS, 0, MemorySegment.NULL);
+            var result$ = (long) swiftjava_SwiftModule_throwingReturn_x.call(x, result$throws);
+            if (!result$throws.get(ValueLayout.ADDRESS, 0).equals(MemorySegment.NULL)) {
+              throw SwiftJavaErrorException.lightweight(result$throws.get(ValueLayout.ADDRESS, 0));
+            }
+            return result$;
+          }
+        }
+        """
+      ],
+      notExpectedChunks: [
+        "AllocatingSwiftArena.ofAuto()"
+      ]
+    )
+  }
+
   let stringReturnSource = """
     public func greeting() -> String
     """
@@ -221,13 +269,21 @@ struct FFMThrowingTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_greeting");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static java.lang.foreign.MemorySegment call() {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall();
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_greeting");
               }
               return (java.lang.foreign.MemorySegment) HANDLE.invokeExact();
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_greeting");
+              }
             }
           }
         }
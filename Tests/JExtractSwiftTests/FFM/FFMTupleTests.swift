@@ -31,15 +31,19 @@ struct FFMTupleTests {
       .java,
       expectedChunks: [
         """
-        public static org.swift.swiftkit.core.tuple.Tuple2<java.lang.Long, java.lang.Long> returnPair() {
+        public static LongLongTuple returnPair() {
           try(var arena$ = Arena.ofConfined()) {
-            MemorySegment result$_0 = arena$.allocate(SwiftValueLayout.SWIFT_INT64);
-            MemorySegment result$_1 = arena$.allocate(SwiftValueLayout.SWIFT_INT64);
-            swiftjava_SwiftModule_returnPair.call(result$_0, result$_1);
-            return new org.swift.swiftkit.core.tuple.Tuple2(result$_0.get(SwiftValueLayout.SWIFT_INT64, 0), result$_1.get(SwiftValueLayout.SWIFT_INT64, 0));
+            MemorySegment result$ = arena$.allocate(16, 8);
+            swiftjava_SwiftModule_returnPair.call(result$, result$.asSlice(8));
+            return new LongLongTuple(result$.get(SwiftValueLayout.SWIFT_INT64, 0), result$.get(SwiftValueLayout.SWIFT_INT64, 8));
           }
         }
+        """,
         """
+        public final class LongLongTuple {
+          public final long $0;
+          public final long $1;
+        """,
       ]
     )
   }
@@ -69,10 +73,10 @@ struct FFMTupleTests {
       .java,
       expectedChunks: [
         """
-        public static org.swift.swiftkit.core.tuple.Tuple2<java.lang.Integer, java.lang.Integer> labeledTuple() {
+        public static IntIntTuple labeledTuple() {
         """,
         """
-            return new org.swift.swiftkit.core.tuple.Tuple2(result$_0.get(SwiftValueLayout.SWIFT_INT32, 0), result$_1.get(SwiftValueLayout.SWIFT_INT32, 0));
+            return new IntIntTuple(result$.get(SwiftValueLayout.SWIFT_INT32, 0), result$.get(SwiftValueLayout.SWIFT_INT32, 8));
         """,
       ]
     )
@@ -101,13 +101,21 @@ final class FuncCallbackImportTests {
             __FakeModule.findOrThrow("swiftjava___FakeModule_callMe_callback");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(java.lang.foreign.MemorySegment callback) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(callback);
+                CallTraces.traceDowncallTo("swiftjava___FakeModule_callMe_callback", callback);
               }
               HANDLE.invokeExact(callback);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava___FakeModule_callMe_callback");
+              }
             }
           }
           /**
@@ -185,13 +193,21 @@ final class FuncCallbackImportTests {
             __FakeModule.findOrThrow("swiftjava___FakeModule_callMeBoolSupplier_callback");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(java.lang.foreign.MemorySegment callback) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(callback);
+                CallTraces.traceDowncallTo("swiftjava___FakeModule_callMeBoolSupplier_callback", callback);
               }
               HANDLE.invokeExact(callback);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava___FakeModule_callMeBoolSupplier_callback");
+              }
             }
           }
           /**
@@ -529,13 +545,21 @@ final class FuncCallbackImportTests {
             __FakeModule.findOrThrow("swiftjava___FakeModule_callMeMore_callback_fn");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(java.lang.foreign.MemorySegment callback, java.lang.foreign.MemorySegment fn) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(callback, fn);
+                CallTraces.traceDowncallTo("swiftjava___FakeModule_callMeMore_callback_fn", callback, fn);
               }
               HANDLE.invokeExact(callback, fn);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava___FakeModule_callMeMore_callback_fn");
+              }
             }
           }
           /**
@@ -1025,13 +1049,21 @@ final class FuncCallbackImportTests {
             __FakeModule.findOrThrow("swiftjava___FakeModule_withBuffer_body");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(java.lang.foreign.MemorySegment body) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(body);
+                CallTraces.traceDowncallTo("swiftjava___FakeModule_withBuffer_body", body);
               }
               HANDLE.invokeExact(body);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava___FakeModule_withBuffer_body");
+              }
             }
           }
           /**
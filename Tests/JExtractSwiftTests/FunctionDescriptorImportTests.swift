@@ -67,13 +67,21 @@ final class FunctionDescriptorTests {
               SwiftModule.findOrThrow("swiftjava_SwiftModule_globalTakeInt_i");
             private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
             public static void call(long i) {
+              var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+              if (event$ != null) {
+                event$.begin();
+              }
               try {
                 if (CallTraces.TRACE_DOWNCALLS) {
-                  CallTraces.traceDowncall(i);
+                  CallTraces.traceDowncallTo("swiftjava_SwiftModule_globalTakeInt_i", i);
                 }
                 HANDLE.invokeExact(i);
               } catch (Throwable ex$) {
                 throw new AssertionError("should not reach here", ex$);
+              } finally {
+                if (event$ != null) {
+                  event$.end("swiftjava_SwiftModule_globalTakeInt_i");
+                }
               }
             }
           }
@@ -103,13 +111,21 @@ final class FunctionDescriptorTests {
               SwiftModule.findOrThrow("swiftjava_SwiftModule_globalTakeLongInt_l_i32");
             private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
             public static void call(long l, int i32) {
+              var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+              if (event$ != null) {
+                event$.begin();
+              }
               try {
                 if (CallTraces.TRACE_DOWNCALLS) {
-                  CallTraces.traceDowncall(l, i32);
+                  CallTraces.traceDowncallTo("swiftjava_SwiftModule_globalTakeLongInt_l_i32", l, i32);
                 }
                 HANDLE.invokeExact(l, i32);
               } catch (Throwable ex$) {
                 throw new AssertionError("should not reach here", ex$);
+              } finally {
+                if (event$ != null) {
+                  event$.end("swiftjava_SwiftModule_globalTakeLongInt_l_i32");
+                }
               }
             }
           }
@@ -139,13 +155,21 @@ final class FunctionDescriptorTests {
               SwiftModule.findOrThrow("swiftjava_SwiftModule_echoInt_i");
             private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
             public static long call(long i) {
+              var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+              if (event$ != null) {
+                event$.begin();
+              }
               try {
                 if (CallTraces.TRACE_DOWNCALLS) {
-                  CallTraces.traceDowncall(i);
+                  CallTraces.traceDowncallTo("swiftjava_SwiftModule_echoInt_i", i);
                 }
                 return (long) HANDLE.invokeExact(i);
               } catch (Throwable ex$) {
                 throw new AssertionError("should not reach here", ex$);
+              } finally {
+                if (event$ != null) {
+                  event$.end("swiftjava_SwiftModule_echoInt_i");
+                }
               }
             }
           }
@@ -175,13 +199,21 @@ final class FunctionDescriptorTests {
               SwiftModule.findOrThrow("swiftjava_SwiftModule_MySwiftClass_counter$get");
             private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
             public static int call(java.lang.foreign.MemorySegment self) {
+              var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+              if (event$ != null) {
+                event$.begin();
+              }
               try {
                 if (CallTraces.TRACE_DOWNCALLS) {
-                  CallTraces.traceDowncall(self);
+                  CallTraces.traceDowncallTo("swiftjava_SwiftModule_MySwiftClass_counter$get", self);
                 }
                 return (int) HANDLE.invokeExact(self);
               } catch (Throwable ex$) {
                 throw new AssertionError("should not reach here", ex$);
+              } finally {
+                if (event$ != null) {
+                  event$.end("swiftjava_SwiftModule_MySwiftClass_counter$get");
+                }
               }
             }
           }
@@ -210,13 +242,21 @@ final class FunctionDescriptorTests {
               SwiftModule.findOrThrow("swiftjava_SwiftModule_MySwiftClass_counter$set");
             private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
             public static void call(int newValue, java.lang.foreign.MemorySegment self) {
+              var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+              if (event$ != null) {
+                event$.begin();
+              }
               try {
                 if (CallTraces.TRACE_DOWNCALLS) {
-                  CallTraces.traceDowncall(newValue, self);
+                  CallTraces.traceDowncallTo("swiftjava_SwiftModule_MySwiftClass_counter$set", newValue, self);
                 }
                 HANDLE.invokeExact(newValue, self);
               } catch (Throwable ex$) {
                 throw new AssertionError("should not reach here", ex$);
+              } finally {
+                if (event$ != null) {
+                  event$.end("swiftjava_SwiftModule_MySwiftClass_counter$set");
+                }
               }
             }
           }
@@ -45,7 +45,7 @@ struct JNIActor1MethodsTests {
         public java.util.concurrent.CompletableFuture<java.lang.Void> hello() {
           java.util.concurrent.CompletableFuture<java.lang.Void> future$ = new java.util.concurrent.CompletableFuture<java.lang.Void>();
           K.$hello(this.$memoryAddress(), future$);
-          return future$.thenApply((futureResult$) -> {
+          return org.swift.swiftkit.core.jfr.SwiftEvents.trackAsyncTask(future$, "K.hello").thenApply((futureResult$) -> {
             return futureResult$;
           }
           );
@@ -93,7 +93,7 @@ struct JNIActor1MethodsTests {
         public java.util.concurrent.CompletableFuture<java.lang.Void> hi() {
           java.util.concurrent.CompletableFuture<java.lang.Void> future$ = new java.util.concurrent.CompletableFuture<java.lang.Void>();
           K.$hi(this.$memoryAddress(), future$);
-          return future$.thenApply((futureResult$) -> {
+          return org.swift.swiftkit.core.jfr.SwiftEvents.trackAsyncTask(future$, "K.hi").thenApply((futureResult$) -> {
             return futureResult$;
           }
           );
@@ -237,7 +237,7 @@ struct JNIActor1MethodsTests {
         public java.util.concurrent.CompletableFuture<java.lang.Void> concurrentlyAsync() {
           java.util.concurrent.CompletableFuture<java.lang.Void> future$ = new java.util.concurrent.CompletableFuture<java.lang.Void>();
           K.$concurrentlyAsync(this.$memoryAddress(), future$);
-          return future$.thenApply((futureResult$) -> {
+          return org.swift.swiftkit.core.jfr.SwiftEvents.trackAsyncTask(future$, "K.concurrentlyAsync").thenApply((futureResult$) -> {
             return futureResult$;
           }
           );
@@ -145,10 +145,7 @@ struct JNIArrayTest {
       expectedChunks: [
         """
         public static MySwiftClass[] f(MySwiftClass[] array, SwiftArena swiftArena) {
-          return Arrays.stream(SwiftModule.$f(Arrays.stream(Objects.requireNonNull(array, "array must not be null")).mapToLong(MySwiftClass::$memoryAddress).toArray())).mapToObj((pointer) -> {
-            return MySwiftClass.wrapMemoryAddressUnsafe(pointer, swiftArena);
-          }
-          ).toArray(MySwiftClass[]::new);
+          return MySwiftClass.wrapMemoryAddressesUnsafe(SwiftModule.$f(Arrays.stream(Objects.requireNonNull(array, "array must not be null")).mapToLong(MySwiftClass::$memoryAddress).toArray()), swiftArena);
         }
         """,
         """
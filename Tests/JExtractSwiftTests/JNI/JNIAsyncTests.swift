@@ -37,7 +37,7 @@ struct JNIAsyncTests {
         public static java.util.concurrent.CompletableFuture<java.lang.Void> asyncVoid() {
           java.util.concurrent.CompletableFuture<java.lang.Void> future$ = new java.util.concurrent.CompletableFuture<java.lang.Void>();
           SwiftModule.$asyncVoid(future$);
-          return future$.thenApply((futureResult$) -> {
+          return org.swift.swiftkit.core.jfr.SwiftEvents.trackAsyncTask(future$, "SwiftModule.asyncVoid").thenApply((futureResult$) -> {
             return futureResult$;
           }
           );
@@ -113,7 +113,7 @@ struct JNIAsyncTests {
         public static java.util.concurrent.CompletableFuture<java.lang.Void> async() {
           java.util.concurrent.CompletableFuture<java.lang.Void> future$ = new java.util.concurrent.CompletableFuture<java.lang.Void>();
           SwiftModule.$async(future$);
-          return future$.thenApply((futureResult$) -> {
+          return org.swift.swiftkit.core.jfr.SwiftEvents.trackAsyncTask(future$, "SwiftModule.async").thenApply((futureResult$) -> {
             return futureResult$;
           }
           );
@@ -203,7 +203,7 @@ struct JNIAsyncTests {
         public static java.util.concurrent.CompletableFuture<java.lang.Long> async(long i) {
           java.util.concurrent.CompletableFuture<java.lang.Long> future$ = new java.util.concurrent.CompletableFuture<java.lang.Long>();
           SwiftModule.$async(i, future$);
-          return future$.thenApply((futureResult$) -> {
+          return org.swift.swiftkit.core.jfr.SwiftEvents.trackAsyncTask(future$, "SwiftModule.async").thenApply((futureResult$) -> {
             return futureResult$;
           }
           );
@@ -286,7 +286,7 @@ struct JNIAsyncTests {
         public static java.util.concurrent.CompletableFuture<MyClass> async(MyClass c, SwiftArena swiftArena) {
           java.util.concurrent.CompletableFuture<java.lang.Long> future$ = new java.util.concurrent.CompletableFuture<java.lang.Long>();
           SwiftModule.$async(c.$memoryAddress(), future$);
-          return future$.thenApply((futureResult$) -> {
+          return org.swift.swiftkit.core.jfr.SwiftEvents.trackAsyncTask(future$, "SwiftModule.async").thenApply((futureResult$) -> {
             return MyClass.wrapMemoryAddressUnsafe(futureResult$, swiftArena);
           }
           );
@@ -377,7 +377,7 @@ struct JNIAsyncTests {
         public static java.util.concurrent.CompletableFuture<java.lang.String> async(java.lang.String s) {
           java.util.concurrent.CompletableFuture<java.lang.String> future$ = new java.util.concurrent.CompletableFuture<java.lang.String>();
           SwiftModule.$async(s, future$);
-          return future$.thenApply((futureResult$) -> {
+          return org.swift.swiftkit.core.jfr.SwiftEvents.trackAsyncTask(future$, "SwiftModule.async").thenApply((futureResult$) -> {
             return futureResult$;
           }
           );
@@ -440,7 +440,7 @@ struct JNIAsyncTests {
         public static java.util.concurrent.Future<MyClass> async(MyClass c, SwiftArena swiftArena) {
           org.swift.swiftkit.core.SimpleCompletableFuture<java.lang.Long> future$ = new org.swift.swiftkit.core.SimpleCompletableFuture<java.lang.Long>();
           SwiftModule.$async(c.$memoryAddress(), future$);
-          return future$.thenApply((futureResult$) -> {
+          return org.swift.swiftkit.core.jfr.SwiftEvents.trackAsyncTask(future$, "SwiftModule.async").thenApply((futureResult$) -> {
             return MyClass.wrapMemoryAddressUnsafe(futureResult$, swiftArena);
           }
           );
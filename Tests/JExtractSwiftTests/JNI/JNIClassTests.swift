@@ -70,8 +70,7 @@ struct JNIClassTests {
           @SuppressWarnings("unused")
           private static final boolean INITIALIZED_LIBS = initializeLibs();
           static boolean initializeLibs() {
-            SwiftLibraries.loadLibraryWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA);
-            SwiftLibraries.loadLibraryWithFallbacks(LIB_NAME);
+            SwiftLibraries.loadLibrariesWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA, LIB_NAME);
             return true;
           }
         """,
@@ -85,19 +84,57 @@ struct JNIClassTests {
         """,
         """
         private MyClass(long selfPointer, SwiftArena swiftArena) {
-          SwiftObjects.requireNonZero(selfPointer, "selfPointer");
-          this.selfPointer = selfPointer;
-          this.$cleanup = $createCleanup();
+          this(selfPointer);
 
           // Only register once we have fully initialized the object since this will need the object pointer.
           swiftArena.register(this);
         }
         """,
         """
+        private MyClass(long selfPointer) {
+          SwiftObjects.requireNonZero(selfPointer, "selfPointer");
+          this.selfPointer = selfPointer;
+          this.$cleanup = $createCleanup();
+        }
+        """,
+        """
         public static MyClass wrapMemoryAddressUnsafe(long selfPointer, SwiftArena swiftArena) {
           return new MyClass(selfPointer, swiftArena);
         }
         """,
+        """
+        public static MyClass[] wrapMemoryAddressesUnsafe(long[] selfPointers, SwiftArena swiftArena) {
+          MyClass[] result = new MyClass[selfPointers.length];
+          try {
+            for (int i = 0; i < selfPointers.length; i++) {
+              result[i] = new MyClass(selfPointers[i]);
+            }
+            swiftArena.registerAll(result);
+          } catch (Throwable e) {
+            // No arena owns the objects yet, so destroy them instead of leaking them.
+            try (ClosableSwiftArena arena = SwiftArena.ofConfined()) {
+              for (long selfPointer : selfPointers) {
+                if (selfPointer != 0) {
+                  wrapMemoryAddressUnsafe(selfPointer, arena);
+                }
+              }
+            }
+            throw e;
+          }
+          return result;
+        }
+        """,
+        """
+        private static final class $TypeMetadata {
+          static final long ADDRESS = MyClass.$typeMetadataAddressDowncall();
+        }
+        """,
+        """
+        @Override
+        public long $typeMetadataAddress() {
+          return $TypeMetadata.ADDRESS;
+        }
+        """,
       ]
     )
   }
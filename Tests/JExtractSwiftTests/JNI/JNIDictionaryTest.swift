@@ -65,12 +65,12 @@ struct JNIDictionaryTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        public static void f(org.swift.swiftkit.core.collections.SwiftDictionaryMap<java.lang.String, java.lang.Long> dict) {
-          SwiftModule.$f(Objects.requireNonNull(dict, "dict must not be null").$memoryAddress());
+        public static void f(java.util.Map<java.lang.String, java.lang.Long> dict) {
+          SwiftModule.$f(Objects.requireNonNull(dict, "dict must not be null"));
         }
         """,
         """
-        private static native void $f(long dict);
+        private static native void $f(java.util.Map dict);
         """,
       ]
     )
@@ -85,9 +85,14 @@ struct JNIDictionaryTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        @_cdecl("Java_com_example_swift_SwiftModule__00024f__J")
-        public func Java_com_example_swift_SwiftModule__00024f__J(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, dict: jlong) {
-          SwiftModule.f(dict: [String: Int64](fromJNI: dict, in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self))
+        @_cdecl("Java_com_example_swift_SwiftModule__00024f__Ljava_util_Map_2")
+        public func Java_com_example_swift_SwiftModule__00024f__Ljava_util_Map_2(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, dict: jobject?) {
+          do {
+            SwiftModule.f(dict: try [String: Int64](fromJavaMap: dict, in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self))
+          } catch {
+            environment.throwAsException(error)
+            return ()
+          }
         }
         """
       ]
@@ -103,12 +108,12 @@ struct JNIDictionaryTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        public static org.swift.swiftkit.core.collections.SwiftDictionaryMap<java.lang.String, java.lang.Long> f(org.swift.swiftkit.core.collections.SwiftDictionaryMap<java.lang.String, java.lang.Long> dict, SwiftArena swiftArena) {
-          return org.swift.swiftkit.core.collections.SwiftDictionaryMap.<java.lang.String, java.lang.Long>wrapMemoryAddressUnsafe(SwiftModule.$f(Objects.requireNonNull(dict, "dict must not be null").$memoryAddress()), swiftArena);
+        public static org.swift.swiftkit.core.collections.SwiftDictionaryMap<java.lang.String, java.lang.Long> f(java.util.Map<java.lang.String, java.lang.Long> dict, SwiftArena swiftArena) {
+          return org.swift.swiftkit.core.collections.SwiftDictionaryMap.<java.lang.String, java.lang.Long>wrapMemoryAddressUnsafe(SwiftModule.$f(Objects.requireNonNull(dict, "dict must not be null")), swiftArena);
         }
         """,
         """
-        private static native long $f(long dict);
+        private static native long $f(java.util.Map dict);
         """,
       ]
     )
@@ -123,9 +128,14 @@ struct JNIDictionaryTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        @_cdecl("Java_com_example_swift_SwiftModule__00024f__J")
-        public func Java_com_example_swift_SwiftModule__00024f__J(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, dict: jlong) -> jlong {
-          return SwiftModule.f(dict: [String: Int64](fromJNI: dict, in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self)).dictionaryGetJNIValue(in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self)
+        @_cdecl("Java_com_example_swift_SwiftModule__00024f__Ljava_util_Map_2")
+        public func Java_com_example_swift_SwiftModule__00024f__Ljava_util_Map_2(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, dict: jobject?) -> jlong {
+          do {
+            return SwiftModule.f(dict: try [String: Int64](fromJavaMap: dict, in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self)).dictionaryGetJNIValue(in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self)
+          } catch {
+            environment.throwAsException(error)
+            return 0
+          }
         }
         """
       ]
@@ -141,12 +151,12 @@ struct JNIDictionaryTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        public static org.swift.swiftkit.core.collections.SwiftDictionaryMap<java.lang.String, java.lang.Long> f(org.swift.swiftkit.core.collections.SwiftDictionaryMap<java.lang.String, java.lang.Long> dict, SwiftArena swiftArena) {
-          return org.swift.swiftkit.core.collections.SwiftDictionaryMap.<java.lang.String, java.lang.Long>wrapMemoryAddressUnsafe(SwiftModule.$f(Objects.requireNonNull(dict, "dict must not be null").$memoryAddress()), swiftArena);
+        public static org.swift.swiftkit.core.collections.SwiftDictionaryMap<java.lang.String, java.lang.Long> f(java.util.Map<java.lang.String, java.lang.Long> dict, SwiftArena swiftArena) {
+          return org.swift.swiftkit.core.collections.SwiftDictionaryMap.<java.lang.String, java.lang.Long>wrapMemoryAddressUnsafe(SwiftModule.$f(Objects.requireNonNull(dict, "dict must not be null")), swiftArena);
         }
         """,
         """
-        private static native long $f(long dict);
+        private static native long $f(java.util.Map dict);
         """,
       ]
     )
@@ -161,9 +171,14 @@ struct JNIDictionaryTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        @_cdecl("Java_com_example_swift_SwiftModule__00024f__J")
-        public func Java_com_example_swift_SwiftModule__00024f__J(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, dict: jlong) -> jlong {
-          return SwiftModule.f(dict: [String: Int64](fromJNI: dict, in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self)).dictionaryGetJNIValue(in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self)
+        @_cdecl("Java_com_example_swift_SwiftModule__00024f__Ljava_util_Map_2")
+        public func Java_com_example_swift_SwiftModule__00024f__Ljava_util_Map_2(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, dict: jobject?) -> jlong {
+          do {
+            return SwiftModule.f(dict: try [String: Int64](fromJavaMap: dict, in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self)).dictionaryGetJNIValue(in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self)
+          } catch {
+            environment.throwAsException(error)
+            return 0
+          }
         }
         """
       ]
@@ -241,6 +256,79 @@ struct JNIDictionaryTest {
     )
   }
 
+  // ==== ---------------------------------------------------------------------
+  // MARK: Primitive-specialized views
+
+  @Test("Import: () -> [Int64: Double] (Java)")
+  func int64ToDoubleDictionary_result_java() throws {
+    try assertOutput(
+      input: "public func f() -> [Int64: Double] {}",
+      .jni,
+      .java,
+      detectChunkByInitialLines: 1,
+      expectedChunks: [
+        """
+        public static org.swift.swiftkit.core.collections.SwiftLongDoubleMap f(SwiftArena swiftArena) {
+          return org.swift.swiftkit.core.collections.SwiftLongDoubleMap.wrapMemoryAddressUnsafe(SwiftModule.$f(), swiftArena);
+        }
+        """,
+        """
+        private static native long $f();
+        """,
+      ]
+    )
+  }
+
+  @Test("Import: () -> [Int: Int] (Java)")
+  func intToIntDictionary_result_java() throws {
+    try assertOutput(
+      input: "public func f() -> [Int: Int] {}",
+      .jni,
+      .java,
+      detectChunkByInitialLines: 1,
+      expectedChunks: [
+        """
+        public static org.swift.swiftkit.core.collections.SwiftLongLongMap f(SwiftArena swiftArena) {
+          return org.swift.swiftkit.core.collections.SwiftLongLongMap.wrapMemoryAddressUnsafe(SwiftModule.$f(), swiftArena);
+        }
+        """
+      ]
+    )
+  }
+
+  @Test("Import: () -> [Int64: Double] (Swift)")
+  func int64ToDoubleDictionary_result_swift() throws {
+    try assertOutput(
+      input: "public func f() -> [Int64: Double] {}",
+      .jni,
+      .swift,
+      detectChunkByInitialLines: 1,
+      expectedChunks: [
+        """
+        @_cdecl("Java_com_example_swift_SwiftModule__00024f__")
+        public func Java_com_example_swift_SwiftModule__00024f__(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass) -> jlong {
+          return SwiftModule.f().dictionaryGetJNIValue(in: environment, keyBridge: JavaBoxableBridge<Int64>.self, valueBridge: JavaBoxableBridge<Double>.self)
+        }
+        """
+      ]
+    )
+  }
+
+  @Test("Import: ([Int64: Double]) -> Void (Java) — parameters accept any java.util.Map")
+  func int64ToDoubleDictionary_param_java() throws {
+    try assertOutput(
+      input: "public func f(dict: [Int64: Double]) {}",
+      .jni,
+      .java,
+      detectChunkByInitialLines: 1,
+      expectedChunks: [
+        """
+        public static void f(java.util.Map<java.lang.Long, java.lang.Double> dict) {
+        """
+      ]
+    )
+  }
+
   // ==== ---------------------------------------------------------------------
   // MARK: Multiple dictionary parameters
 
@@ -253,12 +341,12 @@ struct JNIDictionaryTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        public static void f(org.swift.swiftkit.core.collections.SwiftDictionaryMap<java.lang.String, java.lang.Long> a, org.swift.swiftkit.core.collections.SwiftDictionaryMap<java.lang.String, java.lang.Boolean> b) {
-          SwiftModule.$f(Objects.requireNonNull(a, "a must not be null").$memoryAddress(), Objects.requireNonNull(b, "b must not be null").$memoryAddress());
+        public static void f(java.util.Map<java.lang.String, java.lang.Long> a, java.util.Map<java.lang.String, java.lang.Boolean> b) {
+          SwiftModule.$f(Objects.requireNonNull(a, "a must not be null"), Objects.requireNonNull(b, "b must not be null"));
         }
         """,
         """
-        private static native void $f(long a, long b);
+        private static native void $f(java.util.Map a, java.util.Map b);
         """,
       ]
     )
@@ -273,9 +361,14 @@ struct JNIDictionaryTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        @_cdecl("Java_com_example_swift_SwiftModule__00024f__JJ")
-        public func Java_com_example_swift_SwiftModule__00024f__JJ(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, a: jlong, b: jlong) {
-          SwiftModule.f(a: [String: Int64](fromJNI: a, in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self), b: [String: Bool](fromJNI: b, in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Bool>.self))
+        @_cdecl("Java_com_example_swift_SwiftModule__00024f__Ljava_util_Map_2Ljava_util_Map_2")
+        public func Java_com_example_swift_SwiftModule__00024f__Ljava_util_Map_2Ljava_util_Map_2(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, a: jobject?, b: jobject?) {
+          do {
+            SwiftModule.f(a: try [String: Int64](fromJavaMap: a, in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self), b: try [String: Bool](fromJavaMap: b, in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Bool>.self))
+          } catch {
+            environment.throwAsException(error)
+            return ()
+          }
         }
         """
       ]
@@ -294,12 +387,12 @@ struct JNIDictionaryTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        public static org.swift.swiftkit.core.collections.SwiftDictionaryMap<java.lang.String, java.lang.Long> f(org.swift.swiftkit.core.collections.SwiftDictionaryMap<java.lang.String, java.lang.Long> dict, java.lang.String key, long value, SwiftArena swiftArena) {
-          return org.swift.swiftkit.core.collections.SwiftDictionaryMap.<java.lang.String, java.lang.Long>wrapMemoryAddressUnsafe(SwiftModule.$f(Objects.requireNonNull(dict, "dict must not be null").$memoryAddress(), key, value), swiftArena);
+        public static org.swift.swiftkit.core.collections.SwiftDictionaryMap<java.lang.String, java.lang.Long> f(java.util.Map<java.lang.String, java.lang.Long> dict, java.lang.String key, long value, SwiftArena swiftArena) {
+          return org.swift.swiftkit.core.collections.SwiftDictionaryMap.<java.lang.String, java.lang.Long>wrapMemoryAddressUnsafe(SwiftModule.$f(Objects.requireNonNull(dict, "dict must not be null"), key, value), swiftArena);
         }
         """,
         """
-        private static native long $f(long dict, java.lang.String key, long value);
+        private static native long $f(java.util.Map dict, java.lang.String key, long value);
         """,
       ]
     )
@@ -314,9 +407,14 @@ struct JNIDictionaryTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        @_cdecl("Java_com_example_swift_SwiftModule__00024f__JLjava_lang_String_2J")
-        public func Java_com_example_swift_SwiftModule__00024f__JLjava_lang_String_2J(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, dict: jlong, key: jstring?, value: jlong) -> jlong {
-          return SwiftModule.f(dict: [String: Int64](fromJNI: dict, in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self), key: String(fromJNI: key, in: environment), value: Int64(fromJNI: value, in: environment)).dictionaryGetJNIValue(in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self)
+        @_cdecl("Java_com_example_swift_SwiftModule__00024f__Ljava_util_Map_2Ljava_lang_String_2J")
+        public func Java_com_example_swift_SwiftModule__00024f__Ljava_util_Map_2Ljava_lang_String_2J(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, dict: jobject?, key: jstring?, value: jlong) -> jlong {
+          do {
+            return SwiftModule.f(dict: try [String: Int64](fromJavaMap: dict, in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self), key: String(fromJNI: key, in: environment), value: Int64(fromJNI: value, in: environment)).dictionaryGetJNIValue(in: environment, keyBridge: JavaBoxableBridge<String>.self, valueBridge: JavaBoxableBridge<Int64>.self)
+          } catch {
+            environment.throwAsException(error)
+            return 0
+          }
         }
         """
       ]
@@ -36,7 +36,7 @@ struct JNIDistributedActorTests {
         public java.util.concurrent.CompletableFuture<java.lang.Void> hi() {
           java.util.concurrent.CompletableFuture<java.lang.Void> future$ = new java.util.concurrent.CompletableFuture<java.lang.Void>();
           D.$hi(this.$memoryAddress(), future$);
-          return future$.thenApply((futureResult$) -> {
+          return org.swift.swiftkit.core.jfr.SwiftEvents.trackAsyncTask(future$, "D.hi").thenApply((futureResult$) -> {
             return futureResult$;
           }
           );
@@ -0,0 +1,158 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+import JExtractSwiftLib
+import SwiftJavaConfigurationShared
+import Testing
+
+@Suite
+struct JNIEagerNativeRegistrationTests {
+
+  var config: Configuration {
+    var config = Configuration()
+    config.enableEagerNativeRegistration = true
+    return config
+  }
+
+  @Test
+  func moduleClass_registersNatives_java() throws {
+    try assertOutput(
+      input: "public func add(a: Int64, b: Int64) -> Int64",
+      config: config,
+      .jni,
+      .java,
+      expectedChunks: [
+        """
+        static {
+          SwiftLibraries.loadLibrariesWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA, LIB_NAME);
+        }
+        @SuppressWarnings("unused")
+        private static final boolean REGISTERED_NATIVES = SwiftLibraries.REGISTER_NATIVES && $registerNatives();
+        private static native boolean $registerNatives();
+        """
+      ]
+    )
+  }
+
+  @Test
+  func moduleClass_registersNatives_swift() throws {
+    try assertOutput(
+      input: "public func add(a: Int64, b: Int64) -> Int64",
+      config: config,
+      .jni,
+      .swift,
+      expectedChunks: [
+        """
+        @_cdecl("Java_com_example_swift_SwiftModule__00024registerNatives__")
+        public func Java_com_example_swift_SwiftModule__00024registerNatives__(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass) -> jboolean {
+          return _JNINativeRegistration.register(
+            [
+              _JNINativeMethod(name: "$add", signature: "(JJ)J", function: unsafeBitCast(Java_com_example_swift_SwiftModule__00024add__JJ as @convention(c) (UnsafeMutablePointer<JNIEnv?>?, jclass, jlong, jlong) -> jlong, to: UnsafeMutableRawPointer.self)),
+            ],
+            for: thisClass,
+            in: environment
+          ).getJNIValue(in: environment)
+        }
+        """
+      ]
+    )
+  }
+
+  @Test
+  func concreteType_registersNatives_java() throws {
+    try assertOutput(
+      input: """
+        public class MyClass {
+          public func reset() {}
+        }
+        """,
+      config: config,
+      .jni,
+      .java,
+      expectedChunks: [
+        """
+        static boolean initializeLibs() {
+          SwiftLibraries.loadLibrariesWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA, LIB_NAME);
+          return true;
+        }
+        @SuppressWarnings("unused")
+        private static final boolean REGISTERED_NATIVES = SwiftLibraries.REGISTER_NATIVES && $registerNatives();
+        private static native boolean $registerNatives();
+        """
+      ]
+    )
+  }
+
+  @Test
+  func concreteType_registersNatives_swift() throws {
+    try assertOutput(
+      input: """
+        public class MyClass {
+          public func reset() {}
+        }
+        """,
+      config: config,
+      .jni,
+      .swift,
+      expectedChunks: [
+        """
+        @_cdecl("Java_com_example_swift_MyClass__00024registerNatives__")
+        public func Java_com_example_swift_MyClass__00024registerNatives__(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass) -> jboolean {
+          return _JNINativeRegistration.register(
+            [
+              _JNINativeMethod(name: "$reset", signature: "(J)V", function: unsafeBitCast(Java_com_example_swift_MyClass__00024reset__J as @convention(c) (UnsafeMutablePointer<JNIEnv?>?, jclass, jlong) -> Void, to: UnsafeMutableRawPointer.self)),
+              ...
+              _JNINativeMethod(name: "$typeMetadataAddressDowncall", signature: "()J", function: unsafeBitCast(Java_com_example_swift_MyClass__00024typeMetadataAddressDowncall__ as @convention(c) (UnsafeMutablePointer<JNIEnv?>?, jclass) -> jlong, to: UnsafeMutableRawPointer.self)),
+            ],
+            for: thisClass,
+            in: environment
+          ).getJNIValue(in: environment)
+        }
+        """
+      ]
+    )
+  }
+
+  @Test
+  func disabledByDefault() throws {
+    try assertOutput(
+      input: """
+        public class MyClass {
+          public func reset() {}
+        }
+        """,
+      .jni,
+      .swift,
+      expectedChunks: [],
+      notExpectedChunks: [
+        "registerNatives",
+        "_JNINativeRegistration",
+      ]
+    )
+    try assertOutput(
+      input: """
+        public class MyClass {
+          public func reset() {}
+        }
+        """,
+      .jni,
+      .java,
+      expectedChunks: [],
+      notExpectedChunks: [
+        "REGISTERED_NATIVES",
+        "registerNatives",
+      ]
+    )
+  }
+}
@@ -56,22 +56,26 @@ struct JNIEnumTests {
           @SuppressWarnings("unused")
           private static final boolean INITIALIZED_LIBS = initializeLibs();
           static boolean initializeLibs() {
-            SwiftLibraries.loadLibraryWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA);
-            SwiftLibraries.loadLibraryWithFallbacks(LIB_NAME);
+            SwiftLibraries.loadLibrariesWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA, LIB_NAME);
             return true;
           }
         """,
         """
         private MyEnum(long selfPointer, SwiftArena swiftArena) {
-          SwiftObjects.requireNonZero(selfPointer, "selfPointer");
-          this.selfPointer = selfPointer;
-          this.$cleanup = $createCleanup();
+          this(selfPointer);
 
           // Only register once we have fully initialized the object since this will need the object pointer.
           swiftArena.register(this);
         }
         """,
         """
+        private MyEnum(long selfPointer) {
+          SwiftObjects.requireNonZero(selfPointer, "selfPointer");
+          this.selfPointer = selfPointer;
+          this.$cleanup = $createCleanup();
+        }
+        """,
+        """
         private final long selfPointer;
         """,
         """
@@ -153,13 +157,68 @@ struct JNIEnumTests {
         """,
         """
         public Case getCase(SwiftArena swiftArena) {
-          return switch (this.getDiscriminator()) {
+          return this.getCase(this.getDiscriminator(), swiftArena);
+        }
+        """,
+        """
+        private Case getCase(Discriminator discriminator, SwiftArena swiftArena) {
+          return switch (discriminator) {
             case FIRST -> new Case.First();
             case SECOND -> this.getAsSecond().orElseThrow();
             case THIRD -> this.getAsThird(swiftArena).orElseThrow();
           }
         }
         """,
+        """
+        public static Case[] getCases(MyEnum[] values, SwiftArena swiftArena) {
+          Discriminator[] discriminators = getDiscriminators(values);
+          Case[] cases = new Case[values.length];
+          for (int i = 0; i < values.length; i++) {
+            cases[i] = values[i].getCase(discriminators[i], swiftArena);
+          }
+          return cases;
+        }
+        """,
+      ]
+    )
+  }
+
+  @Test
+  func generatesDiscriminator_java() throws {
+    try assertOutput(
+      input: source,
+      .jni,
+      .java,
+      detectChunkByInitialLines: 1,
+      expectedChunks: [
+        """
+        private static final Discriminator[] $DISCRIMINATORS = Discriminator.values();
+        """,
+        """
+        public Discriminator getDiscriminator() {
+          var raw = SwiftObjects.getRawDiscriminator(this.$memoryAddress(), this.$typeMetadataAddress());
+          return $DISCRIMINATORS[raw];
+        }
+        """,
+        """
+        public static Discriminator[] getDiscriminators(MyEnum[] values) {
+          long[] selfPointers$ = new long[values.length];
+          long[] selfTypePointers$ = new long[values.length];
+          for (int i = 0; i < values.length; i++) {
+            selfPointers$[i] = values[i].$memoryAddress();
+            selfTypePointers$[i] = values[i].$typeMetadataAddress();
+          }
+          int[] raw = SwiftObjects.getRawDiscriminators(selfPointers$, selfTypePointers$);
+          Discriminator[] discriminators = new Discriminator[raw.length];
+          for (int i = 0; i < raw.length; i++) {
+            discriminators[i] = $DISCRIMINATORS[raw[i]];
+          }
+          return discriminators;
+        }
+        """,
+      ],
+      notExpectedChunks: [
+        "Discriminator.values()[raw]"
       ]
     )
   }
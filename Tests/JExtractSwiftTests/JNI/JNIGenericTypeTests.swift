@@ -325,12 +325,23 @@ struct JNIGenericTypeTests {
         """,
         """
         public Case<Wrapped> getCase() {
-          return switch (this.getDiscriminator()) {
+          return this.getCase(this.getDiscriminator());
+        }
+        """,
+        """
+        private Case<Wrapped> getCase(Discriminator discriminator) {
+          return switch (discriminator) {
            case SOME -> throw new UnsupportedOperationException("MyOptional.some contains unsupported values.");
            case NONE -> new Case.None<Wrapped>();
           };
         }
         """,
+        """
+        public static Discriminator[] getDiscriminators(MyOptional<?>[] values) {
+        """,
+      ],
+      notExpectedChunks: [
+        "public static Case[] getCases("
       ]
     )
   }
@@ -61,7 +61,7 @@ struct JNIJobjectBridgeTests {
         }
         """,
         """
-        return SwiftModule.f(dict: [Int: ReefFish](fromJNI: dict, in: environment, keyBridge: JavaBoxableBridge<Int>.self, valueBridge: _JNIBridge_ReefFish.self)).dictionaryGetJNIValue(in: environment, keyBridge: JavaBoxableBridge<Int>.self, valueBridge: _JNIBridge_ReefFish.self)
+        return SwiftModule.f(dict: try [Int: ReefFish](fromJavaMap: dict, in: environment, keyBridge: JavaBoxableBridge<Int>.self, valueBridge: _JNIBridge_ReefFish.self)).dictionaryGetJNIValue(in: environment, keyBridge: JavaBoxableBridge<Int>.self, valueBridge: _JNIBridge_ReefFish.self)
         """,
       ]
     )
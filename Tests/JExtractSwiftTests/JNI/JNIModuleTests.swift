@@ -59,8 +59,7 @@ struct JNIModuleTests {
           static final java.lang.String LIB_NAME = "SwiftModule";
 
           static {
-            SwiftLibraries.loadLibraryWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA);
-            SwiftLibraries.loadLibraryWithFallbacks(LIB_NAME);
+            SwiftLibraries.loadLibrariesWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA, LIB_NAME);
           }
         """
       ]
@@ -295,7 +294,7 @@ struct JNIModuleTests {
         """
       ],
       notExpectedChunks: [
-        "loadLibraryWithFallbacks",
+        "loadLibrariesWithFallbacks",
         "initializeLibs",
       ]
     )
@@ -251,6 +251,122 @@ struct JNIOptionalTests {
     )
   }
 
+  @Test
+  func optionalInt64Result_javaBindings() throws {
+    try assertOutput(
+      input: "public func optionalLong() -> Int64?",
+      .jni,
+      .java,
+      expectedChunks: [
+        """
+        public static OptionalLong optionalLong() {
+          byte[] result$_discriminator$ = JNIOptionalSupport.discriminatorSlot();
+          long result$ = SwiftModule.$optionalLong(result$_discriminator$);
+          return (result$ != JNIOptionalSupport.LONG_NONE_SENTINEL || result$_discriminator$[0] == 1) ? OptionalLong.of(result$) : OptionalLong.empty();
+        }
+        """,
+        """
+        private static native long $optionalLong(byte[] result_discriminator$);
+        """,
+      ]
+    )
+  }
+
+  @Test
+  func optionalInt64Result_swiftThunks() throws {
+    try assertOutput(
+      input: "public func optionalLong() -> Int64?",
+      .jni,
+      .swift,
+      detectChunkByInitialLines: 1,
+      expectedChunks: [
+        """
+        @_cdecl("Java_com_example_swift_SwiftModule__00024optionalLong___3B")
+        public func Java_com_example_swift_SwiftModule__00024optionalLong___3B(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, result_discriminator$: jbyteArray?) -> jlong {
+          let result$: jlong
+          if let innerResult$ = SwiftModule.optionalLong() {
+            result$ = innerResult$.getJNIValue(in: environment)
+            if result$ == _JNIOptionalSentinel.int64 {
+              var flag$ = Int8(1)
+              environment.interface.SetByteArrayRegion(environment, result_discriminator$, 0, 1, &flag$)
+            }
+          }
+          else {
+            result$ = _JNIOptionalSentinel.int64
+            var flag$ = Int8(0)
+            environment.interface.SetByteArrayRegion(environment, result_discriminator$, 0, 1, &flag$)
+          }
+          return result$
+        }
+        """
+      ]
+    )
+  }
+
+  @Test
+  func optionalDoubleResult_javaBindings() throws {
+    try assertOutput(
+      input: "public func optionalDouble() -> Double?",
+      .jni,
+      .java,
+      expectedChunks: [
+        """
+        public static OptionalDouble optionalDouble() {
+          byte[] result$_discriminator$ = JNIOptionalSupport.discriminatorSlot();
+          double result$ = SwiftModule.$optionalDouble(result$_discriminator$);
+          return (Double.doubleToRawLongBits(result$) != JNIOptionalSupport.DOUBLE_NONE_SENTINEL_BITS || result$_discriminator$[0] == 1) ? OptionalDouble.of(result$) : OptionalDouble.empty();
+        }
+        """
+      ]
+    )
+  }
+
+  @Test
+  func optionalDoubleResult_swiftThunks() throws {
+    try assertOutput(
+      input: "public func optionalDouble() -> Double?",
+      .jni,
+      .swift,
+      detectChunkByInitialLines: 1,
+      expectedChunks: [
+        """
+        @_cdecl("Java_com_example_swift_SwiftModule__00024optionalDouble___3B")
+        public func Java_com_example_swift_SwiftModule__00024optionalDouble___3B(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, result_discriminator$: jbyteArray?) -> jdouble {
+          let result$: jdouble
+          if let innerResult$ = SwiftModule.optionalDouble() {
+            result$ = innerResult$.getJNIValue(in: environment)
+            if result$.bitPattern == _JNIOptionalSentinel.doubleBitPattern {
+              var flag$ = Int8(1)
+              environment.interface.SetByteArrayRegion(environment, result_discriminator$, 0, 1, &flag$)
+            }
+          }
+          else {
+            result$ = jdouble(bitPattern: _JNIOptionalSentinel.doubleBitPattern)
+            var flag$ = Int8(0)
+            environment.interface.SetByteArrayRegion(environment, result_discriminator$, 0, 1, &flag$)
+          }
+          return result$
+        }
+        """
+      ]
+    )
+  }
+
+  @Test
+  func optionalInt64Result_async_allocatesDiscriminator() throws {
+    try assertOutput(
+      input: "public func optionalLong() async -> Int64?",
+      .jni,
+      .java,
+      detectChunkByInitialLines: 1,
+      expectedChunks: [
+        """
+        byte[] result$_discriminator$ = new byte[1];
+        """
+      ]
+    )
+  }
+
   @Test
   func optionalTuple() throws {
     let input = """
@@ -65,12 +65,12 @@ struct JNISetTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        public static void f(org.swift.swiftkit.core.collections.SwiftSet<java.lang.String> set) {
-          SwiftModule.$f(Objects.requireNonNull(set, "set must not be null").$memoryAddress());
+        public static void f(java.util.Set<java.lang.String> set) {
+          SwiftModule.$f(Objects.requireNonNull(set, "set must not be null"));
         }
         """,
         """
-        private static native void $f(long set);
+        private static native void $f(java.util.Set set);
         """,
       ]
     )
@@ -85,9 +85,14 @@ struct JNISetTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        @_cdecl("Java_com_example_swift_SwiftModule__00024f__J")
-        public func Java_com_example_swift_SwiftModule__00024f__J(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, set: jlong) {
-          SwiftModule.f(set: Set<String>(fromJNI: set, in: environment, elementBridge: JavaBoxableBridge<String>.self))
+        @_cdecl("Java_com_example_swift_SwiftModule__00024f__Ljava_util_Set_2")
+        public func Java_com_example_swift_SwiftModule__00024f__Ljava_util_Set_2(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, set: jobject?) {
+          do {
+            SwiftModule.f(set: try Set<String>(fromJavaSet: set, in: environment, elementBridge: JavaBoxableBridge<String>.self))
+          } catch {
+            environment.throwAsException(error)
+            return ()
+          }
         }
         """
       ]
@@ -103,12 +108,12 @@ struct JNISetTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        public static org.swift.swiftkit.core.collections.SwiftSet<java.lang.String> f(org.swift.swiftkit.core.collections.SwiftSet<java.lang.String> set, SwiftArena swiftArena) {
-          return org.swift.swiftkit.core.collections.SwiftSet.<java.lang.String>wrapMemoryAddressUnsafe(SwiftModule.$f(Objects.requireNonNull(set, "set must not be null").$memoryAddress()), swiftArena);
+        public static org.swift.swiftkit.core.collections.SwiftSet<java.lang.String> f(java.util.Set<java.lang.String> set, SwiftArena swiftArena) {
+          return org.swift.swiftkit.core.collections.SwiftSet.<java.lang.String>wrapMemoryAddressUnsafe(SwiftModule.$f(Objects.requireNonNull(set, "set must not be null")), swiftArena);
         }
         """,
         """
-        private static native long $f(long set);
+        private static native long $f(java.util.Set set);
         """,
       ]
     )
@@ -123,9 +128,14 @@ struct JNISetTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        @_cdecl("Java_com_example_swift_SwiftModule__00024f__J")
-        public func Java_com_example_swift_SwiftModule__00024f__J(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, set: jlong) -> jlong {
-          return SwiftModule.f(set: Set<String>(fromJNI: set, in: environment, elementBridge: JavaBoxableBridge<String>.self)).setGetJNIValue(in: environment, elementBridge: JavaBoxableBridge<String>.self)
+        @_cdecl("Java_com_example_swift_SwiftModule__00024f__Ljava_util_Set_2")
+        public func Java_com_example_swift_SwiftModule__00024f__Ljava_util_Set_2(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, set: jobject?) -> jlong {
+          do {
+            return SwiftModule.f(set: try Set<String>(fromJavaSet: set, in: environment, elementBridge: JavaBoxableBridge<String>.self)).setGetJNIValue(in: environment, elementBridge: JavaBoxableBridge<String>.self)
+          } catch {
+            environment.throwAsException(error)
+            return 0
+          }
         }
         """
       ]
@@ -144,8 +154,43 @@ struct JNISetTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        public static org.swift.swiftkit.core.collections.SwiftSet<java.lang.Long> f(SwiftArena swiftArena) {
-          return org.swift.swiftkit.core.collections.SwiftSet.<java.lang.Long>wrapMemoryAddressUnsafe(SwiftModule.$f(), swiftArena);
+        public static org.swift.swiftkit.core.collections.SwiftLongSet f(SwiftArena swiftArena) {
+          return org.swift.swiftkit.core.collections.SwiftLongSet.wrapMemoryAddressUnsafe(SwiftModule.$f(), swiftArena);
+        }
+        """
+      ]
+    )
+  }
+
+  @Test("Import: () -> Set<Int> (Java)")
+  func intSet_result_java() throws {
+    try assertOutput(
+      input: "public func f() -> Set<Int> {}",
+      .jni,
+      .java,
+      detectChunkByInitialLines: 1,
+      expectedChunks: [
+        """
+        public static org.swift.swiftkit.core.collections.SwiftLongSet f(SwiftArena swiftArena) {
+          return org.swift.swiftkit.core.collections.SwiftLongSet.wrapMemoryAddressUnsafe(SwiftModule.$f(), swiftArena);
+        }
+        """
+      ]
+    )
+  }
+
+  @Test("Import: () -> Set<Int64> (Swift)")
+  func int64Set_result_swift() throws {
+    try assertOutput(
+      input: "public func f() -> Set<Int64> {}",
+      .jni,
+      .swift,
+      detectChunkByInitialLines: 1,
+      expectedChunks: [
+        """
+        @_cdecl("Java_com_example_swift_SwiftModule__00024f__")
+        public func Java_com_example_swift_SwiftModule__00024f__(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass) -> jlong {
+          return SwiftModule.f().setGetJNIValue(in: environment, elementBridge: JavaBoxableBridge<Int64>.self)
         }
         """
       ]
@@ -198,12 +243,12 @@ struct JNISetTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        public static void f(org.swift.swiftkit.core.collections.SwiftSet<java.lang.String> a, org.swift.swiftkit.core.collections.SwiftSet<java.lang.Long> b) {
-          SwiftModule.$f(Objects.requireNonNull(a, "a must not be null").$memoryAddress(), Objects.requireNonNull(b, "b must not be null").$memoryAddress());
+        public static void f(java.util.Set<java.lang.String> a, java.util.Set<java.lang.Long> b) {
+          SwiftModule.$f(Objects.requireNonNull(a, "a must not be null"), Objects.requireNonNull(b, "b must not be null"));
         }
         """,
         """
-        private static native void $f(long a, long b);
+        private static native void $f(java.util.Set a, java.util.Set b);
         """,
       ]
     )
@@ -218,9 +263,14 @@ struct JNISetTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        @_cdecl("Java_com_example_swift_SwiftModule__00024f__JJ")
-        public func Java_com_example_swift_SwiftModule__00024f__JJ(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, a: jlong, b: jlong) {
-          SwiftModule.f(a: Set<String>(fromJNI: a, in: environment, elementBridge: JavaBoxableBridge<String>.self), b: Set<Int64>(fromJNI: b, in: environment, elementBridge: JavaBoxableBridge<Int64>.self))
+        @_cdecl("Java_com_example_swift_SwiftModule__00024f__Ljava_util_Set_2Ljava_util_Set_2")
+        public func Java_com_example_swift_SwiftModule__00024f__Ljava_util_Set_2Ljava_util_Set_2(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, a: jobject?, b: jobject?) {
+          do {
+            SwiftModule.f(a: try Set<String>(fromJavaSet: a, in: environment, elementBridge: JavaBoxableBridge<String>.self), b: try Set<Int64>(fromJavaSet: b, in: environment, elementBridge: JavaBoxableBridge<Int64>.self))
+          } catch {
+            environment.throwAsException(error)
+            return ()
+          }
         }
         """
       ]
@@ -239,12 +289,12 @@ struct JNISetTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        public static org.swift.swiftkit.core.collections.SwiftSet<java.lang.String> f(org.swift.swiftkit.core.collections.SwiftSet<java.lang.String> set, java.lang.String element, SwiftArena swiftArena) {
-          return org.swift.swiftkit.core.collections.SwiftSet.<java.lang.String>wrapMemoryAddressUnsafe(SwiftModule.$f(Objects.requireNonNull(set, "set must not be null").$memoryAddress(), element), swiftArena);
+        public static org.swift.swiftkit.core.collections.SwiftSet<java.lang.String> f(java.util.Set<java.lang.String> set, java.lang.String element, SwiftArena swiftArena) {
+          return org.swift.swiftkit.core.collections.SwiftSet.<java.lang.String>wrapMemoryAddressUnsafe(SwiftModule.$f(Objects.requireNonNull(set, "set must not be null"), element), swiftArena);
         }
         """,
         """
-        private static native long $f(long set, java.lang.String element);
+        private static native long $f(java.util.Set set, java.lang.String element);
         """,
       ]
     )
@@ -259,9 +309,14 @@ struct JNISetTest {
       detectChunkByInitialLines: 1,
       expectedChunks: [
         """
-        @_cdecl("Java_com_example_swift_SwiftModule__00024f__JLjava_lang_String_2")
-        public func Java_com_example_swift_SwiftModule__00024f__JLjava_lang_String_2(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, set: jlong, element: jstring?) -> jlong {
-          return SwiftModule.f(set: Set<String>(fromJNI: set, in: environment, elementBridge: JavaBoxableBridge<String>.self), element: String(fromJNI: element, in: environment)).setGetJNIValue(in: environment, elementBridge: JavaBoxableBridge<String>.self)
+        @_cdecl("Java_com_example_swift_SwiftModule__00024f__Ljava_util_Set_2Ljava_lang_String_2")
+        public func Java_com_example_swift_SwiftModule__00024f__Ljava_util_Set_2Ljava_lang_String_2(environment: UnsafeMutablePointer<JNIEnv?>!, thisClass: jclass, set: jobject?, element: jstring?) -> jlong {
+          do {
+            return SwiftModule.f(set: try Set<String>(fromJavaSet: set, in: environment, elementBridge: JavaBoxableBridge<String>.self), element: String(fromJNI: element, in: environment)).setGetJNIValue(in: environment, elementBridge: JavaBoxableBridge<String>.self)
+          } catch {
+            environment.throwAsException(error)
+            return 0
+          }
         }
         """
       ]
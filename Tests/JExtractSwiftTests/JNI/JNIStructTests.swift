@@ -62,22 +62,26 @@ struct JNIStructTests {
           @SuppressWarnings("unused")
           private static final boolean INITIALIZED_LIBS = initializeLibs();
           static boolean initializeLibs() {
-            SwiftLibraries.loadLibraryWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA);
-            SwiftLibraries.loadLibraryWithFallbacks(LIB_NAME);
+            SwiftLibraries.loadLibrariesWithFallbacks(SwiftLibraries.LIB_NAME_SWIFT_JAVA, LIB_NAME);
             return true;
           }
         """,
         """
         private MyStruct(long selfPointer, SwiftArena swiftArena) {
-          SwiftObjects.requireNonZero(selfPointer, "selfPointer");
-          this.selfPointer = selfPointer;
-          this.$cleanup = $createCleanup();
+          this(selfPointer);
 
           // Only register once we have fully initialized the object since this will need the object pointer.
           swiftArena.register(this);
         }
         """,
         """
+        private MyStruct(long selfPointer) {
+          SwiftObjects.requireNonZero(selfPointer, "selfPointer");
+          this.selfPointer = selfPointer;
+          this.$cleanup = $createCleanup();
+        }
+        """,
+        """
         public static MyStruct wrapMemoryAddressUnsafe(long selfPointer, SwiftArena swiftArena) {
           return new MyStruct(selfPointer, swiftArena);
         }
@@ -198,7 +202,7 @@ struct JNIStructTests {
         """
       ],
       notExpectedChunks: [
-        "loadLibraryWithFallbacks",
+        "loadLibrariesWithFallbacks",
         "initializeLibs",
       ]
     )
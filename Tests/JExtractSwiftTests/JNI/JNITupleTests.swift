@@ -108,22 +108,28 @@ struct JNITupleTests {
       .java,
       expectedChunks: [
         """
-        public static LabeledTuple_labeledTuple_x_y<java.lang.Integer, java.lang.Integer> labeledTuple() {
+        public static LabeledTuple_labeledTuple_x_y labeledTuple() {
+          long[] result_slots$ = JNITupleSupport.scratchSlots();
+          SwiftModule.$labeledTuple(result_slots$);
+          return new LabeledTuple_labeledTuple_x_y((int) result_slots$[0], (int) result_slots$[1]);
+        }
         """,
         """
-        private static native void $labeledTuple(int[] result_0$, int[] result_1$);
+        private static native void $labeledTuple(long[] result_slots$);
         """,
         """
-        public static final class LabeledTuple_labeledTuple_x_y<T0, T1> extends org.swift.swiftkit.core.tuple.Tuple2<T0, T1> {
+        public static final class LabeledTuple_labeledTuple_x_y {
+          public final int $0;
+          public final int $1;
         """,
         """
-        public LabeledTuple_labeledTuple_x_y(T0 param0, T1 param1) { super(param0, param1); }
+        public LabeledTuple_labeledTuple_x_y(int $0, int $1) {
         """,
         """
-        public T0 x() { return $0; }
+        public int x() { return $0; }
         """,
         """
-        public T1 y() { return $1; }
+        public int y() { return $1; }
         """,
       ]
     )
@@ -139,11 +145,138 @@ struct JNITupleTests {
       expectedChunks: [
         """
         let tupleResult$ = SwiftModule.labeledTuple()
-        var element_0_jni$ = tupleResult$.x.getJNILocalRefValue(in: environment)
-        environment.interface.SetIntArrayRegion(environment, result_0$, 0, 1, &element_0_jni$)
-        var element_1_jni$ = tupleResult$.y.getJNILocalRefValue(in: environment)
-        environment.interface.SetIntArrayRegion(environment, result_1$, 0, 1, &element_1_jni$)
+        let element_0_jni$ = tupleResult$.0.getJNILocalRefValue(in: environment)
+        let element_1_jni$ = tupleResult$.1.getJNILocalRefValue(in: environment)
+        withUnsafeTemporaryAllocation(of: jlong.self, capacity: 2) { (slots$) in
+          slots$[0] = jlong(element_0_jni$)
+          slots$[1] = jlong(element_1_jni$)
+          environment.interface.SetLongArrayRegion(environment, result_slots$, 0, 2, slots$.baseAddress!)
+        }
+        """
+      ]
+    )
+  }
+
+  @Test
+  func primitiveTuple_javaBindings() throws {
+    let input = """
+      public func returnMixed() -> (Int64, Double, Bool, Float)
+      public func returnOther() -> (Int64, Double, Bool, Float)
+      """
+
+    try assertOutput(
+      input: input,
+      .jni,
+      .java,
+      expectedChunks: [
+        """
+        public static LongDoubleBooleanFloatTuple returnMixed() {
+          long[] result_slots$ = JNITupleSupport.scratchSlots();
+          SwiftModule.$returnMixed(result_slots$);
+          return new LongDoubleBooleanFloatTuple(result_slots$[0], Double.longBitsToDouble(result_slots$[1]), result_slots$[2] != 0, Float.intBitsToFloat((int) result_slots$[3]));
+        }
+        """,
+        """
+        private static native void $returnMixed(long[] result_slots$);
+        """,
+        """
+        // Generated by jextract-swift
+        // Swift module: SwiftModule
+
+        package com.example.swift;
+
+        /** A Swift tuple returned with primitive {@code long, double, boolean, float} elements, without boxing. */
+        public final class LongDoubleBooleanFloatTuple {
+          public final long $0;
+          public final double $1;
+          public final boolean $2;
+          public final float $3;
+
+          public LongDoubleBooleanFloatTuple(long $0, double $1, boolean $2, float $3) {
+            this.$0 = $0;
+            this.$1 = $1;
+            this.$2 = $2;
+            this.$3 = $3;
+          }
+
+          @Override
+          public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof LongDoubleBooleanFloatTuple)) return false;
+            LongDoubleBooleanFloatTuple o = (LongDoubleBooleanFloatTuple) other;
+            return this.$0 == o.$0 && Double.compare(this.$1, o.$1) == 0 && this.$2 == o.$2 && Float.compare(this.$3, o.$3) == 0;
+          }
+
+          @Override
+          public int hashCode() {
+            int result = java.lang.Long.hashCode($0);
+            result = 31 * result + java.lang.Double.hashCode($1);
+            result = 31 * result + java.lang.Boolean.hashCode($2);
+            result = 31 * result + java.lang.Float.hashCode($3);
+            return result;
+          }
+
+          @Override
+          public String toString() {
+            return "LongDoubleBooleanFloatTuple(" + $0 + ", " + $1 + ", " + $2 + ", " + $3 + ")";
+          }
+        }
+        """,
+      ],
+      notExpectedChunks: [
+        "org.swift.swiftkit.core.tuple.Tuple4"
+      ]
+    )
+  }
+
+  @Test
+  func primitiveTuple_swiftThunks() throws {
+    let input = """
+      public func returnMixed() -> (Int64, Double, Bool, Float)
+      """
+
+    try assertOutput(
+      input: input,
+      .jni,
+      .swift,
+      detectChunkByInitialLines: 1,
+      expectedChunks: [
+        """
+        let tupleResult$ = SwiftModule.returnMixed()
+        let element_0_jni$ = tupleResult$.0.getJNILocalRefValue(in: environment)
+        let element_1_jni$ = tupleResult$.1.getJNILocalRefValue(in: environment)
+        let element_2_jni$ = tupleResult$.2.getJNILocalRefValue(in: environment)
+        let element_3_jni$ = tupleResult$.3.getJNILocalRefValue(in: environment)
+        withUnsafeTemporaryAllocation(of: jlong.self, capacity: 4) { (slots$) in
+          slots$[0] = element_0_jni$
+          slots$[1] = jlong(bitPattern: element_1_jni$.bitPattern)
+          slots$[2] = jlong(element_2_jni$)
+          slots$[3] = jlong(element_3_jni$.bitPattern)
+          environment.interface.SetLongArrayRegion(environment, result_slots$, 0, 4, slots$.baseAddress!)
+        }
+        """
+      ]
+    )
+  }
+
+  @Test
+  func primitiveTuple_async() throws {
+    let input = """
+      public func returnPairAsync() async -> (Int64, Int64)
+      """
+
+    try assertOutput(
+      input: input,
+      .jni,
+      .java,
+      detectChunkByInitialLines: 2,
+      expectedChunks: [
+        """
+        long[] result_slots$ = new long[2];
         """
+      ],
+      notExpectedChunks: [
+        "JNITupleSupport.scratchSlots()"
       ]
     )
   }
@@ -48,13 +48,21 @@ final class OptionalImportTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_receiveOptionalIntSugar__");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(java.lang.foreign.MemorySegment arg) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(arg);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_receiveOptionalIntSugar__", arg);
               }
               HANDLE.invokeExact(arg);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_receiveOptionalIntSugar__");
+              }
             }
           }
         }
@@ -88,13 +96,21 @@ final class OptionalImportTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_receiveOptionalIntExplicit__");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(java.lang.foreign.MemorySegment arg) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(arg);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_receiveOptionalIntExplicit__", arg);
               }
               HANDLE.invokeExact(arg);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_receiveOptionalIntExplicit__");
+              }
             }
           }
         }
@@ -128,13 +144,21 @@ final class OptionalImportTests {
             SwiftModule.findOrThrow("swiftjava_SwiftModule_receiveOptionalDataProto__");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(java.lang.foreign.MemorySegment arg) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(arg);
+                CallTraces.traceDowncallTo("swiftjava_SwiftModule_receiveOptionalDataProto__", arg);
               }
               HANDLE.invokeExact(arg);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_SwiftModule_receiveOptionalDataProto__");
+              }
             }
           }
         }
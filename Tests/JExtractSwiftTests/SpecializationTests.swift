@@ -255,7 +255,7 @@ struct SpecializationTests {
         """,
         """
         public static java.lang.String elementDescription() {
-          return FishBox.$elementDescription($typeMetadataAddressDowncall());
+          return FishBox.$elementDescription($TypeMetadata.ADDRESS);
         }
         private static native java.lang.String $elementDescription(long selfTypePointer);
         """,
@@ -47,13 +47,21 @@ final class StringPassingTests {
             __FakeModule.findOrThrow("swiftjava___FakeModule_writeString_string");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static long call(java.lang.foreign.MemorySegment string) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(string);
+                CallTraces.traceDowncallTo("swiftjava___FakeModule_writeString_string", string);
               }
               return (long) HANDLE.invokeExact(string);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava___FakeModule_writeString_string");
+              }
             }
           }
         }
@@ -53,13 +53,21 @@ final class VariableImportTests {
             FakeModule.findOrThrow("swiftjava_FakeModule_MySwiftClass_counterInt$get");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static long call(java.lang.foreign.MemorySegment self) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(self);
+                CallTraces.traceDowncallTo("swiftjava_FakeModule_MySwiftClass_counterInt$get", self);
               }
               return (long) HANDLE.invokeExact(self);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_FakeModule_MySwiftClass_counterInt$get");
+              }
             }
           }
         }
@@ -92,13 +100,21 @@ final class VariableImportTests {
             FakeModule.findOrThrow("swiftjava_FakeModule_MySwiftClass_counterInt$set");
           private static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
           public static void call(long newValue, java.lang.foreign.MemorySegment self) {
+            var event$ = org.swift.swiftkit.core.jfr.SwiftEvents.AVAILABLE ? new org.swift.swiftkit.core.jfr.SwiftDowncallEvent() : null;
+            if (event$ != null) {
+              event$.begin();
+            }
             try {
               if (CallTraces.TRACE_DOWNCALLS) {
-                CallTraces.traceDowncall(newValue, self);
+                CallTraces.traceDowncallTo("swiftjava_FakeModule_MySwiftClass_counterInt$set", newValue, self);
               }
               HANDLE.invokeExact(newValue, self);
             } catch (Throwable ex$) {
               throw new AssertionError("should not reach here", ex$);
+            } finally {
+              if (event$ != null) {
+                event$.end("swiftjava_FakeModule_MySwiftClass_counterInt$set");
+              }
             }
           }
         }
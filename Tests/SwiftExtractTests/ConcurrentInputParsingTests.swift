@@ -0,0 +1,47 @@
+//===----------------------------------------------------------------------===//
+//
+// This source file is part of the Swift.org open source project
+//
+// Copyright (c) 2026 Apple Inc. and the Swift.org project authors
+// Licensed under Apache License v2.0
+//
+// See LICENSE.txt for license information
+// See CONTRIBUTORS.txt for the list of Swift.org project authors
+//
+// SPDX-License-Identifier: Apache-2.0
+//
+//===----------------------------------------------------------------------===//
+
+import Foundation
+import SwiftExtract
+import Testing
+
+@Suite
+struct ConcurrentInputParsingTests {
+
+  @Test func addsFilesInGivenOrder() throws {
+    let fileManager = FileManager.default
+    let directory = fileManager.temporaryDirectory.appending(path: "ConcurrentInputParsingTests-\(UUID())")
+    try fileManager.createDirectory(at: directory, withIntermediateDirectories: true)
+    defer { try? fileManager.removeItem(at: directory) }
+
+    var filePaths: [String] = []
+    for index in 0..<200 {
+      let file = directory.appending(path: "File\(index).swift")
+      try "public struct Type\(index) {}".write(to: file, atomically: true, encoding: .utf8)
+      filePaths.append(file.path)
+    }
+    let missingFilePath = directory.appending(path: "Missing.swift").path
+    filePaths.insert(missingFilePath, at: 100)
+
+    let config = DefaultSwiftExtractConfiguration(swiftModule: "Module")
+    let analyzer = SwiftAnalyzer(
+      config: config,
+      extractDecider: DefaultAccessLevelExtractDecider(accessLevel: config.effectiveMinimumInputAccessLevelMode)
+    )
+    analyzer.add(filePaths: filePaths)
+
+    #expect(analyzer.inputs.map(\.path) == filePaths.filter { $0 != missingFilePath })
+    #expect(analyzer.inputs[42].syntax.description == "public struct Type42 {}")
+  }
+}
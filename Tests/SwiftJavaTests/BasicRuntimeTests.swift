@@ -12,6 +12,7 @@
 //
 //===----------------------------------------------------------------------===//
 
+import Foundation
 import JavaNet
 import JavaUtil
 import SwiftJava
@@ -54,6 +55,45 @@ class BasicRuntimeTests: XCTestCase {
     XCTAssert(url.javaHolder === urlAgain.javaHolder)
   }
 
+  func testDeferredGlobalReferenceRelease() throws {
+    let environment = try jvm.environment()
+    func makeHolder() -> JavaObjectHolder {
+      JavaObjectHolder(object: environment.interface.NewStringUTF(environment, "held")!, environment: environment)
+    }
+
+    JavaObjectHolder.releasePendingGlobalReferences(in: environment)
+    let liveBefore = JavaObjectHolder.liveGlobalReferenceCount
+
+    // Holders released on a thread attached to the JVM delete their reference right away...
+    let deleted: jobject
+    do {
+      let holder = makeHolder()
+      XCTAssertEqual(JavaObjectHolder.liveGlobalReferenceCount, liveBefore + 1)
+      deleted = holder.object!
+    }
+    XCTAssertEqual(JavaObjectHolder.pendingReleaseCount, 0)
+    XCTAssertEqual(JavaObjectHolder.liveGlobalReferenceCount, liveBefore)
+    XCTAssertEqual(environment.interface.GetObjectRefType(environment, deleted), JNIInvalidRefType)
+
+    // ...while a thread that is not attached queues it for an attached thread.
+    let holder = Unmanaged.passRetained(makeHolder())
+    let queued = holder.takeUnretainedValue().object!
+    let released = DispatchSemaphore(value: 0)
+    Thread {
+      holder.release()
+      released.signal()
+    }.start()
+    released.wait()
+    XCTAssertEqual(JavaObjectHolder.pendingReleaseCount, 1)
+    XCTAssertEqual(JavaObjectHolder.liveGlobalReferenceCount, liveBefore + 1)
+    XCTAssertEqual(environment.interface.GetObjectRefType(environment, queued), JNIGlobalRefType)
+
+    JavaObjectHolder.releasePendingGlobalReferences(in: environment)
+    XCTAssertEqual(JavaObjectHolder.pendingReleaseCount, 0)
+    XCTAssertEqual(JavaObjectHolder.liveGlobalReferenceCount, liveBefore)
+    XCTAssertEqual(environment.interface.GetObjectRefType(environment, queued), JNIInvalidRefType)
+  }
+
   func testJavaExceptionsInSwift() throws {
     let environment = try jvm.environment()
 
@@ -110,6 +150,74 @@ class BasicRuntimeTests: XCTestCase {
     XCTAssertEqual(javaList.map { $0.intValue() }, [0, 1, 2])
   }
 
+  func testJavaIteratorIteration() throws {
+    let environment = try jvm.environment()
+    let integerClass = try JavaClass<JavaInteger>(environment: environment)
+
+    let javaList = try XCTUnwrap(ArrayList<JavaInteger>(environment: environment).as(List<JavaInteger>.self))
+    _ = javaList.add(integerClass.valueOf(3))
+    _ = javaList.add(integerClass.valueOf(4))
+
+    var iterator = javaList.iterator()!
+    var values: [Int32] = []
+    while let element = iterator.swiftNext() {
+      values.append(element.intValue())
+    }
+    XCTAssertEqual(values, [3, 4])
+  }
+
+  func testListSnapshotIteration() throws {
+    let environment = try jvm.environment()
+    let integerClass = try JavaClass<JavaInteger>(environment: environment)
+
+    let count: Int32 = 5000
+    let javaList = try XCTUnwrap(ArrayList<JavaInteger>(environment: environment).as(List<JavaInteger>.self))
+    for i in 0..<count {
+      _ = javaList.add(integerClass.valueOf(i))
+    }
+
+    XCTAssertEqual(javaList.reduce(0) { $0 + Int($1.intValue()) }, Int(count) * Int(count - 1) / 2)
+    XCTAssertEqual(javaList.snapshotElements().map { $0.intValue() }, Array(0..<count))
+  }
+
+  func testBorrowedPrimitiveArrayElements() throws {
+    let environment = try jvm.environment()
+    let array = environment.interface.NewIntArray(environment, 4)!
+    defer { environment.interface.DeleteLocalRef(environment, array) }
+
+    for access in [JavaArrayAccessMode.elements, .critical] {
+      environment.withMutableJavaArrayElements(of: array, as: Int32.self, access: access) { buffer in
+        for i in buffer.indices {
+          buffer[i] = Int32(i * 10)
+        }
+      }
+      let sum = environment.withJavaArrayElements(of: array, as: Int32.self, access: access) { buffer in
+        buffer.reduce(0, +)
+      }
+      XCTAssertEqual(sum, 60)
+    }
+  }
+
+  func testObjectArrayBulkConversion() throws {
+    let environment = try jvm.environment()
+    let count = 3000
+    let stringClass = environment.interface.FindClass(environment, "java/lang/String")!
+    let array = environment.interface.NewObjectArray(environment, jsize(count), stringClass, nil)!
+    for i in 0..<count {
+      let string = environment.interface.NewStringUTF(environment, "s\(i)")
+      environment.interface.SetObjectArrayElement(environment, array, jsize(i), string)
+      environment.interface.DeleteLocalRef(environment, string)
+    }
+
+    let strings = environment.javaObjectArrayElements(of: array, as: String.self, chunkSize: 256)
+    XCTAssertEqual(strings.count, count)
+    XCTAssertEqual(strings.first, "s0")
+    XCTAssertEqual(strings.last, "s\(count - 1)")
+
+    environment.interface.DeleteLocalRef(environment, array)
+    environment.interface.DeleteLocalRef(environment, stringClass)
+  }
+
   func testJavaOptional() throws {
     let environment = try jvm.environment()
     let integerClass = try JavaClass<JavaInteger>(environment: environment)
@@ -14,9 +14,10 @@
 
 import Foundation
 import SwiftJavaConfigurationShared
-import SwiftJavaToolLib
 import Testing
 
+@testable import SwiftJavaToolLib
+
 // ==== -----------------------------------------------------------------------
 // MARK: TestFixtureError
 
@@ -183,4 +184,233 @@ struct JavaDependencyResolverTests {
       _ = try await JavaDependencyResolver.resolve(config: config, workDir: workDir)
     }
   }
+
+  // ==== -------------------------------------------------------------------
+  // MARK: Local repositories and lockfile
+
+  /// Write a jar (with placeholder contents) and a pom into a Maven repository layout.
+  private static func publishFakeArtifact(
+    to repoDir: URL,
+    _ descriptor: String,
+    dependencies: String = "",
+    extraPOM: String = ""
+  ) throws {
+    let parts = descriptor.split(separator: ":").map(String.init)
+    let (group, artifact, version) = (parts[0], parts[1], parts[2])
+    let dir = repoDir
+      .appendingPathComponent(group.replacingOccurrences(of: ".", with: "/"))
+      .appendingPathComponent(artifact)
+      .appendingPathComponent(version)
+    try FileManager.default.createDirectory(at: dir, withIntermediateDirectories: true)
+    try Data("jar".utf8).write(to: dir.appendingPathComponent("\(artifact)-\(version).jar"))
+    try """
+      <?xml version="1.0" encoding="UTF-8"?>
+      <project xmlns="http://maven.apache.org/POM/4.0.0">
+        <modelVersion>4.0.0</modelVersion>
+        <groupId>\(group)</groupId>
+        <artifactId>\(artifact)</artifactId>
+        <version>\(version)</version>
+        \(extraPOM)
+        <dependencies>\(dependencies)</dependencies>
+      </project>
+      """.write(to: dir.appendingPathComponent("\(artifact)-\(version).pom"), atomically: true, encoding: .utf8)
+  }
+
+  private static func makeTemporaryDirectory() throws -> URL {
+    let tempDir = FileManager.default.temporaryDirectory
+      .appendingPathComponent("swift-java-test-\(UUID().uuidString)")
+    try FileManager.default.createDirectory(at: tempDir, withIntermediateDirectories: true)
+    return tempDir
+  }
+
+  @Test
+  func resolveFromLocalRepo_withoutGradle() async throws {
+    let tempDir = try Self.makeTemporaryDirectory()
+    defer { try? FileManager.default.removeItem(at: tempDir) }
+
+    let repoDir = tempDir.appendingPathComponent("local-repo")
+    try Self.publishFakeArtifact(
+      to: repoDir,
+      "com.example:app:1.0.0",
+      dependencies: """
+        <dependency><groupId>com.example</groupId><artifactId>core</artifactId><version>${core.version}</version></dependency>
+        <dependency><groupId>com.example</groupId><artifactId>optional</artifactId><version>1.0.0</version><optional>true</optional></dependency>
+        <dependency><groupId>junit</groupId><artifactId>junit</artifactId><version>4.13</version><scope>test</scope></dependency>
+        """,
+      extraPOM: "<properties><core.version>2.0.0</core.version></properties>"
+    )
+    try Self.publishFakeArtifact(
+      to: repoDir,
+      "com.example:core:2.0.0",
+      dependencies: """
+        <dependency><groupId>com.example</groupId><artifactId>util</artifactId><version>${project.version}</version></dependency>
+        """
+    )
+    try Self.publishFakeArtifact(to: repoDir, "com.example:util:2.0.0")
+
+    var config = Configuration()
+    config.dependencies = [
+      JavaDependencyDescriptor(groupID: "com.example", artifactID: "app", version: "1.0.0")
+    ]
+    config.mavenRepositories = [
+      .maven(url: repoDir.path)
+    ]
+
+    let (classpath, source) = try await JavaDependencyResolver.resolve(
+      config: config,
+      workDir: tempDir,
+      lockfile: nil
+    )
+    #expect(source == .localRepositories)
+    #expect(
+      classpath.split(separator: ":").map { URL(fileURLWithPath: String($0)).lastPathComponent } == [
+        "app-1.0.0.jar",
+        "core-2.0.0.jar",
+        "util-2.0.0.jar",
+      ]
+    )
+  }
+
+  @Test
+  func resolveFromLocalRepo_inheritsFromParentPOM() throws {
+    let tempDir = try Self.makeTemporaryDirectory()
+    defer { try? FileManager.default.removeItem(at: tempDir) }
+
+    let repoDir = tempDir.appendingPathComponent("local-repo")
+    try Self.publishFakeArtifact(
+      to: repoDir,
+      "com.example:parent:1.0.0",
+      dependencies: """
+        <dependency><groupId>com.example</groupId><artifactId>inherited</artifactId><version>${lib.version}</version></dependency>
+        """,
+      extraPOM: """
+        <packaging>pom</packaging>
+        <properties><base.version>3.0.0</base.version><lib.version>${base.version}</lib.version></properties>
+        <dependencyManagement><dependencies>
+          <dependency><groupId>com.example</groupId><artifactId>testing</artifactId><version>${lib.version}</version><scope>test</scope></dependency>
+          <dependency>
+            <groupId>com.example</groupId><artifactId>core</artifactId><version>${lib.version}</version>
+            <exclusions><exclusion><groupId>com.example</groupId><artifactId>excluded</artifactId></exclusion></exclusions>
+          </dependency>
+        </dependencies></dependencyManagement>
+        """
+    )
+    try Self.publishFakeArtifact(
+      to: repoDir,
+      "com.example:child:1.0.0",
+      dependencies: """
+        <dependency><groupId>com.example</groupId><artifactId>testing</artifactId></dependency>
+        <dependency><groupId>com.example</groupId><artifactId>core</artifactId></dependency>
+        """,
+      extraPOM: "<parent><groupId>com.example</groupId><artifactId>parent</artifactId><version>1.0.0</version></parent>"
+    )
+    try Self.publishFakeArtifact(
+      to: repoDir,
+      "com.example:core:3.0.0",
+      dependencies: """
+        <dependency><groupId>com.example</groupId><artifactId>excluded</artifactId><version>1.0.0</version></dependency>
+        """
+    )
+    try Self.publishFakeArtifact(to: repoDir, "com.example:inherited:3.0.0")
+    try Self.publishFakeArtifact(to: repoDir, "com.example:testing:3.0.0")
+    try Self.publishFakeArtifact(to: repoDir, "com.example:excluded:1.0.0")
+
+    let resolver = try #require(MavenLocalRepositoryResolver(repositories: [.maven(url: repoDir.path)]))
+    let classpath = try #require(
+      resolver.resolve([JavaDependencyDescriptor(groupID: "com.example", artifactID: "child", version: "1.0.0")])
+    )
+    #expect(
+      classpath.map { URL(fileURLWithPath: $0).lastPathComponent } == [
+        "child-1.0.0.jar",
+        "core-3.0.0.jar",
+        "inherited-3.0.0.jar",
+      ]
+    )
+  }
+
+  @Test
+  func resolveFromLocalRepo_fallsBackOnUnresolvedCoordinates() throws {
+    let tempDir = try Self.makeTemporaryDirectory()
+    defer { try? FileManager.default.removeItem(at: tempDir) }
+
+    let repoDir = tempDir.appendingPathComponent("local-repo")
+    try Self.publishFakeArtifact(
+      to: repoDir,
+      "com.example:orphan:1.0.0",
+      extraPOM: "<parent><groupId>com.example</groupId><artifactId>missing</artifactId><version>1.0.0</version></parent>"
+    )
+    try Self.publishFakeArtifact(
+      to: repoDir,
+      "com.example:undefined:1.0.0",
+      dependencies: """
+        <dependency><groupId>${undefined.group}</groupId><artifactId>core</artifactId><version>1.0.0</version></dependency>
+        """
+    )
+
+    let resolver = try #require(MavenLocalRepositoryResolver(repositories: [.maven(url: repoDir.path)]))
+    #expect(resolver.resolve([JavaDependencyDescriptor(groupID: "com.example", artifactID: "orphan", version: "1.0.0")]) == nil)
+    #expect(resolver.resolve([JavaDependencyDescriptor(groupID: "com.example", artifactID: "undefined", version: "1.0.0")]) == nil)
+  }
+
+  @Test
+  func resolve_reusesLockfile() async throws {
+    let tempDir = try Self.makeTemporaryDirectory()
+    defer { try? FileManager.default.removeItem(at: tempDir) }
+
+    let repoDir = tempDir.appendingPathComponent("local-repo")
+    try Self.publishFakeArtifact(to: repoDir, "com.example:app:1.0.0")
+
+    var config = Configuration()
+    config.dependencies = [
+      JavaDependencyDescriptor(groupID: "com.example", artifactID: "app", version: "1.0.0")
+    ]
+    config.mavenRepositories = [
+      .maven(url: "file://\(repoDir.path)")
+    ]
+    let lockfile = tempDir.appendingPathComponent("Module.swift-java.lock")
+
+    let first = try await JavaDependencyResolver.resolve(config: config, workDir: tempDir, lockfile: lockfile)
+    #expect(first.source == .localRepositories)
+    #expect(JavaDependencyLockfile.read(from: lockfile)?.classpath == [first.classpath])
+
+    let second = try await JavaDependencyResolver.resolve(config: config, workDir: tempDir, lockfile: lockfile)
+    #expect(second.source == .lockfile)
+    #expect(second.classpath == first.classpath)
+
+    let refreshed = try await JavaDependencyResolver.resolve(
+      config: config,
+      workDir: tempDir,
+      lockfile: lockfile,
+      refresh: true
+    )
+    #expect(refreshed.source == .localRepositories)
+  }
+
+  @Test
+  func lockfile_invalidWhenInputsOrEntriesChange() throws {
+    let tempDir = try Self.makeTemporaryDirectory()
+    defer { try? FileManager.default.removeItem(at: tempDir) }
+
+    let jar = tempDir.appendingPathComponent("app-1.0.0.jar")
+    try Data("jar".utf8).write(to: jar)
+
+    let dependencies = [JavaDependencyDescriptor(groupID: "com.example", artifactID: "app", version: "1.0.0")]
+    let lockfile = JavaDependencyLockfile(
+      dependencies: dependencies,
+      repositories: [.mavenCentral],
+      classpath: [jar.path]
+    )
+
+    #expect(lockfile.isValid(for: dependencies, repositories: [.mavenCentral]))
+    #expect(!lockfile.isValid(for: dependencies, repositories: [.mavenLocal()]))
+    #expect(
+      !lockfile.isValid(
+        for: [JavaDependencyDescriptor(groupID: "com.example", artifactID: "app", version: "1.0.1")],
+        repositories: [.mavenCentral]
+      )
+    )
+
+    try FileManager.default.removeItem(at: jar)
+    #expect(!lockfile.isValid(for: dependencies, repositories: [.mavenCentral]))
+  }
 }